@@ -0,0 +1,102 @@
+package seedu.address.benchmark;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.JeeqTracker;
+import seedu.address.model.TransactionFeed;
+import seedu.address.model.TransactionFeedQuery;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.UniqueClientList;
+import seedu.address.model.transaction.TransactionLog;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures the lookups and totals that the model computes on every command.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ModelBenchmark {
+
+    static final long SEED = 2103;
+
+    @Param({"100", "10000"})
+    private int clientCount;
+
+    @Param({"10", "100"})
+    private int transactionsPerClient;
+
+    private UniqueClientList clients;
+    private Client presentClient;
+    private Client absentClient;
+    private TransactionLog transactions;
+    private TransactionFeed feed;
+    private TransactionFeedQuery buyQuery;
+    private TransactionFeedQuery largestFirstQuery;
+
+    /**
+     * Generates the clients, and picks a client in the list and one that is not.
+     */
+    @Setup
+    public void setUp() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(SEED).withClientCount(clientCount)
+                .withTransactionsPerClient(transactionsPerClient);
+        JeeqTracker jeeqTracker = generator.generateJeeqTracker();
+        clients = new UniqueClientList();
+        clients.setClients(jeeqTracker.getClientList());
+        presentClient = jeeqTracker.getClientList().get(clientCount / 2);
+        absentClient = generator.generateClient(clientCount);
+        transactions = presentClient.getTransactions();
+        feed = jeeqTracker.getTransactionFeed();
+        buyQuery = new TransactionFeedQuery(TransactionFeedQuery.Type.BUY);
+        largestFirstQuery = new TransactionFeedQuery(Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.of(TransactionFeedQuery.Order.LARGEST));
+        feed.query(buyQuery);
+    }
+
+    @Benchmark
+    public boolean containsPresentClient() {
+        return clients.contains(presentClient);
+    }
+
+    @Benchmark
+    public boolean containsAbsentClient() {
+        return clients.contains(absentClient);
+    }
+
+    @Benchmark
+    public double calculateNetTransacted() {
+        return transactions.calculateNetTransacted();
+    }
+
+    @Benchmark
+    public double calculateTotalTransaction() {
+        return clients.calculateTotalTransaction();
+    }
+
+    @Benchmark
+    public int filterBuyTransactions() {
+        return feed.query(buyQuery).size();
+    }
+
+    @Benchmark
+    public int sortTransactionsByAmount() {
+        return feed.query(largestFirstQuery).size();
+    }
+}
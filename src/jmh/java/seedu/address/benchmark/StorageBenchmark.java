@@ -0,0 +1,81 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.JeeqTracker;
+import seedu.address.model.ReadOnlyJeeqTracker;
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.storage.JsonJeeqTrackerStorage;
+
+/**
+ * Measures saving and loading the JSON data file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class StorageBenchmark {
+
+    @Param({"100", "10000"})
+    private int clientCount;
+
+    @Param({"10", "100"})
+    private int transactionsPerClient;
+
+    private Path folder;
+    private JeeqTracker jeeqTracker;
+    private JsonJeeqTrackerStorage loadStorage;
+    private JsonJeeqTrackerStorage saveStorage;
+
+    /**
+     * Generates the data, and writes the file that is loaded.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        jeeqTracker = new SyntheticDataGenerator(ModelBenchmark.SEED).withClientCount(clientCount)
+                .withTransactionsPerClient(transactionsPerClient).generateJeeqTracker();
+        folder = Files.createTempDirectory("storageBenchmark");
+        loadStorage = new JsonJeeqTrackerStorage(folder.resolve("load.json"));
+        saveStorage = new JsonJeeqTrackerStorage(folder.resolve("save.json"));
+        loadStorage.saveJeeqTracker(jeeqTracker);
+    }
+
+    /**
+     * Deletes the data files.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(loadStorage.getJeeqTrackerFilePath());
+        Files.deleteIfExists(saveStorage.getJeeqTrackerFilePath());
+        Files.deleteIfExists(folder);
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        saveStorage.saveJeeqTracker(jeeqTracker);
+    }
+
+    @Benchmark
+    public ReadOnlyJeeqTracker load() throws DataConversionException {
+        return loadStorage.readJeeqTracker().get();
+    }
+}
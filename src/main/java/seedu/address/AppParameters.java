@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -16,7 +17,12 @@ import seedu.address.commons.util.FileUtil;
 public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
+    private static final String NAMED_PARAMETER_START = "--";
+    private static final String DRY_RUN_PARAMETER = "--dry-run";
+
     private Path configPath;
+    private String scriptFile;
+    private boolean isDryRun;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,21 +32,65 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the file of commands to run without the GUI, or null if the GUI should be shown.
+     */
+    public String getScriptFile() {
+        return scriptFile;
+    }
+
+    public void setScriptFile(String scriptFile) {
+        this.scriptFile = scriptFile;
+    }
+
+    public boolean isDryRun() {
+        return isDryRun;
+    }
+
+    public void setDryRun(boolean isDryRun) {
+        this.isDryRun = isDryRun;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
+        appParameters.setConfigPath(parseConfigPath(parameters.getNamed()));
+        return appParameters;
+    }
 
+    /**
+     * Parses the command-line arguments given to {@code Main}, before the GUI is started.
+     * Arguments of the form {@code --name=value} are taken as named parameters, as JavaFX does. Besides the config
+     * file, these may give a file of commands to run without the GUI with {@code --run=FILE}, which is parsed and
+     * checked by itself. {@code --dry-run} only matters together with {@code --run}, to check the commands in the file
+     * without saving their changes; given without {@code --run}, it is ignored and the GUI is started as usual.
+     */
+    public static AppParameters parse(String... args) {
+        AppParameters appParameters = new AppParameters();
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            if (arg.equals(DRY_RUN_PARAMETER)) {
+                appParameters.setDryRun(true);
+            } else if (arg.startsWith(NAMED_PARAMETER_START) && arg.indexOf('=') > 0) {
+                int separator = arg.indexOf('=');
+                namedParameters.put(arg.substring(NAMED_PARAMETER_START.length(), separator),
+                        arg.substring(separator + 1));
+            }
+        }
+        appParameters.setConfigPath(parseConfigPath(namedParameters));
+        appParameters.setScriptFile(namedParameters.get("run"));
+        return appParameters;
+    }
+
+    private static Path parseConfigPath(Map<String, String> namedParameters) {
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
             logger.warning("Invalid config path " + configPathParameter + ". Using default config path.");
             configPathParameter = null;
         }
-        appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
-
-        return appParameters;
+        return configPathParameter != null ? Paths.get(configPathParameter) : null;
     }
 
     @Override
@@ -54,11 +104,13 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && Objects.equals(getScriptFile(), otherAppParameters.getScriptFile())
+                && isDryRun() == otherAppParameters.isDryRun();
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, scriptFile, isDryRun);
     }
 }
@@ -17,9 +17,19 @@ import javafx.application.Application;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * If a file of commands is given with {@code --run=FILE}, the commands are run without starting the GUI, e.g.
+ * {@code java -jar jeeqtracker.jar --run=data/trades.txt [--dry-run]}.
  */
 public class Main {
+    /**
+     * Runs the file of commands given with {@code --run}, if any, or else starts the GUI.
+     */
     public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(args);
+        if (appParameters.getScriptFile() != null) {
+            System.exit(MainApp.runScript(appParameters));
+        }
         Application.launch(MainApp.class, args);
     }
 }
@@ -1,5 +1,7 @@
 package seedu.address;
 
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODE;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -13,8 +15,12 @@ import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandPipeline;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.JeeqTracker;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -22,12 +28,14 @@ import seedu.address.model.ReadOnlyJeeqTracker;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.DataFileConverter;
 import seedu.address.storage.JeeqTrackerStorage;
-import seedu.address.storage.JsonJeeqTrackerStorage;
+import seedu.address.storage.JournalingJeeqTrackerStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -42,6 +50,7 @@ public class MainApp extends Application {
 
     protected Ui ui;
     protected Logic logic;
+    protected CommandPipeline commandPipeline;
     protected Storage storage;
     protected Model model;
     protected Config config;
@@ -51,21 +60,56 @@ public class MainApp extends Application {
         logger.info("=============================[ Initializing JeeqTracker ]===========================");
         super.init();
 
-        AppParameters appParameters = AppParameters.parse(getParameters());
+        initComponents(AppParameters.parse(getParameters()));
+        commandPipeline = new CommandPipeline(logic);
+
+        ui = new UiManager(logic, commandPipeline);
+    }
+
+    /**
+     * Runs the commands in the script file given by {@code appParameters} without starting the GUI, and saves the
+     * data once after the last of them. The result is printed to the standard output, or to the standard error if
+     * any of the commands failed.
+     *
+     * @return the exit status: 0 if the commands were run, or 1 if they were not.
+     * @see RunCommand
+     */
+    public static int runScript(AppParameters appParameters) {
+        MainApp app = new MainApp();
+        app.initComponents(appParameters);
+        logger.info("Running script " + appParameters.getScriptFile() + " without the GUI");
+
+        String commandText = RunCommand.COMMAND_WORD + " " + appParameters.getScriptFile()
+                + (appParameters.isDryRun() ? " " + PREFIX_MODE + RunCommand.MODE_DRY_RUN : "");
+        int exitStatus;
+        try {
+            System.out.println(app.logic.execute(commandText).getFeedbackToUser());
+            exitStatus = 0;
+        } catch (CommandException | ParseException e) {
+            System.err.println(e.getMessage());
+            exitStatus = 1;
+        }
+        app.stop();
+        return exitStatus;
+    }
+
+    /**
+     * Initializes the config, storage, model and logic from the files given by {@code appParameters}.
+     */
+    private void initComponents(AppParameters appParameters) {
         config = initConfig(appParameters.getConfigPath());
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        JeeqTrackerStorage jeeqTrackerStorage = new JsonJeeqTrackerStorage(userPrefs.getJeeqTrackerFilePath());
-        storage = new StorageManager(jeeqTrackerStorage, userPrefsStorage);
+        JeeqTrackerStorage jeeqTrackerStorage = new JournalingJeeqTrackerStorage(DataFileConverter.createStorage(
+                userPrefs.getJeeqTrackerFileFormat(), userPrefs.getJeeqTrackerFilePath()));
+        storage = new WriteBehindStorage(new StorageManager(jeeqTrackerStorage, userPrefsStorage));
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
-
-        ui = new UiManager(logic);
     }
 
     /**
@@ -173,6 +217,14 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        if (commandPipeline != null) {
+            commandPipeline.shutdown();
+        }
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
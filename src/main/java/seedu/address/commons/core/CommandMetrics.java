@@ -0,0 +1,284 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Timings and resource use of the commands executed, grouped by command word.
+ * <p>
+ * For each command word, the time taken by each {@link Phase} is kept in a histogram of power-of-two buckets, so
+ * the metrics take the same space however many commands are executed, and percentiles are accurate to within a
+ * factor of two. The bytes allocated and written while executing each command are kept as totals.
+ * <p>
+ * Saving the data a command changed may write it later on another thread, so the writes of saved data are recorded
+ * separately with {@link #recordWrite(String, long, long)}, under the command that saved it.
+ * <p>
+ * Commands are executed on one thread and shown on another, so all methods are thread-safe.
+ */
+public class CommandMetrics {
+
+    /** The command word that commands are recorded under if their command word is not a known one. */
+    public static final String UNKNOWN_COMMAND_WORD = "unknown";
+
+    private static final String CSV_HEADER = "command,runs,"
+            + "parse_p50_us,parse_p95_us,parse_max_us,"
+            + "execute_p50_us,execute_p95_us,execute_max_us,"
+            + "persist_p50_us,persist_p95_us,persist_max_us,"
+            + "ui_refresh_p50_us,ui_refresh_p95_us,ui_refresh_max_us,"
+            + "allocated_bytes_per_run,written_bytes_per_run";
+
+    /**
+     * A part of executing a command that is timed separately.
+     * {@code PERSIST} is the time taken to write the data the command saved, which is only timed if it was written.
+     */
+    public enum Phase {
+        PARSE("parse"), EXECUTE("execute"), PERSIST("persist"), UI_REFRESH("ui refresh");
+
+        private final String description;
+
+        Phase(String description) {
+            this.description = description;
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    /** Command word to the metrics of the commands with that command word, in alphabetical order. */
+    private final Map<String, CommandWordMetrics> metricsByCommandWord = new TreeMap<>();
+
+    /**
+     * Records that a phase of a command with {@code commandWord} took {@code nanos} nanoseconds.
+     */
+    public synchronized void recordPhase(String commandWord, Phase phase, long nanos) {
+        requireAllNonNull(commandWord, phase);
+        getMetrics(commandWord).histograms.get(phase).add(nanos);
+    }
+
+    /**
+     * Records that a command with {@code commandWord} was executed, allocating {@code allocatedBytes} and writing
+     * {@code writtenBytes} to files while executing, apart from writing the data it saved.
+     * A negative {@code allocatedBytes} means the allocation could not be measured.
+     */
+    public synchronized void recordCommand(String commandWord, long allocatedBytes, long writtenBytes) {
+        requireNonNull(commandWord);
+        CommandWordMetrics metrics = getMetrics(commandWord);
+        metrics.runs++;
+        if (allocatedBytes >= 0) {
+            metrics.measuredAllocations++;
+            metrics.allocatedBytes += allocatedBytes;
+        }
+        metrics.writtenBytes += writtenBytes;
+    }
+
+    /**
+     * Records that the data saved by a command with {@code commandWord} was written, writing {@code writtenBytes} to
+     * files in {@code nanos} nanoseconds.
+     */
+    public synchronized void recordWrite(String commandWord, long writtenBytes, long nanos) {
+        requireNonNull(commandWord);
+        CommandWordMetrics metrics = getMetrics(commandWord);
+        metrics.histograms.get(Phase.PERSIST).add(nanos);
+        metrics.writtenBytes += writtenBytes;
+    }
+
+    /**
+     * Returns the number of commands with {@code commandWord} that were executed.
+     */
+    public synchronized long getRuns(String commandWord) {
+        CommandWordMetrics metrics = metricsByCommandWord.get(commandWord);
+        return metrics == null ? 0 : metrics.runs;
+    }
+
+    /**
+     * Returns the number of times {@code phase} of a command with {@code commandWord} was timed.
+     */
+    public synchronized long getPhaseCount(String commandWord, Phase phase) {
+        CommandWordMetrics metrics = metricsByCommandWord.get(commandWord);
+        return metrics == null ? 0 : metrics.histograms.get(phase).count;
+    }
+
+    /**
+     * Returns the longest time, in nanoseconds, taken by {@code phase} of a command with {@code commandWord}.
+     */
+    public synchronized long getMaxNanos(String commandWord, Phase phase) {
+        CommandWordMetrics metrics = metricsByCommandWord.get(commandWord);
+        return metrics == null ? 0 : metrics.histograms.get(phase).max;
+    }
+
+    /**
+     * Returns the total bytes written to files by the commands with {@code commandWord}, including the data they
+     * saved that has been written so far.
+     */
+    public synchronized long getWrittenBytes(String commandWord) {
+        CommandWordMetrics metrics = metricsByCommandWord.get(commandWord);
+        return metrics == null ? 0 : metrics.writtenBytes;
+    }
+
+    /**
+     * Returns a description of the metrics of each command word, with the median, 95th percentile and longest time
+     * of each phase in milliseconds.
+     */
+    public synchronized String getReport() {
+        if (metricsByCommandWord.isEmpty()) {
+            return "No commands executed yet.";
+        }
+        StringBuilder report = new StringBuilder("Times in ms as median/95th percentile/longest:");
+        metricsByCommandWord.forEach((commandWord, metrics) -> {
+            report.append('\n').append(commandWord).append(": ").append(metrics.runs)
+                    .append(metrics.runs == 1 ? " run" : " runs");
+            for (Phase phase : Phase.values()) {
+                LatencyHistogram histogram = metrics.histograms.get(phase);
+                if (histogram.count > 0) {
+                    report.append(String.format(", %s %s/%s/%s", phase, toMillis(histogram.getPercentile(0.5)),
+                            toMillis(histogram.getPercentile(0.95)), toMillis(histogram.max)));
+                }
+            }
+            metrics.getAllocatedBytesPerRun().ifPresent(bytes -> report.append(", ")
+                    .append(bytes).append(" bytes allocated"));
+            report.append(", ").append(metrics.getWrittenBytesPerRun()).append(" bytes written per run");
+        });
+        return report.toString();
+    }
+
+    /**
+     * Returns the metrics as comma-separated values, with a header row and a row for each command word.
+     * Times are in microseconds; a phase that was never timed has empty columns.
+     */
+    public synchronized String toCsv() {
+        StringBuilder csv = new StringBuilder(CSV_HEADER).append('\n');
+        metricsByCommandWord.forEach((commandWord, metrics) -> {
+            csv.append(commandWord).append(',').append(metrics.runs);
+            for (Phase phase : Phase.values()) {
+                LatencyHistogram histogram = metrics.histograms.get(phase);
+                if (histogram.count > 0) {
+                    csv.append(',').append(histogram.getPercentile(0.5) / 1000)
+                            .append(',').append(histogram.getPercentile(0.95) / 1000)
+                            .append(',').append(histogram.max / 1000);
+                } else {
+                    csv.append(",,,");
+                }
+            }
+            csv.append(',').append(metrics.getAllocatedBytesPerRun().map(String::valueOf).orElse(""))
+                    .append(',').append(metrics.getWrittenBytesPerRun()).append('\n');
+        });
+        return csv.toString();
+    }
+
+    /**
+     * Writes the metrics to {@code filePath} as comma-separated values.
+     *
+     * @see #toCsv()
+     */
+    public void writeCsv(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFile(filePath, toCsv());
+    }
+
+    /**
+     * Returns the command word of {@code commandText} that its metrics are recorded under.
+     */
+    public static String getCommandWord(String commandText) {
+        requireNonNull(commandText);
+        String trimmedText = commandText.trim();
+        if (trimmedText.isEmpty()) {
+            return UNKNOWN_COMMAND_WORD;
+        }
+        return trimmedText.split("\\s+", 2)[0].toLowerCase();
+    }
+
+    /**
+     * Returns the total bytes allocated by the current thread, or -1 if the JVM cannot measure it.
+     */
+    public static long getCurrentThreadAllocatedBytes() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (!(threadBean instanceof com.sun.management.ThreadMXBean)) {
+            return -1;
+        }
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        if (!allocationBean.isThreadAllocatedMemorySupported() || !allocationBean.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+        return allocationBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private CommandWordMetrics getMetrics(String commandWord) {
+        return metricsByCommandWord.computeIfAbsent(commandWord, unused -> new CommandWordMetrics());
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format("%.2f", nanos / 1_000_000.0);
+    }
+
+    /**
+     * The metrics of the commands with one command word.
+     */
+    private static class CommandWordMetrics {
+        private final Map<Phase, LatencyHistogram> histograms = new EnumMap<>(Phase.class);
+        private long runs;
+        private long measuredAllocations;
+        private long allocatedBytes;
+        private long writtenBytes;
+
+        private CommandWordMetrics() {
+            for (Phase phase : Phase.values()) {
+                histograms.put(phase, new LatencyHistogram());
+            }
+        }
+
+        private Optional<Long> getAllocatedBytesPerRun() {
+            return measuredAllocations == 0 ? Optional.empty() : Optional.of(allocatedBytes / measuredAllocations);
+        }
+
+        private long getWrittenBytesPerRun() {
+            return runs == 0 ? 0 : writtenBytes / runs;
+        }
+    }
+
+    /**
+     * Counts of durations in buckets of powers of two nanoseconds.
+     */
+    private static class LatencyHistogram {
+        /** Bucket i counts the durations from 2^(i-1) to 2^i - 1 nanoseconds; bucket 0 counts those of 0. */
+        private final long[] buckets = new long[Long.SIZE];
+        private long count;
+        private long max;
+
+        private void add(long nanos) {
+            long duration = Math.max(0, nanos);
+            buckets[Long.SIZE - Long.numberOfLeadingZeros(duration)]++;
+            count++;
+            max = Math.max(max, duration);
+        }
+
+        /**
+         * Returns the upper bound of the bucket holding the duration at {@code fraction} of the durations in
+         * ascending order, or the longest duration if that is less.
+         */
+        private long getPercentile(double fraction) {
+            long rank = (long) Math.ceil(fraction * count);
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank && buckets[i] > 0) {
+                    return Math.min(max, i == 0 ? 0 : (1L << i) - 1);
+                }
+            }
+            return max;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * The formats that JeeqTracker data files can be stored in.
+ */
+public enum DataFileFormat {
+    JSON(".json"),
+    BINARY(".jqt"),
+    SEGMENTED(".jqts");
+
+    private final String fileExtension;
+
+    DataFileFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Returns the format whose file extension {@code filePath} ends with, if any.
+     */
+    public static Optional<DataFileFormat> fromFilePath(Path filePath) {
+        requireNonNull(filePath);
+        String fileName = filePath.getFileName().toString().toLowerCase();
+        for (DataFileFormat format : values()) {
+            if (fileName.endsWith(format.fileExtension)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -12,5 +12,8 @@ public class Messages {
             "The transaction index provided is invalid";
     public static final String MESSAGE_INVALID_REMARK_DISPLAYED_INDEX = "The remark index provided is invalid";
     public static final String MESSAGE_CLIENTS_LISTED_OVERVIEW = "%1$d clients listed!";
+    public static final String MESSAGE_INVALID_DATE_RANGE = "The start date cannot be after the end date.";
+    public static final String MESSAGE_TRANSACTION_TOTAL_TOO_LARGE =
+            "The total amount of the client's transactions would be too large to record";
 
 }
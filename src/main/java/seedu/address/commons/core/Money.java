@@ -0,0 +1,121 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Represents an amount of money as a fixed-point number.
+ * The amount is held as a whole number of minor units, where one unit of currency is
+ * {@code MINOR_UNITS_PER_UNIT} minor units, so that sums and products of amounts are exact.
+ */
+public final class Money implements Comparable<Money> {
+
+    /** Number of decimal places kept by an amount. */
+    public static final int SCALE = 4;
+
+    /** Number of minor units in one unit of currency. */
+    public static final long MINOR_UNITS_PER_UNIT = 10_000L;
+
+    public static final Money ZERO = new Money(0);
+
+    private final long minorUnits;
+
+    private Money(long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    /**
+     * Returns the {@code Money} holding the given number of minor units.
+     */
+    public static Money ofMinorUnits(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new Money(minorUnits);
+    }
+
+    /**
+     * Parses a decimal amount such as {@code "12.5"}.
+     * Digits beyond {@code SCALE} decimal places are rounded half up.
+     *
+     * @throws IllegalArgumentException if {@code amount} is not a decimal number or is too large to be held.
+     */
+    public static Money parse(String amount) {
+        requireNonNull(amount);
+        try {
+            return ofMinorUnits(new BigDecimal(amount).setScale(SCALE, RoundingMode.HALF_UP).unscaledValue()
+                    .longValueExact());
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw new IllegalArgumentException("Invalid amount: " + amount, e);
+        }
+    }
+
+    /**
+     * Converts a number of minor units to units of currency.
+     */
+    public static double toMajorUnits(long minorUnits) {
+        return (double) minorUnits / MINOR_UNITS_PER_UNIT;
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    /**
+     * Returns this amount in units of currency.
+     */
+    public double toDouble() {
+        return toMajorUnits(minorUnits);
+    }
+
+    /**
+     * Returns this amount as an exact decimal number.
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    /**
+     * Returns the product of this amount and {@code factor}.
+     *
+     * @throws ArithmeticException if the product overflows.
+     */
+    public Money multiply(long factor) {
+        return ofMinorUnits(Math.multiplyExact(minorUnits, factor));
+    }
+
+    /**
+     * Returns the sum of this amount and {@code other}.
+     *
+     * @throws ArithmeticException if the sum overflows.
+     */
+    public Money add(Money other) {
+        requireNonNull(other);
+        return ofMinorUnits(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money negate() {
+        return ofMinorUnits(Math.negateExact(minorUnits));
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Money // instanceof handles nulls
+                && minorUnits == ((Money) other).minorUnits); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return PriceFormatter.formatPrice(this);
+    }
+}
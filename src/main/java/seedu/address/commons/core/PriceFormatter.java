@@ -1,5 +1,6 @@
 package seedu.address.commons.core;
 
+import java.math.BigDecimal;
 import java.text.DecimalFormat;
 
 /**
@@ -13,18 +14,32 @@ public class PriceFormatter {
      * @return A user-friendly version of price.
      */
     public static String formatPrice(double price) {
+        return format(BigDecimal.valueOf(price));
+    }
+
+    /**
+     * Formats an exact amount of money to a more user-friendly format.
+     * @param amount amount of money.
+     * @return A user-friendly version of amount.
+     */
+    public static String formatPrice(Money amount) {
+        return format(amount.toBigDecimal());
+    }
+
+    private static String format(BigDecimal price) {
+        BigDecimal magnitude = price.abs();
         DecimalFormat df = new DecimalFormat("##,###");
         // Net Transaction Amount has decimals
-        if (price % 1 != 0) {
+        if (magnitude.stripTrailingZeros().scale() > 0) {
             df = new DecimalFormat("##,###.00");
         }
 
-        if (Math.abs(price) < 1) {
+        if (magnitude.compareTo(BigDecimal.ONE) < 0) {
             df = new DecimalFormat("0.00");
         }
 
-        return price < 0
-                ? "-$" + df.format(Math.abs(price))
-                : "$" + df.format(price);
+        return price.signum() < 0
+                ? "-$" + df.format(magnitude)
+                : "$" + df.format(magnitude);
     }
 }
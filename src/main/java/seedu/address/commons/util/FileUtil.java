@@ -1,10 +1,13 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Writes and reads files
@@ -13,6 +16,12 @@ public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
 
+    /** Bytes written to files by the app, as counted by {@link #addBytesWritten(long)}. */
+    private static final AtomicLong BYTES_WRITTEN = new AtomicLong();
+
+    /** The part of {@link #BYTES_WRITTEN} written by each thread, so that writes on other threads are not counted. */
+    private static final ThreadLocal<long[]> THREAD_BYTES_WRITTEN = ThreadLocal.withInitial(() -> new long[1]);
+
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
     }
@@ -77,7 +86,44 @@ public class FileUtil {
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        Files.write(file, bytes);
+        addBytesWritten(bytes.length);
+    }
+
+    /**
+     * Replaces {@code target} with {@code source}, atomically if the file system supports it.
+     * {@code source} is counted as written, as it is the new file written in full to replace {@code target}.
+     */
+    public static void replaceFile(Path source, Path target) throws IOException {
+        addBytesWritten(Files.size(source));
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Counts {@code bytes} as written to files, for writes that do not go through this class.
+     */
+    public static void addBytesWritten(long bytes) {
+        BYTES_WRITTEN.addAndGet(bytes);
+        THREAD_BYTES_WRITTEN.get()[0] += bytes;
+    }
+
+    /**
+     * Returns the bytes written to files by the app since it started, on any thread.
+     */
+    public static long getBytesWritten() {
+        return BYTES_WRITTEN.get();
+    }
+
+    /**
+     * Returns the bytes written to files by the current thread since it started.
+     */
+    public static long getBytesWrittenByCurrentThread() {
+        return THREAD_BYTES_WRITTEN.get()[0];
     }
 
 }
@@ -0,0 +1,76 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.AbstractList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * An unmodifiable view of a list that reads the list a page at a time and keeps only the most recently read pages.
+ * <p>
+ * A list view reads the same few elements many times as it lays out and scrolls, so a list whose elements are
+ * costly to read, such as one that reads them from storage, is read once per page in view rather than once per
+ * read of an element. The elements of pages that are no longer kept can be freed, so a view of a large list only
+ * holds the elements near those in view.
+ * <p>
+ * The list must not change while it is viewed through a {@code PagedList}.
+ */
+public class PagedList<E> extends AbstractList<E> implements RandomAccess {
+
+    public static final int DEFAULT_PAGE_SIZE = 64;
+    public static final int DEFAULT_MAX_PAGES = 8;
+
+    private final List<E> source;
+    private final int pageSize;
+    /** Page number to the elements of that page, from the least recently read. */
+    private final Map<Integer, Object[]> pages;
+
+    /**
+     * Creates a view of {@code source} that keeps the {@code maxPages} most recently read pages of
+     * {@code pageSize} elements.
+     */
+    public PagedList(List<E> source, int pageSize, int maxPages) {
+        requireNonNull(source);
+        checkArgument(pageSize > 0, "Page size must be positive.");
+        checkArgument(maxPages > 0, "Maximum number of pages must be positive.");
+        this.source = source;
+        this.pageSize = pageSize;
+        this.pages = new LinkedHashMap<>(maxPages, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Object[]> eldest) {
+                return size() > maxPages;
+            }
+        };
+    }
+
+    /**
+     * Creates a view of {@code source} with the default page size and number of pages kept.
+     */
+    public PagedList(List<E> source) {
+        this(source, DEFAULT_PAGE_SIZE, DEFAULT_MAX_PAGES);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size());
+        int pageNumber = index / pageSize;
+        Object[] page = pages.get(pageNumber);
+        if (page == null) {
+            int start = pageNumber * pageSize;
+            page = source.subList(start, Math.min(start + pageSize, size())).toArray();
+            pages.put(pageNumber, page);
+        }
+        return (E) page[index % pageSize];
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+}
@@ -0,0 +1,403 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * An immutable list whose elements are kept in the order of a comparator, and which shares its structure with the
+ * lists derived from it.
+ * <p>
+ * The elements are held in a balanced binary tree in which each node also holds the size of its subtree. Adding or
+ * removing an element returns a new list that copies only the O(log n) nodes on the path to that element and shares
+ * the rest with this list, so a list can be changed in O(log n) time and memory while the lists it was derived from
+ * are still in use, such as by the undo history or by another thread. An element is found by its position or by
+ * comparison in O(log n) time.
+ * <p>
+ * No two elements of a list compare as equal; adding an element replaces any element that compares as equal to it.
+ */
+public final class PersistentSortedList<E> extends AbstractList<E> {
+
+    private final Comparator<? super E> comparator;
+    private final Node<E> root;
+
+    private PersistentSortedList(Comparator<? super E> comparator, Node<E> root) {
+        this.comparator = comparator;
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty list ordered by {@code comparator}.
+     */
+    public static <E> PersistentSortedList<E> empty(Comparator<? super E> comparator) {
+        requireNonNull(comparator);
+        return new PersistentSortedList<>(comparator, null);
+    }
+
+    /**
+     * Returns a list of {@code elements} ordered by {@code comparator}, in O(n) time.
+     *
+     * @throws IllegalArgumentException if {@code elements} are not in strictly increasing order.
+     */
+    public static <E> PersistentSortedList<E> of(List<? extends E> elements, Comparator<? super E> comparator) {
+        requireNonNull(elements);
+        requireNonNull(comparator);
+        Object[] array = elements.toArray();
+        for (int i = 1; i < array.length; i++) {
+            @SuppressWarnings("unchecked")
+            int order = comparator.compare((E) array[i - 1], (E) array[i]);
+            checkArgument(order < 0, "Elements must be in strictly increasing order.");
+        }
+        return new PersistentSortedList<>(comparator, build(array, 0, array.length));
+    }
+
+    /**
+     * Returns a list with the elements of this list and {@code element}, replacing the element that compares as
+     * equal to it, if any.
+     */
+    public PersistentSortedList<E> with(E element) {
+        requireNonNull(element);
+        return new PersistentSortedList<>(comparator, insert(root, element));
+    }
+
+    /**
+     * Returns a list with the elements of this list except the one that compares as equal to {@code element}.
+     * Returns this list if there is no such element.
+     */
+    public PersistentSortedList<E> without(E element) {
+        requireNonNull(element);
+        Node<E> newRoot = remove(root, element);
+        return newRoot == root ? this : new PersistentSortedList<>(comparator, newRoot);
+    }
+
+    /**
+     * Returns the element that compares as equal to {@code element}, if any.
+     */
+    public Optional<E> find(E element) {
+        requireNonNull(element);
+        Node<E> node = root;
+        while (node != null) {
+            int order = comparator.compare(element, node.value);
+            if (order == 0) {
+                return Optional.of(node.value);
+            }
+            node = order < 0 ? node.left : node.right;
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the number of elements that come before {@code element} in this list, which is the position of
+     * {@code element} if it is in the list.
+     */
+    public int rank(E element) {
+        requireNonNull(element);
+        int rank = 0;
+        Node<E> node = root;
+        while (node != null) {
+            int order = comparator.compare(element, node.value);
+            if (order <= 0) {
+                node = node.left;
+            } else {
+                rank += sizeOf(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Returns the differences between {@code earlier} and this list in order, each as an element of {@code earlier}
+     * and the element of this list that compares as equal to it, either of which is absent if there is none.
+     * Elements that are the same object in both lists are not reported. Subtrees that the lists share are skipped,
+     * so if this list was derived from {@code earlier} by k changes, this takes O(k log n) time.
+     * Both lists must be ordered by the same comparator.
+     */
+    public List<Difference<E>> differencesFrom(PersistentSortedList<E> earlier) {
+        requireNonNull(earlier);
+        List<Difference<E>> differences = new ArrayList<>();
+        Cursor<E> before = new Cursor<>(earlier.root);
+        Cursor<E> after = new Cursor<>(root);
+        while (!before.isEmpty() || !after.isEmpty()) {
+            if (before.isEmpty() || after.isEmpty()) {
+                Cursor<E> remaining = before.isEmpty() ? after : before;
+                if (remaining.isSubtree()) {
+                    remaining.expand();
+                } else if (remaining == before) {
+                    differences.add(new Difference<>(before.pop(), null));
+                } else {
+                    differences.add(new Difference<>(null, after.pop()));
+                }
+                continue;
+            }
+            Node<E> beforeNode = before.peek();
+            Node<E> afterNode = after.peek();
+            if (before.isSubtree() && after.isSubtree() && beforeNode == afterNode) {
+                before.pop();
+                after.pop();
+            } else if (before.isSubtree() && (!after.isSubtree() || beforeNode.height >= afterNode.height)) {
+                before.expand();
+            } else if (after.isSubtree()) {
+                after.expand();
+            } else {
+                int order = comparator.compare(beforeNode.value, afterNode.value);
+                if (order < 0) {
+                    differences.add(new Difference<>(before.pop(), null));
+                } else if (order > 0) {
+                    differences.add(new Difference<>(null, after.pop()));
+                } else if (before.pop() != after.pop()) {
+                    differences.add(new Difference<>(beforeNode.value, afterNode.value));
+                }
+            }
+        }
+        return differences;
+    }
+
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.value;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Returns an iterator over the elements in order, which reads them in O(n) time in total.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private final Deque<Node<E>> path = new ArrayDeque<>();
+
+            {
+                pushLeftmost(root);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public E next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<E> node = path.pop();
+                pushLeftmost(node.right);
+                return node.value;
+            }
+
+            private void pushLeftmost(Node<E> node) {
+                for (Node<E> current = node; current != null; current = current.left) {
+                    path.push(current);
+                }
+            }
+        };
+    }
+
+    private static <E> Node<E> build(Object[] elements, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        @SuppressWarnings("unchecked")
+        E value = (E) elements[middle];
+        return new Node<>(value, build(elements, from, middle), build(elements, middle + 1, to));
+    }
+
+    private Node<E> insert(Node<E> node, E element) {
+        if (node == null) {
+            return new Node<>(element, null, null);
+        }
+        int order = comparator.compare(element, node.value);
+        if (order < 0) {
+            return balance(node.value, insert(node.left, element), node.right);
+        } else if (order > 0) {
+            return balance(node.value, node.left, insert(node.right, element));
+        } else {
+            return new Node<>(element, node.left, node.right);
+        }
+    }
+
+    private Node<E> remove(Node<E> node, E element) {
+        if (node == null) {
+            return null;
+        }
+        int order = comparator.compare(element, node.value);
+        if (order < 0) {
+            Node<E> left = remove(node.left, element);
+            return left == node.left ? node : balance(node.value, left, node.right);
+        } else if (order > 0) {
+            Node<E> right = remove(node.right, element);
+            return right == node.right ? node : balance(node.value, node.left, right);
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            Node<E> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            return balance(successor.value, node.left, removeFirst(node.right));
+        }
+    }
+
+    private static <E> Node<E> removeFirst(Node<E> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        return balance(node.value, removeFirst(node.left), node.right);
+    }
+
+    /**
+     * Returns a node of {@code value} with the given subtrees, rotated so that their heights differ by at most one.
+     * The heights of {@code left} and {@code right} may differ by at most two.
+     */
+    private static <E> Node<E> balance(E value, Node<E> left, Node<E> right) {
+        int leftHeight = heightOf(left);
+        int rightHeight = heightOf(right);
+        if (leftHeight > rightHeight + 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+            }
+            Node<E> middle = left.right;
+            return new Node<>(middle.value, new Node<>(left.value, left.left, middle.left),
+                    new Node<>(value, middle.right, right));
+        }
+        if (rightHeight > leftHeight + 1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+            }
+            Node<E> middle = right.left;
+            return new Node<>(middle.value, new Node<>(value, left, middle.left),
+                    new Node<>(right.value, middle.right, right.right));
+        }
+        return new Node<>(value, left, right);
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * A node of the tree, which is never changed once created so that it can be shared between lists.
+     */
+    private static final class Node<E> {
+        private final E value;
+        private final Node<E> left;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        private Node(E value, Node<E> left, Node<E> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+
+    /**
+     * The parts of a tree that are still to be read in order, each either a whole subtree or the value of one node.
+     */
+    private static final class Cursor<E> {
+        private final Deque<Node<E>> nodes = new ArrayDeque<>();
+        /** Whether each of {@code nodes} stands for its whole subtree rather than only its value. */
+        private final Deque<Boolean> isSubtree = new ArrayDeque<>();
+
+        private Cursor(Node<E> root) {
+            push(root, true);
+        }
+
+        private boolean isEmpty() {
+            return nodes.isEmpty();
+        }
+
+        private Node<E> peek() {
+            return nodes.peek();
+        }
+
+        private boolean isSubtree() {
+            return isSubtree.peek();
+        }
+
+        /**
+         * Removes the next part and returns the value of its node.
+         */
+        private E pop() {
+            isSubtree.pop();
+            return nodes.pop().value;
+        }
+
+        /**
+         * Replaces the next part, which must be a subtree, by its left subtree, its value and its right subtree.
+         */
+        private void expand() {
+            isSubtree.pop();
+            Node<E> node = nodes.pop();
+            push(node.right, true);
+            push(node, false);
+            push(node.left, true);
+        }
+
+        private void push(Node<E> node, boolean isWholeSubtree) {
+            if (node != null) {
+                nodes.push(node);
+                isSubtree.push(isWholeSubtree);
+            }
+        }
+    }
+
+    /**
+     * An element of an earlier list and the element of a later list that compares as equal to it, either of which
+     * is absent if there is none.
+     */
+    public static final class Difference<E> {
+        private final E before;
+        private final E after;
+
+        private Difference(E before, E after) {
+            this.before = before;
+            this.after = after;
+        }
+
+        public Optional<E> getBefore() {
+            return Optional.ofNullable(before);
+        }
+
+        public Optional<E> getAfter() {
+            return Optional.ofNullable(after);
+        }
+    }
+}
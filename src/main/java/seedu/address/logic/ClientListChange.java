@@ -0,0 +1,77 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+
+import seedu.address.model.client.Client;
+
+/**
+ * A change to the filtered client list made by a command: the clients removed from a position of the list, and the
+ * clients added there in their place.
+ * The changes made by a command, applied in order to the clients shown before it, give the clients shown after it,
+ * so the UI keeps its own copy of the list up to date in time proportional to the changes.
+ */
+public class ClientListChange {
+
+    private final int from;
+    private final int removedCount;
+    private final List<Client> added;
+
+    /**
+     * Creates a {@code ClientListChange} that removes {@code removedCount} clients from position {@code from} and
+     * adds {@code added} there.
+     */
+    public ClientListChange(int from, int removedCount, List<? extends Client> added) {
+        requireNonNull(added);
+        checkArgument(from >= 0 && removedCount >= 0, "Positions and counts cannot be negative.");
+        this.from = from;
+        this.removedCount = removedCount;
+        this.added = List.copyOf(added);
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public int getRemovedCount() {
+        return removedCount;
+    }
+
+    public List<Client> getAdded() {
+        return added;
+    }
+
+    /**
+     * Applies this change to {@code clients}.
+     */
+    public void applyTo(List<Client> clients) {
+        requireNonNull(clients);
+        if (removedCount == 1 && added.size() == 1) {
+            clients.set(from, added.get(0));
+            return;
+        }
+        clients.subList(from, from + removedCount).clear();
+        clients.addAll(from, added);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ClientListChange // instanceof handles nulls
+                && from == ((ClientListChange) other).from
+                && removedCount == ((ClientListChange) other).removedCount
+                && added.equals(((ClientListChange) other).added));
+    }
+
+    @Override
+    public int hashCode() {
+        return (from * 31 + removedCount) * 31 + added.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Replace " + removedCount + " clients from " + from + " with " + added;
+    }
+}
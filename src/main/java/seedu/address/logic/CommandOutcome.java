@@ -0,0 +1,51 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+
+import seedu.address.logic.commands.CommandResult;
+
+/**
+ * The result of a command executed by a {@link CommandPipeline}, with the state of the model the UI shows after it.
+ * The filtered client list is given as the changes made to it since the outcome of the previous command, so the UI
+ * can update the clients it shows while later commands change the model, without copying the whole list.
+ */
+public class CommandOutcome {
+
+    private final CommandResult commandResult;
+    private final List<ClientListChange> clientListChanges;
+    private final double netTransaction;
+
+    /**
+     * Creates a {@code CommandOutcome} of a command that returned {@code commandResult}, after which the filtered
+     * client list had changed by {@code clientListChanges}, and the net amount transacted by its clients was
+     * {@code netTransaction}.
+     */
+    public CommandOutcome(CommandResult commandResult, List<ClientListChange> clientListChanges,
+                          double netTransaction) {
+        requireAllNonNull(commandResult, clientListChanges);
+        this.commandResult = commandResult;
+        this.clientListChanges = List.copyOf(clientListChanges);
+        this.netTransaction = netTransaction;
+    }
+
+    public CommandResult getCommandResult() {
+        return commandResult;
+    }
+
+    /**
+     * Returns the changes to the filtered client list since the outcome of the previous command, in the order they
+     * were made. Changes made by commands that failed in between are included.
+     */
+    public List<ClientListChange> getClientListChanges() {
+        return clientListChanges;
+    }
+
+    /**
+     * Returns the net amount transacted by the clients in the filtered client list right after the command.
+     */
+    public double getNetTransaction() {
+        return netTransaction;
+    }
+}
@@ -0,0 +1,142 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.client.Client;
+
+/**
+ * Executes commands with a {@code Logic} on a single background thread, one at a time in the order submitted.
+ * <p>
+ * The background thread is the only thread that executes commands, so it is the only writer of the model, and the
+ * thread that submits a command, such as the JavaFX application thread, is never blocked by parsing, changing the
+ * model or saving. Each command completes its future with a {@link CommandOutcome} holding the changes to the
+ * clients to show, so the submitting thread does not read the model while later commands change it.
+ * <p>
+ * Other work that reads or changes the model, or that reads storage, such as reading the transactions of a client
+ * that are loaded on demand, is submitted with {@link #submitTask(Supplier)} or {@link #runTask(Runnable)} to run
+ * on the same thread between commands.
+ */
+public class CommandPipeline {
+
+    public static final String EXECUTOR_THREAD_NAME = "command-executor";
+
+    private static final Logger logger = LogsCenter.getLogger(CommandPipeline.class);
+
+    private final Logic logic;
+    private final ThreadPoolExecutor executor;
+    /** The changes to the filtered client list not yet given in an outcome. Only used on the background thread. */
+    private final List<ClientListChange> clientListChanges = new ArrayList<>();
+
+    /**
+     * Creates a {@code CommandPipeline} that executes commands with {@code logic}.
+     */
+    public CommandPipeline(Logic logic) {
+        requireNonNull(logic);
+        this.logic = logic;
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, EXECUTOR_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        logic.getFilteredClientList().addListener(this::recordChanges);
+    }
+
+    /**
+     * Queues {@code commandText} to be executed after the commands submitted before it.
+     * The returned future completes on the background thread with the outcome of the command, or exceptionally with
+     * the {@code CommandException} or {@code ParseException} thrown by {@link Logic#execute(String)}, or with any
+     * other exception or error thrown while executing it.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if the pipeline has been shut down.
+     */
+    public CompletableFuture<CommandOutcome> submit(String commandText) {
+        requireNonNull(commandText);
+        CompletableFuture<CommandOutcome> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                future.complete(execute(commandText));
+            } catch (Throwable t) {
+                // errors complete the future too, so that whoever waits for the command is never left waiting
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Queues {@code task} to be run on the background thread after the commands and tasks submitted before it.
+     * The returned future completes on the background thread with the result of the task.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if the pipeline has been shut down.
+     */
+    public <T> CompletableFuture<T> submitTask(Supplier<T> task) {
+        requireNonNull(task);
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    /**
+     * Queues {@code task} to be run on the background thread after the commands and tasks submitted before it.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if the pipeline has been shut down.
+     */
+    public CompletableFuture<Void> runTask(Runnable task) {
+        requireNonNull(task);
+        return CompletableFuture.runAsync(task, executor);
+    }
+
+    /**
+     * Stops accepting commands and waits for the commands already submitted to finish executing.
+     */
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while waiting for commands to finish executing");
+        }
+    }
+
+    /**
+     * Executes {@code commandText}. The changes to the filtered client list made by a command that fails are given
+     * in the outcome of the next command that succeeds.
+     */
+    private CommandOutcome execute(String commandText) throws CommandException, ParseException {
+        CommandResult commandResult = logic.execute(commandText);
+        ObservableList<Client> clients = logic.getFilteredClientList();
+        CommandOutcome outcome = new CommandOutcome(commandResult, clientListChanges,
+                logic.calculateTotalTransaction(clients));
+        clientListChanges.clear();
+        return outcome;
+    }
+
+    /**
+     * Records {@code change} to the filtered client list, copying only the clients that were added or moved.
+     */
+    private void recordChanges(ListChangeListener.Change<? extends Client> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                clientListChanges.add(new ClientListChange(change.getFrom(), change.getTo() - change.getFrom(),
+                        change.getList().subList(change.getFrom(), change.getTo())));
+            } else {
+                clientListChanges.add(new ClientListChange(change.getFrom(), change.getRemovedSize(),
+                        change.getAddedSubList()));
+            }
+        }
+    }
+}
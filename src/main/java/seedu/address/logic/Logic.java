@@ -3,6 +3,7 @@ package seedu.address.logic;
 import java.nio.file.Path;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.CommandMetrics;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -53,5 +54,22 @@ public interface Logic {
      */
     double calculateTotalTransaction(ObservableList<Client> filteredClientList);
 
+    /**
+     * Returns the timings and resource use of the commands executed.
+     *
+     * @see seedu.address.model.Model#getCommandMetrics()
+     */
+    CommandMetrics getCommandMetrics();
+
+    /**
+     * Returns the number of executed commands after which the JeeqTracker was written to storage.
+     */
+    long getSavesPerformed();
+
+    /**
+     * Returns the number of executed commands after which writing to storage was skipped
+     * because the JeeqTracker had not changed since it was last written.
+     */
+    long getSavesSkipped();
 
 }
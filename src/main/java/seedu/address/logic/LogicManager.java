@@ -1,12 +1,17 @@
 package seedu.address.logic;
 
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.CommandMetrics;
+import seedu.address.commons.core.CommandMetrics.Phase;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -27,6 +32,11 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final JeeqTrackerParser jeeqTrackerParser;
 
+    private ReadOnlyJeeqTracker savedJeeqTracker;
+    private long savedModificationCount;
+    private long savesPerformed;
+    private long savesSkipped;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -36,21 +46,95 @@ public class LogicManager implements Logic {
         jeeqTrackerParser = new JeeqTrackerParser();
     }
 
+    /**
+     * {@inheritDoc}
+     * The time taken to parse and execute the command, and the bytes it allocates and writes, are recorded in the
+     * {@code CommandMetrics} of the model. The time taken to write the data it saves, and the bytes written, are
+     * recorded under it once the data is written.
+     */
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
-        Command command = jeeqTrackerParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        CommandMetrics metrics = model.getCommandMetrics();
+        String commandWord = CommandMetrics.getCommandWord(commandText);
+        long allocatedBytesBefore = CommandMetrics.getCurrentThreadAllocatedBytes();
+        long writtenBytesBefore = FileUtil.getBytesWrittenByCurrentThread();
+        long writtenBytes = 0;
+        try {
+            long start = System.nanoTime();
+            Command command;
+            try {
+                command = jeeqTrackerParser.parseCommand(commandText);
+            } catch (ParseException pe) {
+                if (MESSAGE_UNKNOWN_COMMAND.equals(pe.getMessage())) {
+                    commandWord = CommandMetrics.UNKNOWN_COMMAND_WORD;
+                }
+                throw pe;
+            } finally {
+                metrics.recordPhase(commandWord, Phase.PARSE, System.nanoTime() - start);
+            }
+
+            start = System.nanoTime();
+            CommandResult commandResult;
+            try {
+                commandResult = command.execute(model);
+            } finally {
+                endHistoryStep();
+                metrics.recordPhase(commandWord, Phase.EXECUTE, System.nanoTime() - start);
+                // the data saved next is recorded when it is written, which may be on another thread
+                writtenBytes = FileUtil.getBytesWrittenByCurrentThread() - writtenBytesBefore;
+            }
+
+            saveJeeqTrackerIfModified(commandWord);
+            return commandResult;
+        } finally {
+            long allocatedBytesAfter = CommandMetrics.getCurrentThreadAllocatedBytes();
+            metrics.recordCommand(commandWord,
+                    allocatedBytesBefore < 0 ? -1 : allocatedBytesAfter - allocatedBytesBefore, writtenBytes);
+        }
+    }
+
+    /**
+     * Ends the step of the undo history with the changes made by the command just executed, so that undo undoes them
+     * together. The changes made while a batch of changes is open are ended as one step once it is committed.
+     */
+    private void endHistoryStep() {
+        if (!model.isInBatch()) {
+            model.endHistoryStep();
+        }
+    }
+
+    /**
+     * Writes the JeeqTracker to storage unless it is unchanged since it was last written.
+     * The first command executed always writes it, as it may not have been saved before.
+     * Nothing is written while a batch of changes is open, so that its changes are written together once it is
+     * committed, and never written if it is aborted.
+     * The write is recorded in the {@code CommandMetrics} under {@code commandWord}, once it happens.
+     */
+    private void saveJeeqTrackerIfModified(String commandWord) throws CommandException {
+        if (model.isInBatch()) {
+            logger.fine("Batch of changes open, deferring save until it is committed");
+            return;
+        }
+
+        ReadOnlyJeeqTracker jeeqTracker = model.getJeeqTracker();
+        long modificationCount = jeeqTracker.getModificationCount();
+        if (jeeqTracker == savedJeeqTracker && modificationCount == savedModificationCount) {
+            savesSkipped++;
+            logger.fine("JeeqTracker unchanged, skipping save");
+            return;
+        }
 
         try {
-            storage.saveJeeqTracker(model.getJeeqTracker());
+            CommandMetrics metrics = model.getCommandMetrics();
+            storage.saveJeeqTracker(jeeqTracker, (bytes, nanos) -> metrics.recordWrite(commandWord, bytes, nanos));
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
-
-        return commandResult;
+        savedJeeqTracker = jeeqTracker;
+        savedModificationCount = modificationCount;
+        savesPerformed++;
     }
 
     @Override
@@ -83,4 +167,19 @@ public class LogicManager implements Logic {
     public double calculateTotalTransaction(ObservableList<Client> filteredClientList) {
         return model.calculateTotalTransaction(filteredClientList);
     }
+
+    @Override
+    public CommandMetrics getCommandMetrics() {
+        return model.getCommandMetrics();
+    }
+
+    @Override
+    public long getSavesPerformed() {
+        return savesPerformed;
+    }
+
+    @Override
+    public long getSavesSkipped() {
+        return savesSkipped;
+    }
 }
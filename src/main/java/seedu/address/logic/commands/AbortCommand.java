@@ -0,0 +1,33 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Undoes the latest batch of changes begun with {@link BeginCommand}, without saving anything.
+ */
+public class AbortCommand extends Command {
+
+    public static final String COMMAND_WORD = "abort";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Undoes all the changes made since the last "
+            + BeginCommand.COMMAND_WORD + ".\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Undid the batch of changes";
+
+    public static final String MESSAGE_NO_BATCH = "There is no batch of changes to undo. Enter "
+            + BeginCommand.COMMAND_WORD + " to begin one.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.isInBatch()) {
+            throw new CommandException(MESSAGE_NO_BATCH);
+        }
+        model.abortBatch();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.Model;
+
+/**
+ * Begins a batch of changes, which are saved together when committed or undone together when aborted.
+ */
+public class BeginCommand extends Command {
+
+    public static final String COMMAND_WORD = "begin";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Begins a batch of changes. The changes made from "
+            + "now on are only saved once you enter " + CommitCommand.COMMAND_WORD + ", and are all undone if you "
+            + "enter " + AbortCommand.COMMAND_WORD + " instead.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Began a batch of changes. Enter " + CommitCommand.COMMAND_WORD
+            + " to save them or " + AbortCommand.COMMAND_WORD + " to undo them.";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.beginBatch();
+        return new CommandResult(MESSAGE_SUCCESS, true);
+    }
+}
@@ -2,7 +2,12 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.model.transaction.Transaction;
 
 /**
  * Represents the result of a command execution.
@@ -26,6 +31,9 @@ public class CommandResult {
     /** No change in UI. */
     private final boolean hasNoUiChange;
 
+    /** Transactions to show in place of those of the listed clients, or null to show those of the clients. */
+    private final List<Transaction> transactionsToShow;
+
     /**
      * Constructs a {@code CommandResult} with all the specified fields.
      */
@@ -37,6 +45,22 @@ public class CommandResult {
         this.isFilterTransactions = isFilterTransactions;
         this.isSortTransactions = isSortTransactions;
         this.hasNoUiChange = hasNoUiChange;
+        this.transactionsToShow = null;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} that shows {@code transactionsToShow} in the transaction panel,
+     * with other fields set to their default value. The transactions are not copied, so they can be read only as
+     * they are shown.
+     */
+    public CommandResult(String feedbackToUser, List<Transaction> transactionsToShow) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showUserGuide = false;
+        this.exit = false;
+        this.isFilterTransactions = false;
+        this.isSortTransactions = false;
+        this.hasNoUiChange = false;
+        this.transactionsToShow = Collections.unmodifiableList(transactionsToShow);
     }
 
     /**
@@ -88,6 +112,13 @@ public class CommandResult {
         return exit;
     }
 
+    /**
+     * Returns the transactions to show in the transaction panel, if the command lists transactions itself.
+     */
+    public Optional<List<Transaction>> getTransactionsToShow() {
+        return Optional.ofNullable(transactionsToShow);
+    }
+
     @Override
     public String toString() {
         return feedbackToUser;
@@ -0,0 +1,33 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Commits the latest batch of changes begun with {@link BeginCommand}, so that they are saved.
+ */
+public class CommitCommand extends Command {
+
+    public static final String COMMAND_WORD = "commit";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Keeps the changes made since the last "
+            + BeginCommand.COMMAND_WORD + ", and saves them.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Committed the batch of changes";
+
+    public static final String MESSAGE_NO_BATCH = "There is no batch of changes to commit. Enter "
+            + BeginCommand.COMMAND_WORD + " to begin one.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.isInBatch()) {
+            throw new CommandException(MESSAGE_NO_BATCH);
+        }
+        model.commitBatch();
+        return new CommandResult(MESSAGE_SUCCESS, true);
+    }
+}
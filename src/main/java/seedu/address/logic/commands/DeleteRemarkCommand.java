@@ -40,13 +40,13 @@ public class DeleteRemarkCommand extends DeleteCommand {
         }
 
         Client focusedClient = lastShownList.get(0);
-        UniqueRemarkList remarkList = focusedClient.getRemarks();
-
-        if (targetIndex.getZeroBased() >= remarkList.size()) {
+        if (targetIndex.getZeroBased() >= focusedClient.getRemarks().size()) {
             throw new CommandException(Messages.MESSAGE_INVALID_REMARK_DISPLAYED_INDEX);
         }
 
+        UniqueRemarkList remarkList = new UniqueRemarkList(focusedClient.getRemarks());
         Remark deletedRemark = remarkList.removeByIndex(targetIndex.getZeroBased());
+        model.setClient(focusedClient, focusedClient.withRemarks(remarkList));
 
         model.updateFilteredClientList(new NameEqualsKeywordPredicate(focusedClient));
 
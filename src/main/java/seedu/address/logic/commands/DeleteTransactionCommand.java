@@ -39,13 +39,13 @@ public class DeleteTransactionCommand extends DeleteCommand {
         }
 
         Client focusedClient = lastShownList.get(0);
-        TransactionLog transactionLog = focusedClient.getTransactions();
-
-        if (targetIndex.getZeroBased() >= transactionLog.size()) {
+        if (targetIndex.getZeroBased() >= focusedClient.getTransactions().size()) {
             throw new CommandException(Messages.MESSAGE_INVALID_TRANSACTION_DISPLAYED_INDEX);
         }
 
+        TransactionLog transactionLog = new TransactionLog(focusedClient.getTransactions());
         Transaction deletedTransaction = transactionLog.deleteTransaction(targetIndex.getZeroBased());
+        model.setClient(focusedClient, focusedClient.withTransactions(transactionLog));
 
         model.updateFilteredClientList(new NameEqualsKeywordPredicate(focusedClient));
 
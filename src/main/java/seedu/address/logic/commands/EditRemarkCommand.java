@@ -55,12 +55,12 @@ public class EditRemarkCommand extends EditCommand {
             throw new CommandException(MESSAGE_INVALID_USAGE);
         }
         Client currentClient = lastShownList.get(0);
-        UniqueRemarkList remarkList = currentClient.getRemarks();
-
-        if (index.getZeroBased() >= remarkList.size()) {
+        if (index.getZeroBased() >= currentClient.getRemarks().size()) {
             throw new CommandException(Messages.MESSAGE_INVALID_CLIENT_DISPLAYED_INDEX);
         }
 
+        UniqueRemarkList remarkList = new UniqueRemarkList(currentClient.getRemarks());
+
         Remark remarkToEdit = remarkList.getRemark(index.getZeroBased());
 
         try {
@@ -68,6 +68,7 @@ public class EditRemarkCommand extends EditCommand {
         } catch (DuplicateRemarkException e) {
             throw new CommandException(MESSAGE_DUPLICATE_REMARK);
         }
+        model.setClient(currentClient, currentClient.withRemarks(remarkList));
 
         model.updateFilteredClientList(new NameEqualsKeywordPredicate(currentClient));
         return new CommandResult(String.format(MESSAGE_EDIT_TRANSACTION_SUCCESS, editedRemark));
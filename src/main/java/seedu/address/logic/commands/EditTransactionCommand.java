@@ -20,6 +20,7 @@ import seedu.address.model.transaction.Quantity;
 import seedu.address.model.transaction.SellTransaction;
 import seedu.address.model.transaction.Transaction;
 import seedu.address.model.transaction.TransactionLog;
+import seedu.address.model.transaction.exceptions.TransactionTotalOverflowException;
 
 
 /**
@@ -56,15 +57,20 @@ public class EditTransactionCommand extends EditCommand {
             throw new CommandException(MESSAGE_INVALID_USAGE);
         }
         Client currentClient = lastShownList.get(0);
-        TransactionLog transactionLog = currentClient.getTransactions();
-
-        if (index.getZeroBased() >= transactionLog.size()) {
+        if (index.getZeroBased() >= currentClient.getTransactions().size()) {
             throw new CommandException(Messages.MESSAGE_INVALID_TRANSACTION_DISPLAYED_INDEX);
         }
 
+        TransactionLog transactionLog = new TransactionLog(currentClient.getTransactions());
+
         Transaction transactionToEdit = transactionLog.getTransaction(index.getZeroBased());
         Transaction editedTransaction = createEditedTransaction(transactionToEdit, editTransactionDescriptor);
-        transactionLog.setTransaction(index.getZeroBased(), editedTransaction);
+        try {
+            transactionLog.setTransaction(index.getZeroBased(), editedTransaction);
+        } catch (TransactionTotalOverflowException ttoe) {
+            throw new CommandException(Messages.MESSAGE_TRANSACTION_TOTAL_TOO_LARGE);
+        }
+        model.setClient(currentClient, currentClient.withTransactions(transactionLog));
 
         model.updateFilteredClientList(new NameEqualsKeywordPredicate(currentClient));
         return new CommandResult(String.format(MESSAGE_EDIT_TRANSACTION_SUCCESS, editedTransaction));
@@ -1,10 +1,16 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GOODS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ORDER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CLIENTS;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.TransactionFeed;
+import seedu.address.model.TransactionFeedQuery;
 
 /**
  * Filters all the transaction by all the clients.
@@ -12,18 +18,40 @@ import seedu.address.model.Model;
 public class FilterTransCommand extends Command {
     public static final String COMMAND_WORD = "filter";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Filters buy or sell transactions.\n"
-            + "Parameters: TYPE (Must be either 'buy' or 'sell')\n"
-            + "Example: " + COMMAND_WORD + " buy";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Filters the transactions of all clients by type, "
+            + "goods and date, and sorts them by date or amount.\n"
+            + "Parameters: [TYPE (Must be either 'buy' or 'sell')] "
+            + "[" + PREFIX_GOODS + "GOODS] "
+            + "[" + PREFIX_FROM + "START_DATE] "
+            + "[" + PREFIX_TO + "END_DATE] "
+            + "[" + PREFIX_ORDER + "ORDER (Must be 'oldest', 'latest', 'largest' or 'smallest')]\n"
+            + "At least one parameter must be given.\n"
+            + "Example: " + COMMAND_WORD + " buy\n"
+            + "Example: " + COMMAND_WORD + " sell " + PREFIX_GOODS + "apples " + PREFIX_FROM + "01/01/2022 "
+            + PREFIX_ORDER + "largest";
 
-    public static final String MESSAGE_SUCCESS = "All %1$s transactions from all clients are "
+    public static final String MESSAGE_SUCCESS = "%1$d %2$s from all clients are "
             + "filtered in the transaction panel.\n"
             + "All clients are listed in the client panel.";
 
-    private final boolean isBuy;
+    public static final String MESSAGE_INVALID_ORDER = "Order must be 'oldest', 'latest', 'largest' or 'smallest'.";
 
+    private final TransactionFeedQuery query;
+
+    /**
+     * Creates a command to filter the transactions of all clients by {@code query}.
+     */
+    public FilterTransCommand(TransactionFeedQuery query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    /**
+     * Creates a command to filter the buy transactions of all clients if {@code isBuy}, or else the sell
+     * transactions.
+     */
     public FilterTransCommand(boolean isBuy) {
-        this.isBuy = isBuy;
+        this(new TransactionFeedQuery(isBuy ? TransactionFeedQuery.Type.BUY : TransactionFeedQuery.Type.SELL));
     }
 
     /**
@@ -38,8 +66,8 @@ public class FilterTransCommand extends Command {
         requireNonNull(model);
         model.updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
 
-        return new CommandResult(String.format(MESSAGE_SUCCESS, isBuy ? "buy" : "sell"),
-            false, false, true);
+        TransactionFeed.Result result = model.getTransactionFeed().query(query);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, result.size(), query), result.asTransactionList());
     }
 
     @Override
@@ -56,7 +84,7 @@ public class FilterTransCommand extends Command {
 
         // state check
         FilterTransCommand e = (FilterTransCommand) other;
-        return isBuy == e.isBuy;
+        return query.equals(e.query);
     }
 
 }
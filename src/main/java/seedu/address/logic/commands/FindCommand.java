@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GOODS;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.model.Model;
@@ -17,7 +18,10 @@ public class FindCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all clients whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "To find the clients who traded any of the specified goods instead:\n"
+            + "Parameters: " + PREFIX_GOODS + "GOODS [" + PREFIX_GOODS + "MORE_GOODS]...\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_GOODS + "apples " + PREFIX_GOODS + "pears";
 
     private final NameContainsKeywordsPredicate predicate;
 
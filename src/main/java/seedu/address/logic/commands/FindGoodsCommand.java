@@ -0,0 +1,53 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.GoodsIndex;
+import seedu.address.model.Model;
+import seedu.address.model.client.ClientTradedGoodsPredicate;
+import seedu.address.model.transaction.Goods;
+
+/**
+ * Finds and lists all clients in address book who traded any of the given goods.
+ * Goods are matched by name, ignoring case and spaces, and are looked up in the model's {@code GoodsIndex}.
+ */
+public class FindGoodsCommand extends Command {
+
+    public static final String MESSAGE_SUCCESS = "%1$d clients listed with %2$d transactions in %3$s!";
+
+    private final List<Goods> goodsList;
+
+    /**
+     * @param goodsList the goods to find the clients of, which must not be empty.
+     */
+    public FindGoodsCommand(List<Goods> goodsList) {
+        requireNonNull(goodsList);
+        assert !goodsList.isEmpty();
+        this.goodsList = List.copyOf(goodsList);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        GoodsIndex goodsIndex = model.getGoodsIndex();
+        model.updateFilteredClientList(new ClientTradedGoodsPredicate(goodsList, goodsIndex));
+
+        int transactionCount = 0;
+        for (Goods goods : goodsList) {
+            transactionCount += goodsIndex.getTransactionCount(goods);
+        }
+        String goodsNames = goodsList.stream().map(Goods::toString).collect(Collectors.joining(", "));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, model.getFilteredClientList().size(),
+                transactionCount, goodsNames));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FindGoodsCommand // instanceof handles nulls
+                && goodsList.equals(((FindGoodsCommand) other).goodsList)); // state check
+    }
+}
@@ -22,15 +22,21 @@ public class HelpCommand extends Command {
             + "4. edit INDEX m/MODE FIELDS [MORE_FIELDS]... (MODE must be 'client', 'remark' or 'transaction')\n"
             + "5. view INDEX\n"
             + "6. delete INDEX m/MODE (MODE must be 'client', 'remark' or 'transaction')\n"
-            + "7. find KEYWORD [MORE_KEYWORDS]...\n"
-            + "8. filter TYPE (TYPE must be 'buy' or 'sell')\n"
+            + "7. find KEYWORD [MORE_KEYWORDS]... or find g/GOODS [g/MORE_GOODS]...\n"
+            + "8. filter [TYPE] [g/GOODS] [from/START_DATE] [to/END_DATE] [by/ORDER]\n"
             + "9. exit\n"
             + "10. help [COMMAND]\n"
             + "11. list\n"
             + "12. remark INDEX REMARK\n"
             + "13. sort INDEX ORDER (ORDER must be 'latest' or 'oldest')\n"
             + "14. user_guide\n"
-            + "15. clear";
+            + "15. clear\n"
+            + "16. range [INDEX] from/START_DATE to/END_DATE\n"
+            + "17. stats [FILE]\n"
+            + "18. run FILE [m/dry]\n"
+            + "19. begin, then commit or abort\n"
+            + "20. undo\n"
+            + "21. redo";
 
     private final String helpMessage;
 
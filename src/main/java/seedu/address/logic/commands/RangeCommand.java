@@ -0,0 +1,112 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.PriceFormatter.formatPrice;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CLIENTS;
+
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.Money;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.NameEqualsKeywordPredicate;
+import seedu.address.model.transaction.BuyTransaction;
+import seedu.address.model.transaction.Date;
+import seedu.address.model.transaction.Transaction;
+
+/**
+ * Lists and totals the transactions between two dates, of one client or of all clients.
+ */
+public class RangeCommand extends Command {
+
+    public static final String COMMAND_WORD = "range";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the transactions between two dates, both "
+            + "inclusive, from the oldest to the latest, and totals them.\n"
+            + "Lists the transactions of the client at INDEX, or of all clients if no INDEX is given.\n"
+            + "Parameters: [INDEX (must be a positive integer)] "
+            + PREFIX_FROM + "START_DATE "
+            + PREFIX_TO + "END_DATE\n"
+            + "Example: " + COMMAND_WORD + " 1 " + PREFIX_FROM + "01/01/2021 " + PREFIX_TO + "31/03/2021";
+
+    public static final String MESSAGE_SUCCESS = "%1$d transactions from %2$s to %3$s listed for %4$s.\n"
+            + "Bought: %5$s, sold: %6$s, net: %7$s";
+    public static final String MESSAGE_ALL_CLIENTS = "all clients";
+    public static final String MESSAGE_TOTAL_TOO_LARGE = "The transactions between these dates total too much to show.";
+
+    private final Optional<Index> index;
+    private final Date from;
+    private final Date to;
+
+    /**
+     * @param index of the client in the client list to list the transactions of, or empty for all clients.
+     * @param from the date of the oldest transactions to list.
+     * @param to the date of the latest transactions to list, which must not be before {@code from}.
+     */
+    public RangeCommand(Optional<Index> index, Date from, Date to) {
+        requireAllNonNull(index, from, to);
+        assert !from.getLocalDate().isAfter(to.getLocalDate());
+        this.index = index;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<Transaction> transactions;
+        String clientsListed;
+        if (index.isPresent()) {
+            List<Client> lastShownList = model.getFilteredClientList();
+            if (index.get().getZeroBased() >= lastShownList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_CLIENT_DISPLAYED_INDEX);
+            }
+            Client client = lastShownList.get(index.get().getZeroBased());
+            transactions = client.getTransactions().getTransactionsBetween(from.getLocalDate(), to.getLocalDate());
+            clientsListed = client.getName().toString();
+            model.updateFilteredClientList(new NameEqualsKeywordPredicate(client));
+        } else {
+            transactions = model.getDateIndex().getTransactions(from.getLocalDate(), to.getLocalDate());
+            clientsListed = MESSAGE_ALL_CLIENTS;
+            model.updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
+        }
+
+        long totalBoughtMinorUnits = 0;
+        long totalSoldMinorUnits = 0;
+        long netMinorUnits;
+        try {
+            for (Transaction transaction : transactions) {
+                if (transaction instanceof BuyTransaction) {
+                    totalBoughtMinorUnits = Math.addExact(totalBoughtMinorUnits, transaction.getAmountInMinorUnits());
+                } else {
+                    totalSoldMinorUnits = Math.addExact(totalSoldMinorUnits, transaction.getAmountInMinorUnits());
+                }
+            }
+            netMinorUnits = Math.subtractExact(totalSoldMinorUnits, totalBoughtMinorUnits);
+        } catch (ArithmeticException ae) {
+            throw new CommandException(MESSAGE_TOTAL_TOO_LARGE);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, transactions.size(), from, to, clientsListed,
+                formatPrice(Money.ofMinorUnits(totalBoughtMinorUnits)),
+                formatPrice(Money.ofMinorUnits(totalSoldMinorUnits)),
+                formatPrice(Money.ofMinorUnits(netMinorUnits))),
+                transactions);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RangeCommand // instanceof handles nulls
+                && index.equals(((RangeCommand) other).index)
+                && from.equals(((RangeCommand) other).from)
+                && to.equals(((RangeCommand) other).to));
+    }
+}
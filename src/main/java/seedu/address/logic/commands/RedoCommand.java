@@ -0,0 +1,40 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CLIENTS;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Redoes the changes undone by the latest {@link UndoCommand}.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Redoes the changes undone by the last "
+            + UndoCommand.COMMAND_WORD + ". Changes can no longer be redone once other changes are made.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Redid the last undone change";
+
+    public static final String MESSAGE_NO_CHANGE = "There are no undone changes to redo";
+
+    public static final String MESSAGE_IN_BATCH = "Cannot redo while a batch of changes is open. Enter "
+            + CommitCommand.COMMAND_WORD + " or " + AbortCommand.COMMAND_WORD + " first.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (model.isInBatch()) {
+            throw new CommandException(MESSAGE_IN_BATCH);
+        }
+        if (!model.canRedo()) {
+            throw new CommandException(MESSAGE_NO_CHANGE);
+        }
+        model.redo();
+        model.updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -10,6 +10,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.client.Client;
 import seedu.address.model.remark.Remark;
+import seedu.address.model.remark.UniqueRemarkList;
 
 /**
  * Creates a new remark to be added to the specified client.
@@ -61,8 +62,9 @@ public class RemarkCommand extends Command {
             throw new CommandException(String.format(MESSAGE_DUPLICATE_REMARK, remark.getText()));
         }
 
-        Client editedClient = clientToEdit;
-        editedClient.addRemark(remark);
+        UniqueRemarkList remarks = new UniqueRemarkList(clientToEdit.getRemarks());
+        remarks.add(remark);
+        Client editedClient = clientToEdit.withRemarks(remarks);
         model.setClient(clientToEdit, editedClient);
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, remark.getText(), editedClient.getName(),
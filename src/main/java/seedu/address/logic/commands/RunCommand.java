@@ -0,0 +1,193 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODE;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.JeeqTrackerParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands in a script file, one per line, as a single command.
+ * <p>
+ * Every line is parsed before any command is executed. The commands are then executed in a batch of changes on the
+ * model, and as they all run as part of this command, the data is saved once after the last of them instead of after
+ * each one. If any line cannot be parsed or executed, the batch is aborted, and the line number of each failure is
+ * reported. A dry run aborts the batch even if every command succeeds, so nothing is changed.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String MODE_DRY_RUN = "dry";
+
+    /** Lines starting with this are comments, and are skipped like blank lines. */
+    public static final String COMMENT_MARKER = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a file, one per line, and "
+            + "saves the data once after the last of them. Blank lines and lines starting with " + COMMENT_MARKER
+            + " are skipped. If any command fails, no changes are made.\n"
+            + "Parameters: FILE [" + PREFIX_MODE + MODE_DRY_RUN + " (only check that the commands can be run)]\n"
+            + "Example: " + COMMAND_WORD + " data/trades.txt\n"
+            + "Example: " + COMMAND_WORD + " data/trades.txt " + PREFIX_MODE + MODE_DRY_RUN;
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands from %2$s";
+
+    public static final String MESSAGE_DRY_RUN_SUCCESS = "Checked %1$d commands from %2$s, all of which can be run";
+
+    public static final String MESSAGE_FAILED = "%1$d of %2$d commands in %3$s failed, so no changes were made:";
+
+    public static final String MESSAGE_LINE_FAILED = "Line %1$d: %2$s";
+
+    public static final String MESSAGE_MORE_FAILED = "... and %1$d more";
+
+    public static final String MESSAGE_READ_FAILED = "Could not read %1$s: %2$s";
+
+    public static final String MESSAGE_NESTED_RUN = "A script cannot run another script";
+
+    public static final String MESSAGE_COMMAND_NOT_IN_SCRIPT = "%1$s cannot be used in a script, as the script is "
+            + "already run as one batch of changes";
+
+    /** The most failed lines listed in the message of a failed run, so that it stays readable. */
+    public static final int MAX_FAILURES_SHOWN = 20;
+
+    private final Path scriptPath;
+    private final boolean isDryRun;
+
+    /**
+     * Creates a command to run the commands in the file at {@code scriptPath}, or to only check that they can be run
+     * if {@code isDryRun} is true.
+     */
+    public RunCommand(Path scriptPath, boolean isDryRun) {
+        requireNonNull(scriptPath);
+        this.scriptPath = scriptPath;
+        this.isDryRun = isDryRun;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<String> failures = new ArrayList<>();
+        List<ScriptLine> lines = parseScript(failures);
+        if (!failures.isEmpty()) {
+            throw new CommandException(getFailureMessage(failures, lines.size() + failures.size()));
+        }
+
+        model.beginBatch();
+        try {
+            executeAll(model, lines, failures);
+        } catch (RuntimeException e) {
+            model.abortBatch();
+            throw e;
+        }
+        if (!failures.isEmpty()) {
+            model.abortBatch();
+            throw new CommandException(getFailureMessage(failures, lines.size()));
+        }
+        if (isDryRun) {
+            model.abortBatch();
+            return new CommandResult(String.format(MESSAGE_DRY_RUN_SUCCESS, lines.size(), scriptPath), true);
+        }
+        model.commitBatch();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, lines.size(), scriptPath));
+    }
+
+    /**
+     * Reads and parses every line of the script that is not blank or a comment.
+     * A failure is added to {@code failures} for each line that cannot be parsed.
+     */
+    private List<ScriptLine> parseScript(List<String> failures) throws CommandException {
+        JeeqTrackerParser parser = new JeeqTrackerParser();
+        List<ScriptLine> lines = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(scriptPath, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNumber++;
+                String trimmedLine = line.trim();
+                if (trimmedLine.isEmpty() || trimmedLine.startsWith(COMMENT_MARKER)) {
+                    continue;
+                }
+                try {
+                    Command command = parser.parseCommand(trimmedLine);
+                    if (command instanceof RunCommand) {
+                        throw new ParseException(MESSAGE_NESTED_RUN);
+                    }
+                    if (isBatchOrHistoryCommand(command)) {
+                        throw new ParseException(String.format(MESSAGE_COMMAND_NOT_IN_SCRIPT,
+                                trimmedLine.split("\\s+", 2)[0]));
+                    }
+                    lines.add(new ScriptLine(lineNumber, command));
+                } catch (ParseException pe) {
+                    failures.add(String.format(MESSAGE_LINE_FAILED, lineNumber, pe.getMessage()));
+                }
+            }
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILED, scriptPath, ioe), ioe);
+        }
+        return lines;
+    }
+
+    /**
+     * Returns true if {@code command} begins or ends a batch of changes, or undoes or redoes changes. Such commands
+     * would end the batch that the script is run in, or undo the changes made by the script before it ends.
+     */
+    private static boolean isBatchOrHistoryCommand(Command command) {
+        return command instanceof BeginCommand || command instanceof CommitCommand
+                || command instanceof AbortCommand || command instanceof UndoCommand
+                || command instanceof RedoCommand;
+    }
+
+    /**
+     * Executes {@code lines} in order on {@code model}, adding a failure to {@code failures} for each command that
+     * fails. The commands after a failed one are still executed, so that all the failures are reported at once.
+     */
+    private static void executeAll(Model model, List<ScriptLine> lines, List<String> failures) {
+        for (ScriptLine line : lines) {
+            try {
+                line.command.execute(model);
+            } catch (CommandException ce) {
+                failures.add(String.format(MESSAGE_LINE_FAILED, line.lineNumber, ce.getMessage()));
+            }
+        }
+    }
+
+    private String getFailureMessage(List<String> failures, int commandCount) {
+        StringBuilder message = new StringBuilder(
+                String.format(MESSAGE_FAILED, failures.size(), commandCount, scriptPath));
+        failures.stream().limit(MAX_FAILURES_SHOWN).forEach(failure -> message.append('\n').append(failure));
+        if (failures.size() > MAX_FAILURES_SHOWN) {
+            message.append('\n').append(String.format(MESSAGE_MORE_FAILED, failures.size() - MAX_FAILURES_SHOWN));
+        }
+        return message.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RunCommand // instanceof handles nulls
+                && scriptPath.equals(((RunCommand) other).scriptPath)
+                && isDryRun == ((RunCommand) other).isDryRun);
+    }
+
+    /**
+     * A command parsed from a line of the script.
+     */
+    private static class ScriptLine {
+        private final int lineNumber;
+        private final Command command;
+
+        private ScriptLine(int lineNumber, Command command) {
+            this.lineNumber = lineNumber;
+            this.command = command;
+        }
+    }
+}
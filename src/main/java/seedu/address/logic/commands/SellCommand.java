@@ -14,6 +14,8 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.client.Client;
 import seedu.address.model.transaction.Transaction;
+import seedu.address.model.transaction.TransactionLog;
+import seedu.address.model.transaction.exceptions.TransactionTotalOverflowException;
 
 /**
  * Adds a sell transaction to an existing client in the address book.
@@ -70,8 +72,13 @@ public class SellCommand extends Command {
 
         Client clientToEdit = lastShownList.get(index.getZeroBased());
 
-        Client editedClient = clientToEdit;
-        editedClient.addTransaction(transaction);
+        TransactionLog transactions = new TransactionLog(clientToEdit.getTransactions());
+        try {
+            transactions.addTransaction(transaction);
+        } catch (TransactionTotalOverflowException ttoe) {
+            throw new CommandException(Messages.MESSAGE_TRANSACTION_TOTAL_TOO_LARGE);
+        }
+        Client editedClient = clientToEdit.withTransactions(transactions);
         model.setClient(clientToEdit, editedClient);
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, editedClient.getName(), transaction.getQuantity(),
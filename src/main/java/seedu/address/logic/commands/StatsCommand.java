@@ -0,0 +1,70 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.core.CommandMetrics;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Shows how long each command took and how much it allocated and wrote, and optionally writes them to a file.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the time taken by each command to parse, "
+            + "execute, save and refresh the display, and the bytes it allocated and wrote.\n"
+            + "Parameters: [FILE (the metrics are also written to this file as comma-separated values)]\n"
+            + "Example: " + COMMAND_WORD + "\n"
+            + "Example: " + COMMAND_WORD + " data/stats.csv";
+
+    public static final String MESSAGE_WRITTEN = "Command metrics written to %1$s";
+
+    public static final String MESSAGE_WRITE_FAILED = "Could not write command metrics to %1$s: %2$s";
+
+    private final Optional<Path> filePath;
+
+    /**
+     * Creates a command to show the command metrics, and to write them to {@code filePath} if given.
+     */
+    public StatsCommand(Optional<Path> filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Creates a command to show the command metrics.
+     */
+    public StatsCommand() {
+        this(Optional.empty());
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        CommandMetrics metrics = model.getCommandMetrics();
+        String report = metrics.getReport();
+        if (filePath.isEmpty()) {
+            return new CommandResult(report, true);
+        }
+
+        try {
+            metrics.writeCsv(filePath.get());
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_WRITE_FAILED, filePath.get(), ioe), ioe);
+        }
+        return new CommandResult(String.format(MESSAGE_WRITTEN, filePath.get()) + "\n" + report, true);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StatsCommand // instanceof handles nulls
+                && filePath.equals(((StatsCommand) other).filePath));
+    }
+}
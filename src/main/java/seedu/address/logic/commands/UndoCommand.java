@@ -0,0 +1,41 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CLIENTS;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Undoes the changes made by the latest command that changed the data and was not undone.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Undoes the changes made by the last command that "
+            + "changed the data. All the changes of a " + RunCommand.COMMAND_WORD + " or of a committed batch are "
+            + "undone together.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Undid the last change";
+
+    public static final String MESSAGE_NO_CHANGE = "There are no changes to undo";
+
+    public static final String MESSAGE_IN_BATCH = "Cannot undo while a batch of changes is open. Enter "
+            + CommitCommand.COMMAND_WORD + " or " + AbortCommand.COMMAND_WORD + " first.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (model.isInBatch()) {
+            throw new CommandException(MESSAGE_IN_BATCH);
+        }
+        if (!model.canUndo()) {
+            throw new CommandException(MESSAGE_NO_CHANGE);
+        }
+        model.undo();
+        model.updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
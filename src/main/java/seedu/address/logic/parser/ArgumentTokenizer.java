@@ -1,9 +1,7 @@
 package seedu.address.logic.parser;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
@@ -12,9 +10,15 @@ import java.util.stream.Collectors;
  * 2. Leading and trailing whitespaces of an argument value will be discarded.<br>
  * 3. An argument may be repeated and all its values will be accumulated e.g. the value of {@code t/}
  *    in the above example.<br>
+ * <p>
+ * The arguments string is scanned once, recognizing all the given prefixes at once with a trie. If two given
+ * prefixes match at the same position, the longer one is taken.
  */
 public class ArgumentTokenizer {
 
+    /** Trie of the prefixes in {@link CliSyntax}, shared by all calls that only use those prefixes. */
+    private static final PrefixTrie CLI_SYNTAX_TRIE = new PrefixTrie(CliSyntax.ALL_PREFIXES);
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
@@ -24,124 +28,144 @@ public class ArgumentTokenizer {
      * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
-    }
+        PrefixTrie trie = CLI_SYNTAX_TRIE.containsAll(prefixes) ? CLI_SYNTAX_TRIE
+                : new PrefixTrie(Arrays.asList(prefixes));
 
-    /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * {@see findAllPrefixPositions}
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
-        }
-
-        return positions;
-    }
-
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
-    }
-
-    /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
-     *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
-     */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
         ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+        Prefix currentPrefix = ArgumentMultimap.PREAMBLE_PREFIX;
+        int valueStartPos = 0;
+
+        // A prefix is only recognized right after a space, so only the positions after spaces are looked at
+        int position = argsString.indexOf(' ') + 1;
+        while (position > 0 && position < argsString.length()) {
+            Prefix prefix = trie.findLongestPrefixAt(argsString, position, prefixes);
+            if (prefix == null) {
+                position = argsString.indexOf(' ', position) + 1;
+                continue;
+            }
+            argMultimap.put(currentPrefix, extractArgumentValue(argsString, valueStartPos, position));
+            currentPrefix = prefix;
+            valueStartPos = position + prefix.getPrefix().length();
+            position = argsString.indexOf(' ', valueStartPos - 1) + 1;
         }
+        argMultimap.put(currentPrefix, extractArgumentValue(argsString, valueStartPos, argsString.length()));
 
         return argMultimap;
     }
 
     /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
+     * Returns the value in {@code argsString} from {@code startPos} to {@code endPos} with its leading and trailing
+     * whitespace removed, as {@link String#trim()} would, but without creating the untrimmed value first.
      */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-
-        return value.trim();
+    private static String extractArgumentValue(String argsString, int startPos, int endPos) {
+        int start = startPos;
+        int end = endPos;
+        while (start < end && argsString.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && argsString.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return argsString.substring(start, end);
     }
 
     /**
-     * Represents a prefix's position in an arguments string.
+     * A trie of prefixes, which finds the prefixes that start at a position of an arguments string by reading each
+     * character after it at most once.
      */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
+    private static class PrefixTrie {
+        private final Node root = new Node();
+
+        PrefixTrie(List<Prefix> prefixes) {
+            for (Prefix prefix : prefixes) {
+                String prefixString = prefix.getPrefix();
+                if (prefixString.isEmpty()) {
+                    // the empty prefix stands for the preamble and never starts an argument
+                    continue;
+                }
+                Node node = root;
+                for (int i = 0; i < prefixString.length(); i++) {
+                    node = node.getOrAddChild(prefixString.charAt(i));
+                }
+                node.prefix = prefix;
+            }
+        }
+
+        /**
+         * Returns true if every prefix in {@code prefixes} is in this trie.
+         */
+        boolean containsAll(Prefix... prefixes) {
+            for (Prefix prefix : prefixes) {
+                String prefixString = prefix.getPrefix();
+                Node node = root;
+                for (int i = 0; i < prefixString.length() && node != null; i++) {
+                    node = node.getChild(prefixString.charAt(i));
+                }
+                if (node == null || (!prefixString.isEmpty() && !prefix.equals(node.prefix))) {
+                    return false;
+                }
+            }
+            return true;
+        }
 
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
+        /**
+         * Returns the longest prefix out of {@code allowedPrefixes} that starts at {@code position} of
+         * {@code argsString}, or null if there is none.
+         */
+        Prefix findLongestPrefixAt(String argsString, int position, Prefix... allowedPrefixes) {
+            Prefix longestPrefix = null;
+            Node node = root;
+            for (int i = position; i < argsString.length(); i++) {
+                node = node.getChild(argsString.charAt(i));
+                if (node == null) {
+                    break;
+                }
+                if (node.prefix != null && isAllowed(node.prefix, allowedPrefixes)) {
+                    longestPrefix = node.prefix;
+                }
+            }
+            return longestPrefix;
         }
 
-        int getStartPosition() {
-            return startPosition;
+        private static boolean isAllowed(Prefix prefix, Prefix... allowedPrefixes) {
+            for (Prefix allowedPrefix : allowedPrefixes) {
+                if (prefix.equals(allowedPrefix)) {
+                    return true;
+                }
+            }
+            return false;
         }
 
-        Prefix getPrefix() {
-            return prefix;
+        /**
+         * A node of the trie, reached by reading the characters of the path to it from the root.
+         * Prefixes share few characters, so the children are kept in small arrays searched in order.
+         */
+        private static class Node {
+            private char[] keys = new char[0];
+            private Node[] children = new Node[0];
+            /** The prefix spelt by the path to this node, or null if the path is not a whole prefix. */
+            private Prefix prefix;
+
+            Node getChild(char key) {
+                for (int i = 0; i < keys.length; i++) {
+                    if (keys[i] == key) {
+                        return children[i];
+                    }
+                }
+                return null;
+            }
+
+            Node getOrAddChild(char key) {
+                Node child = getChild(key);
+                if (child == null) {
+                    child = new Node();
+                    keys = Arrays.copyOf(keys, keys.length + 1);
+                    children = Arrays.copyOf(children, children.length + 1);
+                    keys[keys.length - 1] = key;
+                    children[children.length - 1] = child;
+                }
+                return child;
+            }
         }
     }
 
@@ -1,5 +1,7 @@
 package seedu.address.logic.parser;
 
+import java.util.List;
+
 /**
  * Contains Command Line Interface (CLI) syntax definitions common to multiple commands.
  */
@@ -16,5 +18,13 @@ public class CliSyntax {
     public static final Prefix PREFIX_GOODS = new Prefix("g/");
     public static final Prefix PREFIX_MODE = new Prefix("m/");
     public static final Prefix PREFIX_DATE = new Prefix("d/");
+    public static final Prefix PREFIX_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_TO = new Prefix("to/");
+    public static final Prefix PREFIX_ORDER = new Prefix("by/");
+
+    /** All the prefixes above, which {@link ArgumentTokenizer} recognizes without building a trie per call. */
+    public static final List<Prefix> ALL_PREFIXES = List.of(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+            PREFIX_TAG, PREFIX_QUANTITY, PREFIX_PRICE, PREFIX_GOODS, PREFIX_MODE, PREFIX_DATE, PREFIX_FROM, PREFIX_TO,
+            PREFIX_ORDER);
 
 }
@@ -1,9 +1,19 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_DATE_RANGE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GOODS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ORDER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.util.Optional;
 
 import seedu.address.logic.commands.FilterTransCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.TransactionFeedQuery;
+import seedu.address.model.transaction.Date;
+import seedu.address.model.transaction.Goods;
 
 /**
  * Parses input arguments and creates a new FilterTransCommand object.
@@ -17,13 +27,38 @@ public class FilterTransCmdParser implements Parser<FilterTransCommand> {
      */
     @Override
     public FilterTransCommand parse(String userInput) throws ParseException {
-        String trimmedArgs = userInput.trim();
-        if (trimmedArgs.isEmpty() || !isValidInput(trimmedArgs)) {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(userInput, PREFIX_GOODS, PREFIX_FROM, PREFIX_TO, PREFIX_ORDER);
+        String preamble = argMultimap.getPreamble();
+        boolean hasPrefixes = argMultimap.getValue(PREFIX_GOODS).isPresent()
+                || argMultimap.getValue(PREFIX_FROM).isPresent()
+                || argMultimap.getValue(PREFIX_TO).isPresent()
+                || argMultimap.getValue(PREFIX_ORDER).isPresent();
+        if ((preamble.isEmpty() && !hasPrefixes) || (!preamble.isEmpty() && !isValidInput(preamble))) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterTransCommand.MESSAGE_USAGE));
         }
 
-        return new FilterTransCommand(isBuy(trimmedArgs));
+        Optional<TransactionFeedQuery.Type> type = preamble.isEmpty()
+                ? Optional.empty()
+                : Optional.of(isBuy(preamble) ? TransactionFeedQuery.Type.BUY : TransactionFeedQuery.Type.SELL);
+        Optional<Goods> goods = argMultimap.getValue(PREFIX_GOODS).isPresent()
+                ? Optional.of(ParserUtil.parseGoods(argMultimap.getValue(PREFIX_GOODS).get()))
+                : Optional.empty();
+        Optional<Date> from = argMultimap.getValue(PREFIX_FROM).isPresent()
+                ? Optional.of(ParserUtil.parseDate(argMultimap.getValue(PREFIX_FROM).get()))
+                : Optional.empty();
+        Optional<Date> to = argMultimap.getValue(PREFIX_TO).isPresent()
+                ? Optional.of(ParserUtil.parseDate(argMultimap.getValue(PREFIX_TO).get()))
+                : Optional.empty();
+        Optional<TransactionFeedQuery.Order> order = argMultimap.getValue(PREFIX_ORDER).isPresent()
+                ? Optional.of(parseOrder(argMultimap.getValue(PREFIX_ORDER).get()))
+                : Optional.empty();
+
+        if (from.isPresent() && to.isPresent() && from.get().getLocalDate().isAfter(to.get().getLocalDate())) {
+            throw new ParseException(MESSAGE_INVALID_DATE_RANGE);
+        }
+        return new FilterTransCommand(new TransactionFeedQuery(type, goods, from, to, order));
     }
 
     private boolean isValidInput(String input) {
@@ -35,4 +70,14 @@ public class FilterTransCmdParser implements Parser<FilterTransCommand> {
         String inputToLowerCase = input.toLowerCase();
         return inputToLowerCase.equals("buy");
     }
+
+    private TransactionFeedQuery.Order parseOrder(String order) throws ParseException {
+        String trimmedOrder = order.trim();
+        for (TransactionFeedQuery.Order validOrder : TransactionFeedQuery.Order.values()) {
+            if (validOrder.name().equalsIgnoreCase(trimmedOrder)) {
+                return validOrder;
+            }
+        }
+        throw new ParseException(FilterTransCommand.MESSAGE_INVALID_ORDER);
+    }
 }
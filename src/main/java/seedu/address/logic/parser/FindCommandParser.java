@@ -1,33 +1,66 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GOODS;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindGoodsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.client.NameContainsKeywordsPredicate;
+import seedu.address.model.transaction.Goods;
 
 /**
- * Parses input arguments and creates a new FindCommand object
+ * Parses input arguments and creates a new FindCommand object, or a FindGoodsCommand object if the arguments are
+ * goods.
  */
-public class FindCommandParser implements Parser<FindCommand> {
+public class FindCommandParser implements Parser<Command> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
-     * and returns a FindCommand object for execution.
+     * and returns a FindCommand or FindGoodsCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
-    public FindCommand parse(String args) throws ParseException {
+    public Command parse(String args) throws ParseException {
         String trimmedArgs = args.trim();
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
+        if (trimmedArgs.startsWith(PREFIX_GOODS.getPrefix())) {
+            return parseFindGoodsCommand(args);
+        }
+
         String[] nameKeywords = trimmedArgs.split("\\s+");
 
         return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
     }
 
+    /**
+     * Parses goods given as {@code g/GOODS [g/MORE_GOODS]...}, ignoring goods that are the same as earlier ones.
+     */
+    private FindGoodsCommand parseFindGoodsCommand(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + args.trim(), PREFIX_GOODS);
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+
+        List<Goods> goodsList = new ArrayList<>();
+        Set<String> normalizedNames = new HashSet<>();
+        for (String goods : argMultimap.getAllValues(PREFIX_GOODS)) {
+            Goods parsedGoods = ParserUtil.parseGoods(goods);
+            if (normalizedNames.add(parsedGoods.getNormalizedName())) {
+                goodsList.add(parsedGoods);
+            }
+        }
+        return new FindGoodsCommand(goodsList);
+    }
+
 }
@@ -1,8 +1,11 @@
 package seedu.address.logic.parser;
 
+import seedu.address.logic.commands.AbortCommand;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BeginCommand;
 import seedu.address.logic.commands.BuyCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.CommitCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
@@ -10,9 +13,14 @@ import seedu.address.logic.commands.FilterTransCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RangeCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.RemarkCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.SellCommand;
 import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.UserGuideCommand;
 import seedu.address.logic.commands.ViewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -32,12 +40,18 @@ public class HelpCommandParser implements Parser<HelpCommand> {
 
         switch (trimmedArgs) {
         // Sorted lexicographically
+        case "abort":
+            return new HelpCommand(AbortCommand.MESSAGE_USAGE);
         case "add":
             return new HelpCommand(AddCommand.MESSAGE_USAGE);
+        case "begin":
+            return new HelpCommand(BeginCommand.MESSAGE_USAGE);
         case "buy":
             return new HelpCommand(BuyCommand.MESSAGE_USAGE);
         case "clear":
             return new HelpCommand(ClearCommand.MESSAGE_USAGE);
+        case "commit":
+            return new HelpCommand(CommitCommand.MESSAGE_USAGE);
         case "delete":
             return new HelpCommand(DeleteCommand.MESSAGE_USAGE);
         case "edit":
@@ -52,12 +66,22 @@ public class HelpCommandParser implements Parser<HelpCommand> {
             return new HelpCommand(HelpCommand.MESSAGE_USAGE);
         case "list":
             return new HelpCommand(ListCommand.MESSAGE_USAGE);
+        case "range":
+            return new HelpCommand(RangeCommand.MESSAGE_USAGE);
+        case "redo":
+            return new HelpCommand(RedoCommand.MESSAGE_USAGE);
         case "remark":
             return new HelpCommand(RemarkCommand.MESSAGE_USAGE);
+        case "run":
+            return new HelpCommand(RunCommand.MESSAGE_USAGE);
         case "sell":
             return new HelpCommand(SellCommand.MESSAGE_USAGE);
         case "sort":
             return new HelpCommand(SortCommand.MESSAGE_USAGE);
+        case "stats":
+            return new HelpCommand(StatsCommand.MESSAGE_USAGE);
+        case "undo":
+            return new HelpCommand(UndoCommand.MESSAGE_USAGE);
         case "user_guide":
             return new HelpCommand(UserGuideCommand.MESSAGE_USAGE);
         case "view":
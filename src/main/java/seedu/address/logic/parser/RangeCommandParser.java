@@ -0,0 +1,51 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_CLIENT_DISPLAYED_INDEX;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_DATE_RANGE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.util.Optional;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.RangeCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.transaction.Date;
+
+/**
+ * Parses input arguments and creates a new {@code RangeCommand} object
+ */
+public class RangeCommandParser implements Parser<RangeCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code RangeCommand}
+     * and returns a {@code RangeCommand} object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RangeCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO);
+
+        if (argMultimap.getValue(PREFIX_FROM).isEmpty() || argMultimap.getValue(PREFIX_TO).isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RangeCommand.MESSAGE_USAGE));
+        }
+
+        Optional<Index> index = Optional.empty();
+        if (!argMultimap.getPreamble().isEmpty()) {
+            try {
+                index = Optional.of(ParserUtil.parseIndex(argMultimap.getPreamble()));
+            } catch (ParseException ive) {
+                throw new ParseException(MESSAGE_INVALID_CLIENT_DISPLAYED_INDEX, ive);
+            }
+        }
+
+        Date from = ParserUtil.parseDate(argMultimap.getValue(PREFIX_FROM).get());
+        Date to = ParserUtil.parseDate(argMultimap.getValue(PREFIX_TO).get());
+        if (from.getLocalDate().isAfter(to.getLocalDate())) {
+            throw new ParseException(MESSAGE_INVALID_DATE_RANGE);
+        }
+        return new RangeCommand(index, from, to);
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODE;
+
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object.
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+    /**
+     * Parses {@code args} into a command and returns it.
+     * @throws ParseException if the file is not a valid file path, or the mode is not a dry run.
+     */
+    @Override
+    public RunCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MODE);
+
+        String scriptFile = argMultimap.getPreamble();
+        Optional<String> mode = argMultimap.getValue(PREFIX_MODE);
+        if (scriptFile.isEmpty() || !FileUtil.isValidPath(scriptFile)
+                || mode.filter(value -> !value.equals(RunCommand.MODE_DRY_RUN)).isPresent()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+        return new RunCommand(Paths.get(scriptFile), mode.isPresent());
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new StatsCommand object.
+ */
+public class StatsCommandParser implements Parser<StatsCommand> {
+    /**
+     * Parses {@code args} into a command and returns it.
+     * @throws ParseException if {@code args} is not empty and not a valid file path.
+     */
+    @Override
+    public StatsCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new StatsCommand();
+        }
+        if (!FileUtil.isValidPath(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+        }
+        return new StatsCommand(Optional.of(Paths.get(trimmedArgs)));
+    }
+}
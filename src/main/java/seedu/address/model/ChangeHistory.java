@@ -0,0 +1,458 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.model.client.Client;
+import seedu.address.model.transaction.TransactionChange;
+import seedu.address.model.transaction.TransactionLog;
+
+/**
+ * The changes made to the clients of a {@code JeeqTracker}, grouped into steps that can be undone and redone.
+ * <p>
+ * A step keeps the clients that it replaced and the clients that replaced them, rather than a copy of the data.
+ * Clients are not changed once added, so these are shared with the data and with the other steps. An edited client
+ * also shares its transaction log and remark list with the client it replaced, except for the O(log n) parts on the
+ * path to each changed transaction, see {@link TransactionLog#TransactionLog(TransactionLog)}. So a step takes memory
+ * in proportion to the clients and transactions it changed rather than to the size of the data, and its size is
+ * estimated from those changes. An edit of a client that keeps its identity is merged into the earlier change of that
+ * client in the same step, so a step that edits a client many times, such as running a file of trades, only keeps
+ * that client as it was before and after the step.
+ * <p>
+ * At most a maximum number of steps are kept, taking at most an estimated maximum number of bytes, and the oldest
+ * steps are dropped to stay within both when a step ends, so the steps are left as they were if the changes of the
+ * current step are discarded. A step that is too large to keep on its own clears the history when it ends, as the
+ * steps before it can then no longer be undone.
+ */
+public class ChangeHistory {
+
+    /** Rough size in bytes of a client kept by the history, without its transactions and remarks. */
+    static final long CLIENT_BYTES = 256;
+
+    /** Rough size in bytes of each transaction or remark of a client kept by the history. */
+    static final long ENTRY_BYTES = 16;
+
+    /** Rough size in bytes of each node of a transaction log copied by a change to one of its transactions. */
+    static final long NODE_BYTES = 32;
+
+    /** The steps that can be undone and redone, the latest first. */
+    private final Deque<Step> undoSteps = new ArrayDeque<>();
+    private final Deque<Step> redoSteps = new ArrayDeque<>();
+    private long keptBytes;
+
+    /** The changes made since the last step ended, which form the next step. */
+    private final List<Change> pendingChanges = new ArrayList<>();
+    /** The clients added or edited by the pending changes that later edits can be merged into, by identity. */
+    private final Map<Client, ClientChange> mergeableChanges = new IdentityHashMap<>();
+    private long pendingBytes;
+    /** The number of changes made since the last step ended, including those that were merged or dropped. */
+    private int pendingCount;
+    /** True if the pending changes were too large to keep, so the next step is not kept. */
+    private boolean isPendingDropped;
+
+    private int maxSteps;
+    private long maxBytes;
+
+    /**
+     * Creates a history that keeps at most {@code maxSteps} steps, taking at most an estimated {@code maxBytes}.
+     * A negative limit is taken as 0, which keeps no steps.
+     */
+    public ChangeHistory(int maxSteps, long maxBytes) {
+        setLimits(maxSteps, maxBytes);
+    }
+
+    /**
+     * Changes the most steps kept to {@code maxSteps} and the most bytes they take to {@code maxBytes}, dropping the
+     * oldest steps if there are more. A negative limit is taken as 0, which keeps no steps.
+     */
+    public void setLimits(int maxSteps, long maxBytes) {
+        this.maxSteps = Math.max(0, maxSteps);
+        this.maxBytes = Math.max(0, maxBytes);
+        dropStepsOverLimits();
+    }
+
+    //// recording changes
+
+    /**
+     * Records that {@code added} was added at {@code position} of the client list.
+     */
+    void recordAdd(int position, Client added) {
+        requireNonNull(added);
+        ClientChange change = new ClientChange(null, added, position);
+        if (addPendingChange(change)) {
+            mergeableChanges.put(added, change);
+        }
+    }
+
+    /**
+     * Records that {@code target} was replaced by {@code editedClient}.
+     */
+    void recordSet(Client target, Client editedClient) {
+        requireAllNonNull(target, editedClient);
+        ClientChange earlierChange = mergeableChanges.remove(target);
+        boolean isSameClient = target.isSameClient(editedClient);
+        if (earlierChange != null && isSameClient) {
+            pendingBytes -= earlierChange.estimateBytes();
+            earlierChange.mergeEdit(editedClient);
+            pendingBytes += earlierChange.estimateBytes();
+            mergeableChanges.put(editedClient, earlierChange);
+            dropPendingOverLimit();
+            return;
+        }
+
+        ClientChange change = new ClientChange(target, editedClient, -1);
+        if (addPendingChange(change) && isSameClient) {
+            mergeableChanges.put(editedClient, change);
+        }
+    }
+
+    /**
+     * Records that {@code removed} was removed from {@code position} of the client list.
+     */
+    void recordRemove(int position, Client removed) {
+        requireNonNull(removed);
+        mergeableChanges.remove(removed);
+        addPendingChange(new ClientChange(removed, null, position));
+    }
+
+    /**
+     * Records that the client list was replaced, from {@code clientsBefore} to {@code clientsAfter}.
+     */
+    void recordSetAll(List<Client> clientsBefore, List<Client> clientsAfter) {
+        requireAllNonNull(clientsBefore, clientsAfter);
+        // the clients may be anywhere in the new list, so later edits cannot be merged into earlier changes
+        mergeableChanges.clear();
+        addPendingChange(new ClientListChange(List.copyOf(clientsBefore), List.copyOf(clientsAfter)));
+    }
+
+    /**
+     * Adds {@code change} to the pending changes, and returns true if it is kept.
+     * A new change means the steps that were undone can no longer be redone.
+     */
+    private boolean addPendingChange(Change change) {
+        while (!redoSteps.isEmpty()) {
+            keptBytes -= redoSteps.pop().bytes;
+        }
+        pendingCount++;
+        if (maxSteps == 0) {
+            // no step is kept, so the change is dropped as if it were too large
+            isPendingDropped = true;
+        }
+        if (isPendingDropped) {
+            return false;
+        }
+        pendingChanges.add(change);
+        pendingBytes += change.estimateBytes();
+        dropPendingOverLimit();
+        return !isPendingDropped;
+    }
+
+    /**
+     * Drops the pending changes if they take more than the most bytes allowed on their own, so the next step is not
+     * kept. The steps kept are only dropped when the step ends, see {@link #endStep()}.
+     */
+    private void dropPendingOverLimit() {
+        if (pendingBytes > maxBytes) {
+            pendingChanges.clear();
+            mergeableChanges.clear();
+            pendingBytes = 0;
+            isPendingDropped = true;
+        }
+    }
+
+    //// steps
+
+    /**
+     * Ends the current step, so that the changes made since the last step ended are undone and redone together.
+     * Returns true if a step was added, or false if there were no changes or they were too large to keep.
+     */
+    boolean endStep() {
+        mergeableChanges.clear();
+        pendingCount = 0;
+        if (isPendingDropped) {
+            isPendingDropped = false;
+            // the redo steps were dropped by the first pending change
+            undoSteps.clear();
+            keptBytes = 0;
+            return false;
+        }
+        if (pendingChanges.isEmpty()) {
+            return false;
+        }
+        Step step = new Step(List.copyOf(pendingChanges), pendingBytes);
+        pendingChanges.clear();
+        pendingBytes = 0;
+        undoSteps.push(step);
+        keptBytes += step.bytes;
+        dropStepsOverLimits();
+        return true;
+    }
+
+    /**
+     * Returns a mark of the changes made so far in the current step, which {@link #discardChangesSince(int)} returns
+     * the step to. The changes made after the mark are not merged into the changes made before it.
+     */
+    int markChanges() {
+        mergeableChanges.clear();
+        return pendingCount;
+    }
+
+    /**
+     * Discards the changes made in the current step since {@code mark} was returned by {@link #markChanges()},
+     * when those changes have been undone by other means. The steps kept are left as they were. If the pending
+     * changes were dropped as too large, the step is still not kept unless every change in it was discarded.
+     */
+    void discardChangesSince(int mark) {
+        mergeableChanges.clear();
+        pendingCount = Math.min(pendingCount, mark);
+        if (isPendingDropped) {
+            isPendingDropped = pendingCount > 0;
+            return;
+        }
+        while (pendingChanges.size() > pendingCount) {
+            pendingBytes -= pendingChanges.remove(pendingChanges.size() - 1).estimateBytes();
+        }
+    }
+
+    /**
+     * Undoes on {@code jeeqTracker} the changes made in the current step since {@code mark} was returned by
+     * {@link #markChanges()}, latest first, and discards them as {@link #discardChangesSince(int)} does.
+     * Returns false without undoing anything if those changes were not all kept, as they were too large.
+     */
+    boolean undoChangesSince(int mark, JeeqTracker jeeqTracker) {
+        requireNonNull(jeeqTracker);
+        if (isPendingDropped && pendingCount > mark) {
+            return false;
+        }
+        for (int i = pendingChanges.size() - 1; i >= mark; i--) {
+            pendingChanges.get(i).undo(jeeqTracker);
+        }
+        discardChangesSince(mark);
+        return true;
+    }
+
+    private void dropStepsOverLimits() {
+        while (!undoSteps.isEmpty() && (undoSteps.size() > maxSteps || keptBytes > maxBytes)) {
+            keptBytes -= undoSteps.removeLast().bytes;
+        }
+        while (!redoSteps.isEmpty() && keptBytes > maxBytes) {
+            keptBytes -= redoSteps.removeLast().bytes;
+        }
+    }
+
+    /**
+     * Returns true if there is a step to undo. The pending changes count as a step, as they are ended as one before
+     * they are undone.
+     */
+    public boolean canUndo() {
+        return !undoSteps.isEmpty() || !pendingChanges.isEmpty();
+    }
+
+    /**
+     * Returns true if there is an undone step to redo.
+     */
+    public boolean canRedo() {
+        return !redoSteps.isEmpty();
+    }
+
+    /**
+     * Returns the estimated bytes taken by the steps kept, not counting the pending changes.
+     */
+    public long getKeptBytes() {
+        return keptBytes;
+    }
+
+    /**
+     * Undoes the latest step on {@code jeeqTracker}, after ending the current step.
+     * @throws IllegalStateException if there is no step to undo.
+     */
+    void undo(JeeqTracker jeeqTracker) {
+        requireNonNull(jeeqTracker);
+        endStep();
+        if (undoSteps.isEmpty()) {
+            throw new IllegalStateException("No changes to undo");
+        }
+        Step step = undoSteps.pop();
+        for (int i = step.changes.size() - 1; i >= 0; i--) {
+            step.changes.get(i).undo(jeeqTracker);
+        }
+        redoSteps.push(step);
+    }
+
+    /**
+     * Redoes the latest undone step on {@code jeeqTracker}.
+     * @throws IllegalStateException if there is no step to redo.
+     */
+    void redo(JeeqTracker jeeqTracker) {
+        requireNonNull(jeeqTracker);
+        if (redoSteps.isEmpty()) {
+            throw new IllegalStateException("No changes to redo");
+        }
+        Step step = redoSteps.pop();
+        for (Change change : step.changes) {
+            change.redo(jeeqTracker);
+        }
+        undoSteps.push(step);
+    }
+
+    /**
+     * Returns the estimated bytes taken by {@code client}. The transactions of a client that are loaded on demand are
+     * not held by the client, so they are not counted.
+     */
+    static long estimateBytes(Client client) {
+        if (client == null) {
+            return 0;
+        }
+        TransactionLog transactions = client.getTransactions();
+        long entries = client.getRemarks().size()
+                + (transactions.getLoader().isPresent() ? 0 : transactions.size());
+        return CLIENT_BYTES + entries * ENTRY_BYTES;
+    }
+
+    /**
+     * Returns the estimated bytes taken by {@code before} and {@code after}, which replaced it, beyond what they share.
+     * If the transactions of {@code after} were derived from those of {@code before}, only the parts of the
+     * transaction log copied by the changes are counted, and the remarks are only counted if they changed.
+     * The estimate is never more than that of both clients on their own.
+     */
+    static long estimateBytes(Client before, Client after) {
+        long unsharedBytes = estimateBytes(before) + estimateBytes(after);
+        Optional<List<TransactionChange>> changes =
+                after.getTransactions().getChangesSince(before.getTransactions());
+        if (changes.isEmpty()) {
+            return unsharedBytes;
+        }
+        int logSize = Math.max(before.getTransactions().size(), after.getTransactions().size());
+        long copiedNodes = (long) changes.get().size() * (Long.SIZE - Long.numberOfLeadingZeros(logSize) + 1);
+        long remarks = before.getRemarks() == after.getRemarks()
+                ? 0 : before.getRemarks().size() + after.getRemarks().size();
+        return Math.min(unsharedBytes, 2 * CLIENT_BYTES + copiedNodes * NODE_BYTES + remarks * ENTRY_BYTES);
+    }
+
+    /**
+     * The changes undone and redone together, with the estimated bytes they take.
+     */
+    private static class Step {
+        private final List<Change> changes;
+        private final long bytes;
+
+        private Step(List<Change> changes, long bytes) {
+            this.changes = changes;
+            this.bytes = bytes;
+        }
+    }
+
+    /**
+     * A change to the clients of a {@code JeeqTracker}.
+     */
+    private abstract static class Change {
+        abstract void undo(JeeqTracker jeeqTracker);
+
+        abstract void redo(JeeqTracker jeeqTracker);
+
+        abstract long estimateBytes();
+    }
+
+    /**
+     * The addition, edit or removal of a client. A client that is added has no client before the change, and a client
+     * that is removed has no client after it.
+     */
+    private static class ClientChange extends Change {
+        private final Client before;
+        private Client after;
+        /** The position of the client in the client list if it was added or removed. */
+        private final int position;
+        /** The estimated bytes of this change, kept up to date as edits are merged into it. */
+        private long bytes;
+
+        private ClientChange(Client before, Client after, int position) {
+            this.before = before;
+            this.after = after;
+            this.position = position;
+            this.bytes = before == null || after == null
+                    ? ChangeHistory.estimateBytes(before) + ChangeHistory.estimateBytes(after)
+                    : ChangeHistory.estimateBytes(before, after);
+        }
+
+        /**
+         * Merges the edit of the client after this change into {@code editedClient} into this change.
+         * Only that edit is estimated, so merging k edits of a client with n transactions takes O(k log n) time in
+         * total rather than comparing the client before the change with each edit.
+         */
+        private void mergeEdit(Client editedClient) {
+            // the client after this change is no longer kept, but the parts of it that the edit copied from are
+            long editBytes = ChangeHistory.estimateBytes(after, editedClient) - 2 * CLIENT_BYTES;
+            long unsharedBytes = ChangeHistory.estimateBytes(before) + ChangeHistory.estimateBytes(editedClient);
+            bytes = Math.min(unsharedBytes, bytes + editBytes);
+            after = editedClient;
+        }
+
+        @Override
+        void undo(JeeqTracker jeeqTracker) {
+            apply(jeeqTracker, after, before);
+        }
+
+        @Override
+        void redo(JeeqTracker jeeqTracker) {
+            apply(jeeqTracker, before, after);
+        }
+
+        private void apply(JeeqTracker jeeqTracker, Client from, Client to) {
+            if (from == null) {
+                jeeqTracker.addClient(position, to);
+            } else if (to == null) {
+                jeeqTracker.removeClient(from);
+            } else {
+                jeeqTracker.setClient(from, to);
+            }
+        }
+
+        @Override
+        long estimateBytes() {
+            return bytes;
+        }
+    }
+
+    /**
+     * The replacement of all the clients.
+     */
+    private static class ClientListChange extends Change {
+        private final List<Client> before;
+        private final List<Client> after;
+
+        private ClientListChange(List<Client> before, List<Client> after) {
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        void undo(JeeqTracker jeeqTracker) {
+            jeeqTracker.setClients(before);
+        }
+
+        @Override
+        void redo(JeeqTracker jeeqTracker) {
+            jeeqTracker.setClients(after);
+        }
+
+        @Override
+        long estimateBytes() {
+            long bytes = 0;
+            for (Client client : before) {
+                bytes += ChangeHistory.estimateBytes(client);
+            }
+            for (Client client : after) {
+                bytes += ChangeHistory.estimateBytes(client);
+            }
+            return bytes;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.model.client.Client;
+import seedu.address.model.transaction.Transaction;
+
+/**
+ * A transaction together with the client it belongs to.
+ */
+public class ClientTransaction {
+
+    private final Client client;
+    private final Transaction transaction;
+
+    /**
+     * Creates a {@code ClientTransaction} of {@code transaction}, which belongs to {@code client}.
+     */
+    public ClientTransaction(Client client, Transaction transaction) {
+        requireAllNonNull(client, transaction);
+        this.client = client;
+        this.transaction = transaction;
+    }
+
+    public Client getClient() {
+        return client;
+    }
+
+    public Transaction getTransaction() {
+        return transaction;
+    }
+
+    @Override
+    public String toString() {
+        return client.getName() + ": " + transaction;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ClientTransaction // instanceof handles nulls
+                && client.equals(((ClientTransaction) other).client)
+                && transaction.equals(((ClientTransaction) other).transaction));
+    }
+
+    @Override
+    public int hashCode() {
+        return client.hashCode();
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.model;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_DATE_RANGE;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.PersistentSortedList;
+import seedu.address.model.client.Client;
+import seedu.address.model.transaction.Transaction;
+
+/**
+ * An ordered index of the transactions of all clients by their date, keyed by epoch day, so the transactions
+ * between two dates are found in O(log n + k) time for k results, without sorting.
+ */
+public class DateIndex extends TransactionIndex<Long> {
+
+    /**
+     * Creates an index of the dates of the transactions of the clients in {@code source}.
+     */
+    DateIndex(Iterable<Client> source) {
+        super(source);
+    }
+
+    @Override
+    protected Long getKey(Transaction transaction) {
+        return transaction.getLocalDate().toEpochDay();
+    }
+
+    @Override
+    protected Map<Long, Map<String, PersistentSortedList<Long>>> createMap() {
+        return new TreeMap<>();
+    }
+
+    /**
+     * Returns the transactions of all clients dated from {@code from} to {@code to}, both inclusive, from the oldest
+     * to the latest. Transactions on the same day are grouped by client, in the order the clients were indexed.
+     */
+    public List<Transaction> getTransactions(LocalDate from, LocalDate to) {
+        return getTransactions(getIdsByClient(from, to));
+    }
+
+    /**
+     * Returns the number of transactions of all clients dated from {@code from} to {@code to}, both inclusive.
+     */
+    public int getTransactionCount(LocalDate from, LocalDate to) {
+        return countTransactions(getIdsByClient(from, to));
+    }
+
+    private Collection<Map<String, PersistentSortedList<Long>>> getIdsByClient(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        checkArgument(!from.isAfter(to), MESSAGE_INVALID_DATE_RANGE);
+        NavigableMap<Long, Map<String, PersistentSortedList<Long>>> idsByDay =
+                (NavigableMap<Long, Map<String, PersistentSortedList<Long>>>) getIdsByKey();
+        return idsByDay.subMap(from.toEpochDay(), true, to.toEpochDay(), true).values();
+    }
+}
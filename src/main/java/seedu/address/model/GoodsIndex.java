@@ -0,0 +1,74 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.PersistentSortedList;
+import seedu.address.model.client.Client;
+import seedu.address.model.transaction.Goods;
+import seedu.address.model.transaction.Transaction;
+
+/**
+ * An index from goods to the clients that traded them and the matching transactions, so the clients of some goods
+ * are found in time proportional to the result rather than to the number of transactions.
+ * Goods are matched by {@link Goods#getNormalizedName()}.
+ */
+public class GoodsIndex extends TransactionIndex<String> {
+
+    /**
+     * Creates an index of the goods traded by the clients in {@code source}.
+     */
+    GoodsIndex(Iterable<Client> source) {
+        super(source);
+    }
+
+    @Override
+    protected String getKey(Transaction transaction) {
+        return transaction.getGoods().getNormalizedName();
+    }
+
+    @Override
+    protected Map<String, Map<String, PersistentSortedList<Long>>> createMap() {
+        return new HashMap<>();
+    }
+
+    /**
+     * Returns the clients that traded {@code goods}, in the order they were indexed.
+     */
+    public List<Client> getClients(Goods goods) {
+        requireNonNull(goods);
+        return getClients(getIdsByClient(goods));
+    }
+
+    /**
+     * Returns the transactions in {@code goods} of all clients, grouped by client.
+     */
+    public List<Transaction> getTransactions(Goods goods) {
+        requireNonNull(goods);
+        return getTransactions(List.of(getIdsByClient(goods)));
+    }
+
+    /**
+     * Returns the number of transactions in {@code goods} of all clients.
+     */
+    public int getTransactionCount(Goods goods) {
+        requireNonNull(goods);
+        return countTransactions(List.of(getIdsByClient(goods)));
+    }
+
+    /**
+     * Returns true if {@code client} has a transaction in {@code goods}.
+     */
+    public boolean hasTraded(Client client, Goods goods) {
+        requireAllNonNull(client, goods);
+        return hasTransactionWithKey(client, goods.getNormalizedName());
+    }
+
+    private Map<String, PersistentSortedList<Long>> getIdsByClient(Goods goods) {
+        return getIdsByKey().getOrDefault(goods.getNormalizedName(), Map.of());
+    }
+}
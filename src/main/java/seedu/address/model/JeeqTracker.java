@@ -3,10 +3,12 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.client.Client;
 import seedu.address.model.client.UniqueClientList;
+import seedu.address.model.transaction.TransactionChange;
 
 /**
  * Wraps all data at the address-book level
@@ -15,6 +17,11 @@ import seedu.address.model.client.UniqueClientList;
 public class JeeqTracker implements ReadOnlyJeeqTracker {
 
     private final UniqueClientList clients;
+    private final GoodsIndex goodsIndex;
+    private final DateIndex dateIndex;
+    private final List<TransactionIndex<?>> indexes;
+    private final TransactionFeed transactionFeed;
+    private long modificationCount;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -25,6 +32,10 @@ public class JeeqTracker implements ReadOnlyJeeqTracker {
      */
     {
         clients = new UniqueClientList();
+        goodsIndex = new GoodsIndex(clients);
+        dateIndex = new DateIndex(clients);
+        indexes = List.of(goodsIndex, dateIndex);
+        transactionFeed = new TransactionFeed(clients);
     }
 
     public JeeqTracker() {}
@@ -45,6 +56,9 @@ public class JeeqTracker implements ReadOnlyJeeqTracker {
      */
     public void setClients(List<Client> clients) {
         this.clients.setClients(clients);
+        indexes.forEach(TransactionIndex::invalidate);
+        transactionFeed.invalidate();
+        modificationCount++;
     }
 
     /**
@@ -66,12 +80,33 @@ public class JeeqTracker implements ReadOnlyJeeqTracker {
         return clients.contains(client);
     }
 
+    /**
+     * Returns the position of {@code client} in the client list, or -1 if the address book does not contain it.
+     */
+    public int indexOfClient(Client client) {
+        return clients.indexOf(client);
+    }
+
     /**
      * Adds a client to the address book.
      * The client must not already exist in the address book.
      */
     public void addClient(Client p) {
         clients.add(p);
+        indexes.forEach(index -> index.addClient(p));
+        transactionFeed.addClient(p);
+        modificationCount++;
+    }
+
+    /**
+     * Adds a client to the address book at {@code position} of the client list.
+     * The client must not already exist in the address book.
+     */
+    void addClient(int position, Client p) {
+        clients.add(position, p);
+        indexes.forEach(index -> index.addClient(p));
+        transactionFeed.addClient(p);
+        modificationCount++;
     }
 
     /**
@@ -83,6 +118,33 @@ public class JeeqTracker implements ReadOnlyJeeqTracker {
         requireNonNull(editedClient);
 
         clients.setClient(target, editedClient);
+        Optional<List<TransactionChange>> changes = getTransactionChanges(target, editedClient);
+        if (changes.isPresent()) {
+            indexes.forEach(index -> index.updateClient(editedClient, changes.get()));
+            transactionFeed.updateClient(editedClient, changes.get());
+        } else {
+            for (TransactionIndex<?> index : indexes) {
+                index.removeClient(target);
+                index.addClient(editedClient);
+            }
+            transactionFeed.removeClient(target);
+            transactionFeed.addClient(editedClient);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Returns the changes to the transactions of {@code target} that give those of {@code editedClient}, which are
+     * found in time proportional to the changes when the transaction log of {@code editedClient} was copied from that
+     * of {@code target}, or the other way round, as when a change is undone.
+     * Returns an empty {@code Optional} if the clients have different identities, or if either transaction log is
+     * loaded on demand, in which case the client is indexed again.
+     */
+    private static Optional<List<TransactionChange>> getTransactionChanges(Client target, Client editedClient) {
+        if (!target.getName().getNormalizedName().equals(editedClient.getName().getNormalizedName())) {
+            return Optional.empty();
+        }
+        return editedClient.getTransactions().getChangesSince(target.getTransactions());
     }
 
     /**
@@ -91,6 +153,58 @@ public class JeeqTracker implements ReadOnlyJeeqTracker {
      */
     public void removeClient(Client key) {
         clients.remove(key);
+        indexes.forEach(index -> index.removeClient(key));
+        transactionFeed.removeClient(key);
+        modificationCount++;
+    }
+
+    //// checkpoints
+
+    /**
+     * Returns a checkpoint of the data in this {@code JeeqTracker}, which {@link #restore(Checkpoint)} returns it to.
+     * Clients are not changed once added: changing the transactions or remarks of a client replaces it with a new
+     * client that has a new {@code TransactionLog} or {@code UniqueRemarkList}. So the checkpoint only keeps the
+     * clients, which takes time proportional to the number of clients rather than to the size of the data.
+     */
+    Checkpoint createCheckpoint() {
+        return new Checkpoint(List.copyOf(clients.asUnmodifiableObservableList()), modificationCount);
+    }
+
+    /**
+     * Returns the data in this {@code JeeqTracker} to what it was when {@code checkpoint} was created.
+     * The modification count is returned to what it was too, so restoring unsaved changes does not make the data
+     * look modified since it was last saved.
+     */
+    void restore(Checkpoint checkpoint) {
+        requireNonNull(checkpoint);
+        clients.setClients(checkpoint.clients);
+        indexes.forEach(TransactionIndex::invalidate);
+        transactionFeed.invalidate();
+        modificationCount = checkpoint.modificationCount;
+    }
+
+    /**
+     * Returns the modification count to what it was when {@code checkpoint} was created, once the changes made since
+     * then have been undone one by one, which keeps the indexes up to date rather than building them again.
+     */
+    void restoreModificationCount(Checkpoint checkpoint) {
+        requireNonNull(checkpoint);
+        assert clients.asUnmodifiableObservableList().equals(checkpoint.clients)
+                : "The changes since the checkpoint must have been undone";
+        modificationCount = checkpoint.modificationCount;
+    }
+
+    /**
+     * The clients of a {@code JeeqTracker} at some point, and its modification count then.
+     */
+    static class Checkpoint {
+        private final List<Client> clients;
+        private final long modificationCount;
+
+        private Checkpoint(List<Client> clients, long modificationCount) {
+            this.clients = clients;
+            this.modificationCount = modificationCount;
+        }
     }
 
     //// util methods
@@ -106,6 +220,32 @@ public class JeeqTracker implements ReadOnlyJeeqTracker {
         return clients.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the index of the goods traded by the clients, which is kept in sync with the client list.
+     */
+    public GoodsIndex getGoodsIndex() {
+        return goodsIndex;
+    }
+
+    /**
+     * Returns the index of the dates of the transactions of the clients, which is kept in sync with the client list.
+     */
+    public DateIndex getDateIndex() {
+        return dateIndex;
+    }
+
+    /**
+     * Returns the feed of the transactions of the clients, which is kept in sync with the client list.
+     */
+    public TransactionFeed getTransactionFeed() {
+        return transactionFeed;
+    }
+
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -4,6 +4,7 @@ import java.nio.file.Path;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.CommandMetrics;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.client.Client;
 
@@ -76,6 +77,26 @@ public interface Model {
      */
     void setClient(Client target, Client editedClient);
 
+    /**
+     * Returns the index of the goods traded by the clients in the address book.
+     */
+    GoodsIndex getGoodsIndex();
+
+    /**
+     * Returns the index of the dates of the transactions of the clients in the address book.
+     */
+    DateIndex getDateIndex();
+
+    /**
+     * Returns the feed of the transactions of all clients in the address book.
+     */
+    TransactionFeed getTransactionFeed();
+
+    /**
+     * Returns the timings and resource use of the commands executed on this model.
+     */
+    CommandMetrics getCommandMetrics();
+
     /** Returns an unmodifiable view of the filtered client list */
     ObservableList<Client> getFilteredClientList();
 
@@ -85,6 +106,65 @@ public interface Model {
      */
     void updateFilteredClientList(Predicate<Client> predicate);
 
+    /**
+     * Returns the predicate that the filtered client list is filtered by.
+     */
+    Predicate<Client> getFilteredClientPredicate();
+
+    /**
+     * Begins a batch of changes, which are kept together with {@link #commitBatch()} or undone together with
+     * {@link #abortBatch()}. Batches may be nested; the changes are only final once the outermost batch is
+     * committed, and should not be saved while any batch is open.
+     */
+    void beginBatch();
+
+    /**
+     * Keeps the changes made since the latest open batch began, ending that batch.
+     * @throws IllegalStateException if no batch is open.
+     */
+    void commitBatch();
+
+    /**
+     * Undoes the changes made since the latest open batch began, ending that batch.
+     * The data and the filter of the filtered client list are returned to what they were when it began.
+     * @throws IllegalStateException if no batch is open.
+     */
+    void abortBatch();
+
+    /**
+     * Returns true if a batch of changes has begun, and has not been committed or aborted.
+     */
+    boolean isInBatch();
+
+    /**
+     * Ends the current step of the undo history, so that the changes made since the last step ended are undone and
+     * redone together. The changes of a batch should be ended as one step once the batch is committed.
+     */
+    void endHistoryStep();
+
+    /**
+     * Returns true if there are changes that can be undone, and no batch is open.
+     */
+    boolean canUndo();
+
+    /**
+     * Returns true if there are undone changes that can be redone, and no batch is open.
+     */
+    boolean canRedo();
+
+    /**
+     * Undoes the changes of the latest step of the undo history, after ending the current step.
+     * @throws IllegalStateException if there are no changes to undo, or a batch is open.
+     */
+    void undo();
+
+    /**
+     * Redoes the changes of the latest undone step of the undo history.
+     * Any change made after undoing a step means it can no longer be redone.
+     * @throws IllegalStateException if there are no changes to redo, or a batch is open.
+     */
+    void redo();
+
     /**
      * Updates the total transaction of the filtered client list.
      */
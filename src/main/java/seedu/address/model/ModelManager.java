@@ -4,15 +4,19 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import seedu.address.commons.core.CommandMetrics;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.Money;
 import seedu.address.model.client.Client;
-import seedu.address.model.client.UniqueClientList;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -23,6 +27,10 @@ public class ModelManager implements Model {
     private final JeeqTracker jeeqTracker;
     private final UserPrefs userPrefs;
     private final FilteredList<Client> filteredClientsList;
+    private final CommandMetrics commandMetrics = new CommandMetrics();
+    /** The state of the model when each open batch began, the latest first. */
+    private final Deque<BatchStart> batchStarts = new ArrayDeque<>();
+    private final ChangeHistory changeHistory;
 
     /**
      * Initializes a ModelManager with the given jeeqTracker and userPrefs.
@@ -35,6 +43,7 @@ public class ModelManager implements Model {
         this.jeeqTracker = new JeeqTracker(jeeqTracker);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredClientsList = new FilteredList<>(this.jeeqTracker.getClientList());
+        changeHistory = new ChangeHistory(userPrefs.getUndoHistoryDepth(), userPrefs.getUndoHistoryMaxBytes());
     }
 
     public ModelManager() {
@@ -47,6 +56,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        changeHistory.setLimits(userPrefs.getUndoHistoryDepth(), userPrefs.getUndoHistoryMaxBytes());
     }
 
     @Override
@@ -80,7 +90,9 @@ public class ModelManager implements Model {
 
     @Override
     public void setJeeqTracker(ReadOnlyJeeqTracker jeeqTracker) {
+        List<Client> clientsBefore = List.copyOf(this.jeeqTracker.getClientList());
         this.jeeqTracker.resetData(jeeqTracker);
+        changeHistory.recordSetAll(clientsBefore, this.jeeqTracker.getClientList());
     }
 
     @Override
@@ -96,12 +108,16 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteClient(Client target) {
+        int position = jeeqTracker.indexOfClient(target);
         jeeqTracker.removeClient(target);
+        changeHistory.recordRemove(position, target);
     }
 
     @Override
     public void addClient(Client client) {
+        int position = jeeqTracker.getClientList().size();
         jeeqTracker.addClient(client);
+        changeHistory.recordAdd(position, client);
         updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
     }
 
@@ -110,6 +126,27 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedClient);
 
         jeeqTracker.setClient(target, editedClient);
+        changeHistory.recordSet(target, editedClient);
+    }
+
+    @Override
+    public GoodsIndex getGoodsIndex() {
+        return jeeqTracker.getGoodsIndex();
+    }
+
+    @Override
+    public DateIndex getDateIndex() {
+        return jeeqTracker.getDateIndex();
+    }
+
+    @Override
+    public TransactionFeed getTransactionFeed() {
+        return jeeqTracker.getTransactionFeed();
+    }
+
+    @Override
+    public CommandMetrics getCommandMetrics() {
+        return commandMetrics;
     }
 
     //=========== Filtered Client List Accessors =============================================================
@@ -129,6 +166,82 @@ public class ModelManager implements Model {
         filteredClientsList.setPredicate(predicate);
     }
 
+    @Override
+    public Predicate<Client> getFilteredClientPredicate() {
+        Predicate<? super Client> predicate = filteredClientsList.getPredicate();
+        return predicate == null ? PREDICATE_SHOW_ALL_CLIENTS : predicate::test;
+    }
+
+    //=========== Batches ====================================================================================
+
+    @Override
+    public void beginBatch() {
+        batchStarts.push(new BatchStart(jeeqTracker.createCheckpoint(), getFilteredClientPredicate(),
+                changeHistory.markChanges()));
+    }
+
+    @Override
+    public void commitBatch() {
+        if (batchStarts.isEmpty()) {
+            throw new IllegalStateException("No batch to commit");
+        }
+        batchStarts.pop();
+    }
+
+    @Override
+    public void abortBatch() {
+        if (batchStarts.isEmpty()) {
+            throw new IllegalStateException("No batch to abort");
+        }
+        BatchStart batchStart = batchStarts.pop();
+        if (changeHistory.undoChangesSince(batchStart.historyMark, jeeqTracker)) {
+            jeeqTracker.restoreModificationCount(batchStart.checkpoint);
+        } else {
+            // the changes were too large to keep in the history, so the clients are restored as a whole
+            jeeqTracker.restore(batchStart.checkpoint);
+            changeHistory.discardChangesSince(batchStart.historyMark);
+        }
+        updateFilteredClientList(batchStart.filteredClientPredicate);
+    }
+
+    @Override
+    public boolean isInBatch() {
+        return !batchStarts.isEmpty();
+    }
+
+    //=========== Undo history ===============================================================================
+
+    @Override
+    public void endHistoryStep() {
+        changeHistory.endStep();
+    }
+
+    @Override
+    public boolean canUndo() {
+        return !isInBatch() && changeHistory.canUndo();
+    }
+
+    @Override
+    public boolean canRedo() {
+        return !isInBatch() && changeHistory.canRedo();
+    }
+
+    @Override
+    public void undo() {
+        if (isInBatch()) {
+            throw new IllegalStateException("Cannot undo while a batch is open");
+        }
+        changeHistory.undo(jeeqTracker);
+    }
+
+    @Override
+    public void redo() {
+        if (isInBatch()) {
+            throw new IllegalStateException("Cannot redo while a batch is open");
+        }
+        changeHistory.redo(jeeqTracker);
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -155,11 +268,26 @@ public class ModelManager implements Model {
      * @return double value of total transactions.
      */
     public double calculateTotalTransaction(ObservableList<Client> filteredClientList) {
-        UniqueClientList filteredList = new UniqueClientList();
+        long netTransactions = 0;
         for (Client client : filteredClientList) {
-            filteredList.add(client);
+            netTransactions = Math.addExact(netTransactions, client.getTotalTransactedInMinorUnits());
         }
-        return filteredList.calculateTotalTransaction();
+        return Money.toMajorUnits(netTransactions);
     }
 
+    /**
+     * The state of the model when a batch of changes began.
+     */
+    private static class BatchStart {
+        private final JeeqTracker.Checkpoint checkpoint;
+        private final Predicate<Client> filteredClientPredicate;
+        private final int historyMark;
+
+        private BatchStart(JeeqTracker.Checkpoint checkpoint, Predicate<Client> filteredClientPredicate,
+                           int historyMark) {
+            this.checkpoint = checkpoint;
+            this.filteredClientPredicate = filteredClientPredicate;
+            this.historyMark = historyMark;
+        }
+    }
 }
@@ -14,4 +14,10 @@ public interface ReadOnlyJeeqTracker {
      */
     ObservableList<Client> getClientList();
 
+    /**
+     * Returns the number of changes made to the clients list so far.
+     * The count increases with every change, so two equal counts read from the same instance mean it was not changed.
+     */
+    long getModificationCount();
+
 }
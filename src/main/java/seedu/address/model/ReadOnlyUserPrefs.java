@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -13,4 +14,10 @@ public interface ReadOnlyUserPrefs {
 
     Path getJeeqTrackerFilePath();
 
+    DataFileFormat getJeeqTrackerFileFormat();
+
+    int getUndoHistoryDepth();
+
+    long getUndoHistoryMaxBytes();
+
 }
@@ -0,0 +1,351 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import seedu.address.model.client.Client;
+import seedu.address.model.transaction.BuyTransaction;
+import seedu.address.model.transaction.Goods;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.model.transaction.TransactionChange;
+
+/**
+ * A feed of the transactions of all clients, each with the client it belongs to, that can be filtered by type,
+ * goods and date and sorted by date and amount.
+ * <p>
+ * For each transaction, the feed holds its type, goods, date and amount, so a query reads no transactions. A query
+ * only finds the ids of the matching transactions; each transaction is read from its client when its entry of the
+ * {@link Result} is read, so showing a page of the result reads only the transactions on that page.
+ * <p>
+ * Like a {@link TransactionIndex}, the feed is built from the client list the first time it is queried, and
+ * {@link JeeqTracker} then keeps it in sync one client at a time. The transactions sorted by date and by amount are
+ * each sorted the first time they are needed, and are then kept sorted as transactions are added, replaced and
+ * deleted, in O(log n) time per changed transaction.
+ */
+public class TransactionFeed {
+
+    /** Orders entries that are equal in a sort order by the order their clients were added, then by their ids. */
+    private static final Comparator<FeedEntry> IN_ORDER_OF_FEED =
+            Comparator.<FeedEntry>comparingLong(entry -> entry.owner.order).thenComparingLong(entry -> entry.id);
+    private static final Comparator<FeedEntry> BY_DATE =
+            Comparator.<FeedEntry>comparingLong(entry -> entry.day).thenComparing(IN_ORDER_OF_FEED);
+    private static final Comparator<FeedEntry> BY_AMOUNT =
+            Comparator.<FeedEntry>comparingLong(entry -> entry.amount).thenComparing(IN_ORDER_OF_FEED);
+
+    private final Iterable<Client> source;
+
+    /** Client name to the transactions of that client. Null until first queried. */
+    private Map<String, FeedClient> clientsByName;
+    /** The order of the next client added to the feed. */
+    private long nextOrder;
+    /** All transactions sorted by date and by amount. Each is null until first needed. */
+    private TreeSet<FeedEntry> byDate;
+    private TreeSet<FeedEntry> byAmount;
+
+    /**
+     * Creates a feed of the transactions of the clients in {@code source}.
+     */
+    TransactionFeed(Iterable<Client> source) {
+        requireNonNull(source);
+        this.source = source;
+    }
+
+    /**
+     * Returns the transactions matching {@code query}, in the order of the query.
+     * Without an order, the transactions are in the order of the client list, then in the order of each client's
+     * transactions. Transactions that are equal in the order of the query are in the order their clients were added
+     * to the feed, then in the order of each client's transactions, or in the reverse of that order when the latest
+     * or largest are first.
+     * <p>
+     * A query takes linear time, plus O(n log n) time if it is the first to sort the feed in its order.
+     */
+    public Result query(TransactionFeedQuery query) {
+        requireNonNull(query);
+        Map<String, FeedClient> feedClients = getClientsByName();
+        Filter filter = new Filter(query);
+        ResultBuilder matches = new ResultBuilder();
+        if (query.getOrder().isEmpty()) {
+            for (Client client : source) {
+                FeedClient feedClient = feedClients.get(client.getName().getNormalizedName());
+                for (FeedEntry entry : feedClient.entriesById.values()) {
+                    if (filter.isMatch(entry)) {
+                        matches.add(entry);
+                    }
+                }
+            }
+        } else {
+            TransactionFeedQuery.Order order = query.getOrder().get();
+            TreeSet<FeedEntry> sorted = getSorted(order == TransactionFeedQuery.Order.OLDEST
+                    || order == TransactionFeedQuery.Order.LATEST);
+            boolean isDescending = order == TransactionFeedQuery.Order.LATEST
+                    || order == TransactionFeedQuery.Order.LARGEST;
+            for (FeedEntry entry : isDescending ? sorted.descendingSet() : sorted) {
+                if (filter.isMatch(entry)) {
+                    matches.add(entry);
+                }
+            }
+        }
+        return matches.build();
+    }
+
+    /**
+     * Adds the transactions of {@code client}, replacing any client with the same identity.
+     */
+    void addClient(Client client) {
+        requireNonNull(client);
+        if (clientsByName != null) {
+            removeClient(client);
+            FeedClient added = new FeedClient(client, nextOrder++);
+            clientsByName.put(client.getName().getNormalizedName(), added);
+            added.entriesById.values().forEach(this::addToSorted);
+        }
+    }
+
+    /**
+     * Replaces the client with the same identity as {@code editedClient} by {@code editedClient}, whose transactions
+     * differ from those of the replaced client by {@code changes}. Only the changed transactions are updated.
+     */
+    void updateClient(Client editedClient, List<TransactionChange> changes) {
+        requireAllNonNull(editedClient, changes);
+        if (clientsByName == null) {
+            return;
+        }
+        FeedClient feedClient = clientsByName.get(editedClient.getName().getNormalizedName());
+        assert feedClient != null : "The replaced client must be in the feed";
+        feedClient.client = editedClient;
+        for (TransactionChange change : changes) {
+            if (change.getBefore().isPresent()) {
+                removeFromSorted(feedClient.entriesById.remove(change.getId()));
+            }
+            change.getAfter().ifPresent(after -> {
+                FeedEntry added = new FeedEntry(feedClient, change.getId(), after);
+                feedClient.entriesById.put(change.getId(), added);
+                addToSorted(added);
+            });
+        }
+    }
+
+    /**
+     * Removes the transactions of the client with the same identity as {@code client}.
+     */
+    void removeClient(Client client) {
+        requireNonNull(client);
+        if (clientsByName != null) {
+            FeedClient removed = clientsByName.remove(client.getName().getNormalizedName());
+            if (removed != null) {
+                removed.entriesById.values().forEach(this::removeFromSorted);
+            }
+        }
+    }
+
+    /**
+     * Discards the feed, so it is built again from the client list when it is next queried.
+     */
+    void invalidate() {
+        clientsByName = null;
+        byDate = null;
+        byAmount = null;
+    }
+
+    private Map<String, FeedClient> getClientsByName() {
+        if (clientsByName == null) {
+            clientsByName = new HashMap<>();
+            for (Client client : source) {
+                clientsByName.put(client.getName().getNormalizedName(), new FeedClient(client, nextOrder++));
+            }
+        }
+        return clientsByName;
+    }
+
+    /**
+     * Returns all transactions from the oldest, if {@code isByDate}, or else from the smallest amount, sorting them
+     * if needed.
+     */
+    private TreeSet<FeedEntry> getSorted(boolean isByDate) {
+        if (isByDate && byDate == null) {
+            byDate = sort(BY_DATE);
+        } else if (!isByDate && byAmount == null) {
+            byAmount = sort(BY_AMOUNT);
+        }
+        return isByDate ? byDate : byAmount;
+    }
+
+    private TreeSet<FeedEntry> sort(Comparator<FeedEntry> order) {
+        TreeSet<FeedEntry> sorted = new TreeSet<>(order);
+        for (FeedClient feedClient : getClientsByName().values()) {
+            sorted.addAll(feedClient.entriesById.values());
+        }
+        return sorted;
+    }
+
+    private void addToSorted(FeedEntry entry) {
+        if (byDate != null) {
+            byDate.add(entry);
+        }
+        if (byAmount != null) {
+            byAmount.add(entry);
+        }
+    }
+
+    private void removeFromSorted(FeedEntry entry) {
+        if (byDate != null) {
+            byDate.remove(entry);
+        }
+        if (byAmount != null) {
+            byAmount.remove(entry);
+        }
+    }
+
+    /**
+     * A client in the feed, with its transactions by id and the order it was added to the feed in.
+     */
+    private static class FeedClient {
+        private final long order;
+        private final NavigableMap<Long, FeedEntry> entriesById = new TreeMap<>();
+        private Client client;
+
+        private FeedClient(Client client, long order) {
+            this.client = client;
+            this.order = order;
+            List<Transaction> transactions = client.getTransactions().getTransactionLog();
+            long[] ids = client.getTransactions().getTransactionIds();
+            for (int i = 0; i < transactions.size(); i++) {
+                entriesById.put(ids[i], new FeedEntry(this, ids[i], transactions.get(i)));
+            }
+        }
+    }
+
+    /**
+     * A transaction in the feed, as the parts that can be queried.
+     */
+    private static class FeedEntry {
+        private final FeedClient owner;
+        private final long id;
+        private final boolean isBuy;
+        private final String goods;
+        private final long day;
+        private final long amount;
+
+        private FeedEntry(FeedClient owner, long id, Transaction transaction) {
+            this.owner = owner;
+            this.id = id;
+            isBuy = transaction instanceof BuyTransaction;
+            goods = transaction.getGoods().getNormalizedName();
+            day = transaction.getLocalDate().toEpochDay();
+            amount = transaction.getAmountInMinorUnits();
+        }
+    }
+
+    /**
+     * The matches of a query so far, each as the client of the transaction when it matched and its id.
+     */
+    private static class ResultBuilder {
+        private Client[] clients = new Client[16];
+        private long[] ids = new long[16];
+        private int size;
+
+        private void add(FeedEntry entry) {
+            if (size == ids.length) {
+                clients = Arrays.copyOf(clients, size * 2);
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            clients[size] = entry.owner.client;
+            ids[size++] = entry.id;
+        }
+
+        private Result build() {
+            return new Result(Arrays.copyOf(clients, size), Arrays.copyOf(ids, size));
+        }
+    }
+
+    /**
+     * The parts of a query that transactions are filtered by, read once for the whole feed.
+     */
+    private static class Filter {
+        private final TransactionFeedQuery.Type type;
+        private final String goods;
+        private final long fromDay;
+        private final long toDay;
+
+        private Filter(TransactionFeedQuery query) {
+            type = query.getType().orElse(null);
+            goods = query.getGoods().map(Goods::getNormalizedName).orElse(null);
+            fromDay = query.getFrom().map(date -> date.getLocalDate().toEpochDay()).orElse(Long.MIN_VALUE);
+            toDay = query.getTo().map(date -> date.getLocalDate().toEpochDay()).orElse(Long.MAX_VALUE);
+        }
+
+        private boolean isMatch(FeedEntry entry) {
+            if (type != null && entry.isBuy != (type == TransactionFeedQuery.Type.BUY)) {
+                return false;
+            }
+            if (goods != null && !goods.equals(entry.goods)) {
+                return false;
+            }
+            return entry.day >= fromDay && entry.day <= toDay;
+        }
+    }
+
+    /**
+     * The transactions matching a query, each read from its client when it is first needed.
+     */
+    public static class Result extends AbstractList<ClientTransaction> {
+        private final Client[] clients;
+        private final long[] ids;
+
+        private Result(Client[] clients, long[] ids) {
+            this.clients = clients;
+            this.ids = ids;
+        }
+
+        @Override
+        public ClientTransaction get(int index) {
+            return new ClientTransaction(getClient(index), getTransaction(index));
+        }
+
+        @Override
+        public int size() {
+            return ids.length;
+        }
+
+        /**
+         * Returns the client of the transaction at {@code index}, as it was when the query was made.
+         */
+        public Client getClient(int index) {
+            return clients[index];
+        }
+
+        /**
+         * Returns the transaction at {@code index}.
+         */
+        public Transaction getTransaction(int index) {
+            return clients[index].getTransactions().getTransactionById(ids[index]);
+        }
+
+        /**
+         * Returns a view of the transactions of this result, without their clients.
+         */
+        public List<Transaction> asTransactionList() {
+            return new AbstractList<>() {
+                @Override
+                public Transaction get(int index) {
+                    return getTransaction(index);
+                }
+
+                @Override
+                public int size() {
+                    return Result.this.size();
+                }
+            };
+        }
+    }
+}
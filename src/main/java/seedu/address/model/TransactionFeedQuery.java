@@ -0,0 +1,124 @@
+package seedu.address.model;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_DATE_RANGE;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.model.transaction.Date;
+import seedu.address.model.transaction.Goods;
+
+/**
+ * The transactions to list from a {@code TransactionFeed}, and the order to list them in.
+ * Every part of the query is optional; an empty query lists all transactions in the order of the feed.
+ */
+public class TransactionFeedQuery {
+
+    /**
+     * The type of transactions to list.
+     */
+    public enum Type {
+        BUY, SELL
+    }
+
+    /**
+     * The order to list transactions in.
+     */
+    public enum Order {
+        OLDEST, LATEST, LARGEST, SMALLEST
+    }
+
+    private final Optional<Type> type;
+    private final Optional<Goods> goods;
+    private final Optional<Date> from;
+    private final Optional<Date> to;
+    private final Optional<Order> order;
+
+    /**
+     * Creates a query for the transactions of {@code type} in {@code goods}, dated from {@code from} to {@code to},
+     * both inclusive, listed in {@code order}.
+     */
+    public TransactionFeedQuery(Optional<Type> type, Optional<Goods> goods, Optional<Date> from, Optional<Date> to,
+                                Optional<Order> order) {
+        requireAllNonNull(type, goods, from, to, order);
+        checkArgument(from.isEmpty() || to.isEmpty()
+                || !from.get().getLocalDate().isAfter(to.get().getLocalDate()), MESSAGE_INVALID_DATE_RANGE);
+        this.type = type;
+        this.goods = goods;
+        this.from = from;
+        this.to = to;
+        this.order = order;
+    }
+
+    /**
+     * Creates a query for all transactions of {@code type}, in the order of the feed.
+     */
+    public TransactionFeedQuery(Type type) {
+        this(Optional.of(type), Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
+    }
+
+    public Optional<Type> getType() {
+        return type;
+    }
+
+    public Optional<Goods> getGoods() {
+        return goods;
+    }
+
+    public Optional<Date> getFrom() {
+        return from;
+    }
+
+    public Optional<Date> getTo() {
+        return to;
+    }
+
+    public Optional<Order> getOrder() {
+        return order;
+    }
+
+    /**
+     * Returns a description of the transactions listed by this query, such as
+     * "buy transactions of Apples from 1 Jan 2022, largest first".
+     */
+    @Override
+    public String toString() {
+        List<String> parts = new ArrayList<>();
+        type.ifPresent(t -> parts.add(t.name().toLowerCase()));
+        parts.add("transactions");
+        goods.ifPresent(g -> parts.add("of " + g));
+        from.ifPresent(date -> parts.add("from " + date));
+        to.ifPresent(date -> parts.add("to " + date));
+        String description = String.join(" ", parts);
+        return order.map(o -> description + ", " + o.name().toLowerCase() + " first").orElse(description);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TransactionFeedQuery)) {
+            return false;
+        }
+
+        TransactionFeedQuery otherQuery = (TransactionFeedQuery) other;
+        return type.equals(otherQuery.type)
+                && goods.equals(otherQuery.goods)
+                && from.equals(otherQuery.from)
+                && to.equals(otherQuery.to)
+                && order.equals(otherQuery.order);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, goods.map(Goods::getNormalizedName), from.map(Date::getLocalDate),
+                to.map(Date::getLocalDate), order);
+    }
+}
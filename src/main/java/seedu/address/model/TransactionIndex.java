@@ -0,0 +1,254 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.PersistentSortedList;
+import seedu.address.model.client.Client;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.model.transaction.TransactionChange;
+import seedu.address.model.transaction.TransactionLog;
+
+/**
+ * An index of the transactions of all clients by a key of each transaction, such as its goods or its date.
+ * For each key, the index holds the clients with transactions of that key, and the ids of those transactions in
+ * each client's transaction log, see {@link TransactionLog#getTransactionIds()}. Clients are identified by
+ * {@link seedu.address.model.client.Name#getNormalizedName()}, the same identity as in the client list.
+ * <p>
+ * The index is built from the client list the first time it is queried, so transactions that are loaded on demand
+ * are only read when the index is first used, and are not held by the index. After that, {@link JeeqTracker} keeps
+ * it in sync one client at a time. Adding or removing a client takes time proportional to its transactions, while
+ * replacing a client by a copy with some transactions changed only updates the changed transactions, each in
+ * O(log m) time for the m transactions of that client with the same key.
+ *
+ * @param <K> the type of the key of each transaction.
+ */
+public abstract class TransactionIndex<K> {
+
+    private static final PersistentSortedList<Long> EMPTY_IDS = PersistentSortedList.empty(Comparator.naturalOrder());
+
+    private final Iterable<Client> source;
+
+    /** Key to client name to the ids of the transactions with that key, in order. Null until first queried. */
+    private Map<K, Map<String, PersistentSortedList<Long>>> idsByKey;
+    private Map<String, IndexedClient<K>> clientsByName;
+
+    /**
+     * Creates an index of the transactions of the clients in {@code source}.
+     */
+    TransactionIndex(Iterable<Client> source) {
+        requireNonNull(source);
+        this.source = source;
+    }
+
+    /**
+     * Returns the key that {@code transaction} is indexed by.
+     */
+    protected abstract K getKey(Transaction transaction);
+
+    /**
+     * Returns an empty map to hold the ids of the transactions by key.
+     */
+    protected abstract Map<K, Map<String, PersistentSortedList<Long>>> createMap();
+
+    /**
+     * Returns the ids of the transactions by key, then by client name, building the index if needed.
+     * The returned map must not be changed.
+     */
+    protected Map<K, Map<String, PersistentSortedList<Long>>> getIdsByKey() {
+        if (idsByKey == null) {
+            idsByKey = createMap();
+            clientsByName = new LinkedHashMap<>();
+            for (Client client : source) {
+                index(client);
+            }
+        }
+        return idsByKey;
+    }
+
+    /**
+     * Returns the clients with transactions in {@code idsByClient}, in the order they were indexed.
+     */
+    protected List<Client> getClients(Map<String, PersistentSortedList<Long>> idsByClient) {
+        List<Client> clients = new ArrayList<>(idsByClient.size());
+        for (String clientName : idsByClient.keySet()) {
+            clients.add(clientsByName.get(clientName).client);
+        }
+        return clients;
+    }
+
+    /**
+     * Returns the transactions with the ids in each of {@code groups}, in order.
+     */
+    protected List<Transaction> getTransactions(Collection<Map<String, PersistentSortedList<Long>>> groups) {
+        List<Transaction> transactions = new ArrayList<>();
+        for (Map<String, PersistentSortedList<Long>> idsByClient : groups) {
+            for (Map.Entry<String, PersistentSortedList<Long>> entry : idsByClient.entrySet()) {
+                TransactionLog clientTransactions = clientsByName.get(entry.getKey()).client.getTransactions();
+                for (long id : entry.getValue()) {
+                    transactions.add(clientTransactions.getTransactionById(id));
+                }
+            }
+        }
+        return transactions;
+    }
+
+    /**
+     * Returns the number of transactions in each of {@code groups}.
+     */
+    protected static int countTransactions(Collection<Map<String, PersistentSortedList<Long>>> groups) {
+        int count = 0;
+        for (Map<String, PersistentSortedList<Long>> idsByClient : groups) {
+            for (PersistentSortedList<Long> ids : idsByClient.values()) {
+                count += ids.size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns true if {@code client} has a transaction with {@code key}.
+     * A client that is not in the index, such as one that is being replaced, is checked against its own transactions.
+     */
+    protected boolean hasTransactionWithKey(Client client, K key) {
+        getIdsByKey();
+        IndexedClient<K> indexed = clientsByName.get(client.getName().getNormalizedName());
+        if (indexed != null && indexed.client == client) {
+            return indexed.keys.contains(key);
+        }
+        return client.getTransactions().getTransactionLog().stream()
+                .anyMatch(transaction -> getKey(transaction).equals(key));
+    }
+
+    /**
+     * Adds the transactions of {@code client}, replacing any client with the same identity.
+     */
+    void addClient(Client client) {
+        requireNonNull(client);
+        if (idsByKey == null) {
+            return;
+        }
+        removeClient(client);
+        index(client);
+    }
+
+    /**
+     * Replaces the client with the same identity as {@code editedClient} by {@code editedClient}, whose transactions
+     * differ from those of the replaced client by {@code changes}. Only the changed transactions are updated.
+     */
+    void updateClient(Client editedClient, List<TransactionChange> changes) {
+        requireAllNonNull(editedClient, changes);
+        if (idsByKey == null) {
+            return;
+        }
+        String clientName = editedClient.getName().getNormalizedName();
+        IndexedClient<K> indexed = clientsByName.get(clientName);
+        assert indexed != null : "The replaced client must be in the index";
+        for (TransactionChange change : changes) {
+            change.getBefore().ifPresent(before -> removeId(indexed, clientName, getKey(before), change.getId()));
+            change.getAfter().ifPresent(after -> addId(indexed, clientName, getKey(after), change.getId()));
+        }
+        clientsByName.put(clientName, new IndexedClient<>(editedClient, indexed.keys));
+    }
+
+    /**
+     * Removes the transactions of the client with the same identity as {@code client}.
+     */
+    void removeClient(Client client) {
+        requireNonNull(client);
+        if (idsByKey == null) {
+            return;
+        }
+        String clientName = client.getName().getNormalizedName();
+        IndexedClient<K> removed = clientsByName.remove(clientName);
+        if (removed == null) {
+            return;
+        }
+        for (K key : removed.keys) {
+            Map<String, PersistentSortedList<Long>> idsByClient = idsByKey.get(key);
+            idsByClient.remove(clientName);
+            if (idsByClient.isEmpty()) {
+                idsByKey.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Discards the index, so it is built again from the client list when it is next queried.
+     */
+    void invalidate() {
+        idsByKey = null;
+        clientsByName = null;
+    }
+
+    private void index(Client client) {
+        String clientName = client.getName().getNormalizedName();
+        List<Transaction> transactions = client.getTransactions().getTransactionLog();
+        long[] transactionIds = client.getTransactions().getTransactionIds();
+        Map<K, List<Long>> idsOfClient = new LinkedHashMap<>();
+        for (int i = 0; i < transactions.size(); i++) {
+            idsOfClient.computeIfAbsent(getKey(transactions.get(i)), unused -> new ArrayList<>())
+                    .add(transactionIds[i]);
+        }
+
+        for (Map.Entry<K, List<Long>> entry : idsOfClient.entrySet()) {
+            PersistentSortedList<Long> ids = PersistentSortedList.of(entry.getValue(), Comparator.naturalOrder());
+            idsByKey.computeIfAbsent(entry.getKey(), unused -> new LinkedHashMap<>()).put(clientName, ids);
+        }
+        clientsByName.put(clientName, new IndexedClient<>(client, new HashSet<>(idsOfClient.keySet())));
+    }
+
+    /**
+     * Adds {@code id} to the ids of the transactions of the client with {@code key}, in order, in O(log m) time for m
+     * such transactions.
+     */
+    private void addId(IndexedClient<K> indexed, String clientName, K key, long id) {
+        Map<String, PersistentSortedList<Long>> idsByClient =
+                idsByKey.computeIfAbsent(key, unused -> new LinkedHashMap<>());
+        PersistentSortedList<Long> ids = idsByClient.getOrDefault(clientName, EMPTY_IDS);
+        assert ids.find(id).isEmpty() : "The id must not be in the index";
+        idsByClient.put(clientName, ids.with(id));
+        indexed.keys.add(key);
+    }
+
+    /**
+     * Removes {@code id} from the ids of the transactions of the client with {@code key}, in O(log m) time for m
+     * such transactions.
+     */
+    private void removeId(IndexedClient<K> indexed, String clientName, K key, long id) {
+        Map<String, PersistentSortedList<Long>> idsByClient = idsByKey.get(key);
+        PersistentSortedList<Long> ids = idsByClient.get(clientName);
+        assert ids.find(id).isPresent() : "The id must be in the index";
+        if (ids.size() > 1) {
+            idsByClient.put(clientName, ids.without(id));
+            return;
+        }
+        idsByClient.remove(clientName);
+        indexed.keys.remove(key);
+        if (idsByClient.isEmpty()) {
+            idsByKey.remove(key);
+        }
+    }
+
+    /**
+     * A client in the index, with the keys of its transactions, which are kept up to date as the client is replaced.
+     */
+    private static class IndexedClient<K> {
+        private final Client client;
+        private final Set<K> keys;
+
+        private IndexedClient(Client client, Set<K> keys) {
+            this.client = client;
+            this.keys = keys;
+        }
+    }
+}
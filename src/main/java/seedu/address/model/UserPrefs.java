@@ -1,11 +1,13 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -15,6 +17,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path jeeqTrackerFilePath = Paths.get("data" , "jeeqtracker.json");
+    private DataFileFormat jeeqTrackerFileFormat = DataFileFormat.JSON;
+    private int undoHistoryDepth = 100;
+    private long undoHistoryMaxBytes = 64L * 1024 * 1024;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +41,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setJeeqTrackerFilePath(newUserPrefs.getJeeqTrackerFilePath());
+        setJeeqTrackerFileFormat(newUserPrefs.getJeeqTrackerFileFormat());
+        setUndoHistoryDepth(newUserPrefs.getUndoHistoryDepth());
+        setUndoHistoryMaxBytes(newUserPrefs.getUndoHistoryMaxBytes());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +64,40 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.jeeqTrackerFilePath = jeeqTrackerFilePath;
     }
 
+    public DataFileFormat getJeeqTrackerFileFormat() {
+        return jeeqTrackerFileFormat;
+    }
+
+    public void setJeeqTrackerFileFormat(DataFileFormat jeeqTrackerFileFormat) {
+        requireNonNull(jeeqTrackerFileFormat);
+        this.jeeqTrackerFileFormat = jeeqTrackerFileFormat;
+    }
+
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    /**
+     * Sets the most changes that can be undone to {@code undoHistoryDepth}, which is 0 to turn off undo.
+     */
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        checkArgument(undoHistoryDepth >= 0, "The undo history depth cannot be negative.");
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
+    public long getUndoHistoryMaxBytes() {
+        return undoHistoryMaxBytes;
+    }
+
+    /**
+     * Sets the most memory, in estimated bytes, that the changes that can be undone may take to
+     * {@code undoHistoryMaxBytes}.
+     */
+    public void setUndoHistoryMaxBytes(long undoHistoryMaxBytes) {
+        checkArgument(undoHistoryMaxBytes >= 0, "The undo history memory cap cannot be negative.");
+        this.undoHistoryMaxBytes = undoHistoryMaxBytes;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +110,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && jeeqTrackerFilePath.equals(o.jeeqTrackerFilePath);
+                && jeeqTrackerFilePath.equals(o.jeeqTrackerFilePath)
+                && jeeqTrackerFileFormat == o.jeeqTrackerFileFormat
+                && undoHistoryDepth == o.undoHistoryDepth
+                && undoHistoryMaxBytes == o.undoHistoryMaxBytes;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, jeeqTrackerFilePath);
+        return Objects.hash(guiSettings, jeeqTrackerFilePath, jeeqTrackerFileFormat, undoHistoryDepth,
+                undoHistoryMaxBytes);
     }
 
     @Override
@@ -81,6 +127,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + jeeqTrackerFilePath);
+        sb.append("\nLocal data file format : " + jeeqTrackerFileFormat);
+        sb.append("\nUndo history depth : " + undoHistoryDepth);
+        sb.append("\nUndo history memory cap : " + undoHistoryMaxBytes + " bytes");
         return sb.toString();
     }
 
@@ -10,6 +10,7 @@ import java.util.Objects;
 import java.util.Set;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.Money;
 import seedu.address.model.ReadOnlyClient;
 import seedu.address.model.remark.Remark;
 import seedu.address.model.remark.UniqueRemarkList;
@@ -20,6 +21,9 @@ import seedu.address.model.transaction.TransactionLog;
 /**
  * Represents a Client in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * Remarks and transactions may only be added while a client is being built. Once a client is in the model,
+ * changes to them are made by replacing the client with a copy, see {@link #withRemarks(UniqueRemarkList)}
+ * and {@link #withTransactions(TransactionLog)}.
  */
 public class Client implements ReadOnlyClient {
 
@@ -103,6 +107,22 @@ public class Client implements ReadOnlyClient {
         this.remarks.add(remark);
     }
 
+    /**
+     * Returns a copy of this client with {@code remarks} in place of its remarks.
+     */
+    public Client withRemarks(UniqueRemarkList remarks) {
+        requireNonNull(remarks);
+        return new Client(name, address, phone, email, tags, remarks, transactions);
+    }
+
+    /**
+     * Returns a copy of this client with {@code transactions} in place of its transaction log.
+     */
+    public Client withTransactions(TransactionLog transactions) {
+        requireNonNull(transactions);
+        return new Client(name, address, phone, email, tags, remarks, transactions);
+    }
+
     /**
      * Returns true if remark is in the list of remarks
      * @param remark to be checked
@@ -118,6 +138,10 @@ public class Client implements ReadOnlyClient {
         return transactions.calculateNetTransacted();
     }
 
+    public long getTotalTransactedInMinorUnits() {
+        return transactions.getNetTransactedInMinorUnits();
+    }
+
     /**
      * Adds a transaction to the transaction log in the client.
      * @param transaction to be added to the list.
@@ -139,10 +163,7 @@ public class Client implements ReadOnlyClient {
             return false;
         }
 
-        String otherClientName = otherClient.getName().toString().toLowerCase().replace(" ", "");
-        String clientName = name.toString().toLowerCase().replace(" ", "");
-
-        return otherClientName.equals(clientName);
+        return otherClient.getName().getNormalizedName().equals(name.getNormalizedName());
     }
 
     /**
@@ -198,7 +219,7 @@ public class Client implements ReadOnlyClient {
             return builder.toString();
         }
 
-        double netTransaction = transactions.calculateNetTransacted();
+        Money netTransaction = Money.ofMinorUnits(transactions.getNetTransactedInMinorUnits());
         builder.append(formatPrice(netTransaction));
 
         return builder.toString();
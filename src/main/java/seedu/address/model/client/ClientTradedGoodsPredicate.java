@@ -0,0 +1,45 @@
+package seedu.address.model.client;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.model.GoodsIndex;
+import seedu.address.model.transaction.Goods;
+
+/**
+ * Tests that a {@code Client} has a transaction in any of the goods given, using a {@code GoodsIndex}.
+ */
+public class ClientTradedGoodsPredicate implements Predicate<Client> {
+    private final List<Goods> goodsList;
+    private final GoodsIndex goodsIndex;
+
+    /**
+     * Creates a predicate for clients that traded any of {@code goodsList}, according to {@code goodsIndex}.
+     */
+    public ClientTradedGoodsPredicate(List<Goods> goodsList, GoodsIndex goodsIndex) {
+        requireAllNonNull(goodsList, goodsIndex);
+        this.goodsList = goodsList;
+        this.goodsIndex = goodsIndex;
+    }
+
+    @Override
+    public boolean test(Client client) {
+        return goodsList.stream().anyMatch(goods -> goodsIndex.hasTraded(client, goods));
+    }
+
+    private List<String> getNormalizedNames() {
+        return goodsList.stream().map(Goods::getNormalizedName).collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ClientTradedGoodsPredicate // instanceof handles nulls
+                && goodsIndex == ((ClientTradedGoodsPredicate) other).goodsIndex
+                && getNormalizedNames().equals(((ClientTradedGoodsPredicate) other).getNormalizedNames()));
+    }
+
+}
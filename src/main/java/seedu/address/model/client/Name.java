@@ -20,6 +20,9 @@ public class Name {
 
     public final String fullName;
 
+    /** Case-insensitive, space-insensitive form of {@code fullName}, computed once on construction. */
+    private final String normalizedName;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -29,6 +32,7 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        normalizedName = normalize(name);
     }
 
     /**
@@ -38,6 +42,23 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns {@code name} in lower case with all spaces removed.
+     * Two names with the same normalized form refer to the same client.
+     */
+    public static String normalize(String name) {
+        return name.toLowerCase().replace(" ", "");
+    }
+
+    /**
+     * Returns the normalized form of this name.
+     *
+     * @see #normalize(String)
+     */
+    public String getNormalizedName() {
+        return normalizedName;
+    }
+
     @Override
     public String toString() {
         return fullName;
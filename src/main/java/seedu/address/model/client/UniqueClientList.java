@@ -1,13 +1,17 @@
 package seedu.address.model.client;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.findDuplicates;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.Money;
 import seedu.address.model.client.exceptions.ClientNotFoundException;
 import seedu.address.model.client.exceptions.DuplicateClientException;
 
@@ -20,6 +24,10 @@ import seedu.address.model.client.exceptions.DuplicateClientException;
  * the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * Identity checks and the position of a client are answered from a hash index keyed on
+ * {@link Name#getNormalizedName()}, which is kept in sync with the backing list by every mutating operation.
+ * Finding or replacing a client takes O(1) time; adding or removing a client before the end of the list renumbers
+ * the clients after it, which costs no more than moving them in the backing list.
  *
  * @see Client#isSameClient(Client)
  */
@@ -28,13 +36,24 @@ public class UniqueClientList implements Iterable<Client> {
     private final ObservableList<Client> internalList = FXCollections.observableArrayList();
     private final ObservableList<Client> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    /** The position of each client in {@code internalList}, by normalized name. */
+    private final Map<String, Integer> positionsByName = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent client as the given argument.
      */
     public boolean contains(Client toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameClient);
+        return positionsByName.containsKey(toCheck.getName().getNormalizedName());
+    }
+
+    /**
+     * Returns the position of {@code toFind} in the list, or -1 if the list does not contain it.
+     */
+    public int indexOf(Client toFind) {
+        requireNonNull(toFind);
+        Integer position = positionsByName.get(toFind.getName().getNormalizedName());
+        return position != null && internalList.get(position).equals(toFind) ? position : -1;
     }
 
     /**
@@ -47,6 +66,20 @@ public class UniqueClientList implements Iterable<Client> {
             throw new DuplicateClientException();
         }
         internalList.add(toAdd);
+        positionsByName.put(toAdd.getName().getNormalizedName(), internalList.size() - 1);
+    }
+
+    /**
+     * Adds a client to the list at {@code index}, moving the clients from that index on back by one.
+     * The client must not already exist in the list.
+     */
+    public void add(int index, Client toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateClientException();
+        }
+        internalList.add(index, toAdd);
+        renumberFrom(index);
     }
 
     /**
@@ -57,7 +90,7 @@ public class UniqueClientList implements Iterable<Client> {
     public void setClient(Client target, Client editedClient) {
         requireAllNonNull(target, editedClient);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new ClientNotFoundException();
         }
@@ -67,6 +100,8 @@ public class UniqueClientList implements Iterable<Client> {
         }
 
         internalList.set(index, editedClient);
+        positionsByName.remove(target.getName().getNormalizedName());
+        positionsByName.put(editedClient.getName().getNormalizedName(), index);
     }
 
     /**
@@ -75,27 +110,50 @@ public class UniqueClientList implements Iterable<Client> {
      */
     public void remove(Client toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new ClientNotFoundException();
         }
+        internalList.remove(index);
+        positionsByName.remove(toRemove.getName().getNormalizedName());
+        renumberFrom(index);
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setClients(UniqueClientList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        positionsByName.clear();
+        positionsByName.putAll(replacement.positionsByName);
     }
 
     /**
      * Replaces the contents of this list with {@code clients}.
      * {@code clients} must not contain duplicate clients.
+     *
+     * @throws DuplicateClientException naming the clashing clients if {@code clients} contains duplicates.
      */
     public void setClients(List<Client> clients) {
         requireAllNonNull(clients);
-        if (!clientsAreUnique(clients)) {
-            throw new DuplicateClientException();
+        List<Client> duplicates = findDuplicates(clients, client -> client.getName().getNormalizedName());
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateClientException(duplicates);
         }
 
         internalList.setAll(clients);
+        positionsByName.clear();
+        renumberFrom(0);
+    }
+
+    /**
+     * Records the positions of the clients from {@code index} to the end of the list.
+     */
+    private void renumberFrom(int index) {
+        for (int i = index; i < internalList.size(); i++) {
+            positionsByName.put(internalList.get(i).getName().getNormalizedName(), i);
+        }
     }
 
     /**
@@ -122,20 +180,6 @@ public class UniqueClientList implements Iterable<Client> {
         return internalList.hashCode();
     }
 
-    /**
-     * Returns true if {@code clients} contains only unique clients.
-     */
-    private boolean clientsAreUnique(List<Client> clients) {
-        for (int i = 0; i < clients.size() - 1; i++) {
-            for (int j = i + 1; j < clients.size(); j++) {
-                if (clients.get(i).isSameClient(clients.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
-
     /**
      * Returns the net amount transacted with all clients shown in the current list.
      *
@@ -143,11 +187,11 @@ public class UniqueClientList implements Iterable<Client> {
      */
     public double calculateTotalTransaction() {
         Iterator<Client> itr = this.iterator();
-        double netTransactions = 0.00;
+        long netTransactions = 0;
         while (itr.hasNext()) {
             Client currentClient = itr.next();
-            netTransactions += currentClient.getTotalTransacted();
+            netTransactions = Math.addExact(netTransactions, currentClient.getTotalTransactedInMinorUnits());
         }
-        return netTransactions;
+        return Money.toMajorUnits(netTransactions);
     }
 }
@@ -1,11 +1,41 @@
 package seedu.address.model.client.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.client.Client;
+
 /**
  * Signals that the operation will result in duplicate Clients
  * (Clients are considered duplicates if they have the same identity).
  */
 public class DuplicateClientException extends RuntimeException {
+
+    private final List<Client> duplicates;
+
+    /**
+     * Constructs a {@code DuplicateClientException} that does not name the duplicates.
+     */
     public DuplicateClientException() {
         super("Operation would result in duplicate clients");
+        this.duplicates = Collections.emptyList();
+    }
+
+    /**
+     * Constructs a {@code DuplicateClientException} naming the {@code duplicates} that clash with an earlier client.
+     */
+    public DuplicateClientException(List<Client> duplicates) {
+        super("Operation would result in duplicate clients: " + duplicates.stream()
+                .map(client -> client.getName().fullName)
+                .collect(Collectors.joining(", ")));
+        this.duplicates = Collections.unmodifiableList(duplicates);
+    }
+
+    /**
+     * Returns the clients whose identity clashes with an earlier client, or an empty list if unknown.
+     */
+    public List<Client> getDuplicates() {
+        return duplicates;
     }
 }
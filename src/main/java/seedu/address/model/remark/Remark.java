@@ -39,11 +39,7 @@ public class Remark {
             return false;
         }
 
-        // Remove all trailing white spaces, change all alphabet to lower case, and concatenate all characters.
-        String remarkText = getText().value.trim().toLowerCase().replace(" ", "");
-        String otherText = otherRemark.getText().value.trim().toLowerCase().replace(" ", "");
-
-        return remarkText.equals(otherText);
+        return getText().getNormalizedValue().equals(otherRemark.getText().getNormalizedValue());
     }
 
     /**
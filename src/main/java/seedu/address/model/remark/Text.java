@@ -19,6 +19,9 @@ public class Text {
 
     public final String value;
 
+    /** Case-insensitive, space-insensitive form of {@code value}, computed once on construction. */
+    private final String normalizedValue;
+
     /**
      * Constructs a {@code Text}.
      *
@@ -28,6 +31,7 @@ public class Text {
         requireNonNull(value);
         checkArgument(isValidText(value), MESSAGE_CONSTRAINTS);
         this.value = value;
+        this.normalizedValue = value.trim().toLowerCase().replace(" ", "");
     }
 
     /**
@@ -61,4 +65,12 @@ public class Text {
         return this.value;
     }
 
+    /**
+     * Returns the text in lower case with all spaces removed.
+     * Two texts with the same normalized form belong to the same remark.
+     */
+    public String getNormalizedValue() {
+        return normalizedValue;
+    }
+
 }
@@ -1,13 +1,19 @@
 package seedu.address.model.remark;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.findDuplicates;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.commons.util.PersistentSortedList;
 import seedu.address.model.remark.exceptions.DuplicateRemarkException;
 import seedu.address.model.remark.exceptions.RemarkNotFoundException;
 
@@ -20,21 +26,41 @@ import seedu.address.model.remark.exceptions.RemarkNotFoundException;
  * the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * The remarks are held in {@code PersistentSortedList}s in order and by their normalized text, so a copy made with
+ * {@link #UniqueRemarkList(UniqueRemarkList)} shares them, and each operation takes O(log n) time.
  *
  * @see Remark#isSameRemark(Remark)
  */
 public class UniqueRemarkList implements Iterable<Remark> {
 
-    private final ObservableList<Remark> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Remark> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private static final Comparator<Entry> BY_ID = Comparator.comparingLong(entry -> entry.id);
+    private static final Comparator<Entry> BY_TEXT = Comparator.comparing(entry -> entry.normalizedText);
+
+    private PersistentSortedList<Entry> entries = PersistentSortedList.empty(BY_ID);
+    private PersistentSortedList<Entry> entriesByText = PersistentSortedList.empty(BY_TEXT);
+    /** The id of the next remark added to the list, which orders the remarks. */
+    private long nextId;
+    private final RemarksView internalUnmodifiableList = new RemarksView();
+
+    public UniqueRemarkList() {}
+
+    /**
+     * Creates a copy of {@code toCopy}, which shares the remarks of {@code toCopy} in O(1) time.
+     * Changes to either list do not change the other.
+     */
+    public UniqueRemarkList(UniqueRemarkList toCopy) {
+        requireNonNull(toCopy);
+        entries = toCopy.entries;
+        entriesByText = toCopy.entriesByText;
+        nextId = toCopy.nextId;
+    }
 
     /**
      * Returns true if the list contains an equivalent Remark as the given argument.
      */
     public boolean contains(Remark toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameRemark);
+        return entriesByText.find(Entry.withTextOf(toCheck)).isPresent();
     }
 
     /**
@@ -46,11 +72,14 @@ public class UniqueRemarkList implements Iterable<Remark> {
         if (contains(toAdd)) {
             throw new DuplicateRemarkException();
         }
-        internalList.add(toAdd);
+        Entry added = new Entry(nextId++, toAdd);
+        entries = entries.with(added);
+        entriesByText = entriesByText.with(added);
+        internalUnmodifiableList.fireAdded(entries.size() - 1);
     }
 
     public int size() {
-        return internalList.size();
+        return entries.size();
     }
 
     /**
@@ -61,16 +90,16 @@ public class UniqueRemarkList implements Iterable<Remark> {
     public void replaceRemark(Remark target, Remark editedRemark) {
         requireAllNonNull(target, editedRemark);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new RemarkNotFoundException();
-        }
+        Entry replaced = find(target).orElseThrow(RemarkNotFoundException::new);
 
         if (!target.isSameRemark(editedRemark) && contains(editedRemark)) {
             throw new DuplicateRemarkException();
         }
 
-        internalList.set(index, editedRemark);
+        Entry edited = new Entry(replaced.id, editedRemark);
+        entries = entries.with(edited);
+        entriesByText = entriesByText.without(replaced).with(edited);
+        internalUnmodifiableList.fireSet(entries.rank(edited), replaced.remark);
     }
 
     /**
@@ -79,13 +108,26 @@ public class UniqueRemarkList implements Iterable<Remark> {
      */
     public void remove(Remark toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new RemarkNotFoundException();
-        }
+        removeEntry(find(toRemove).orElseThrow(RemarkNotFoundException::new));
     }
 
     public Remark removeByIndex(int index) {
-        return internalList.remove(index);
+        return removeEntry(entries.get(index));
+    }
+
+    private Remark removeEntry(Entry removed) {
+        int index = entries.rank(removed);
+        entries = entries.without(removed);
+        entriesByText = entriesByText.without(removed);
+        internalUnmodifiableList.fireRemoved(index, removed.remark);
+        return removed.remark;
+    }
+
+    /**
+     * Returns the entry of the remark equal to {@code remark}, if any.
+     */
+    private Optional<Entry> find(Remark remark) {
+        return entriesByText.find(Entry.withTextOf(remark)).filter(entry -> entry.remark.equals(remark));
     }
 
     /**
@@ -95,25 +137,47 @@ public class UniqueRemarkList implements Iterable<Remark> {
      * @return remark at the index.
      */
     public Remark getRemark(int index) {
-        return internalList.get(index);
+        return entries.get(index).remark;
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}, sharing them in O(1) time.
+     */
     public void setRemarks(UniqueRemarkList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setEntries(replacement.entries, replacement.entriesByText, replacement.nextId);
     }
 
     /**
      * Replaces the contents of this list with {@code Remarks}.
      * {@code Remarks} must not contain duplicate Remarks.
+     *
+     * @throws DuplicateRemarkException naming the clashing remarks if {@code remarks} contains duplicates.
      */
     public void setRemarks(List<Remark> remarks) {
         requireAllNonNull(remarks);
-        if (!remarksAreUnique(remarks)) {
-            throw new DuplicateRemarkException();
+        List<Remark> duplicates = findDuplicates(remarks, remark -> remark.getText().getNormalizedValue());
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateRemarkException(duplicates);
         }
 
-        internalList.setAll(remarks);
+        List<Entry> newEntries = new ArrayList<>(remarks.size());
+        for (Remark remark : remarks) {
+            newEntries.add(new Entry(newEntries.size(), remark));
+        }
+        List<Entry> newEntriesByText = new ArrayList<>(newEntries);
+        newEntriesByText.sort(BY_TEXT);
+        setEntries(PersistentSortedList.of(newEntries, BY_ID), PersistentSortedList.of(newEntriesByText, BY_TEXT),
+                newEntries.size());
+    }
+
+    private void setEntries(PersistentSortedList<Entry> newEntries, PersistentSortedList<Entry> newEntriesByText,
+                            long newNextId) {
+        PersistentSortedList<Entry> oldEntries = entries;
+        entries = newEntries;
+        entriesByText = newEntriesByText;
+        nextId = newNextId;
+        internalUnmodifiableList.fireReplacedAll(new RemarkList(oldEntries));
     }
 
     /**
@@ -125,33 +189,19 @@ public class UniqueRemarkList implements Iterable<Remark> {
 
     @Override
     public Iterator<Remark> iterator() {
-        return internalList.iterator();
+        return new RemarkList(entries).iterator();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof UniqueRemarkList // instanceof handles nulls
-                && internalList.equals(((UniqueRemarkList) other).internalList));
+                && new RemarkList(entries).equals(new RemarkList(((UniqueRemarkList) other).entries)));
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
-    }
-
-    /**
-     * Returns true if {@code Remarks} contains only unique Remarks.
-     */
-    private boolean remarksAreUnique(List<Remark> remarks) {
-        for (int i = 0; i < remarks.size() - 1; i++) {
-            for (int j = i + 1; j < remarks.size(); j++) {
-                if (remarks.get(i).isSameRemark(remarks.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return new RemarkList(entries).hashCode();
     }
 
     @Override
@@ -172,4 +222,108 @@ public class UniqueRemarkList implements Iterable<Remark> {
 
         return builder.toString();
     }
+
+    /**
+     * A remark of the list, with the id that orders it and its normalized text.
+     */
+    private static final class Entry {
+        private final long id;
+        private final String normalizedText;
+        private final Remark remark;
+
+        private Entry(long id, Remark remark) {
+            this.id = id;
+            this.normalizedText = remark.getText().getNormalizedValue();
+            this.remark = remark;
+        }
+
+        private Entry(String normalizedText) {
+            this.id = -1;
+            this.normalizedText = normalizedText;
+            this.remark = null;
+        }
+
+        /**
+         * Returns an entry that is found by the normalized text of {@code remark}.
+         */
+        private static Entry withTextOf(Remark remark) {
+            return new Entry(remark.getText().getNormalizedValue());
+        }
+    }
+
+    /**
+     * An unmodifiable list of the remarks of some entries, which reads them without copying.
+     */
+    private static class RemarkList extends AbstractList<Remark> {
+        private final PersistentSortedList<Entry> entries;
+
+        private RemarkList(PersistentSortedList<Entry> entries) {
+            this.entries = entries;
+        }
+
+        @Override
+        public Remark get(int index) {
+            return entries.get(index).remark;
+        }
+
+        @Override
+        public int size() {
+            return entries.size();
+        }
+
+        @Override
+        public Iterator<Remark> iterator() {
+            Iterator<Entry> iterator = entries.iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Remark next() {
+                    return iterator.next().remark;
+                }
+            };
+        }
+    }
+
+    /**
+     * An unmodifiable observable view of the remarks of this list, which reports each change to its listeners.
+     */
+    private class RemarksView extends ObservableListBase<Remark> {
+        @Override
+        public Remark get(int index) {
+            return entries.get(index).remark;
+        }
+
+        @Override
+        public int size() {
+            return entries.size();
+        }
+
+        private void fireAdded(int index) {
+            beginChange();
+            nextAdd(index, index + 1);
+            endChange();
+        }
+
+        private void fireRemoved(int index, Remark removed) {
+            beginChange();
+            nextRemove(index, removed);
+            endChange();
+        }
+
+        private void fireSet(int index, Remark replaced) {
+            beginChange();
+            nextSet(index, replaced);
+            endChange();
+        }
+
+        private void fireReplacedAll(List<Remark> replaced) {
+            beginChange();
+            nextReplace(0, size(), replaced);
+            endChange();
+        }
+    }
 }
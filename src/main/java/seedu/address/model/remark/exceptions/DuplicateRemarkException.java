@@ -1,11 +1,41 @@
 package seedu.address.model.remark.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.remark.Remark;
+
 /**
  * Signals that the operation will result in duplicate Remarks
  * (Remarks are considered duplicates if they have the same identity).
  */
 public class DuplicateRemarkException extends RuntimeException {
+
+    private final List<Remark> duplicates;
+
+    /**
+     * Constructs a {@code DuplicateRemarkException} that does not name the duplicates.
+     */
     public DuplicateRemarkException() {
         super("Operation would result in duplicate Remark");
+        this.duplicates = Collections.emptyList();
+    }
+
+    /**
+     * Constructs a {@code DuplicateRemarkException} naming the {@code duplicates} that clash with an earlier remark.
+     */
+    public DuplicateRemarkException(List<Remark> duplicates) {
+        super("Operation would result in duplicate Remark: " + duplicates.stream()
+                .map(remark -> remark.getText().value)
+                .collect(Collectors.joining(", ")));
+        this.duplicates = Collections.unmodifiableList(duplicates);
+    }
+
+    /**
+     * Returns the remarks whose identity clashes with an earlier remark, or an empty list if unknown.
+     */
+    public List<Remark> getDuplicates() {
+        return duplicates;
     }
 }
@@ -4,8 +4,6 @@ package seedu.address.model.transaction;
  * Store the buy transaction process.
  */
 public class BuyTransaction extends Transaction {
-    private static final double NEGATIVE = -1;
-
     public BuyTransaction(Goods goods, Price price, Quantity quantity, Date date) {
         super(goods, price, quantity, date);
     }
@@ -16,8 +14,8 @@ public class BuyTransaction extends Transaction {
      * @return total cost
      */
     @Override
-    double totalCost() {
-        return NEGATIVE * quantity.value() * price.value();
+    long totalCostInMinorUnits() {
+        return -Math.multiplyExact(price.getAmount().getMinorUnits(), quantity.value());
     }
 
     @Override
@@ -38,6 +38,18 @@ public class Date {
         this.date = LocalDate.parse(date, NEW_PATTERN);
     }
 
+    private Date(LocalDate date) {
+        requireNonNull(date);
+        this.date = date;
+    }
+
+    /**
+     * Returns a {@code Date} for an already valid {@code LocalDate}.
+     */
+    public static Date fromLocalDate(LocalDate date) {
+        return new Date(date);
+    }
+
     /**
      * Returns true if a given string is a valid input.
      */
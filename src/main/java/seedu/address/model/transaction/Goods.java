@@ -14,6 +14,9 @@ public class Goods {
 
     public final String goodsName;
 
+    /** Case-insensitive, space-insensitive form of {@code goodsName}, computed once on construction. */
+    private final String normalizedName;
+
     /**
      * Constructs a {@code Goods}.
      *
@@ -23,6 +26,7 @@ public class Goods {
         requireNonNull(goodsName);
         checkArgument(isValidName(goodsName), MESSAGE_CONSTRAINTS);
         this.goodsName = goodsName;
+        this.normalizedName = normalize(goodsName);
     }
 
     /**
@@ -32,6 +36,23 @@ public class Goods {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns {@code goodsName} in lower case with all spaces removed.
+     * Two goods names with the same normalized form refer to the same goods.
+     */
+    public static String normalize(String goodsName) {
+        return goodsName.toLowerCase().replace(" ", "");
+    }
+
+    /**
+     * Returns the normalized form of this goods name.
+     *
+     * @see #normalize(String)
+     */
+    public String getNormalizedName() {
+        return normalizedName;
+    }
+
     @Override
     public String toString() {
         return goodsName;
@@ -4,10 +4,17 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.PriceFormatter.formatPrice;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.math.BigDecimal;
+
+import seedu.address.commons.core.Money;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Class to store the price of the goods transacted.
+ * The price is parsed once into a fixed-point {@code Money} amount, which is used for all arithmetic.
+ * Prices are accepted as by {@link Double#parseDouble(String)}, so forms such as {@code "1d"}, {@code " 5 "} or
+ * hexadecimal floating point are accepted as they were before prices were held as {@code Money}, and data saved with
+ * them can still be read.
  */
 public class Price {
 
@@ -23,8 +30,11 @@ public class Price {
             "Price should be an unsigned positive number and contain only 1 decimal point.";
 
 
+    private static final BigDecimal PRICE_LIMIT = BigDecimal.valueOf(1000000);
+
     public final String price;
 
+    private final Money amount;
 
     /**
      * Constructs a {@code Price}.
@@ -38,6 +48,7 @@ public class Price {
         checkArgument(isPositivePrice(price), MESSAGE_CONSTRAINTS_POSITIVE);
         checkArgument(isSmallPrice(price), MESSAGE_CONSTRAINTS_LARGE);
         this.price = price;
+        this.amount = Money.parse(toDecimal(price).toPlainString());
     }
 
     /**
@@ -88,7 +99,19 @@ public class Price {
      */
     private static boolean isSmallPrice(String test) {
         requireNonNull(test);
-        return Double.parseDouble(test) < 1000000;
+        return Double.isFinite(Double.parseDouble(test)) && toDecimal(test).compareTo(PRICE_LIMIT) < 0;
+    }
+
+    /**
+     * Returns the value of a finite price {@code test}. A decimal price is read exactly; other forms accepted by
+     * {@link Double#parseDouble(String)} are read as that {@code double}.
+     */
+    private static BigDecimal toDecimal(String test) {
+        try {
+            return new BigDecimal(test);
+        } catch (NumberFormatException e) {
+            return BigDecimal.valueOf(Double.parseDouble(test));
+        }
     }
 
     /**
@@ -113,11 +136,15 @@ public class Price {
 
     @Override
     public String toString() {
-        return formatPrice(this.value());
+        return formatPrice(amount);
     }
 
     public double value() {
-        return Double.parseDouble(price);
+        return amount.toDouble();
+    }
+
+    public Money getAmount() {
+        return amount;
     }
 
     @Override
@@ -27,6 +27,8 @@ public class Quantity {
 
     public final String quantity;
 
+    private final int value;
+
     /**
      * Constructs a {@code Quantity}.
      * @param quantity A valid quantity.
@@ -40,7 +42,8 @@ public class Quantity {
         checkArgument(isValidQuantityRegex(quantity), MESSAGE_CONSTRAINTS);
         checkArgument(isSmallQuantity(quantity), MESSAGE_CONSTRAINTS_LARGE);
         checkArgument(isValidQuantityNonZero(quantity), MESSAGE_CONSTRAINTS_ZERO);
-        this.quantity = Integer.toString(Integer.parseInt(quantity));
+        this.value = Integer.parseInt(quantity);
+        this.quantity = Integer.toString(value);
     }
 
     /**
@@ -151,8 +154,8 @@ public class Quantity {
         return quantity;
     }
 
-    public double value() {
-        return Integer.parseInt(quantity);
+    public int value() {
+        return value;
     }
 
     @Override
@@ -15,8 +15,8 @@ public class SellTransaction extends Transaction {
      * @return total cost
      */
     @Override
-    public double totalCost() {
-        return quantity.value() * price.value();
+    long totalCostInMinorUnits() {
+        return Math.multiplyExact(price.getAmount().getMinorUnits(), quantity.value());
     }
 
     @Override
@@ -4,6 +4,8 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
 
+import seedu.address.commons.core.Money;
+
 /**
  * Abstract transaction class
  */
@@ -22,11 +24,27 @@ public abstract class Transaction implements Comparable<Transaction> {
         this.date = date;
     }
 
+    /**
+     * Calculates the total cost of transaction in minor units of {@code Money}.
+     * @return total cost, which is negative for money paid out
+     */
+    abstract long totalCostInMinorUnits();
+
     /**
      * Calculates the total cost of transaction
      * @return total cost
      */
-    abstract double totalCost();
+    double totalCost() {
+        return Money.toMajorUnits(totalCostInMinorUnits());
+    }
+
+    /**
+     * Returns the amount of this transaction, its price times its quantity, in minor units of {@code Money}.
+     * Unlike the total cost, the amount is never negative.
+     */
+    public long getAmountInMinorUnits() {
+        return Math.multiplyExact(price.getAmount().getMinorUnits(), quantity.value());
+    }
 
     public Goods getGoods() {
         return goods;
@@ -48,19 +66,16 @@ public abstract class Transaction implements Comparable<Transaction> {
         return date.getLocalDate();
     }
 
-
     /**
-     * Compares two LocalDates and checks if this LocalDate is before the other LocalDate.
+     * Compares the dates of two transactions, so that older transactions come first.
+     * Transactions on the same date compare as equal; a {@code TransactionLog} orders them by their position in it.
      * @param transaction the object to be compared.
-     * @return 1 if is before and 0 if is after.
+     * @return a negative value if this transaction is older, zero if both are on the same date, and a positive value
+     *     if this transaction is more recent.
      */
     @Override
     public int compareTo(Transaction transaction) {
-        if (this.getLocalDate().isBefore(transaction.getLocalDate())) {
-            return 1;
-        } else {
-            return 0;
-        }
+        return Long.compare(getLocalDate().toEpochDay(), transaction.getLocalDate().toEpochDay());
     }
 
 }
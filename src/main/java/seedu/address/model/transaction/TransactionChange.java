@@ -0,0 +1,58 @@
+package seedu.address.model.transaction;
+
+import java.util.Optional;
+
+/**
+ * A change to one transaction of a {@code TransactionLog}: an added, a replaced or a deleted transaction.
+ * The changes between two logs are applied in order; {@link #getIndex()} is the position of the transaction in the
+ * log when the change is applied, after the changes before it.
+ */
+public class TransactionChange {
+
+    private final long id;
+    private final int index;
+    private final Transaction before;
+    private final Transaction after;
+
+    /**
+     * Creates a change of the transaction with {@code id} at {@code index} from {@code before} to {@code after},
+     * where {@code before} is null for an added transaction and {@code after} is null for a deleted one.
+     */
+    TransactionChange(long id, int index, Transaction before, Transaction after) {
+        assert before != null || after != null;
+        this.id = id;
+        this.index = index;
+        this.before = before;
+        this.after = after;
+    }
+
+    /**
+     * Returns the id of the transaction in its log, see {@link TransactionLog#getTransactionIds()}.
+     */
+    public long getId() {
+        return id;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the transaction before the change, or an empty {@code Optional} if it was added.
+     */
+    public Optional<Transaction> getBefore() {
+        return Optional.ofNullable(before);
+    }
+
+    /**
+     * Returns the transaction after the change, or an empty {@code Optional} if it was deleted.
+     */
+    public Optional<Transaction> getAfter() {
+        return Optional.ofNullable(after);
+    }
+
+    @Override
+    public String toString() {
+        return "#" + id + " at " + index + ": " + before + " -> " + after;
+    }
+}
@@ -0,0 +1,18 @@
+package seedu.address.model.transaction;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Reads the transactions of a {@code TransactionLog} whose transactions are kept on disk until they are needed.
+ */
+@FunctionalInterface
+public interface TransactionLoader {
+
+    /**
+     * Returns the transactions of the log, in order.
+     *
+     * @throws IOException if the transactions could not be read.
+     */
+    List<Transaction> load() throws IOException;
+}
@@ -1,60 +1,290 @@
 package seedu.address.model.transaction;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_DATE_RANGE;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.LongStream;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import seedu.address.commons.core.Money;
+import seedu.address.commons.util.PersistentSortedList;
 import seedu.address.model.transaction.exceptions.TransactionNotFoundException;
-
+import seedu.address.model.transaction.exceptions.TransactionTotalOverflowException;
 
 /**
  * Store all transactions in a list.
+ * Running totals of the amounts bought and sold are maintained as transactions are added, replaced and deleted,
+ * so that the net amount transacted can be read in constant time.
+ * The totals are kept in minor units of {@code Money}, so they are exact and summing them does not allocate.
+ * <p>
+ * The transactions are held in a {@code PersistentSortedList}, each with an id that is unique in the log and
+ * increases from the first transaction to the last. A copy of a log made with {@link #TransactionLog(TransactionLog)}
+ * shares the transactions of the log rather than copying them, and adding, replacing or deleting a transaction then
+ * takes O(log n) time and memory, so a client can be replaced by an edited copy in time that does not grow with
+ * its history, while the earlier client is still held by the undo history, the storage or the UI.
+ * <p>
+ * A log can also be loaded on demand, see {@link #TransactionLog(TransactionLoader, TransactionLogCache, int, int,
+ * long, long)}. Its totals are known up front, and its transactions are only read when they are first needed and
+ * are then held in a {@code TransactionLogCache}, which may drop them again. Changing such a log, or copying it,
+ * reads its transactions and keeps them in the log from then on.
+ * <p>
+ * The transactions between two dates are found with a second {@code PersistentSortedList} of the transactions
+ * ordered by date, which is built when first needed and then kept up to date, and shared by copies, as transactions
+ * are added, replaced and deleted.
+ * <p>
+ * The views of the transactions by type and by date share the transactions of the log at the time they are asked
+ * for, so they can be shown without copying the log, and never change. Changing the log does not change the views
+ * it returned before, but replaces them by new views when they are next asked for: logs that are shown are not
+ * changed in place, as a client is replaced by a copy with a changed copy of its log. A log that is loaded on demand
+ * does not keep its views, so they do not hold its transactions after the cache drops them; each view of such a log
+ * is a new view of the transactions in the cache.
  */
 public class TransactionLog {
-    private final List<Transaction> transactionList;
+    private static final Comparator<Entry> BY_ID = Comparator.comparingLong(entry -> entry.id);
+    private static final Comparator<Entry> BY_DATE =
+            Comparator.<Entry>comparingLong(entry -> entry.day).thenComparingLong(entry -> entry.id);
+
+    /** The transactions of the log by id, or null while they are loaded on demand. */
+    private PersistentSortedList<Entry> entries;
+    /** The transactions of the log by date. Null until first needed. */
+    private PersistentSortedList<Entry> entriesByDate;
+    /** The id of the next transaction added to the log. */
+    private long nextId;
+    private TransactionLoader loader;
+    private TransactionLogCache cache;
+
+    private long totalBoughtMinorUnits;
+    private long totalSoldMinorUnits;
+    private int buyCount;
+    private int sellCount;
+
+    /** Views of the transactions, each null until first asked for after the log last changed. */
+    private ObservableList<Transaction> unmodifiableTransactions;
+    private ObservableList<Transaction> buyTransactions;
+    private ObservableList<Transaction> sellTransactions;
+    private ObservableList<Transaction> oldestFirstTransactions;
+    private ObservableList<Transaction> latestFirstTransactions;
+
     /**
      * Creates a log to store all transactions.
      * @param transactionList list to store transactions.
+     * @throws TransactionTotalOverflowException if the transactions total too much to be kept.
      */
     public TransactionLog(List<Transaction> transactionList) {
         requireAllNonNull(transactionList);
-        this.transactionList = transactionList;
+        this.entries = toEntries(transactionList);
+        this.nextId = transactionList.size();
+        for (Entry entry : entries) {
+            include(entry.transaction);
+        }
     }
 
     public TransactionLog() {
         this(new ArrayList<Transaction>());
     }
 
+    /**
+     * Creates a copy of {@code toCopy}, which shares the transactions of {@code toCopy} in O(1) time.
+     * Changes to either log do not change the other. If {@code toCopy} is loaded on demand, its transactions are read
+     * and held by the copy.
+     */
+    public TransactionLog(TransactionLog toCopy) {
+        requireNonNull(toCopy);
+        this.entries = toCopy.loader == null ? toCopy.entries : toEntries(toCopy.transactions());
+        this.entriesByDate = toCopy.entriesByDate;
+        this.nextId = toCopy.nextId;
+        this.totalBoughtMinorUnits = toCopy.totalBoughtMinorUnits;
+        this.totalSoldMinorUnits = toCopy.totalSoldMinorUnits;
+        this.buyCount = toCopy.buyCount;
+        this.sellCount = toCopy.sellCount;
+    }
+
+    /**
+     * Creates a log whose transactions are read by {@code loader} when they are first needed, and are then held in
+     * {@code cache}. The counts and totals of the transactions must be given, and must match what the loader reads.
+     *
+     * @param buyCount number of buy transactions.
+     * @param sellCount number of sell transactions.
+     * @param totalBoughtMinorUnits total amount spent on buy transactions, in minor units of {@code Money}.
+     * @param totalSoldMinorUnits total amount earned from sell transactions, in minor units of {@code Money}.
+     */
+    public TransactionLog(TransactionLoader loader, TransactionLogCache cache, int buyCount, int sellCount,
+                          long totalBoughtMinorUnits, long totalSoldMinorUnits) {
+        requireAllNonNull(loader, cache);
+        checkArgument(buyCount >= 0 && sellCount >= 0, "Transaction counts cannot be negative.");
+        this.loader = loader;
+        this.cache = cache;
+        this.buyCount = buyCount;
+        this.sellCount = sellCount;
+        this.nextId = buyCount + sellCount;
+        this.totalBoughtMinorUnits = totalBoughtMinorUnits;
+        this.totalSoldMinorUnits = totalSoldMinorUnits;
+    }
+
+    /**
+     * Returns {@code transactions} with the ids 0 to n - 1 in order.
+     */
+    private static PersistentSortedList<Entry> toEntries(List<Transaction> transactions) {
+        List<Entry> entries = new ArrayList<>(transactions.size());
+        for (Transaction transaction : transactions) {
+            entries.add(new Entry(entries.size(), transaction));
+        }
+        return PersistentSortedList.of(entries, BY_ID);
+    }
+
+    /**
+     * Returns the loader that the transactions of this log are read from on demand,
+     * or an empty {@code Optional} if the transactions are held in the log.
+     */
+    public Optional<TransactionLoader> getLoader() {
+        return Optional.ofNullable(loader);
+    }
+
+    /**
+     * Returns the transactions of this log, reading them if they are loaded on demand and not in the cache.
+     *
+     * @throws UncheckedIOException if the transactions could not be read.
+     */
+    private List<Transaction> transactions() {
+        if (loader == null) {
+            return new TransactionList(entries);
+        }
+        try {
+            return cache.get(this, loader);
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    /**
+     * Returns the transactions of this log as an observable list, without copying them.
+     * The list is a new list each time if the log is loaded on demand.
+     */
+    private ObservableList<Transaction> observableTransactions() {
+        return FXCollections.observableList(transactions());
+    }
+
+    /**
+     * Returns the transactions of this log by id, reading them if they are loaded on demand, so that they are held
+     * in the log from then on.
+     */
+    private PersistentSortedList<Entry> modifiableEntries() {
+        if (loader != null) {
+            entries = toEntries(transactions());
+            cache.remove(this);
+            loader = null;
+            cache = null;
+        }
+        return entries;
+    }
+
     /**
      * Gets the list of transactions.
-     * @return list of transactions.
+     * @return an unmodifiable list of the transactions, which does not change if the log changes later.
      */
     public List<Transaction> getTransactionLog() {
-        return this.transactionList;
+        return Collections.unmodifiableList(transactions());
     }
 
     /**
-     * Calculates the total net transaction in the list.
-     * @return the calculated net transactions.
+     * Returns the total net transaction in the list.
+     * @return the net amount transacted, which is negative if more was spent buying than was earned selling.
      */
     public double calculateNetTransacted() {
-        double result = 0;
-        for (Transaction t : transactionList) {
-            result += t.totalCost();
-        }
-        return result;
+        return Money.toMajorUnits(getNetTransactedInMinorUnits());
     }
 
+    /**
+     * Returns the total net transaction in the list in minor units of {@code Money}.
+     */
+    public long getNetTransactedInMinorUnits() {
+        return totalSoldMinorUnits - totalBoughtMinorUnits;
+    }
+
+    /**
+     * Returns the total amount spent on all buy transactions in the list, as a non-negative value.
+     */
+    public double getTotalBought() {
+        return Money.toMajorUnits(totalBoughtMinorUnits);
+    }
+
+    /**
+     * Returns the total amount earned from all sell transactions in the list.
+     */
+    public double getTotalSold() {
+        return Money.toMajorUnits(totalSoldMinorUnits);
+    }
+
+    /**
+     * Returns the total amount spent on all buy transactions in the list, in minor units of {@code Money}.
+     */
+    public long getTotalBoughtInMinorUnits() {
+        return totalBoughtMinorUnits;
+    }
+
+    /**
+     * Returns the total amount earned from all sell transactions in the list, in minor units of {@code Money}.
+     */
+    public long getTotalSoldInMinorUnits() {
+        return totalSoldMinorUnits;
+    }
+
+    public int getBuyCount() {
+        return buyCount;
+    }
+
+    public int getSellCount() {
+        return sellCount;
+    }
+
+    /**
+     * Adds {@code transaction} to the end of the log.
+     *
+     * @throws TransactionTotalOverflowException if the total amount bought or sold would be too large to be kept,
+     *         in which case the log is unchanged.
+     */
     public void addTransaction(Transaction transaction) {
-        transactionList.add(transaction);
+        requireNonNull(transaction);
+        PersistentSortedList<Entry> modifiableEntries = modifiableEntries();
+        include(transaction);
+        Entry added = new Entry(nextId++, transaction);
+        entries = modifiableEntries.with(added);
+        if (entriesByDate != null) {
+            entriesByDate = entriesByDate.with(added);
+        }
+        clearViews();
     }
 
+    /**
+     * Deletes the transaction at the specified index of transaction list.
+     *
+     * @param index of transaction to be deleted.
+     * @return the deleted transaction.
+     */
     public Transaction deleteTransaction(int index) {
-        return transactionList.remove(index);
+        Entry deleted = modifiableEntries().get(index);
+        entries = entries.without(deleted);
+        exclude(deleted.transaction);
+        if (entriesByDate != null) {
+            entriesByDate = entriesByDate.without(deleted);
+        }
+        clearViews();
+        return deleted.transaction;
     }
 
     /**
@@ -62,26 +292,29 @@ public class TransactionLog {
      * @return the boolean value true if the list is empty.
      */
     public boolean isEmpty() {
-        return transactionList.isEmpty();
+        return size() == 0;
     }
 
     /**
-     * Creates an observable list of transactions to be used by MainWindow.
+     * Returns a view of the transactions to be used by MainWindow, which does not change if the log changes later.
      * @return an unmodifiableObservableList of transactions.
      */
     public ObservableList<Transaction> asUnmodifiableObservableList() {
-        ObservableList<Transaction> internalList = FXCollections.observableArrayList();
-        for (Transaction transaction : transactionList) {
-            internalList.add(transaction);
+        if (unmodifiableTransactions != null) {
+            return unmodifiableTransactions;
+        }
+        ObservableList<Transaction> view = FXCollections.unmodifiableObservableList(observableTransactions());
+        if (loader == null) {
+            unmodifiableTransactions = view;
         }
-        return FXCollections.unmodifiableObservableList(internalList);
+        return view;
     }
 
     /**
      * @return the number of transactions in the transaction log.
      */
     public int size() {
-        return transactionList.size();
+        return buyCount + sellCount;
     }
 
     /**
@@ -91,7 +324,7 @@ public class TransactionLog {
      * @return transaction at the index
      */
     public Transaction getTransaction(int index) {
-        return transactionList.get(index);
+        return loader == null ? entries.get(index).transaction : transactions().get(index);
     }
 
     /**
@@ -99,6 +332,8 @@ public class TransactionLog {
      *
      * @param index of transaction to be replaced.
      * @param editedTransaction the transaction to be used to replace the old transaction at the specified index.
+     * @throws TransactionTotalOverflowException if the total amount bought or sold would be too large to be kept,
+     *         in which case the log is unchanged.
      */
     public void setTransaction(int index, Transaction editedTransaction) {
         requireAllNonNull(editedTransaction);
@@ -106,58 +341,312 @@ public class TransactionLog {
         if (index == -1) {
             throw new TransactionNotFoundException();
         }
-        transactionList.set(index, editedTransaction);
+        Entry replaced = modifiableEntries().get(index);
+        exclude(replaced.transaction);
+        try {
+            include(editedTransaction);
+        } catch (TransactionTotalOverflowException ttoe) {
+            include(replaced.transaction);
+            throw ttoe;
+        }
+        Entry edited = new Entry(replaced.id, editedTransaction);
+        entries = entries.with(edited);
+        if (entriesByDate != null) {
+            entriesByDate = entriesByDate.without(replaced).with(edited);
+        }
+        clearViews();
     }
 
     /**
-     * Creates an observable list of transactions to be used by MainWindow.
+     * Returns the id of each transaction of this log, in order. The ids of a log are unique in it and increase from
+     * its first transaction to its last; a transaction keeps its id when it is replaced and when the log is copied.
+     * The transactions of a log read from storage have the ids 0 to n - 1.
+     */
+    public long[] getTransactionIds() {
+        if (loader != null) {
+            return LongStream.range(0, size()).toArray();
+        }
+        long[] ids = new long[entries.size()];
+        int i = 0;
+        for (Entry entry : entries) {
+            ids[i++] = entry.id;
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the transaction with {@code id}, in O(log n) time if the transactions are held in the log.
+     *
+     * @throws TransactionNotFoundException if there is no transaction with {@code id}.
+     */
+    public Transaction getTransactionById(long id) {
+        if (loader != null) {
+            if (id < 0 || id >= size()) {
+                throw new TransactionNotFoundException();
+            }
+            return transactions().get((int) id);
+        }
+        return entries.find(Entry.withId(id)).orElseThrow(TransactionNotFoundException::new).transaction;
+    }
+
+    /**
+     * Returns the changes that turn {@code earlier} into this log, in the order of their ids, if both logs hold
+     * their transactions. If this log was copied from {@code earlier} and then changed k times, the changes are found
+     * in O(k log n) time, as are those back to {@code earlier} from this log. Logs that do not share their
+     * transactions are compared by id, which takes O(n) time.
+     *
+     * @return the changes, or an empty {@code Optional} if either log is loaded on demand, so that the changes
+     *     cannot be found without reading it.
+     */
+    public Optional<List<TransactionChange>> getChangesSince(TransactionLog earlier) {
+        requireNonNull(earlier);
+        if (earlier == this) {
+            return Optional.of(List.of());
+        }
+        if (loader != null || earlier.loader != null) {
+            return Optional.empty();
+        }
+        List<TransactionChange> changes = new ArrayList<>();
+        for (PersistentSortedList.Difference<Entry> difference : entries.differencesFrom(earlier.entries)) {
+            Entry before = difference.getBefore().orElse(null);
+            Entry after = difference.getAfter().orElse(null);
+            if (before != null && after != null && before.transaction == after.transaction) {
+                continue;
+            }
+            long id = before != null ? before.id : after.id;
+            changes.add(new TransactionChange(id, entries.rank(Entry.withId(id)),
+                    before == null ? null : before.transaction, after == null ? null : after.transaction));
+        }
+        return Optional.of(changes);
+    }
+
+    /**
+     * Returns the transactions dated from {@code from} to {@code to}, both inclusive, from the oldest to the latest.
+     * Transactions on the same day are in the order of the log. Takes O(log n + k) time for k results once the
+     * transactions of the log are ordered by date.
+     */
+    public List<Transaction> getTransactionsBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        checkArgument(!from.isAfter(to), MESSAGE_INVALID_DATE_RANGE);
+        PersistentSortedList<Entry> byDate = getEntriesByDate();
+        int start = byDate.rank(Entry.firstOnDay(from.toEpochDay()));
+        int end = byDate.rank(Entry.firstOnDay(to.toEpochDay() + 1));
+        return new ArrayList<>(new TransactionList(byDate).subList(start, end));
+    }
+
+    /**
+     * Returns the transactions of this log ordered by date, ordering them if needed.
+     * The order is only kept if the transactions are held in the log, so that it does not hold the transactions of a
+     * log that is loaded on demand after the cache drops them.
+     */
+    private PersistentSortedList<Entry> getEntriesByDate() {
+        if (entriesByDate != null) {
+            return entriesByDate;
+        }
+        List<Entry> sorted = new ArrayList<>(loader == null ? entries : toEntries(transactions()));
+        sorted.sort(BY_DATE);
+        PersistentSortedList<Entry> byDate = PersistentSortedList.of(sorted, BY_DATE);
+        if (loader == null) {
+            entriesByDate = byDate;
+        }
+        return byDate;
+    }
+
+    /**
+     * Adds the amount of {@code transaction} to the running totals.
+     *
+     * @throws TransactionTotalOverflowException if the total would not fit in a long. The totals are unchanged.
+     */
+    private void include(Transaction transaction) {
+        long cost = transaction.totalCostInMinorUnits();
+        try {
+            if (transaction instanceof BuyTransaction) {
+                totalBoughtMinorUnits = Math.subtractExact(totalBoughtMinorUnits, cost);
+                buyCount++;
+            } else {
+                totalSoldMinorUnits = Math.addExact(totalSoldMinorUnits, cost);
+                sellCount++;
+            }
+        } catch (ArithmeticException ae) {
+            throw new TransactionTotalOverflowException();
+        }
+    }
+
+    /**
+     * Removes the amount of {@code transaction} from the running totals.
+     */
+    private void exclude(Transaction transaction) {
+        long cost = transaction.totalCostInMinorUnits();
+        if (transaction instanceof BuyTransaction) {
+            totalBoughtMinorUnits = Math.addExact(totalBoughtMinorUnits, cost);
+            buyCount--;
+        } else {
+            totalSoldMinorUnits = Math.subtractExact(totalSoldMinorUnits, cost);
+            sellCount--;
+        }
+    }
+
+    /**
+     * Returns a view of the sell transactions to be used by MainWindow, which does not change if the log changes
+     * later.
      * @return an unmodifiableObservableList of sell transactions.
      */
     public ObservableList<Transaction> getSellTransactionList() {
-        ObservableList<Transaction> internalList = FXCollections.observableArrayList();
-        for (Transaction transaction : transactionList) {
-            if (transaction instanceof SellTransaction) {
-                internalList.add(transaction);
-            }
+        if (sellTransactions != null) {
+            return sellTransactions;
+        }
+        ObservableList<Transaction> view = FXCollections.unmodifiableObservableList(
+                new FilteredList<>(observableTransactions(), SellTransaction.class::isInstance));
+        if (loader == null) {
+            sellTransactions = view;
         }
-        return FXCollections.unmodifiableObservableList(internalList);
+        return view;
     }
 
     /**
-     * Creates an observable list of transactions to be used by MainWindow.
+     * Returns a view of the buy transactions to be used by MainWindow, which does not change if the log changes
+     * later.
      * @return an unmodifiableObservableList of buy transactions.
      */
     public ObservableList<Transaction> getBuyTransactionList() {
-        ObservableList<Transaction> internalList = FXCollections.observableArrayList();
-        for (Transaction transaction : transactionList) {
-            if (transaction instanceof BuyTransaction) {
-                internalList.add(transaction);
-            }
+        if (buyTransactions != null) {
+            return buyTransactions;
+        }
+        ObservableList<Transaction> view = FXCollections.unmodifiableObservableList(
+                new FilteredList<>(observableTransactions(), BuyTransaction.class::isInstance));
+        if (loader == null) {
+            buyTransactions = view;
         }
-        return FXCollections.unmodifiableObservableList(internalList);
+        return view;
     }
 
     /**
-     * Creates an observable list of transactions to be used by MainWindow.
+     * Returns a view of the transactions to be used by MainWindow, which does not change if the log changes later.
+     * Transactions are ordered from the oldest to the latest, and transactions on the same date in the order of the
+     * log, so editing a transaction does not move it among the transactions on its date.
      * @return an unmodifiableObservableList of sorted transactions by oldest.
      */
     public ObservableList<Transaction> getOldestTransactionList() {
-        ObservableList<Transaction> internalList = FXCollections.observableArrayList();
-        internalList.addAll(transactionList);
-        Collections.sort(internalList);
-        Collections.reverse(internalList);
-        return FXCollections.unmodifiableObservableList(internalList);
+        if (oldestFirstTransactions != null) {
+            return oldestFirstTransactions;
+        }
+        ObservableList<Transaction> view = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(new TransactionList(getEntriesByDate(), false)));
+        if (loader == null) {
+            oldestFirstTransactions = view;
+        }
+        return view;
     }
 
     /**
-     * Creates an observable list of transactions to be used by MainWindow.
+     * Returns a view of the transactions to be used by MainWindow, which does not change if the log changes later.
+     * Transactions are in the reverse order of {@link #getOldestTransactionList()}.
      * @return an unmodifiableObservableList of sorted transactions by latest.
      */
     public ObservableList<Transaction> getLatestTransactionList() {
-        ObservableList<Transaction> internalList = FXCollections.observableArrayList();
-        internalList.addAll(transactionList);
-        Collections.sort(internalList);
-        return FXCollections.unmodifiableObservableList(internalList);
+        if (latestFirstTransactions != null) {
+            return latestFirstTransactions;
+        }
+        ObservableList<Transaction> view = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(new TransactionList(getEntriesByDate(), true)));
+        if (loader == null) {
+            latestFirstTransactions = view;
+        }
+        return view;
+    }
+
+    /**
+     * Discards the views of the transactions, which no longer match the log, so new views are created when they are
+     * next asked for.
+     */
+    private void clearViews() {
+        unmodifiableTransactions = null;
+        buyTransactions = null;
+        sellTransactions = null;
+        oldestFirstTransactions = null;
+        latestFirstTransactions = null;
+    }
+
+    /**
+     * A transaction of the log, with its id and its date as an epoch day.
+     */
+    private static final class Entry {
+        private final long id;
+        private final long day;
+        private final Transaction transaction;
+
+        private Entry(long id, Transaction transaction) {
+            this.id = id;
+            this.day = transaction.getLocalDate().toEpochDay();
+            this.transaction = transaction;
+        }
+
+        private Entry(long id, long day) {
+            this.id = id;
+            this.day = day;
+            this.transaction = null;
+        }
+
+        /**
+         * Returns an entry that is found by {@code id} when ordered by id.
+         */
+        private static Entry withId(long id) {
+            return new Entry(id, Long.MIN_VALUE);
+        }
+
+        /**
+         * Returns an entry that comes before every transaction on {@code day} when ordered by date.
+         */
+        private static Entry firstOnDay(long day) {
+            return new Entry(Long.MIN_VALUE, day);
+        }
     }
 
+    /**
+     * An unmodifiable list of the transactions of some entries, in order or in reverse, which reads them without
+     * copying.
+     */
+    private static class TransactionList extends AbstractList<Transaction> {
+        private final PersistentSortedList<Entry> entries;
+        private final boolean reversed;
+
+        private TransactionList(PersistentSortedList<Entry> entries) {
+            this(entries, false);
+        }
+
+        private TransactionList(PersistentSortedList<Entry> entries, boolean reversed) {
+            this.entries = entries;
+            this.reversed = reversed;
+        }
+
+        @Override
+        public Transaction get(int index) {
+            Objects.checkIndex(index, size());
+            return entries.get(reversed ? size() - 1 - index : index).transaction;
+        }
+
+        @Override
+        public int size() {
+            return entries.size();
+        }
+
+        @Override
+        public Iterator<Transaction> iterator() {
+            if (reversed) {
+                return super.iterator();
+            }
+            Iterator<Entry> iterator = entries.iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Transaction next() {
+                    return iterator.next().transaction;
+                }
+            };
+        }
+    }
 }
@@ -0,0 +1,112 @@
+package seedu.address.model.transaction;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds the transactions of recently used on-demand {@code TransactionLog}s in memory.
+ * The cache is bounded by the total number of transactions it holds. When it is full, the transactions of the
+ * least recently used logs are dropped, and are read again by their loader the next time they are needed.
+ * The transactions of the most recently used log are always kept, however many there are.
+ * Safe to use from several threads; loaders run outside the lock, so a slow read does not block other logs.
+ */
+public class TransactionLogCache {
+
+    public static final int DEFAULT_CAPACITY = 100_000;
+
+    private final int capacity;
+    private final Map<TransactionLog, List<Transaction>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private int cachedTransactions;
+    private int loadCount;
+
+    public TransactionLogCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a cache that holds up to {@code capacity} transactions.
+     */
+    public TransactionLogCache(int capacity) {
+        checkArgument(capacity > 0, "Cache capacity must be positive.");
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the transactions of {@code log}, reading them with {@code loader} if they are not in the cache.
+     *
+     * @throws IOException if the transactions had to be read and could not be.
+     */
+    List<Transaction> get(TransactionLog log, TransactionLoader loader) throws IOException {
+        requireNonNull(log);
+        requireNonNull(loader);
+
+        synchronized (this) {
+            List<Transaction> cached = entries.get(log);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        List<Transaction> loaded = Collections.unmodifiableList(loader.load());
+        synchronized (this) {
+            loadCount++;
+            List<Transaction> replaced = entries.put(log, loaded);
+            if (replaced != null) {
+                cachedTransactions -= replaced.size();
+            }
+            cachedTransactions += loaded.size();
+            evictLeastRecentlyUsed();
+        }
+        return loaded;
+    }
+
+    /**
+     * Drops the transactions of {@code log} from the cache, if they are in it.
+     */
+    synchronized void remove(TransactionLog log) {
+        List<Transaction> removed = entries.remove(log);
+        if (removed != null) {
+            cachedTransactions -= removed.size();
+        }
+    }
+
+    private void evictLeastRecentlyUsed() {
+        Iterator<List<Transaction>> iterator = entries.values().iterator();
+        while (cachedTransactions > capacity && entries.size() > 1) {
+            cachedTransactions -= iterator.next().size();
+            iterator.remove();
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of logs whose transactions are in the cache.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the number of transactions in the cache.
+     */
+    public synchronized int getCachedTransactionCount() {
+        return cachedTransactions;
+    }
+
+    /**
+     * Returns the number of times transactions have been read by a loader.
+     */
+    public synchronized int getLoadCount() {
+        return loadCount;
+    }
+}
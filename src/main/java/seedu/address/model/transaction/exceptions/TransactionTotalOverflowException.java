@@ -0,0 +1,10 @@
+package seedu.address.model.transaction.exceptions;
+
+/**
+ * Signals that the operation would make the total amount bought or sold in a transaction log too large to be kept.
+ */
+public class TransactionTotalOverflowException extends RuntimeException {
+    public TransactionTotalOverflowException() {
+        super("Operation would make the total amount of the transactions too large");
+    }
+}
@@ -0,0 +1,259 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.JeeqTracker;
+import seedu.address.model.client.Address;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientEmail;
+import seedu.address.model.client.ClientPhone;
+import seedu.address.model.client.Name;
+import seedu.address.model.remark.Remark;
+import seedu.address.model.remark.Text;
+import seedu.address.model.remark.UniqueRemarkList;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.transaction.BuyTransaction;
+import seedu.address.model.transaction.Date;
+import seedu.address.model.transaction.Goods;
+import seedu.address.model.transaction.Price;
+import seedu.address.model.transaction.Quantity;
+import seedu.address.model.transaction.SellTransaction;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.model.transaction.TransactionLog;
+
+/**
+ * Generates any number of realistic clients, such as for benchmarks and load tests.
+ * The names, addresses, tags, remarks and goods are drawn from the data of {@link SampleDataUtil}.
+ * <p>
+ * Each client depends only on the seed and its index, so the same settings always give the same clients, and
+ * iterating over the generator creates the clients one at a time, without holding them all in memory.
+ * Clients with different indices have different names, so the clients of a generator are never duplicates.
+ */
+public class SyntheticDataGenerator implements Iterable<Client> {
+
+    public static final int DEFAULT_CLIENT_COUNT = 1000;
+    public static final int DEFAULT_TRANSACTIONS_PER_CLIENT = 10;
+    public static final int DEFAULT_MAX_REMARKS_PER_CLIENT = 1;
+    public static final int DEFAULT_MAX_TAGS_PER_CLIENT = 2;
+    public static final double DEFAULT_DATE_SKEW = 0;
+
+    /** Transactions are dated on one of the days from this date, up to {@code DATE_RANGE_DAYS} days later. */
+    public static final LocalDate FIRST_DATE = LocalDate.of(2015, 1, 1);
+    public static final int DATE_RANGE_DAYS = 10 * 365;
+
+    private static final int MAX_QUANTITY = 100;
+    private static final int MAX_PRICE_CENTS = 100_000;
+    private static final long INDEX_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private static final List<Client> SAMPLE_CLIENTS = List.of(SampleDataUtil.getSampleClients());
+    private static final List<Tag> SAMPLE_TAGS = new ArrayList<>();
+    private static final List<String> SAMPLE_REMARKS = new ArrayList<>();
+    private static final List<String> SAMPLE_GOODS = new ArrayList<>();
+
+    static {
+        Set<Tag> tags = new LinkedHashSet<>();
+        Set<String> goods = new LinkedHashSet<>();
+        for (Client client : SAMPLE_CLIENTS) {
+            tags.addAll(client.getTags());
+            client.getRemarkList().forEach(remark -> SAMPLE_REMARKS.add(remark.getText().value));
+            client.getTransactionList().forEach(transaction -> goods.add(transaction.getGoods().goodsName));
+        }
+        SAMPLE_TAGS.addAll(tags);
+        SAMPLE_GOODS.addAll(goods);
+    }
+
+    private final long seed;
+    private int clientCount = DEFAULT_CLIENT_COUNT;
+    private int transactionsPerClient = DEFAULT_TRANSACTIONS_PER_CLIENT;
+    private int maxRemarksPerClient = DEFAULT_MAX_REMARKS_PER_CLIENT;
+    private int maxTagsPerClient = DEFAULT_MAX_TAGS_PER_CLIENT;
+    private double dateSkew = DEFAULT_DATE_SKEW;
+    private List<Goods> goodsVocabulary = createGoodsVocabulary(SAMPLE_GOODS.size());
+
+    /**
+     * Creates a generator of clients from {@code seed}, with the default settings.
+     */
+    public SyntheticDataGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Sets the number of clients to generate.
+     */
+    public SyntheticDataGenerator withClientCount(int clientCount) {
+        checkArgument(clientCount >= 0, "Client count cannot be negative.");
+        this.clientCount = clientCount;
+        return this;
+    }
+
+    /**
+     * Sets the number of transactions of each client.
+     */
+    public SyntheticDataGenerator withTransactionsPerClient(int transactionsPerClient) {
+        checkArgument(transactionsPerClient >= 0, "Transactions per client cannot be negative.");
+        this.transactionsPerClient = transactionsPerClient;
+        return this;
+    }
+
+    /**
+     * Sets the largest number of remarks a client can have. Each client has between none and this many remarks.
+     */
+    public SyntheticDataGenerator withMaxRemarksPerClient(int maxRemarksPerClient) {
+        checkArgument(maxRemarksPerClient >= 0, "Remarks per client cannot be negative.");
+        this.maxRemarksPerClient = maxRemarksPerClient;
+        return this;
+    }
+
+    /**
+     * Sets the largest number of tags a client can have, which is at most the number of sample tags.
+     * Each client has between none and this many tags.
+     */
+    public SyntheticDataGenerator withMaxTagsPerClient(int maxTagsPerClient) {
+        checkArgument(maxTagsPerClient >= 0 && maxTagsPerClient <= SAMPLE_TAGS.size(),
+                "Tags per client must be between 0 and " + SAMPLE_TAGS.size() + ".");
+        this.maxTagsPerClient = maxTagsPerClient;
+        return this;
+    }
+
+    /**
+     * Sets the number of different goods that transactions are made in.
+     * The sample goods are used first, followed by numbered variants of them.
+     */
+    public SyntheticDataGenerator withGoodsVocabularySize(int goodsVocabularySize) {
+        checkArgument(goodsVocabularySize > 0, "Goods vocabulary size must be positive.");
+        this.goodsVocabulary = createGoodsVocabulary(goodsVocabularySize);
+        return this;
+    }
+
+    /**
+     * Sets how strongly transaction dates lean towards the end of the date range.
+     * With a skew of 0 every day is equally likely. With a skew of {@code s}, the fraction of transactions dated
+     * in the last {@code f} of the range is {@code f^(1 / (1 + s))}, e.g. about 71% in the last half for a skew
+     * of 1, and about 89% for a skew of 5.
+     */
+    public SyntheticDataGenerator withDateSkew(double dateSkew) {
+        checkArgument(dateSkew >= 0 && Double.isFinite(dateSkew), "Date skew must be a non-negative number.");
+        this.dateSkew = dateSkew;
+        return this;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getClientCount() {
+        return clientCount;
+    }
+
+    /**
+     * Returns the total number of transactions of all generated clients.
+     */
+    public long getTransactionCount() {
+        return (long) clientCount * transactionsPerClient;
+    }
+
+    /**
+     * Returns the client at {@code index}, which is the same however many clients are generated.
+     */
+    public Client generateClient(int index) {
+        checkArgument(index >= 0, "Client index cannot be negative.");
+        Random random = new Random(seed ^ (index * INDEX_MULTIPLIER));
+
+        Client sample = pick(random, SAMPLE_CLIENTS);
+        Name name = new Name(sample.getName().fullName + " " + index);
+        Address address = sample.getAddress();
+        ClientPhone phone = new ClientPhone(Integer.toString(80_000_000 + random.nextInt(20_000_000)));
+        ClientEmail email = new ClientEmail("client" + index + "@example.com");
+
+        Set<Tag> tags = new LinkedHashSet<>();
+        for (int i = random.nextInt(maxTagsPerClient + 1); i > 0; i--) {
+            tags.add(pick(random, SAMPLE_TAGS));
+        }
+
+        List<Remark> remarks = new ArrayList<>();
+        for (int i = random.nextInt(maxRemarksPerClient + 1); i > 0; i--) {
+            remarks.add(new Remark(new Text(pick(random, SAMPLE_REMARKS) + " (" + i + ")")));
+        }
+        UniqueRemarkList remarkList = new UniqueRemarkList();
+        remarkList.setRemarks(remarks);
+
+        List<Transaction> transactions = new ArrayList<>(transactionsPerClient);
+        for (int i = 0; i < transactionsPerClient; i++) {
+            transactions.add(generateTransaction(random));
+        }
+        return new Client(name, address, phone, email, tags, remarkList, new TransactionLog(transactions));
+    }
+
+    /**
+     * Returns a buy or sell transaction of goods from the vocabulary, at a price of up to 1000 with two decimal
+     * places, on a day in the date range.
+     */
+    private Transaction generateTransaction(Random random) {
+        Goods goods = pick(random, goodsVocabulary);
+        Price price = new Price(BigDecimal.valueOf(1 + random.nextInt(MAX_PRICE_CENTS), 2).toPlainString());
+        Quantity quantity = new Quantity(Integer.toString(1 + random.nextInt(MAX_QUANTITY)));
+        double daysBeforeEnd = DATE_RANGE_DAYS * Math.pow(random.nextDouble(), 1 + dateSkew);
+        Date date = Date.fromLocalDate(FIRST_DATE.plusDays(DATE_RANGE_DAYS - 1 - (long) daysBeforeEnd));
+        return random.nextBoolean()
+                ? new BuyTransaction(goods, price, quantity, date)
+                : new SellTransaction(goods, price, quantity, date);
+    }
+
+    /**
+     * Returns an iterator that generates the clients in order of their index, one at a time.
+     */
+    @Override
+    public Iterator<Client> iterator() {
+        return new Iterator<>() {
+            private int nextIndex = 0;
+
+            @Override
+            public boolean hasNext() {
+                return nextIndex < clientCount;
+            }
+
+            @Override
+            public Client next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return generateClient(nextIndex++);
+            }
+        };
+    }
+
+    /**
+     * Returns a JeeqTracker of all the generated clients.
+     */
+    public JeeqTracker generateJeeqTracker() {
+        List<Client> clients = new ArrayList<>(clientCount);
+        forEach(clients::add);
+        JeeqTracker jeeqTracker = new JeeqTracker();
+        jeeqTracker.setClients(clients);
+        return jeeqTracker;
+    }
+
+    private static List<Goods> createGoodsVocabulary(int size) {
+        List<Goods> vocabulary = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String sampleGoods = SAMPLE_GOODS.get(i % SAMPLE_GOODS.size());
+            int variant = i / SAMPLE_GOODS.size();
+            vocabulary.add(new Goods(variant == 0 ? sampleGoods : sampleGoods + " " + variant));
+        }
+        return vocabulary;
+    }
+
+    private static <T> T pick(Random random, List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
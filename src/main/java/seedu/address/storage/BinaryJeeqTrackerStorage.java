@@ -0,0 +1,454 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.JeeqTracker;
+import seedu.address.model.ReadOnlyJeeqTracker;
+import seedu.address.model.client.Address;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientEmail;
+import seedu.address.model.client.ClientPhone;
+import seedu.address.model.client.Name;
+import seedu.address.model.client.exceptions.DuplicateClientException;
+import seedu.address.model.remark.Remark;
+import seedu.address.model.remark.Text;
+import seedu.address.model.remark.UniqueRemarkList;
+import seedu.address.model.remark.exceptions.DuplicateRemarkException;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.transaction.BuyTransaction;
+import seedu.address.model.transaction.Date;
+import seedu.address.model.transaction.Goods;
+import seedu.address.model.transaction.Price;
+import seedu.address.model.transaction.Quantity;
+import seedu.address.model.transaction.SellTransaction;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.model.transaction.TransactionLog;
+import seedu.address.model.transaction.exceptions.TransactionTotalOverflowException;
+
+/**
+ * A class to access JeeqTracker data stored in a compact binary file on the hard disk.
+ * <p>
+ * The file starts with a magic number and a format version, followed by one length-prefixed record per client and
+ * a zero length that marks the end of the file. Counts and lengths are written as variable-length integers, strings
+ * as UTF-8 bytes prefixed with their length, dates as epoch days, and prices as decimal digits with a scale.
+ * Goods names are dictionary-encoded: each goods name is written in full the first time it appears, and as its
+ * index in the order of first appearance after that.
+ */
+public class BinaryJeeqTrackerStorage implements JeeqTrackerStorage {
+
+    static final int MAGIC = 0x4A515442; // "JQTB"
+    static final int VERSION = 1;
+    static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    static final String MESSAGE_NOT_BINARY = "Not a JeeqTracker binary data file";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary data file version %d";
+    static final String MESSAGE_MALFORMED = "Malformed binary data file: %s";
+
+    private static final int TYPE_BUY = 0;
+    private static final int TYPE_SELL = 1;
+    private static final int RAW_PRICE = 0xFF;
+    private static final int MAX_VARINT_BYTES = 10;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryJeeqTrackerStorage.class);
+
+    private final Path filePath;
+
+    public BinaryJeeqTrackerStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getJeeqTrackerFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyJeeqTracker> readJeeqTracker() throws DataConversionException {
+        return readJeeqTracker(filePath);
+    }
+
+    /**
+     * Similar to {@link #readJeeqTracker()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyJeeqTracker> readJeeqTracker(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            return Optional.of(decodeJeeqTracker(in, Files.size(filePath)));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveJeeqTracker(ReadOnlyJeeqTracker jeeqTracker) throws IOException {
+        saveJeeqTracker(jeeqTracker, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveJeeqTracker(ReadOnlyJeeqTracker)}.
+     * The data is written to a temporary file that then replaces the file, so a failed write leaves the
+     * previous contents intact.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveJeeqTracker(ReadOnlyJeeqTracker jeeqTracker, Path filePath) throws IOException {
+        requireNonNull(jeeqTracker);
+        requireNonNull(filePath);
+        write(jeeqTracker.getClientList(), filePath);
+    }
+
+    /**
+     * Writes {@code clients} to {@code filePath} as they are iterated over, so they need not all be in memory.
+     * The clients must not be duplicates of each other.
+     */
+    public static void write(Iterable<Client> clients, Path filePath) throws IOException {
+        requireNonNull(clients);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+        try (DataOutputStream out =
+                     new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFilePath)))) {
+            writeJeeqTracker(out, clients);
+        } catch (IOException ioe) {
+            Files.deleteIfExists(tempFilePath);
+            throw ioe;
+        }
+        FileUtil.replaceFile(tempFilePath, filePath);
+    }
+
+    // ================ Writing ==============================
+
+    private static void writeJeeqTracker(DataOutputStream out, Iterable<Client> clients) throws IOException {
+        out.writeInt(MAGIC);
+        writeVarLong(out, VERSION);
+
+        Map<String, Integer> goodsIds = new HashMap<>();
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        DataOutputStream recordOut = new DataOutputStream(record);
+        for (Client client : clients) {
+            record.reset();
+            writeClient(recordOut, client, goodsIds);
+            writeVarLong(out, record.size());
+            record.writeTo(out);
+        }
+        writeVarLong(out, 0);
+    }
+
+    private static void writeClient(DataOutput out, Client client, Map<String, Integer> goodsIds)
+            throws IOException {
+        writeClientDetails(out, client);
+
+        writeVarLong(out, client.getTransactionList().size());
+        for (Transaction transaction : client.getTransactionList()) {
+            writeTransaction(out, transaction, goodsIds);
+        }
+    }
+
+    /**
+     * Writes the name, contact details, tags and remarks of {@code client}.
+     */
+    static void writeClientDetails(DataOutput out, Client client) throws IOException {
+        writeString(out, client.getName().fullName);
+        writeString(out, client.getAddress().value);
+        writeString(out, client.getPhone().value);
+        writeString(out, client.getEmail().value);
+
+        writeVarLong(out, client.getTags().size());
+        for (Tag tag : client.getTags()) {
+            writeString(out, tag.tagName);
+        }
+
+        writeVarLong(out, client.getRemarkList().size());
+        for (Remark remark : client.getRemarkList()) {
+            writeString(out, remark.getText().value);
+        }
+    }
+
+    /**
+     * Writes {@code transaction}, adding its goods to {@code goodsIds} if they are not already defined.
+     */
+    static void writeTransaction(DataOutput out, Transaction transaction, Map<String, Integer> goodsIds)
+            throws IOException {
+        out.writeByte(transaction instanceof BuyTransaction ? TYPE_BUY : TYPE_SELL);
+
+        String goodsName = transaction.getGoods().goodsName;
+        Integer goodsId = goodsIds.get(goodsName);
+        if (goodsId == null) {
+            writeVarLong(out, goodsIds.size());
+            writeString(out, goodsName);
+            goodsIds.put(goodsName, goodsIds.size());
+        } else {
+            writeVarLong(out, goodsId);
+        }
+
+        writePrice(out, transaction.getPrice().price);
+        writeVarLong(out, transaction.getQuantity().value());
+        writeVarLong(out, zigZag(transaction.getLocalDate().toEpochDay()));
+    }
+
+    /**
+     * Writes {@code price} as its scale and unscaled digits, or as a string if that would not read back the same.
+     */
+    private static void writePrice(DataOutput out, String price) throws IOException {
+        BigDecimal decimal;
+        try {
+            decimal = new BigDecimal(price);
+        } catch (NumberFormatException e) {
+            // a price such as "1d", which is only read by Double#parseDouble
+            out.writeByte(RAW_PRICE);
+            writeString(out, price);
+            return;
+        }
+        boolean isCompact = decimal.scale() >= 0 && decimal.scale() < RAW_PRICE
+                && decimal.unscaledValue().bitLength() < Long.SIZE
+                && decimal.toPlainString().equals(price);
+        if (isCompact) {
+            out.writeByte(decimal.scale());
+            writeVarLong(out, zigZag(decimal.unscaledValue().longValue()));
+        } else {
+            out.writeByte(RAW_PRICE);
+            writeString(out, price);
+        }
+    }
+
+    static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Writes a non-negative {@code value} in 7-bit groups, least significant first.
+     */
+    static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    // ================ Reading ==============================
+
+    private static JeeqTracker decodeJeeqTracker(DataInputStream in, long fileSize)
+            throws IOException, IllegalValueException {
+        if (fileSize < Integer.BYTES || in.readInt() != MAGIC) {
+            throw new IOException(MESSAGE_NOT_BINARY);
+        }
+        long version = readVarLong(in);
+        if (version != VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        List<Goods> goods = new ArrayList<>();
+        List<Client> clients = new ArrayList<>();
+        for (long recordSize = readVarLong(in); recordSize != 0; recordSize = readVarLong(in)) {
+            if (recordSize < 0 || recordSize > fileSize) {
+                throw malformed("client record is longer than the file");
+            }
+            byte[] record = new byte[(int) recordSize];
+            in.readFully(record);
+
+            DataInputStream recordIn = new DataInputStream(new ByteArrayInputStream(record));
+            clients.add(readClient(recordIn, goods));
+            if (recordIn.available() != 0) {
+                throw malformed("client record has trailing bytes");
+            }
+        }
+        if (in.read() != -1) {
+            throw malformed("data after the last client record");
+        }
+
+        JeeqTracker jeeqTracker = new JeeqTracker();
+        try {
+            jeeqTracker.setClients(clients);
+        } catch (DuplicateClientException dce) {
+            throw new IllegalValueException(JsonSerializableJeeqTracker.MESSAGE_DUPLICATE_CLIENT);
+        }
+        return jeeqTracker;
+    }
+
+    private static Client readClient(DataInputStream in, List<Goods> goods)
+            throws IOException, IllegalValueException {
+        Client client = readClientDetails(in);
+        try {
+            int transactionCount = readCount(in);
+            List<Transaction> transactions = new ArrayList<>(transactionCount);
+            for (int i = 0; i < transactionCount; i++) {
+                transactions.add(readTransaction(in, goods));
+            }
+            return client.withTransactions(new TransactionLog(transactions));
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException(iae.getMessage(), iae);
+        } catch (TransactionTotalOverflowException ttoe) {
+            throw new IllegalValueException(JsonAdaptedClient.MESSAGE_TRANSACTION_TOTAL_TOO_LARGE, ttoe);
+        }
+    }
+
+    /**
+     * Reads the details written by {@link #writeClientDetails(DataOutput, Client)}.
+     *
+     * @return a client with those details and no transactions.
+     */
+    static Client readClientDetails(DataInputStream in) throws IOException, IllegalValueException {
+        try {
+            Name name = new Name(readString(in));
+            Address address = new Address(readString(in));
+            ClientPhone phone = new ClientPhone(readString(in));
+            ClientEmail email = new ClientEmail(readString(in));
+
+            int tagCount = readCount(in);
+            Set<Tag> tags = new HashSet<>();
+            for (int i = 0; i < tagCount; i++) {
+                tags.add(new Tag(readString(in)));
+            }
+
+            int remarkCount = readCount(in);
+            List<Remark> remarks = new ArrayList<>(remarkCount);
+            for (int i = 0; i < remarkCount; i++) {
+                remarks.add(new Remark(new Text(readString(in))));
+            }
+            UniqueRemarkList modelRemarks = new UniqueRemarkList();
+            modelRemarks.setRemarks(remarks);
+
+            return new Client(name, address, phone, email, tags, modelRemarks, new TransactionLog());
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException(iae.getMessage(), iae);
+        } catch (DuplicateRemarkException dre) {
+            throw new IllegalValueException(JsonAdaptedClient.MESSAGE_DUPLICATE_REMARK, dre);
+        }
+    }
+
+    /**
+     * Reads a transaction written by {@link #writeTransaction(DataOutput, Transaction, Map)}, adding its goods to
+     * {@code goods} if they are defined by it.
+     */
+    static Transaction readTransaction(DataInputStream in, List<Goods> goods) throws IOException {
+        int type = in.readUnsignedByte();
+
+        long goodsId = readVarLong(in);
+        if (goodsId == goods.size()) {
+            goods.add(new Goods(readString(in)));
+        } else if (goodsId < 0 || goodsId > goods.size()) {
+            throw malformed("goods " + goodsId + " is used before it is defined");
+        }
+        Goods transactionGoods = goods.get((int) goodsId);
+
+        Price price = readPrice(in);
+        Quantity quantity = new Quantity(Long.toString(readVarLong(in)));
+        long epochDay = unZigZag(readVarLong(in));
+        LocalDate localDate;
+        try {
+            localDate = LocalDate.ofEpochDay(epochDay);
+        } catch (DateTimeException dte) {
+            throw malformed("day " + epochDay + " is out of range");
+        }
+        Date date = Date.fromLocalDate(localDate);
+
+        switch (type) {
+        case TYPE_BUY:
+            return new BuyTransaction(transactionGoods, price, quantity, date);
+        case TYPE_SELL:
+            return new SellTransaction(transactionGoods, price, quantity, date);
+        default:
+            throw malformed("unknown transaction type " + type);
+        }
+    }
+
+    private static Price readPrice(DataInputStream in) throws IOException {
+        int scale = in.readUnsignedByte();
+        if (scale == RAW_PRICE) {
+            return new Price(readString(in));
+        }
+        return new Price(BigDecimal.valueOf(unZigZag(readVarLong(in)), scale).toPlainString());
+    }
+
+    static String readString(DataInputStream in) throws IOException {
+        int length = readCount(in);
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a count or length, which can be no larger than the bytes left in the record being read.
+     */
+    static int readCount(DataInputStream in) throws IOException {
+        long count = readVarLong(in);
+        if (count < 0) {
+            throw malformed("count " + count + " is negative");
+        }
+        if (count > in.available()) {
+            throw malformed("count " + count + " exceeds the size of the record");
+        }
+        return (int) count;
+    }
+
+    static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int i = 0; i < MAX_VARINT_BYTES; i++) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << (7 * i);
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw malformed("variable-length integer is too long");
+    }
+
+    static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static IOException malformed(String detail) {
+        return new IOException(String.format(MESSAGE_MALFORMED, detail));
+    }
+}
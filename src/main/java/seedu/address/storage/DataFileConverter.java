@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyJeeqTracker;
+
+/**
+ * Creates the {@code JeeqTrackerStorage} for each {@code DataFileFormat}, and converts data files between formats.
+ * <p>
+ * Can be run on its own with the source and target files as arguments, e.g.
+ * {@code ./gradlew convertData -Pfrom=data/jeeqtracker.json -Pto=data/jeeqtracker.jqt}.
+ * The format of each file is taken from its file extension.
+ */
+public class DataFileConverter {
+
+    public static final String MESSAGE_USAGE = "Usage: DataFileConverter SOURCE_FILE TARGET_FILE\n"
+            + "The format of each file is taken from its extension: .json, .jqt or .jqts";
+    public static final String MESSAGE_UNKNOWN_FORMAT = "Cannot tell the data format of %s from its extension";
+    public static final String MESSAGE_SOURCE_NOT_FOUND = "Data file %s not found";
+    public static final String MESSAGE_SUCCESS = "Converted %d clients from %s to %s";
+
+    /**
+     * Returns a {@code JeeqTrackerStorage} that stores data at {@code filePath} in the given {@code format}.
+     */
+    public static JeeqTrackerStorage createStorage(DataFileFormat format, Path filePath) {
+        requireNonNull(format);
+        requireNonNull(filePath);
+
+        switch (format) {
+        case BINARY:
+            return new BinaryJeeqTrackerStorage(filePath);
+        case SEGMENTED:
+            return new SegmentedJeeqTrackerStorage(filePath);
+        case JSON:
+        default:
+            return new JsonJeeqTrackerStorage(filePath);
+        }
+    }
+
+    /**
+     * Returns a {@code JeeqTrackerStorage} that stores data at {@code filePath} in the format named by its extension.
+     *
+     * @throws IllegalArgumentException if the extension of {@code filePath} names no format.
+     */
+    private static JeeqTrackerStorage createStorage(Path filePath) {
+        DataFileFormat format = DataFileFormat.fromFilePath(filePath).orElseThrow(() ->
+                new IllegalArgumentException(String.format(MESSAGE_UNKNOWN_FORMAT, filePath)));
+        return createStorage(format, filePath);
+    }
+
+    /**
+     * Reads the data in {@code source} and writes it to {@code target}.
+     *
+     * @return the data that was converted.
+     * @throws DataConversionException if the source file is not in the correct format.
+     * @throws IOException if the source file does not exist, or the target file cannot be written.
+     */
+    public static ReadOnlyJeeqTracker convert(JeeqTrackerStorage source, JeeqTrackerStorage target)
+            throws DataConversionException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        Optional<ReadOnlyJeeqTracker> jeeqTracker = source.readJeeqTracker();
+        if (!jeeqTracker.isPresent()) {
+            throw new IOException(String.format(MESSAGE_SOURCE_NOT_FOUND, source.getJeeqTrackerFilePath()));
+        }
+        target.saveJeeqTracker(jeeqTracker.get());
+        return jeeqTracker.get();
+    }
+
+    /**
+     * Converts the data file named by the first argument into the file named by the second.
+     */
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        try {
+            JeeqTrackerStorage source = createStorage(Paths.get(args[0]));
+            JeeqTrackerStorage target = createStorage(Paths.get(args[1]));
+            ReadOnlyJeeqTracker converted = convert(source, target);
+            System.out.println(String.format(MESSAGE_SUCCESS, converted.getClientList().size(),
+                    source.getJeeqTrackerFilePath(), target.getJeeqTrackerFilePath()));
+        } catch (IllegalArgumentException | DataConversionException | IOException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.JeeqTracker;
+import seedu.address.model.ReadOnlyJeeqTracker;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.exceptions.DuplicateClientException;
+import seedu.address.model.transaction.TransactionChange;
+
+/**
+ * A {@code JeeqTrackerStorage} that keeps a write-ahead journal beside the snapshot written by another
+ * {@code JeeqTrackerStorage}.
+ * Each save compares the client list with the one last written, and appends the clients that were added, replaced
+ * or removed to the journal as compact records instead of rewriting the snapshot. A replaced client whose
+ * transaction log was derived from that of the client it replaces is recorded as the changes to its transactions,
+ * see {@link seedu.address.model.transaction.TransactionLog#getChangesSince}, so adding a transaction appends one
+ * transaction to the journal rather than the whole client. A save with no changes does not
+ * touch the disk. The journal is folded into a new snapshot when it grows past the compaction threshold, and is
+ * replayed on top of the snapshot when the data is read back.
+ * Clients are compared by reference, which relies on clients in the model being replaced rather than changed
+ * in place.
+ */
+public class JournalingJeeqTrackerStorage implements JeeqTrackerStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalingJeeqTrackerStorage.class);
+
+    private final JeeqTrackerStorage snapshotStorage;
+    private final int compactionThreshold;
+
+    /** Clients as last written to the snapshot and journal, or null if that is not known. */
+    private List<Client> savedClients;
+    private int journalSize;
+
+    public JournalingJeeqTrackerStorage(JeeqTrackerStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalingJeeqTrackerStorage} that writes snapshots with {@code snapshotStorage}
+     * and compacts the journal once it holds more than {@code compactionThreshold} records.
+     */
+    public JournalingJeeqTrackerStorage(JeeqTrackerStorage snapshotStorage, int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        checkArgument(compactionThreshold > 0, "Compaction threshold must be positive.");
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the path of the journal kept for the snapshot at {@code snapshotFilePath}.
+     */
+    public static Path getJournalFilePath(Path snapshotFilePath) {
+        return snapshotFilePath.resolveSibling(snapshotFilePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getJeeqTrackerFilePath() {
+        return snapshotStorage.getJeeqTrackerFilePath();
+    }
+
+    /**
+     * Returns the number of records appended to the journal since the last compaction.
+     */
+    public int getJournalSize() {
+        return journalSize;
+    }
+
+    @Override
+    public Optional<ReadOnlyJeeqTracker> readJeeqTracker() throws DataConversionException, IOException {
+        return readJeeqTracker(getJeeqTrackerFilePath());
+    }
+
+    /**
+     * Similar to {@link #readJeeqTracker()}.
+     * The journal is only replayed when {@code filePath} is the snapshot file of this storage.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyJeeqTracker> readJeeqTracker(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyJeeqTracker> snapshot = snapshotStorage.readJeeqTracker(filePath);
+        if (!filePath.equals(getJeeqTrackerFilePath())) {
+            return snapshot;
+        }
+
+        savedClients = null;
+        journalSize = 0;
+        if (!snapshot.isPresent()) {
+            return snapshot;
+        }
+
+        List<Client> clients = new ArrayList<>(snapshot.get().getClientList());
+        int replayedRecords = replayJournal(filePath, clients);
+
+        JeeqTracker jeeqTracker = new JeeqTracker();
+        try {
+            jeeqTracker.setClients(clients);
+        } catch (DuplicateClientException dce) {
+            logger.info("Duplicate clients found after replaying journal of " + filePath + ": " + dce.getMessage());
+            throw new DataConversionException(dce);
+        }
+
+        if (replayedRecords >= 0) {
+            savedClients = clients;
+            journalSize = replayedRecords;
+        }
+        return Optional.of(jeeqTracker);
+    }
+
+    @Override
+    public void saveJeeqTracker(ReadOnlyJeeqTracker jeeqTracker) throws IOException {
+        saveJeeqTracker(jeeqTracker, getJeeqTrackerFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveJeeqTracker(ReadOnlyJeeqTracker)}.
+     * Only saves to the snapshot file of this storage are journaled; saves to any other path write a full snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveJeeqTracker(ReadOnlyJeeqTracker jeeqTracker, Path filePath) throws IOException {
+        requireNonNull(jeeqTracker);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getJeeqTrackerFilePath())) {
+            snapshotStorage.saveJeeqTracker(jeeqTracker, filePath);
+            return;
+        }
+
+        List<Client> clients = new ArrayList<>(jeeqTracker.getClientList());
+        List<JsonAdaptedJournalRecord> records = savedClients == null ? null : diff(savedClients, clients);
+        if (records == null) {
+            compact(jeeqTracker, clients);
+        } else if (!records.isEmpty()) {
+            append(records, jeeqTracker, clients);
+        }
+    }
+
+    /**
+     * Returns the records that turn {@code oldClients} into {@code newClients}, or null if the clients were
+     * reordered or the records would take the journal past the compaction threshold.
+     */
+    private List<JsonAdaptedJournalRecord> diff(List<Client> oldClients, List<Client> newClients) {
+        Set<Client> oldSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        oldSet.addAll(oldClients);
+        Set<Client> newSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        newSet.addAll(newClients);
+
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        int oldIndex = 0;
+        int newIndex = 0;
+        while (oldIndex < oldClients.size() || newIndex < newClients.size()) {
+            Client oldClient = oldIndex < oldClients.size() ? oldClients.get(oldIndex) : null;
+            Client newClient = newIndex < newClients.size() ? newClients.get(newIndex) : null;
+            boolean isRemoved = oldClient != null && !newSet.contains(oldClient);
+            boolean isAdded = newClient != null && !oldSet.contains(newClient);
+
+            if (oldClient != null && oldClient == newClient) {
+                oldIndex++;
+                newIndex++;
+            } else if (isRemoved && isAdded) {
+                records.addAll(replace(newIndex, oldClient, newClient));
+                oldIndex++;
+                newIndex++;
+            } else if (isRemoved) {
+                records.add(JsonAdaptedJournalRecord.remove(newIndex));
+                oldIndex++;
+            } else if (isAdded) {
+                records.add(JsonAdaptedJournalRecord.add(newIndex, newClient));
+                newIndex++;
+            } else {
+                return null;
+            }
+
+            if (journalSize + records.size() > compactionThreshold) {
+                return null;
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Returns the records that replace {@code oldClient} at {@code index} by {@code newClient}: the changes to its
+     * transactions, after its other details if they changed. If the changes cannot be found, or there are as many as
+     * there are transactions, a record of the whole client is returned instead.
+     */
+    private static List<JsonAdaptedJournalRecord> replace(int index, Client oldClient, Client newClient) {
+        Optional<List<TransactionChange>> changes =
+                newClient.getTransactions().getChangesSince(oldClient.getTransactions());
+        if (changes.isEmpty() || changes.get().size() >= newClient.getTransactions().size()) {
+            return List.of(JsonAdaptedJournalRecord.set(index, newClient));
+        }
+
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        if (!oldClient.equals(newClient) || oldClient.getRemarks() != newClient.getRemarks()) {
+            records.add(JsonAdaptedJournalRecord.setDetails(index, newClient));
+        }
+        for (TransactionChange change : changes.get()) {
+            records.add(JsonAdaptedJournalRecord.changeTransaction(index, change));
+        }
+        return records;
+    }
+
+    /**
+     * Appends {@code records} to the journal, falling back to a new snapshot if the journal cannot be written.
+     */
+    private void append(List<JsonAdaptedJournalRecord> records, ReadOnlyJeeqTracker jeeqTracker,
+                        List<Client> clients) throws IOException {
+        Path journalFilePath = getJournalFilePath(getJeeqTrackerFilePath());
+        savedClients = null;
+        try {
+            StringBuilder lines = new StringBuilder();
+            for (JsonAdaptedJournalRecord record : records) {
+                lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+            }
+            byte[] bytes = lines.toString().getBytes(StandardCharsets.UTF_8);
+            Files.write(journalFilePath, bytes, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            FileUtil.addBytesWritten(bytes.length);
+        } catch (IOException ioe) {
+            logger.warning("Could not append to journal " + journalFilePath + ", writing a new snapshot: " + ioe);
+            compact(jeeqTracker, clients);
+            return;
+        }
+
+        journalSize += records.size();
+        savedClients = clients;
+    }
+
+    /**
+     * Writes {@code jeeqTracker}, which holds {@code clients}, as a new snapshot and starts a new, empty journal.
+     */
+    private void compact(ReadOnlyJeeqTracker jeeqTracker, List<Client> clients) throws IOException {
+        Path snapshotFilePath = getJeeqTrackerFilePath();
+        Path journalFilePath = getJournalFilePath(snapshotFilePath);
+
+        savedClients = null;
+        snapshotStorage.saveJeeqTracker(jeeqTracker, snapshotFilePath);
+
+        JsonAdaptedJournalRecord header = JsonAdaptedJournalRecord.header(Files.size(snapshotFilePath),
+                Files.getLastModifiedTime(snapshotFilePath).toMillis());
+        FileUtil.writeToFile(journalFilePath, JsonUtil.toCompactJsonString(header) + '\n');
+
+        logger.fine("Folded " + journalSize + " journal records into snapshot " + snapshotFilePath);
+        journalSize = 0;
+        savedClients = clients;
+    }
+
+    /**
+     * Applies the records in the journal of the snapshot at {@code snapshotFilePath} to {@code clients}.
+     * A journal that was written for a different snapshot is ignored, as is an incomplete last record.
+     *
+     * @return the number of records applied, or -1 if the journal is missing or cannot be appended to as is.
+     * @throws DataConversionException if a complete record is not in the correct format.
+     */
+    private static int replayJournal(Path snapshotFilePath, List<Client> clients)
+            throws DataConversionException, IOException {
+        Path journalFilePath = getJournalFilePath(snapshotFilePath);
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return -1;
+        }
+
+        List<String> lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !isHeaderOf(lines.get(0), snapshotFilePath)) {
+            logger.warning("Ignoring journal " + journalFilePath + " as it was not written for the current snapshot");
+            return -1;
+        }
+
+        for (int i = 1; i < lines.size(); i++) {
+            JsonAdaptedJournalRecord record;
+            try {
+                record = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalRecord.class);
+            } catch (IOException ioe) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last record in journal " + journalFilePath);
+                    return -1;
+                }
+                throw new DataConversionException(ioe);
+            }
+
+            try {
+                record.applyTo(clients);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+                throw new DataConversionException(ive);
+            }
+        }
+        return lines.size() - 1;
+    }
+
+    private static boolean isHeaderOf(String line, Path snapshotFilePath) throws IOException {
+        JsonAdaptedJournalRecord header;
+        try {
+            header = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+        } catch (IOException ioe) {
+            return false;
+        }
+        return header.isHeaderFor(Files.size(snapshotFilePath),
+                Files.getLastModifiedTime(snapshotFilePath).toMillis());
+    }
+}
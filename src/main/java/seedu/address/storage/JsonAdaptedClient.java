@@ -16,8 +16,12 @@ import seedu.address.model.client.ClientEmail;
 import seedu.address.model.client.ClientPhone;
 import seedu.address.model.client.Name;
 import seedu.address.model.remark.Remark;
+import seedu.address.model.remark.UniqueRemarkList;
+import seedu.address.model.remark.exceptions.DuplicateRemarkException;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.transaction.Transaction;
+import seedu.address.model.transaction.TransactionLog;
+import seedu.address.model.transaction.exceptions.TransactionTotalOverflowException;
 
 /**
  * Jackson-friendly version of {@link Client}.
@@ -25,7 +29,8 @@ import seedu.address.model.transaction.Transaction;
 class JsonAdaptedClient {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Client's %s field is missing!";
-    private static final String MESSAGE_DUPLICATE_REMARK = "Client contains duplicate remark(s).";
+    static final String MESSAGE_DUPLICATE_REMARK = "Client contains duplicate remark(s).";
+    static final String MESSAGE_TRANSACTION_TOTAL_TOO_LARGE = "Client's transactions total too much to be recorded.";
 
     private final String name;
     private final String address;
@@ -112,19 +117,27 @@ class JsonAdaptedClient {
 
         final Set<Tag> modelTags = new HashSet<>(clientTags);
 
-        Client client = new Client(modelName, modelAddress, modelPhone, modelEmail, modelTags);
-
+        final List<Remark> clientRemarks = new ArrayList<>();
         for (JsonAdaptedRemark jsonAdaptedRemark : remarks) {
-            Remark remark = jsonAdaptedRemark.toModelType();
-            if (client.hasRemark(remark)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_REMARK);
-            }
-            client.addRemark(remark);
+            clientRemarks.add(jsonAdaptedRemark.toModelType());
+        }
+        final UniqueRemarkList modelRemarks = new UniqueRemarkList();
+        try {
+            modelRemarks.setRemarks(clientRemarks);
+        } catch (DuplicateRemarkException dre) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_REMARK);
         }
 
+        Client client = new Client(modelName, modelAddress, modelPhone, modelEmail, modelTags, modelRemarks,
+                new TransactionLog());
+
         for (JsonAdaptedTransaction jsonAdaptedTransaction : transactions) {
             Transaction transaction = jsonAdaptedTransaction.toModelType();
-            client.addTransaction(transaction);
+            try {
+                client.addTransaction(transaction);
+            } catch (TransactionTotalOverflowException ttoe) {
+                throw new IllegalValueException(MESSAGE_TRANSACTION_TOTAL_TOO_LARGE);
+            }
         }
 
         return client;
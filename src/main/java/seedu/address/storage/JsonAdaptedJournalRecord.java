@@ -0,0 +1,221 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.client.Client;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.model.transaction.TransactionChange;
+import seedu.address.model.transaction.TransactionLog;
+import seedu.address.model.transaction.exceptions.TransactionTotalOverflowException;
+
+/**
+ * Jackson-friendly version of a single change to the client list, as recorded in a journal.
+ * A journal starts with a header record naming the snapshot it applies to, followed by
+ * add, set and remove records that are replayed against that snapshot's client list in order.
+ * A client whose transactions changed is recorded as the changes to its transactions, each added, replaced or
+ * removed transaction in a record of its own, and a record of the other details of the client if they changed, so a
+ * record does not grow with the number of transactions of the client.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+    public static final String MESSAGE_INVALID_OPERATION = "Journal record has an unknown operation: %s";
+    public static final String MESSAGE_INVALID_INDEX = "Journal record index %d is out of bounds.";
+
+    static final String OP_HEADER = "header";
+    static final String OP_ADD = "add";
+    static final String OP_SET = "set";
+    static final String OP_REMOVE = "remove";
+    static final String OP_SET_DETAILS = "setDetails";
+    static final String OP_ADD_TRANSACTION = "addTransaction";
+    static final String OP_SET_TRANSACTION = "setTransaction";
+    static final String OP_REMOVE_TRANSACTION = "removeTransaction";
+
+    private final String op;
+    private final Integer index;
+    private final JsonAdaptedClient client;
+    private final Integer transactionIndex;
+    private final JsonAdaptedTransaction transaction;
+    private final Long snapshotSize;
+    private final Long snapshotModified;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("op") String op, @JsonProperty("index") Integer index,
+                                    @JsonProperty("client") JsonAdaptedClient client,
+                                    @JsonProperty("transactionIndex") Integer transactionIndex,
+                                    @JsonProperty("transaction") JsonAdaptedTransaction transaction,
+                                    @JsonProperty("snapshotSize") Long snapshotSize,
+                                    @JsonProperty("snapshotModified") Long snapshotModified) {
+        this.op = op;
+        this.index = index;
+        this.client = client;
+        this.transactionIndex = transactionIndex;
+        this.transaction = transaction;
+        this.snapshotSize = snapshotSize;
+        this.snapshotModified = snapshotModified;
+    }
+
+    /**
+     * Returns a header record for a snapshot file of the given size and last modified time.
+     */
+    public static JsonAdaptedJournalRecord header(long snapshotSize, long snapshotModified) {
+        return new JsonAdaptedJournalRecord(OP_HEADER, null, null, null, null, snapshotSize, snapshotModified);
+    }
+
+    /**
+     * Returns a record of {@code client} being inserted at {@code index}.
+     */
+    public static JsonAdaptedJournalRecord add(int index, Client client) {
+        return new JsonAdaptedJournalRecord(OP_ADD, index, new JsonAdaptedClient(client), null, null, null, null);
+    }
+
+    /**
+     * Returns a record of the client at {@code index} being replaced by {@code client}.
+     */
+    public static JsonAdaptedJournalRecord set(int index, Client client) {
+        return new JsonAdaptedJournalRecord(OP_SET, index, new JsonAdaptedClient(client), null, null, null, null);
+    }
+
+    /**
+     * Returns a record of the client at {@code index} being removed.
+     */
+    public static JsonAdaptedJournalRecord remove(int index) {
+        return new JsonAdaptedJournalRecord(OP_REMOVE, index, null, null, null, null, null);
+    }
+
+    /**
+     * Returns a record of the client at {@code index} being replaced by {@code client} with the transactions of the
+     * replaced client, so the transactions are not written.
+     */
+    public static JsonAdaptedJournalRecord setDetails(int index, Client client) {
+        return new JsonAdaptedJournalRecord(OP_SET_DETAILS, index,
+                new JsonAdaptedClient(client.withTransactions(new TransactionLog())), null, null, null, null);
+    }
+
+    /**
+     * Returns a record of {@code change} to the transactions of the client at {@code index}.
+     */
+    public static JsonAdaptedJournalRecord changeTransaction(int index, TransactionChange change) {
+        String op = change.getBefore().isEmpty()
+                ? OP_ADD_TRANSACTION
+                : change.getAfter().isEmpty() ? OP_REMOVE_TRANSACTION : OP_SET_TRANSACTION;
+        JsonAdaptedTransaction transaction = change.getAfter().map(JsonAdaptedTransaction::new).orElse(null);
+        return new JsonAdaptedJournalRecord(op, index, null, change.getIndex(), transaction, null, null);
+    }
+
+    /**
+     * Returns true if this is the header record for a snapshot file of the given size and last modified time.
+     */
+    public boolean isHeaderFor(long size, long modified) {
+        return OP_HEADER.equals(op)
+                && snapshotSize != null && snapshotSize == size
+                && snapshotModified != null && snapshotModified == modified;
+    }
+
+    /**
+     * Applies the change described by this record to {@code clients}.
+     *
+     * @throws IllegalValueException if this record is not a valid change to {@code clients}.
+     */
+    public void applyTo(List<Client> clients) throws IllegalValueException {
+        if (op == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "op"));
+        }
+        if (index == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "index"));
+        }
+
+        switch (op) {
+        case OP_ADD:
+            checkIndex(index, clients.size() + 1);
+            clients.add(index, toModelClient());
+            break;
+        case OP_SET:
+            checkIndex(index, clients.size());
+            clients.set(index, toModelClient());
+            break;
+        case OP_REMOVE:
+            checkIndex(index, clients.size());
+            clients.remove((int) index);
+            break;
+        case OP_SET_DETAILS:
+            checkIndex(index, clients.size());
+            clients.set(index, toModelClient().withTransactions(clients.get(index).getTransactions()));
+            break;
+        case OP_ADD_TRANSACTION:
+        case OP_SET_TRANSACTION:
+        case OP_REMOVE_TRANSACTION:
+            checkIndex(index, clients.size());
+            clients.set(index, changeTransactionOf(clients.get(index)));
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_OPERATION, op));
+        }
+    }
+
+    /**
+     * Returns a copy of {@code target} with the change to its transactions described by this record.
+     */
+    private Client changeTransactionOf(Client target) throws IllegalValueException {
+        if (transactionIndex == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "transactionIndex"));
+        }
+        try {
+            return target.withTransactions(changeTransactions(new TransactionLog(target.getTransactions())));
+        } catch (TransactionTotalOverflowException ttoe) {
+            throw new IllegalValueException(JsonAdaptedClient.MESSAGE_TRANSACTION_TOTAL_TOO_LARGE);
+        }
+    }
+
+    /**
+     * Makes the change described by this record to {@code transactions}, returning the changed log.
+     */
+    private TransactionLog changeTransactions(TransactionLog transactions) throws IllegalValueException {
+        if (op.equals(OP_REMOVE_TRANSACTION)) {
+            checkIndex(transactionIndex, transactions.size());
+            transactions.deleteTransaction(transactionIndex);
+        } else if (op.equals(OP_SET_TRANSACTION)) {
+            checkIndex(transactionIndex, transactions.size());
+            transactions.setTransaction(transactionIndex, toModelTransaction());
+        } else if (transactionIndex == transactions.size()) {
+            transactions.addTransaction(toModelTransaction());
+        } else {
+            // a transaction is only added before others when a deletion was undone, so the log is built again
+            checkIndex(transactionIndex, transactions.size());
+            List<Transaction> transactionList = new ArrayList<>(transactions.getTransactionLog());
+            transactionList.add(transactionIndex, toModelTransaction());
+            transactions = new TransactionLog(transactionList);
+        }
+        return transactions;
+    }
+
+    private Transaction toModelTransaction() throws IllegalValueException {
+        if (transaction == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "transaction"));
+        }
+        return transaction.toModelType();
+    }
+
+    private Client toModelClient() throws IllegalValueException {
+        if (client == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "client"));
+        }
+        return client.toModelType();
+    }
+
+    private static void checkIndex(int index, int bound) throws IllegalValueException {
+        if (index < 0 || index >= bound) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_INDEX, index));
+        }
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -10,12 +11,11 @@ import java.util.logging.Logger;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyJeeqTracker;
 
 /**
  * A class to access JeeqTracker data stored as a json file on the hard disk.
+ * The file is read and written one client at a time by {@link StreamingJsonJeeqTracker}.
  */
 public class JsonJeeqTrackerStorage implements JeeqTrackerStorage {
 
@@ -45,14 +45,16 @@ public class JsonJeeqTrackerStorage implements JeeqTrackerStorage {
     public Optional<ReadOnlyJeeqTracker> readJeeqTracker(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableJeeqTracker> jsonJeeqTracker = JsonUtil.readJsonFile(
-                filePath, JsonSerializableJeeqTracker.class);
-        if (!jsonJeeqTracker.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonJeeqTracker.get().toModelType());
+            return Optional.of(StreamingJsonJeeqTracker.read(filePath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -73,8 +75,7 @@ public class JsonJeeqTrackerStorage implements JeeqTrackerStorage {
         requireNonNull(jeeqTracker);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableJeeqTracker(jeeqTracker), filePath);
+        StreamingJsonJeeqTracker.write(jeeqTracker.getClientList(), filePath);
     }
 
 }
@@ -12,6 +12,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.JeeqTracker;
 import seedu.address.model.ReadOnlyJeeqTracker;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.exceptions.DuplicateClientException;
 
 /**
  * An Immutable JeeqTracker that is serializable to JSON format.
@@ -42,17 +43,17 @@ class JsonSerializableJeeqTracker {
 
     /**
      * Converts this address book into the model's {@code JeeqTracker} object.
+     * Clients are converted in parallel, and checked for duplicates once all of them are valid.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public JeeqTracker toModelType() throws IllegalValueException {
+        List<Client> modelClients = ParallelClientConverter.toModelType(clients);
         JeeqTracker jeeqTracker = new JeeqTracker();
-        for (JsonAdaptedClient jsonAdaptedClient : clients) {
-            Client client = jsonAdaptedClient.toModelType();
-            if (jeeqTracker.hasClient(client)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_CLIENT);
-            }
-            jeeqTracker.addClient(client);
+        try {
+            jeeqTracker.setClients(modelClients);
+        } catch (DuplicateClientException dce) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_CLIENT);
         }
         return jeeqTracker;
     }
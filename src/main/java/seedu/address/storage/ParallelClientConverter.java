@@ -0,0 +1,55 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.client.Client;
+
+/**
+ * Converts Jackson-friendly adapted clients into the model's {@code Client} objects on all available cores.
+ * Validation, date parsing and transaction construction happen independently for each client, so the clients are
+ * converted in parallel and then reported in their original order. If any clients are invalid, the error of the
+ * first of them in that order is thrown, regardless of which conversion finished first.
+ */
+class ParallelClientConverter {
+
+    /** Number of clients below which converting them in parallel costs more than it saves. */
+    static final int PARALLEL_THRESHOLD = 64;
+
+    /**
+     * Returns the model clients for {@code adaptedClients}, in the same order.
+     *
+     * @throws IllegalValueException if any of the clients violate data constraints.
+     */
+    static List<Client> toModelType(List<JsonAdaptedClient> adaptedClients) throws IllegalValueException {
+        requireNonNull(adaptedClients);
+
+        int size = adaptedClients.size();
+        Client[] clients = new Client[size];
+        Exception[] errors = new Exception[size];
+        IntStream indices = IntStream.range(0, size);
+        if (size >= PARALLEL_THRESHOLD) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> {
+            try {
+                clients[i] = adaptedClients.get(i).toModelType();
+            } catch (IllegalValueException | RuntimeException e) {
+                errors[i] = e;
+            }
+        });
+
+        for (Exception error : errors) {
+            if (error instanceof IllegalValueException) {
+                throw (IllegalValueException) error;
+            } else if (error != null) {
+                throw (RuntimeException) error;
+            }
+        }
+        return Arrays.asList(clients);
+    }
+}
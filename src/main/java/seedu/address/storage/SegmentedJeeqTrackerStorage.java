@@ -0,0 +1,496 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.BinaryJeeqTrackerStorage.malformed;
+import static seedu.address.storage.BinaryJeeqTrackerStorage.readClientDetails;
+import static seedu.address.storage.BinaryJeeqTrackerStorage.readCount;
+import static seedu.address.storage.BinaryJeeqTrackerStorage.readTransaction;
+import static seedu.address.storage.BinaryJeeqTrackerStorage.readVarLong;
+import static seedu.address.storage.BinaryJeeqTrackerStorage.unZigZag;
+import static seedu.address.storage.BinaryJeeqTrackerStorage.writeClientDetails;
+import static seedu.address.storage.BinaryJeeqTrackerStorage.writeTransaction;
+import static seedu.address.storage.BinaryJeeqTrackerStorage.writeVarLong;
+import static seedu.address.storage.BinaryJeeqTrackerStorage.zigZag;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.JeeqTracker;
+import seedu.address.model.ReadOnlyJeeqTracker;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.exceptions.DuplicateClientException;
+import seedu.address.model.transaction.Goods;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.model.transaction.TransactionLoader;
+import seedu.address.model.transaction.TransactionLog;
+import seedu.address.model.transaction.TransactionLogCache;
+import seedu.address.model.transaction.exceptions.TransactionTotalOverflowException;
+
+/**
+ * A class to access JeeqTracker data stored as a binary file of client details, with the transactions of each
+ * client in a segment file of their own.
+ * <p>
+ * Reading the data only reads the client details, along with the number and totals of each client's transactions.
+ * The transactions of a client are read from its segment the first time they are needed, and are then held in a
+ * {@code TransactionLogCache} that drops the least recently used ones when it is full. Startup time and memory use
+ * therefore grow with the number of clients rather than the number of transactions.
+ * <p>
+ * Segments are never changed once written. A save writes new segments only for clients whose transactions were
+ * replaced since they were read, and refers to the existing segments for all others. Segments that are no longer
+ * referred to are deleted the next time the data is read.
+ * <p>
+ * The data file uses the encoding of {@link BinaryJeeqTrackerStorage}. It starts with a magic number and a format
+ * version, followed by one length-prefixed record per client, a zero length, and the next unused segment id.
+ * Each record holds the client details, the transaction counts and totals, and the id of the client's segment,
+ * or zero if the client has no transactions. Each segment holds a transaction count followed by the transactions,
+ * with goods names dictionary-encoded within the segment.
+ */
+public class SegmentedJeeqTrackerStorage implements JeeqTrackerStorage {
+
+    static final int MAGIC = 0x4A515453; // "JQTS"
+    static final int VERSION = 1;
+    static final String TEMP_FILE_SUFFIX = ".tmp";
+    static final String SEGMENT_DIRECTORY_SUFFIX = ".segments";
+    static final String SEGMENT_FILE_SUFFIX = ".seg";
+
+    static final String MESSAGE_NOT_SEGMENTED = "Not a JeeqTracker segmented data file";
+    static final String MESSAGE_SEGMENT_MISMATCH = "Transactions in %s do not match the totals of their client";
+
+    private static final long NO_SEGMENT = 0;
+    private static final long UNKNOWN = -1;
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedJeeqTrackerStorage.class);
+
+    private final Path filePath;
+    private final TransactionLogCache cache;
+
+    /** Lowest segment id that has never been used for the data file of this storage, or UNKNOWN. */
+    private long nextSegmentId = UNKNOWN;
+
+    public SegmentedJeeqTrackerStorage(Path filePath) {
+        this(filePath, new TransactionLogCache());
+    }
+
+    /**
+     * Creates a storage for the data file at {@code filePath} that holds the transactions it reads in {@code cache}.
+     */
+    public SegmentedJeeqTrackerStorage(Path filePath, TransactionLogCache cache) {
+        requireNonNull(cache);
+        this.filePath = filePath;
+        this.cache = cache;
+    }
+
+    /**
+     * Returns the directory that holds the segments of the data file at {@code filePath}.
+     */
+    public static Path getSegmentDirectory(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SEGMENT_DIRECTORY_SUFFIX);
+    }
+
+    public Path getJeeqTrackerFilePath() {
+        return filePath;
+    }
+
+    public TransactionLogCache getCache() {
+        return cache;
+    }
+
+    @Override
+    public Optional<ReadOnlyJeeqTracker> readJeeqTracker() throws DataConversionException {
+        return readJeeqTracker(filePath);
+    }
+
+    /**
+     * Similar to {@link #readJeeqTracker()}.
+     * Transactions are not read until they are needed, so an error in a segment is only found then.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format, or refers to a missing segment.
+     */
+    public Optional<ReadOnlyJeeqTracker> readJeeqTracker(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Segmented data file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            Set<Long> segmentIds = new HashSet<>();
+            List<Client> clients = new ArrayList<>();
+            long fileNextSegmentId = readClients(in, Files.size(filePath), getSegmentDirectory(filePath),
+                    clients, segmentIds);
+            long unusedSegmentId = removeUnusedSegments(getSegmentDirectory(filePath), segmentIds);
+            if (filePath.equals(this.filePath)) {
+                nextSegmentId = Math.max(nextSegmentId, Math.max(fileNextSegmentId, unusedSegmentId));
+            }
+            return Optional.of(toJeeqTracker(clients));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from segmented data file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveJeeqTracker(ReadOnlyJeeqTracker jeeqTracker) throws IOException {
+        saveJeeqTracker(jeeqTracker, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveJeeqTracker(ReadOnlyJeeqTracker)}.
+     * New segments are written first, and the data file is then written to a temporary file that replaces it,
+     * so a failed write leaves the previous contents intact.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveJeeqTracker(ReadOnlyJeeqTracker jeeqTracker, Path filePath) throws IOException {
+        requireNonNull(jeeqTracker);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            write(jeeqTracker.getClientList(), filePath);
+            return;
+        }
+        if (nextSegmentId == UNKNOWN) {
+            nextSegmentId = findUnusedSegmentId(getSegmentDirectory(filePath));
+        }
+        nextSegmentId = write(jeeqTracker.getClientList(), filePath, nextSegmentId);
+    }
+
+    /**
+     * Writes {@code clients} to {@code filePath} as they are iterated over, so they need not all be in memory.
+     * The clients must not be duplicates of each other.
+     */
+    public static void write(Iterable<Client> clients, Path filePath) throws IOException {
+        requireNonNull(clients);
+        requireNonNull(filePath);
+        write(clients, filePath, findUnusedSegmentId(getSegmentDirectory(filePath)));
+    }
+
+    /**
+     * Writes the data file at {@code filePath} for {@code clients}, numbering new segments from
+     * {@code firstSegmentId}.
+     *
+     * @return the lowest segment id that is still unused.
+     */
+    private static long write(Iterable<Client> clients, Path filePath, long firstSegmentId) throws IOException {
+        Path segmentDirectory = getSegmentDirectory(filePath);
+        Files.createDirectories(segmentDirectory);
+
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+        long unusedSegmentId;
+        try (DataOutputStream out =
+                     new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFilePath)))) {
+            unusedSegmentId = writeClients(out, clients, segmentDirectory, firstSegmentId);
+        } catch (IOException ioe) {
+            Files.deleteIfExists(tempFilePath);
+            throw ioe;
+        }
+        FileUtil.replaceFile(tempFilePath, filePath);
+        return unusedSegmentId;
+    }
+
+    // ================ Writing ==============================
+
+    /**
+     * Writes the data file for {@code clients}, and a segment for each client whose transactions are not already
+     * in a segment in {@code segmentDirectory}. New segments are numbered from {@code nextSegmentId}.
+     *
+     * @return the lowest segment id that is still unused.
+     */
+    private static long writeClients(DataOutputStream out, Iterable<Client> clients, Path segmentDirectory,
+                                     long nextSegmentId) throws IOException {
+        out.writeInt(MAGIC);
+        writeVarLong(out, VERSION);
+
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        DataOutputStream recordOut = new DataOutputStream(record);
+        for (Client client : clients) {
+            TransactionLog transactions = client.getTransactions();
+            long segmentId = findSegmentId(transactions, segmentDirectory);
+            if (segmentId == NO_SEGMENT && !transactions.isEmpty()) {
+                segmentId = nextSegmentId++;
+                writeSegment(getSegmentPath(segmentDirectory, segmentId), transactions.getTransactionLog());
+            }
+
+            record.reset();
+            writeClientDetails(recordOut, client);
+            writeVarLong(recordOut, transactions.getBuyCount());
+            writeVarLong(recordOut, transactions.getSellCount());
+            writeVarLong(recordOut, zigZag(transactions.getTotalBoughtInMinorUnits()));
+            writeVarLong(recordOut, zigZag(transactions.getTotalSoldInMinorUnits()));
+            writeVarLong(recordOut, segmentId);
+            writeVarLong(out, record.size());
+            record.writeTo(out);
+        }
+        writeVarLong(out, 0);
+        writeVarLong(out, nextSegmentId);
+        return nextSegmentId;
+    }
+
+    /**
+     * Returns the id of the segment in {@code segmentDirectory} that {@code transactions} are read from,
+     * or {@code NO_SEGMENT} if they are not read from one.
+     */
+    private static long findSegmentId(TransactionLog transactions, Path segmentDirectory) {
+        Optional<TransactionLoader> loader = transactions.getLoader();
+        if (loader.isPresent() && loader.get() instanceof SegmentLoader) {
+            SegmentLoader segmentLoader = (SegmentLoader) loader.get();
+            if (segmentLoader.segmentPath.getParent().equals(segmentDirectory)) {
+                return segmentLoader.segmentId;
+            }
+        }
+        return NO_SEGMENT;
+    }
+
+    private static void writeSegment(Path segmentPath, List<Transaction> transactions) throws IOException {
+        try (DataOutputStream out =
+                     new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(segmentPath)))) {
+            writeVarLong(out, transactions.size());
+            Map<String, Integer> goodsIds = new HashMap<>();
+            for (Transaction transaction : transactions) {
+                writeTransaction(out, transaction, goodsIds);
+            }
+            FileUtil.addBytesWritten(out.size());
+        }
+    }
+
+    // ================ Reading ==============================
+
+    /**
+     * Reads the client records of a data file into {@code clients}, and the ids of the segments they refer to
+     * into {@code segmentIds}.
+     *
+     * @return the lowest segment id that is recorded as unused.
+     */
+    private long readClients(DataInputStream in, long fileSize, Path segmentDirectory, List<Client> clients,
+                             Set<Long> segmentIds) throws IOException, IllegalValueException {
+        if (fileSize < Integer.BYTES || in.readInt() != MAGIC) {
+            throw new IOException(MESSAGE_NOT_SEGMENTED);
+        }
+        long version = readVarLong(in);
+        if (version != VERSION) {
+            throw new IOException(String.format(BinaryJeeqTrackerStorage.MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        for (long recordSize = readVarLong(in); recordSize != 0; recordSize = readVarLong(in)) {
+            if (recordSize < 0 || recordSize > fileSize) {
+                throw malformed("client record is longer than the file");
+            }
+            byte[] record = new byte[(int) recordSize];
+            in.readFully(record);
+
+            DataInputStream recordIn = new DataInputStream(new ByteArrayInputStream(record));
+            Client client = readClient(recordIn, segmentDirectory, segmentIds);
+            if (recordIn.available() != 0) {
+                throw malformed("client record has trailing bytes");
+            }
+            clients.add(client);
+        }
+        long fileNextSegmentId = readVarLong(in);
+        if (in.read() != -1) {
+            throw malformed("data after the last client record");
+        }
+        return fileNextSegmentId;
+    }
+
+    private Client readClient(DataInputStream in, Path segmentDirectory, Set<Long> segmentIds)
+            throws IOException, IllegalValueException {
+        Client client = readClientDetails(in);
+        int buyCount = readTransactionCount(in);
+        int sellCount = readTransactionCount(in);
+        long totalBought = unZigZag(readVarLong(in));
+        long totalSold = unZigZag(readVarLong(in));
+        long segmentId = readVarLong(in);
+
+        if (segmentId == NO_SEGMENT) {
+            if (buyCount != 0 || sellCount != 0 || totalBought != 0 || totalSold != 0) {
+                throw malformed("client with transactions has no segment");
+            }
+            return client;
+        }
+        if (!segmentIds.add(segmentId)) {
+            throw malformed("segment " + segmentId + " belongs to more than one client");
+        }
+        SegmentLoader loader = new SegmentLoader(getSegmentPath(segmentDirectory, segmentId), segmentId,
+                buyCount, sellCount, totalBought, totalSold);
+        return client.withTransactions(
+                new TransactionLog(loader, cache, buyCount, sellCount, totalBought, totalSold));
+    }
+
+    /**
+     * Reads a transaction count, which is not bounded by the size of the record as the transactions are elsewhere.
+     */
+    private static int readTransactionCount(DataInputStream in) throws IOException {
+        long count = readVarLong(in);
+        if (count > Integer.MAX_VALUE) {
+            throw malformed("transaction count " + count + " is too large");
+        }
+        return (int) count;
+    }
+
+    private static JeeqTracker toJeeqTracker(List<Client> clients) throws IllegalValueException {
+        JeeqTracker jeeqTracker = new JeeqTracker();
+        try {
+            jeeqTracker.setClients(clients);
+        } catch (DuplicateClientException dce) {
+            throw new IllegalValueException(JsonSerializableJeeqTracker.MESSAGE_DUPLICATE_CLIENT);
+        }
+        return jeeqTracker;
+    }
+
+    // ================ Segments ==============================
+
+    private static Path getSegmentPath(Path segmentDirectory, long segmentId) {
+        return segmentDirectory.resolve(segmentId + SEGMENT_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the id of the segment file {@code segmentPath}, or {@code NO_SEGMENT} if it is not a segment file.
+     */
+    private static long parseSegmentId(Path segmentPath) {
+        String fileName = segmentPath.getFileName().toString();
+        if (!fileName.endsWith(SEGMENT_FILE_SUFFIX)) {
+            return NO_SEGMENT;
+        }
+        try {
+            return Math.max(NO_SEGMENT, Long.parseLong(fileName.substring(0,
+                    fileName.length() - SEGMENT_FILE_SUFFIX.length())));
+        } catch (NumberFormatException nfe) {
+            return NO_SEGMENT;
+        }
+    }
+
+    /**
+     * Returns the lowest segment id above those of all segment files in {@code segmentDirectory}.
+     */
+    private static long findUnusedSegmentId(Path segmentDirectory) throws IOException {
+        long unusedSegmentId = NO_SEGMENT + 1;
+        if (!Files.isDirectory(segmentDirectory)) {
+            return unusedSegmentId;
+        }
+        try (DirectoryStream<Path> segments = Files.newDirectoryStream(segmentDirectory)) {
+            for (Path segment : segments) {
+                unusedSegmentId = Math.max(unusedSegmentId, parseSegmentId(segment) + 1);
+            }
+        }
+        return unusedSegmentId;
+    }
+
+    /**
+     * Deletes the segment files in {@code segmentDirectory} whose ids are not in {@code segmentIds}.
+     *
+     * @return the lowest segment id above those of all segment files that were found.
+     * @throws IOException if any segment in {@code segmentIds} does not exist.
+     */
+    private static long removeUnusedSegments(Path segmentDirectory, Set<Long> segmentIds) throws IOException {
+        Set<Long> missingSegmentIds = new HashSet<>(segmentIds);
+        long unusedSegmentId = NO_SEGMENT + 1;
+        if (Files.isDirectory(segmentDirectory)) {
+            try (DirectoryStream<Path> segments = Files.newDirectoryStream(segmentDirectory)) {
+                for (Path segment : segments) {
+                    long segmentId = parseSegmentId(segment);
+                    if (segmentId == NO_SEGMENT) {
+                        continue;
+                    }
+                    unusedSegmentId = Math.max(unusedSegmentId, segmentId + 1);
+                    if (!missingSegmentIds.remove(segmentId)) {
+                        deleteUnusedSegment(segment);
+                    }
+                }
+            }
+        }
+        if (!missingSegmentIds.isEmpty()) {
+            throw malformed("segment " + missingSegmentIds.iterator().next() + " not found");
+        }
+        return unusedSegmentId;
+    }
+
+    private static void deleteUnusedSegment(Path segment) {
+        try {
+            Files.delete(segment);
+        } catch (IOException ioe) {
+            logger.warning("Could not delete unused segment " + segment + ": " + ioe);
+        }
+    }
+
+    /**
+     * Reads the transactions of a client from its segment, and checks them against the counts and totals that
+     * were recorded for the client.
+     */
+    private static class SegmentLoader implements TransactionLoader {
+        private final Path segmentPath;
+        private final long segmentId;
+        private final int buyCount;
+        private final int sellCount;
+        private final long totalBought;
+        private final long totalSold;
+
+        SegmentLoader(Path segmentPath, long segmentId, int buyCount, int sellCount, long totalBought,
+                      long totalSold) {
+            this.segmentPath = segmentPath;
+            this.segmentId = segmentId;
+            this.buyCount = buyCount;
+            this.sellCount = sellCount;
+            this.totalBought = totalBought;
+            this.totalSold = totalSold;
+        }
+
+        @Override
+        public List<Transaction> load() throws IOException {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(segmentPath)));
+            List<Transaction> transactions;
+            try {
+                int transactionCount = readCount(in);
+                transactions = new ArrayList<>(transactionCount);
+                List<Goods> goods = new ArrayList<>();
+                for (int i = 0; i < transactionCount; i++) {
+                    transactions.add(readTransaction(in, goods));
+                }
+            } catch (IllegalArgumentException iae) {
+                throw malformed(iae.getMessage());
+            }
+            if (in.available() != 0) {
+                throw malformed("segment " + segmentId + " has trailing bytes");
+            }
+
+            boolean isMatch;
+            try {
+                TransactionLog loaded = new TransactionLog(transactions);
+                isMatch = loaded.getBuyCount() == buyCount && loaded.getSellCount() == sellCount
+                        && loaded.getTotalBoughtInMinorUnits() == totalBought
+                        && loaded.getTotalSoldInMinorUnits() == totalSold;
+            } catch (TransactionTotalOverflowException ttoe) {
+                // the totals of the index always fit, so transactions that total more cannot match them
+                isMatch = false;
+            }
+            if (!isMatch) {
+                throw new IOException(String.format(MESSAGE_SEGMENT_MISMATCH, segmentPath));
+            }
+            return transactions;
+        }
+    }
+}
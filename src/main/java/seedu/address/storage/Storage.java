@@ -29,4 +29,29 @@ public interface Storage extends JeeqTrackerStorage, UserPrefsStorage {
     @Override
     void saveJeeqTracker(ReadOnlyJeeqTracker jeeqTracker) throws IOException;
 
+    /**
+     * Similar to {@link #saveJeeqTracker(ReadOnlyJeeqTracker)}.
+     * Once {@code jeeqTracker} has been written, {@code writeListener} is told the bytes written and the time the
+     * write took, on the thread that wrote it. It is not told anything if the write fails, or if {@code jeeqTracker}
+     * is never written because a later save replaced it.
+     */
+    void saveJeeqTracker(ReadOnlyJeeqTracker jeeqTracker, WriteListener writeListener) throws IOException;
+
+    /**
+     * Blocks until all JeeqTracker data saved so far has been written to disk.
+     * @throws IOException if the data could not be written.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Told about each write of JeeqTracker data saved with it.
+     */
+    @FunctionalInterface
+    interface WriteListener {
+        /**
+         * Called once the data has been written, after writing {@code bytes} in {@code nanos} nanoseconds.
+         */
+        void written(long bytes, long nanos);
+    }
+
 }
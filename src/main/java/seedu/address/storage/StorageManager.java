@@ -1,5 +1,7 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -7,6 +9,7 @@ import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.ReadOnlyJeeqTracker;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -68,10 +71,28 @@ public class StorageManager implements Storage {
         saveJeeqTracker(jeeqTracker, jeeqTrackerStorage.getJeeqTrackerFilePath());
     }
 
+    /**
+     * {@inheritDoc}
+     * The data is written on the calling thread, so {@code writeListener} is told before this returns.
+     */
+    @Override
+    public void saveJeeqTracker(ReadOnlyJeeqTracker jeeqTracker, WriteListener writeListener) throws IOException {
+        requireNonNull(writeListener);
+        long bytesBefore = FileUtil.getBytesWrittenByCurrentThread();
+        long start = System.nanoTime();
+        saveJeeqTracker(jeeqTracker);
+        writeListener.written(FileUtil.getBytesWrittenByCurrentThread() - bytesBefore, System.nanoTime() - start);
+    }
+
     @Override
     public void saveJeeqTracker(ReadOnlyJeeqTracker jeeqTracker, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
         jeeqTrackerStorage.saveJeeqTracker(jeeqTracker, filePath);
     }
 
+    @Override
+    public void flush() {
+        // data is written as soon as it is saved
+    }
+
 }
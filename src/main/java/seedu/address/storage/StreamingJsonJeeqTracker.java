@@ -0,0 +1,122 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.JeeqTracker;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.exceptions.DuplicateClientException;
+
+/**
+ * Reads and writes JeeqTracker data files one client at a time.
+ * The files have the same format as {@link JsonSerializableJeeqTracker}, but neither the file contents nor the
+ * full list of adapted clients is ever held in memory; only the client being read or written is.
+ */
+public class StreamingJsonJeeqTracker {
+
+    static final String FIELD_CLIENTS = "clients";
+    static final String TEMP_FILE_SUFFIX = ".tmp";
+    static final int BATCH_SIZE = 4096;
+
+    /**
+     * Reads the JeeqTracker in the file at {@code filePath}.
+     *
+     * @throws IOException if the file cannot be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static JeeqTracker read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+
+        List<Client> clients = new ArrayList<>();
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (!FIELD_CLIENTS.equals(fieldName)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (value != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected an array of clients");
+                }
+                readClients(parser, clients);
+            }
+        }
+
+        JeeqTracker jeeqTracker = new JeeqTracker();
+        try {
+            jeeqTracker.setClients(clients);
+        } catch (DuplicateClientException dce) {
+            throw new IllegalValueException(JsonSerializableJeeqTracker.MESSAGE_DUPLICATE_CLIENT);
+        }
+        return jeeqTracker;
+    }
+
+    /**
+     * Reads the array of clients at the parser's position into {@code clients}.
+     * Clients are parsed in batches of {@code BATCH_SIZE}, and each batch is converted to model clients in parallel
+     * while only that batch is held in memory. An invalid client is reported before any unreadable client after it.
+     */
+    private static void readClients(JsonParser parser, List<Client> clients)
+            throws IOException, IllegalValueException {
+        List<JsonAdaptedClient> batch = new ArrayList<>();
+        try {
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                batch.add(parser.readValueAs(JsonAdaptedClient.class));
+                if (batch.size() == BATCH_SIZE) {
+                    clients.addAll(ParallelClientConverter.toModelType(batch));
+                    batch.clear();
+                }
+            }
+        } catch (IOException ioe) {
+            ParallelClientConverter.toModelType(batch);
+            throw ioe;
+        }
+        clients.addAll(ParallelClientConverter.toModelType(batch));
+    }
+
+    /**
+     * Writes {@code clients} to the file at {@code filePath}, creating the file and its parent directories if needed.
+     * The clients are written to a temporary file that then replaces the file, so a failed write leaves the
+     * previous contents intact.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    public static void write(Iterable<Client> clients, Path filePath) throws IOException {
+        requireNonNull(clients);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+        try (JsonGenerator generator = JsonUtil.createGenerator(tempFilePath)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(FIELD_CLIENTS);
+            for (Client client : clients) {
+                generator.writeObject(new JsonAdaptedClient(client));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        } catch (IOException ioe) {
+            Files.deleteIfExists(tempFilePath);
+            throw ioe;
+        }
+
+        FileUtil.replaceFile(tempFilePath, filePath);
+    }
+}
@@ -0,0 +1,152 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.function.Function;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.model.client.Client;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Writes clients from a {@code SyntheticDataGenerator} straight to a data file, one client at a time, so data files
+ * far larger than the heap can be generated.
+ * <p>
+ * Can be run on its own with the target file and the generator settings as arguments, e.g.
+ * {@code ./gradlew generateData -Pto=data/jeeqtracker.json -Poptions="--clients 100000 --transactions 20"}.
+ * The format of the file is taken from its file extension.
+ */
+public class SyntheticDataFileWriter {
+
+    public static final String MESSAGE_USAGE = "Usage: SyntheticDataFileWriter TARGET_FILE [--seed SEED]"
+            + " [--clients COUNT] [--transactions PER_CLIENT] [--remarks MAX_PER_CLIENT] [--tags MAX_PER_CLIENT]"
+            + " [--goods VOCABULARY_SIZE] [--date-skew SKEW]\n"
+            + "The format of the file is taken from its extension: .json, .jqt or .jqts";
+    public static final String MESSAGE_INVALID_OPTION = "Invalid value for %s: %s";
+    public static final String MESSAGE_UNKNOWN_OPTION = "Unknown option %s";
+    public static final String MESSAGE_SUCCESS = "Wrote %d clients with %d transactions to %s in %.1f s";
+
+    public static final long DEFAULT_SEED = 2103;
+
+    private static final String OPTION_SEED = "--seed";
+    private static final String OPTION_CLIENTS = "--clients";
+    private static final String OPTION_TRANSACTIONS = "--transactions";
+    private static final String OPTION_REMARKS = "--remarks";
+    private static final String OPTION_TAGS = "--tags";
+    private static final String OPTION_GOODS = "--goods";
+    private static final String OPTION_DATE_SKEW = "--date-skew";
+    private static final List<String> OPTIONS = List.of(OPTION_SEED, OPTION_CLIENTS, OPTION_TRANSACTIONS,
+            OPTION_REMARKS, OPTION_TAGS, OPTION_GOODS, OPTION_DATE_SKEW);
+
+    /**
+     * Writes {@code clients} to {@code filePath} in {@code format}, creating each client only when it is written.
+     */
+    public static void write(Iterable<Client> clients, DataFileFormat format, Path filePath) throws IOException {
+        requireNonNull(clients);
+        requireNonNull(format);
+        requireNonNull(filePath);
+
+        switch (format) {
+        case BINARY:
+            BinaryJeeqTrackerStorage.write(clients, filePath);
+            break;
+        case SEGMENTED:
+            SegmentedJeeqTrackerStorage.write(clients, filePath);
+            break;
+        case JSON:
+        default:
+            StreamingJsonJeeqTracker.write(clients, filePath);
+            break;
+        }
+    }
+
+    /**
+     * Writes the generated data file described by the arguments.
+     */
+    public static void main(String[] args) {
+        if (args.length == 0 || args[0].isEmpty()) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        try {
+            Path filePath = Paths.get(args[0]);
+            DataFileFormat format = DataFileFormat.fromFilePath(filePath).orElseThrow(() ->
+                    new IllegalArgumentException(String.format(DataFileConverter.MESSAGE_UNKNOWN_FORMAT, filePath)));
+            SyntheticDataGenerator generator = parseOptions(args);
+
+            long start = System.nanoTime();
+            write(generator, format, filePath);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.println(String.format(MESSAGE_SUCCESS, generator.getClientCount(),
+                    generator.getTransactionCount(), filePath, seconds));
+        } catch (IllegalArgumentException | IOException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Returns a generator with the settings given as option and value pairs after the target file in {@code args}.
+     *
+     * @throws IllegalArgumentException if an option is unknown, or its value is missing or invalid.
+     */
+    static SyntheticDataGenerator parseOptions(String... args) {
+        long seed = DEFAULT_SEED;
+        for (int i = 1; i < args.length; i += 2) {
+            if (!OPTIONS.contains(args[i])) {
+                throw new IllegalArgumentException(String.format(MESSAGE_UNKNOWN_OPTION, args[i]));
+            }
+            if (args[i].equals(OPTION_SEED)) {
+                seed = parseValue(args[i], getValue(args, i), Long::parseLong);
+            }
+        }
+
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(seed);
+        for (int i = 1; i < args.length; i += 2) {
+            String option = args[i];
+            String value = getValue(args, i);
+            parseValue(option, value, v -> applyOption(generator, option, v));
+        }
+        return generator;
+    }
+
+    private static SyntheticDataGenerator applyOption(SyntheticDataGenerator generator, String option, String value) {
+        switch (option) {
+        case OPTION_CLIENTS:
+            return generator.withClientCount(Integer.parseInt(value));
+        case OPTION_TRANSACTIONS:
+            return generator.withTransactionsPerClient(Integer.parseInt(value));
+        case OPTION_REMARKS:
+            return generator.withMaxRemarksPerClient(Integer.parseInt(value));
+        case OPTION_TAGS:
+            return generator.withMaxTagsPerClient(Integer.parseInt(value));
+        case OPTION_GOODS:
+            return generator.withGoodsVocabularySize(Integer.parseInt(value));
+        case OPTION_DATE_SKEW:
+            return generator.withDateSkew(Double.parseDouble(value));
+        default:
+            return generator;
+        }
+    }
+
+    /**
+     * Returns {@code value} parsed by {@code parser}, reporting any invalid value as an invalid value for
+     * {@code option}.
+     */
+    private static <T> T parseValue(String option, String value, Function<String, T> parser) {
+        try {
+            return parser.apply(value);
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalArgumentException(String.format(MESSAGE_INVALID_OPTION, option, value), iae);
+        }
+    }
+
+    private static String getValue(String[] args, int optionIndex) {
+        return optionIndex + 1 < args.length ? args[optionIndex + 1] : "";
+    }
+}
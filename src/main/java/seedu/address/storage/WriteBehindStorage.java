@@ -0,0 +1,261 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyJeeqTracker;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.client.Client;
+
+/**
+ * A {@code Storage} that writes JeeqTracker data on a background thread.
+ * Saving only takes a snapshot of the client list and hands it to the writer, so commands do not wait for the disk.
+ * Snapshots saved while an earlier one is being written are coalesced, so only the latest of them is written.
+ * A failed write is reported by the next call to save, and retried by {@link #flush()}.
+ * Snapshots share clients with the model, which relies on clients being replaced rather than changed in place.
+ */
+public class WriteBehindStorage implements Storage {
+
+    public static final String WRITER_THREAD_NAME = "storage-writer";
+    public static final String MESSAGE_WRITE_FAILED = "Could not save data in the background: %s";
+
+    private static final long WRITER_IDLE_SECONDS = 30;
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+
+    private final Storage storage;
+    private final ThreadPoolExecutor writer;
+    private final Object lock = new Object();
+
+    // All guarded by lock
+    private Snapshot pendingSnapshot;
+    private Snapshot failedSnapshot;
+    private IOException writeFailure;
+    private boolean isWriting;
+    private long snapshotsWritten;
+
+    /**
+     * Creates a {@code WriteBehindStorage} that writes JeeqTracker data with {@code storage}.
+     */
+    public WriteBehindStorage(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.writer = new ThreadPoolExecutor(1, 1, WRITER_IDLE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, WRITER_THREAD_NAME);
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        writer.allowCoreThreadTimeOut(true);
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ JeeqTracker methods ==============================
+
+    @Override
+    public Path getJeeqTrackerFilePath() {
+        return storage.getJeeqTrackerFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyJeeqTracker> readJeeqTracker() throws DataConversionException, IOException {
+        return readJeeqTracker(getJeeqTrackerFilePath());
+    }
+
+    /**
+     * Similar to {@link #readJeeqTracker()}.
+     * Waits for pending writes first, so that the data read includes everything saved so far.
+     */
+    @Override
+    public Optional<ReadOnlyJeeqTracker> readJeeqTracker(Path filePath) throws DataConversionException, IOException {
+        flush();
+        return storage.readJeeqTracker(filePath);
+    }
+
+    /**
+     * Schedules a snapshot of {@code jeeqTracker} to be written on the background thread.
+     *
+     * @throws IOException if an earlier write failed. The snapshot is scheduled regardless.
+     */
+    @Override
+    public void saveJeeqTracker(ReadOnlyJeeqTracker jeeqTracker) throws IOException {
+        saveJeeqTracker(jeeqTracker, (bytes, nanos) -> {});
+    }
+
+    /**
+     * Similar to {@link #saveJeeqTracker(ReadOnlyJeeqTracker)}.
+     * {@code writeListener} is told about the write of the snapshot on the background thread, or on the thread
+     * retrying it if it failed. Snapshots coalesced with a later one are never written, so they are never reported.
+     */
+    @Override
+    public void saveJeeqTracker(ReadOnlyJeeqTracker jeeqTracker, WriteListener writeListener) throws IOException {
+        requireNonNull(jeeqTracker);
+        requireNonNull(writeListener);
+        Snapshot snapshot = new Snapshot(jeeqTracker, writeListener);
+
+        IOException failure;
+        synchronized (lock) {
+            pendingSnapshot = snapshot;
+            failedSnapshot = null;
+            if (!isWriting) {
+                isWriting = true;
+                writer.execute(this::writePendingSnapshots);
+            }
+            failure = writeFailure;
+            writeFailure = null;
+        }
+
+        if (failure != null) {
+            throw new IOException(String.format(MESSAGE_WRITE_FAILED, failure.getMessage()), failure);
+        }
+    }
+
+    /**
+     * Similar to {@link #saveJeeqTracker(ReadOnlyJeeqTracker)}.
+     * Saves to {@code filePath} are written on the calling thread, after any pending writes.
+     */
+    @Override
+    public void saveJeeqTracker(ReadOnlyJeeqTracker jeeqTracker, Path filePath) throws IOException {
+        requireNonNull(jeeqTracker);
+        requireNonNull(filePath);
+        flush();
+        storage.saveJeeqTracker(jeeqTracker, filePath);
+    }
+
+    /**
+     * Waits for pending writes to finish, and writes the last snapshot again on the calling thread if it failed.
+     *
+     * @throws IOException if the snapshot still cannot be written.
+     */
+    @Override
+    public void flush() throws IOException {
+        awaitWrites();
+
+        Snapshot retry;
+        synchronized (lock) {
+            retry = failedSnapshot;
+            failedSnapshot = null;
+            writeFailure = null;
+        }
+        if (retry != null) {
+            logger.info("Retrying failed write to " + getJeeqTrackerFilePath());
+            storage.saveJeeqTracker(retry, retry.writeListener);
+        }
+        storage.flush();
+    }
+
+    /**
+     * Returns the number of snapshots written successfully on the background thread.
+     */
+    public long getSnapshotsWritten() {
+        synchronized (lock) {
+            return snapshotsWritten;
+        }
+    }
+
+    /**
+     * Blocks until the background thread has no more snapshots to write.
+     */
+    void awaitWrites() throws IOException {
+        synchronized (lock) {
+            while (isWriting) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while waiting for data to be saved", ie);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the pending snapshot until there is none left. Runs on the background thread.
+     */
+    private void writePendingSnapshots() {
+        while (true) {
+            Snapshot snapshot;
+            synchronized (lock) {
+                snapshot = pendingSnapshot;
+                pendingSnapshot = null;
+                if (snapshot == null) {
+                    isWriting = false;
+                    lock.notifyAll();
+                    return;
+                }
+            }
+
+            try {
+                storage.saveJeeqTracker(snapshot, snapshot.writeListener);
+                synchronized (lock) {
+                    snapshotsWritten++;
+                    writeFailure = null;
+                }
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Failed to write to " + getJeeqTrackerFilePath() + ": " + e);
+                synchronized (lock) {
+                    writeFailure = e instanceof IOException ? (IOException) e : new IOException(e);
+                    if (pendingSnapshot == null) {
+                        failedSnapshot = snapshot;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * An immutable copy of the client list of a {@code ReadOnlyJeeqTracker} at the time it was saved, with the
+     * listener to tell once it is written.
+     */
+    private static class Snapshot implements ReadOnlyJeeqTracker {
+
+        private final ObservableList<Client> clients;
+        private final long modificationCount;
+        private final WriteListener writeListener;
+
+        Snapshot(ReadOnlyJeeqTracker jeeqTracker, WriteListener writeListener) {
+            clients = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(jeeqTracker.getClientList()));
+            modificationCount = jeeqTracker.getModificationCount();
+            this.writeListener = writeListener;
+        }
+
+        @Override
+        public ObservableList<Client> getClientList() {
+            return clients;
+        }
+
+        @Override
+        public long getModificationCount() {
+            return modificationCount;
+        }
+    }
+}
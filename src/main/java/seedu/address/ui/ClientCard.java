@@ -9,6 +9,7 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import seedu.address.commons.core.Money;
 import seedu.address.model.client.Client;
 
 /**
@@ -26,7 +27,7 @@ public class ClientCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on JeeqTracker level 4</a>
      */
 
-    public final Client client;
+    private Client client;
 
     @FXML
     private HBox cardPane;
@@ -52,6 +53,14 @@ public class ClientCard extends UiPart<Region> {
      */
     public ClientCard(Client client, int displayedIndex) {
         super(FXML);
+        setClient(client, displayedIndex);
+    }
+
+    /**
+     * Shows {@code client} with the given index on this card in place of the client it shows now,
+     * so a list cell can reuse one card for every client it displays.
+     */
+    public void setClient(Client client, int displayedIndex) {
         this.client = client;
         id.setText(displayedIndex + ". ");
         name.setText(client.getName().fullName);
@@ -59,12 +68,17 @@ public class ClientCard extends UiPart<Region> {
         phone.setText("Phone: " + client.getPhone().value);
         email.setText("Email: " + client.getEmail().value);
         remarks.setText(client.getRemarks().toString());
-        transactions.setText("Total: " + formatPrice(client.getTotalTransacted()));
+        transactions.setText("Total: " + formatPrice(Money.ofMinorUnits(client.getTotalTransactedInMinorUnits())));
+        tags.getChildren().clear();
         client.getTags().stream()
                 .sorted(Comparator.comparing(tag -> tag.tagName))
                 .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
     }
 
+    public Client getClient() {
+        return client;
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
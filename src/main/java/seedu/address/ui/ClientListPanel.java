@@ -1,13 +1,18 @@
 package seedu.address.ui;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.ClientListChange;
 import seedu.address.model.client.Client;
 
 /**
@@ -17,22 +22,48 @@ public class ClientListPanel extends UiPart<Region> {
     private static final String FXML = "ClientListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(ClientListPanel.class);
 
+    /** The clients shown, updated on the JavaFX application thread while commands change the model elsewhere. */
+    private final ObservableList<Client> clientList;
+    private final ObservableList<Client> unmodifiableClientList;
+
     @FXML
     private ListView<Client> clientListView;
 
     /**
-     * Creates a {@code ClientListPanel} with the given {@code ObservableList}.
+     * Creates a {@code ClientListPanel} with the given clients.
      */
-    public ClientListPanel(ObservableList<Client> clientList) {
+    public ClientListPanel(List<Client> clients) {
         super(FXML);
+        clientList = FXCollections.observableArrayList(clients);
+        unmodifiableClientList = FXCollections.unmodifiableObservableList(clientList);
         clientListView.setItems(clientList);
         clientListView.setCellFactory(listView -> new ClientListViewCell());
     }
 
+    /**
+     * Returns the clients shown, which must not be changed.
+     */
+    public ObservableList<Client> getClientList() {
+        return unmodifiableClientList;
+    }
+
+    /**
+     * Applies {@code changes} in order to the clients shown, so only the clients that changed are updated.
+     */
+    public void applyChanges(List<ClientListChange> changes) {
+        requireNonNull(changes);
+        for (ClientListChange change : changes) {
+            change.applyTo(clientList);
+        }
+    }
+
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Client} using a {@code ClientCard}.
      */
     class ClientListViewCell extends ListCell<Client> {
+        /** The card this cell shows its clients on, created when the cell first shows a client. */
+        private ClientCard card;
+
         @Override
         protected void updateItem(Client client, boolean empty) {
             super.updateItem(client, empty);
@@ -41,7 +72,12 @@ public class ClientListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new ClientCard(client, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new ClientCard(client, getIndex() + 1);
+                } else {
+                    card.setClient(client, getIndex() + 1);
+                }
+                setGraphic(card.getRoot());
             }
         }
     }
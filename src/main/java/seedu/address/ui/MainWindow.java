@@ -1,8 +1,11 @@
 package seedu.address.ui;
 
-import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
@@ -13,8 +16,14 @@ import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
+import seedu.address.commons.core.CommandMetrics;
+import seedu.address.commons.core.CommandMetrics.Phase;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.PagedList;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandOutcome;
+import seedu.address.logic.CommandPipeline;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -35,6 +44,11 @@ public class MainWindow extends UiPart<Stage> {
 
     private Stage primaryStage;
     private Logic logic;
+    private CommandPipeline commandPipeline;
+    /** The number of commands submitted whose outcome has not been shown yet. */
+    private int runningCommands;
+    /** The number of times the transactions shown have been replaced, so a late read does not replace newer ones. */
+    private long transactionListUpdates;
 
     // Independent Ui parts residing in this Ui container
     private ClientListPanel clientListPanel;
@@ -43,6 +57,7 @@ public class MainWindow extends UiPart<Stage> {
     private RemarkListPanel remarkListPanel;
     private TransactionListPanel transactionListPanel;
     private NetTransactionBox netTransactionBox;
+    private StatusBarFooter statusBarFooter;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -69,14 +84,16 @@ public class MainWindow extends UiPart<Stage> {
     private StackPane menuPlaceholder;
 
     /**
-     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}, that executes commands with
+     * {@code commandPipeline}.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, Logic logic, CommandPipeline commandPipeline) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.commandPipeline = commandPipeline;
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -141,7 +158,7 @@ public class MainWindow extends UiPart<Stage> {
         remarkListPanel = new RemarkListPanel();
         remarkListPanelPlaceholder.getChildren().add(remarkListPanel.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getJeeqTrackerFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getJeeqTrackerFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
@@ -186,80 +203,100 @@ public class MainWindow extends UiPart<Stage> {
     private void handleExit() {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
-        logic.setGuiSettings(guiSettings);
+        commandPipeline.runTask(() -> logic.setGuiSettings(guiSettings));
         helpWindow.hide();
         primaryStage.hide();
     }
 
     /**
      * Handles changes to the UI whenever the Remark or Transaction information is updated in a client.
-     * @param commandResult the result of command executed.
+     * @param outcome the outcome of the command executed.
      */
-    private void handleClientDetailsUpdate(CommandResult commandResult) {
-        ObservableList<Client> clientList = logic.getFilteredClientList();
-        double updatedNetTransaction = logic.calculateTotalTransaction(clientList);
+    private void handleClientDetailsUpdate(CommandOutcome outcome) {
+        List<Client> clientList = clientListPanel.getClientList();
+        double updatedNetTransaction = outcome.getNetTransaction();
         if (clientList.size() != 1) {
             // Empty remark list panel.
             remarkListPanel.setRemarkList(FXCollections.observableArrayList());
-            transactionListPanel.setTransactionList(FXCollections.observableArrayList());
+            setTransactionList(FXCollections.observableArrayList());
             netTransactionBox.setNetTransaction(updatedNetTransaction);
             return;
         }
         Client client = clientList.get(0);
         ObservableList<Remark> remarks = client.getRemarks().asUnmodifiableObservableList();
-        ObservableList<Transaction> transactions = client.getTransactions().asUnmodifiableObservableList();
         remarkListPanel.setRemarkList(remarks);
-        transactionListPanel.setTransactionList(transactions);
+        showTransactionsOf(client, shownClient -> shownClient.getTransactions().asUnmodifiableObservableList());
         netTransactionBox.setNetTransaction(updatedNetTransaction);
     }
 
     /**
-     * Handles changes to the UI whenever the filtered command is executed.
-     * @param result the result of command executed.
+     * Handles changes to the UI whenever the sort command is executed.
+     * @param outcome the outcome of the command executed.
      */
-    private void handleFilterTransaction(CommandResult result) {
-        ObservableList<Client> clientList = logic.getFilteredClientList();
+
+    private void handleSortTransaction(CommandOutcome outcome) {
+        List<Client> clientList = clientListPanel.getClientList();
         remarkListPanel.setRemarkList(FXCollections.observableArrayList());
-        ObservableList<Transaction> transactions = FXCollections.observableArrayList();
-        double updatedNetTransaction = logic.calculateTotalTransaction(clientList);
-        Iterator<Client> itr = clientList.listIterator();
-        while (itr.hasNext()) {
-            Client client = itr.next();
-            if (isBuyFilter(result)) {
-                transactions.addAll(client.getBuyTransactionList());
-            } else {
-                transactions.addAll(client.getSellTransactionList());
-            }
-        }
-        transactionListPanel.setTransactionList(transactions);
+        double updatedNetTransaction = outcome.getNetTransaction();
+        Client client = clientList.get(0);
+        ObservableList<Remark> remarks = client.getRemarks().asUnmodifiableObservableList();
+        remarkListPanel.setRemarkList(remarks);
+        showTransactionsOf(client, isOldestSort(outcome.getCommandResult())
+                ? Client::getSortOldestTransaction
+                : Client::getSortLatestTransaction);
         netTransactionBox.setNetTransaction(updatedNetTransaction);
     }
 
     /**
-     * Handles changes to the UI whenever the sort command is executed.
-     * @param result the result of command executed.
+     * Handles changes to the UI whenever a command lists transactions itself.
+     * The transactions are shown without copying them, so only the transactions in view are read.
+     * @param transactions the transactions listed by the command.
+     * @param outcome the outcome of the command executed.
      */
-
-    private void handleSortTransaction(CommandResult result) {
-        ObservableList<Client> clientList = logic.getFilteredClientList();
-        remarkListPanel.setRemarkList(FXCollections.observableArrayList());
-        double updatedNetTransaction = logic.calculateTotalTransaction(clientList);
-        ObservableList<Transaction> transactions = FXCollections.observableArrayList();
-        Client client = clientList.get(0);
-        if (isOldestSort(result)) {
-            transactions.addAll(client.getSortOldestTransaction());
+    private void handleShowTransactions(List<Transaction> transactions, CommandOutcome outcome) {
+        List<Client> clientList = clientListPanel.getClientList();
+        if (clientList.size() == 1) {
+            remarkListPanel.setRemarkList(clientList.get(0).getRemarks().asUnmodifiableObservableList());
         } else {
-            transactions.addAll(client.getSortLatestTransaction());
+            remarkListPanel.setRemarkList(FXCollections.observableArrayList());
         }
-        ObservableList<Remark> remarks = client.getRemarks().asUnmodifiableObservableList();
-        remarkListPanel.setRemarkList(remarks);
-        transactionListPanel.setTransactionList(transactions);
-        netTransactionBox.setNetTransaction(updatedNetTransaction);
+        setTransactionList(FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(new PagedList<>(transactions))));
+        netTransactionBox.setNetTransaction(outcome.getNetTransaction());
     }
 
-    private boolean isBuyFilter(CommandResult result) {
-        String output = result.toString();
-        return (output.contains("buy"));
+    /**
+     * Shows the transactions of {@code client} given by {@code view}.
+     * If the transactions of the client are loaded on demand, they are read on the thread of the command pipeline,
+     * so the JavaFX application thread does not wait for storage, and are shown once read unless other transactions
+     * have been shown since.
+     */
+    private void showTransactionsOf(Client client, Function<Client, ObservableList<Transaction>> view) {
+        if (client.getTransactions().getLoader().isEmpty()) {
+            setTransactionList(view.apply(client));
+            return;
+        }
+        long update = ++transactionListUpdates;
+        commandPipeline.submitTask(() -> view.apply(client)).whenComplete((transactions, error) ->
+                Platform.runLater(() -> {
+                    if (update != transactionListUpdates) {
+                        return;
+                    }
+                    if (error == null) {
+                        transactionListPanel.setTransactionList(transactions);
+                    } else {
+                        logger.warning("Failed to read transactions: " + StringUtil.getDetails(error));
+                        resultDisplay.setFeedbackToUser("Could not read the transactions of " + client.getName());
+                    }
+                }));
+    }
+
+    /**
+     * Shows {@code transactions} in place of the transactions shown now.
+     */
+    private void setTransactionList(ObservableList<Transaction> transactions) {
+        transactionListUpdates++;
+        transactionListPanel.setTransactionList(transactions);
     }
 
     private boolean isOldestSort(CommandResult result) {
@@ -268,38 +305,73 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Starts executing the command in the background and returns a future of its result.
+     * The outcome of each command is shown on the JavaFX application thread in the order the commands were entered.
      *
      * @see seedu.address.logic.Logic#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            if (commandResult.isShowUserGuide()) {
-                handleHelp();
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        CompletableFuture<CommandResult> shownResult = new CompletableFuture<>();
+        CompletableFuture<CommandOutcome> futureOutcome = commandPipeline.submit(commandText);
+        // only counted once submitted, as the future always completes then, so the count always goes down again
+        setRunningCommands(runningCommands + 1);
+        futureOutcome.whenComplete((outcome, error) -> Platform.runLater(() -> {
+            setRunningCommands(runningCommands - 1);
+            if (error == null) {
+                long start = System.nanoTime();
+                showOutcome(outcome);
+                logic.getCommandMetrics().recordPhase(CommandMetrics.getCommandWord(commandText), Phase.UI_REFRESH,
+                        System.nanoTime() - start);
+                shownResult.complete(outcome.getCommandResult());
+            } else {
+                showFailure(commandText, error);
+                shownResult.completeExceptionally(error);
             }
+        }));
+        return shownResult;
+    }
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+    private void setRunningCommands(int runningCommands) {
+        this.runningCommands = runningCommands;
+        statusBarFooter.setRunningCommands(runningCommands);
+    }
 
-            if (commandResult.isFilteredTransactions()) {
-                handleFilterTransaction(commandResult);
-            } else if (commandResult.isSortedTransactions()) {
-                handleSortTransaction(commandResult);
-            } else if (!commandResult.hasNoUiChange()) {
-                handleClientDetailsUpdate(commandResult);
-            }
+    /**
+     * Shows the outcome of a command that was executed successfully.
+     */
+    private void showOutcome(CommandOutcome outcome) {
+        CommandResult commandResult = outcome.getCommandResult();
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+        clientListPanel.applyChanges(outcome.getClientListChanges());
+
+        if (commandResult.isShowUserGuide()) {
+            handleHelp();
+        }
 
+        if (commandResult.isExit()) {
+            handleExit();
+        }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
+        if (commandResult.getTransactionsToShow().isPresent()) {
+            handleShowTransactions(commandResult.getTransactionsToShow().get(), outcome);
+        } else if (commandResult.isSortedTransactions()) {
+            handleSortTransaction(outcome);
+        } else if (!commandResult.hasNoUiChange()) {
+            handleClientDetailsUpdate(outcome);
+        }
+    }
+
+    /**
+     * Shows why the command {@code commandText} failed.
+     */
+    private void showFailure(String commandText, Throwable error) {
+        if (error instanceof CommandException || error instanceof ParseException) {
             logger.info("Invalid command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+            resultDisplay.setFeedbackToUser(error.getMessage());
+        } else {
+            logger.severe("Command failed: " + commandText + " " + StringUtil.getDetails(error));
+            resultDisplay.setFeedbackToUser("Command failed unexpectedly: " + error);
         }
     }
 
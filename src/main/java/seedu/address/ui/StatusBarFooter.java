@@ -16,6 +16,8 @@ public class StatusBarFooter extends UiPart<Region> {
 
     @FXML
     private Label saveLocationStatus;
+    @FXML
+    private Label busyStatus;
 
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
@@ -25,4 +27,17 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows that {@code runningCommands} commands are running, or nothing if there are none.
+     */
+    public void setRunningCommands(int runningCommands) {
+        if (runningCommands == 0) {
+            busyStatus.setText("");
+        } else if (runningCommands == 1) {
+            busyStatus.setText("Running command...");
+        } else {
+            busyStatus.setText("Running " + runningCommands + " commands...");
+        }
+    }
+
 }
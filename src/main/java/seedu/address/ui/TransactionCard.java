@@ -24,7 +24,7 @@ public class TransactionCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on JeeqTracker level 4</a>
      */
 
-    public final Transaction transaction;
+    private Transaction transaction;
 
     @FXML
     private HBox remarkCardPane;
@@ -50,6 +50,16 @@ public class TransactionCard extends UiPart<Region> {
      */
     public TransactionCard(Transaction transaction, int displayedIndex) {
         super(FXML);
+        buy.setId("buy");
+        sell.setId("sell");
+        setTransaction(transaction, displayedIndex);
+    }
+
+    /**
+     * Shows {@code transaction} with the given index on this card in place of the transaction it shows now,
+     * so a list cell can reuse one card for every transaction it displays.
+     */
+    public void setTransaction(Transaction transaction, int displayedIndex) {
         this.transaction = transaction;
         id.setText(displayedIndex + ". ");
         good.setText(transaction.getGoods().toString());
@@ -57,9 +67,11 @@ public class TransactionCard extends UiPart<Region> {
         quantity.setText(transaction.getQuantity().toString());
         date.setText(transaction.getDate().toString());
         Label typeOfTransaction = transaction instanceof BuyTransaction ? buy : sell;
-        buy.setId("buy");
-        sell.setId("sell");
-        transactionType.getChildren().add(typeOfTransaction);
+        transactionType.getChildren().setAll(typeOfTransaction);
+    }
+
+    public Transaction getTransaction() {
+        return transaction;
     }
 
     @Override
@@ -27,22 +27,28 @@ public class TransactionListPanel extends UiPart<Region> {
      */
     public TransactionListPanel() {
         super(FXML);
+        transactionListView.setCellFactory(listView -> new TransactionListViewCell());
     }
 
     /**
      * Sets the {@code TransactionListPanel} with the transactions from {@code ObservableList}.
+     * The panel shows later changes to {@code transactionList} as they happen.
      */
     public void setTransactionList(ObservableList<Transaction> transactionList) {
         requireNonNull(transactionList);
 
-        transactionListView.setItems(transactionList);
-        transactionListView.setCellFactory(listView -> new TransactionListViewCell());
+        if (transactionListView.getItems() != transactionList) {
+            transactionListView.setItems(transactionList);
+        }
     }
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Transaction} using a {@code TransactionCard}.
      */
     class TransactionListViewCell extends ListCell<Transaction> {
+        /** The card this cell shows its transactions on, created when the cell first shows a transaction. */
+        private TransactionCard card;
+
         @Override
         protected void updateItem(Transaction transaction, boolean empty) {
             super.updateItem(transaction, empty);
@@ -51,7 +57,12 @@ public class TransactionListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new TransactionCard(transaction, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new TransactionCard(transaction, getIndex() + 1);
+                } else {
+                    card.setTransaction(transaction, getIndex() + 1);
+                }
+                setGraphic(card.getRoot());
             }
         }
     }
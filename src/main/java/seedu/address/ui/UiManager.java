@@ -10,6 +10,7 @@ import javafx.stage.Stage;
 import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandPipeline;
 import seedu.address.logic.Logic;
 
 /**
@@ -23,13 +24,15 @@ public class UiManager implements Ui {
     private static final String ICON_APPLICATION = "/images/address_book_32.png";
 
     private Logic logic;
+    private CommandPipeline commandPipeline;
     private MainWindow mainWindow;
 
     /**
-     * Creates a {@code UiManager} with the given {@code Logic}.
+     * Creates a {@code UiManager} with the given {@code Logic}, that executes commands with {@code commandPipeline}.
      */
-    public UiManager(Logic logic) {
+    public UiManager(Logic logic, CommandPipeline commandPipeline) {
         this.logic = logic;
+        this.commandPipeline = commandPipeline;
     }
 
     @Override
@@ -40,7 +43,7 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
+            mainWindow = new MainWindow(primaryStage, logic, commandPipeline);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
 
@@ -37,6 +37,24 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_args_success() {
+        assertEquals(expected, AppParameters.parse());
+
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setScriptFile("data/trades.txt");
+        assertEquals(expected, AppParameters.parse("--config=config.json", "--run=data/trades.txt"));
+
+        expected.setDryRun(true);
+        assertEquals(expected, AppParameters.parse("--run=data/trades.txt", "--dry-run", "--config=config.json"));
+    }
+
+    @Test
+    public void parse_argsWithInvalidConfigPath_success() {
+        expected.setScriptFile("trades.txt");
+        assertEquals(expected, AppParameters.parse("--config=a\0", "--run=trades.txt", "unnamed"));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
@@ -0,0 +1,153 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import seedu.address.model.client.Address;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientEmail;
+import seedu.address.model.client.ClientPhone;
+import seedu.address.model.client.Name;
+import seedu.address.model.client.UniqueClientList;
+import seedu.address.model.remark.Remark;
+import seedu.address.model.remark.Text;
+import seedu.address.model.remark.UniqueRemarkList;
+import seedu.address.model.transaction.TransactionLog;
+
+/**
+ * Compares the single-pass duplicate detection used by {@code UniqueClientList#setClients(List)} and
+ * {@code UniqueRemarkList#setRemarks(List)} against the pairwise comparison it replaced.
+ *
+ * Run with {@code ./gradlew duplicateDetectionBenchmark}. The pairwise baseline is quadratic, so it is only
+ * measured up to {@code -Dbenchmark.maxPairwiseSize} entries (default 20000); larger sizes are extrapolated
+ * from the largest measured size and marked as such.
+ */
+public class DuplicateDetectionBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    private static final Address ADDRESS = new Address("Blk 1 Benchmark Street");
+    private static final ClientPhone PHONE = new ClientPhone("91234567");
+    private static final ClientEmail EMAIL = new ClientEmail("bench@example.com");
+    private static final UniqueRemarkList NO_REMARKS = new UniqueRemarkList();
+    private static final TransactionLog NO_TRANSACTIONS = new TransactionLog();
+
+    /**
+     * Prints the time taken to detect duplicates by hashing and pairwise, for each list size, as CSV.
+     */
+    public static void main(String[] args) {
+        int maxPairwiseSize = Integer.getInteger("benchmark.maxPairwiseSize", 20_000);
+
+        System.out.println("entries,list,hashMs,pairwiseMs,speedup");
+        for (int size : SIZES) {
+            List<Client> clients = generateClients(size);
+            double clientHashMs = time(() -> new UniqueClientList().setClients(clients));
+            double clientPairwiseMs = timePairwise(size, maxPairwiseSize, clients, n -> generateClients(n),
+                    DuplicateDetectionBenchmark::clientsAreUniquePairwise);
+            report(size, "clients", clientHashMs, clientPairwiseMs, size > maxPairwiseSize);
+
+            List<Remark> remarks = generateRemarks(size);
+            double remarkHashMs = time(() -> new UniqueRemarkList().setRemarks(remarks));
+            double remarkPairwiseMs = timePairwise(size, maxPairwiseSize, remarks, n -> generateRemarks(n),
+                    DuplicateDetectionBenchmark::remarksAreUniquePairwise);
+            report(size, "remarks", remarkHashMs, remarkPairwiseMs, size > maxPairwiseSize);
+        }
+    }
+
+    private static List<Client> generateClients(int size) {
+        List<Client> clients = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            clients.add(new Client(new Name("Client " + i), ADDRESS, PHONE, EMAIL, Collections.emptySet(),
+                    NO_REMARKS, NO_TRANSACTIONS));
+        }
+        return clients;
+    }
+
+    private static List<Remark> generateRemarks(int size) {
+        List<Remark> remarks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            remarks.add(new Remark(new Text("Remark number " + i)));
+        }
+        return remarks;
+    }
+
+    /**
+     * Returns the mean wall-clock time of {@code task} in milliseconds, after warming it up.
+     */
+    private static double time(Runnable task) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            task.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            task.run();
+        }
+        return (System.nanoTime() - start) / 1e6 / MEASURED_ROUNDS;
+    }
+
+    /**
+     * Times the quadratic {@code check} once on {@code entries}, or on a smaller list of {@code maxSize} entries
+     * from {@code generator} whose time is then scaled quadratically up to {@code size} entries.
+     */
+    private static <T> double timePairwise(int size, int maxSize, List<T> entries, IntFunction<List<T>> generator,
+                                           PairwiseCheck<T> check) {
+        List<T> measured = size <= maxSize ? entries : generator.apply(maxSize);
+        long start = System.nanoTime();
+        check.isUnique(measured);
+        double measuredMs = (System.nanoTime() - start) / 1e6;
+
+        double scale = (double) size / measured.size();
+        return measuredMs * scale * scale;
+    }
+
+    private static void report(int size, String list, double hashMs, double pairwiseMs, boolean isExtrapolated) {
+        System.out.printf("%d,%s,%.2f,%.2f%s,%.0fx%n", size, list, hashMs, pairwiseMs,
+                isExtrapolated ? " (extrapolated)" : "", pairwiseMs / hashMs);
+    }
+
+    /**
+     * The nested-loop check previously used by {@code UniqueClientList}, including the per-comparison name
+     * normalization that {@code Client#isSameClient(Client)} used to perform.
+     */
+    private static boolean clientsAreUniquePairwise(List<Client> clients) {
+        for (int i = 0; i < clients.size() - 1; i++) {
+            for (int j = i + 1; j < clients.size(); j++) {
+                String name = clients.get(i).getName().fullName.toLowerCase().replace(" ", "");
+                String otherName = clients.get(j).getName().fullName.toLowerCase().replace(" ", "");
+                if (name.equals(otherName)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The nested-loop check previously used by {@code UniqueRemarkList}, including the per-comparison text
+     * normalization that {@code Remark#isSameRemark(Remark)} used to perform.
+     */
+    private static boolean remarksAreUniquePairwise(List<Remark> remarks) {
+        for (int i = 0; i < remarks.size() - 1; i++) {
+            for (int j = i + 1; j < remarks.size(); j++) {
+                String text = remarks.get(i).getText().value.trim().toLowerCase().replace(" ", "");
+                String otherText = remarks.get(j).getText().value.trim().toLowerCase().replace(" ", "");
+                if (text.equals(otherText)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Represents a whole-list uniqueness check.
+     */
+    @FunctionalInterface
+    private interface PairwiseCheck<T> {
+        boolean isUnique(List<T> entries);
+    }
+}
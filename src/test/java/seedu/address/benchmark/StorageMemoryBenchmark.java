@@ -0,0 +1,164 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.client.Address;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientEmail;
+import seedu.address.model.client.ClientPhone;
+import seedu.address.model.client.Name;
+import seedu.address.model.remark.UniqueRemarkList;
+import seedu.address.model.transaction.BuyTransaction;
+import seedu.address.model.transaction.Date;
+import seedu.address.model.transaction.Goods;
+import seedu.address.model.transaction.Price;
+import seedu.address.model.transaction.Quantity;
+import seedu.address.model.transaction.SellTransaction;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.model.transaction.TransactionLog;
+import seedu.address.storage.StreamingJsonJeeqTracker;
+
+/**
+ * Compares the peak heap used to load a large data file one client at a time with {@code StreamingJsonJeeqTracker}
+ * against loading the whole file into a String and a JSON tree first, as the data file used to be read.
+ *
+ * Run with {@code ./gradlew storageMemoryBenchmark}. The data file is generated in a temporary directory and grows
+ * to {@code -Dbenchmark.fileSizeMb} megabytes (default 500).
+ */
+public class StorageMemoryBenchmark {
+
+    private static final int TRANSACTIONS_PER_CLIENT = 20;
+    private static final long BYTES_PER_MB = 1024 * 1024;
+
+    private static final Address ADDRESS = new Address("Blk 1 Benchmark Street");
+    private static final ClientPhone PHONE = new ClientPhone("91234567");
+    private static final ClientEmail EMAIL = new ClientEmail("bench@example.com");
+    private static final UniqueRemarkList NO_REMARKS = new UniqueRemarkList();
+
+    /**
+     * Writes a data file of {@code benchmark.fileSizeMb} megabytes and prints the peak heap used to read it by
+     * streaming and as a whole.
+     */
+    public static void main(String[] args) throws Exception {
+        long fileSizeMb = Long.getLong("benchmark.fileSizeMb", 500);
+        Path folder = Files.createTempDirectory("storageMemoryBenchmark");
+        Path filePath = folder.resolve("jeeqtracker.json");
+
+        try {
+            writeFile(filePath, fileSizeMb * BYTES_PER_MB);
+            double actualMb = (double) Files.size(filePath) / BYTES_PER_MB;
+
+            System.out.println("reader,fileMb,peakHeapMb,peakToFile");
+            report("streaming", actualMb, peakHeapMb(() -> StreamingJsonJeeqTracker.read(filePath)));
+            report("wholeFile", actualMb, peakHeapMb(() ->
+                    JsonUtil.fromJsonString(FileUtil.readFromFile(filePath), JsonNode.class)));
+        } finally {
+            Files.deleteIfExists(filePath);
+            Files.deleteIfExists(folder);
+        }
+    }
+
+    /**
+     * Writes generated clients to {@code filePath} until it holds roughly {@code targetBytes} bytes.
+     */
+    private static void writeFile(Path filePath, long targetBytes) throws IOException {
+        Path sample = filePath.resolveSibling("sample.json");
+        StreamingJsonJeeqTracker.write(Collections.singletonList(generateClient(0)), sample);
+        long bytesPerClient = Files.size(sample);
+        Files.delete(sample);
+
+        int clientCount = (int) Math.max(1, targetBytes / bytesPerClient);
+        StreamingJsonJeeqTracker.write(() -> new GeneratedClients(clientCount), filePath);
+    }
+
+    private static Client generateClient(int index) {
+        List<Transaction> transactions = new ArrayList<>(TRANSACTIONS_PER_CLIENT);
+        for (int i = 0; i < TRANSACTIONS_PER_CLIENT; i++) {
+            Goods goods = new Goods("Goods " + i);
+            Price price = new Price(String.valueOf(1 + (index + i) % 1000));
+            Quantity quantity = new Quantity(String.valueOf(1 + i));
+            Date date = new Date(String.format("%02d/%02d/2022", 1 + i % 28, 1 + index % 12));
+            transactions.add(i % 2 == 0
+                    ? new BuyTransaction(goods, price, quantity, date)
+                    : new SellTransaction(goods, price, quantity, date));
+        }
+        return new Client(new Name("Client " + index), ADDRESS, PHONE, EMAIL, Collections.emptySet(),
+                NO_REMARKS, new TransactionLog(transactions));
+    }
+
+    /**
+     * Returns the peak heap used while {@code task} runs and its result is still reachable, in megabytes.
+     */
+    private static double peakHeapMb(Load task) throws Exception {
+        List<MemoryPoolMXBean> heapPools = new ArrayList<>();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                heapPools.add(pool);
+            }
+        }
+
+        System.gc();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        Object result = task.run();
+
+        long peakBytes = 0;
+        for (MemoryPoolMXBean pool : heapPools) {
+            peakBytes += pool.getPeakUsage().getUsed();
+        }
+        if (result == null) {
+            throw new AssertionError("Nothing was loaded");
+        }
+        return (double) peakBytes / BYTES_PER_MB;
+    }
+
+    private static void report(String reader, double fileMb, double peakHeapMb) {
+        System.out.printf("%s,%.0f,%.0f,%.2fx%n", reader, fileMb, peakHeapMb, peakHeapMb / fileMb);
+    }
+
+    /**
+     * Generates clients one at a time, so that writing the data file does not need them all in memory.
+     */
+    private static class GeneratedClients implements Iterator<Client> {
+        private final int count;
+        private int next;
+
+        GeneratedClients(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < count;
+        }
+
+        @Override
+        public Client next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return generateClient(next++);
+        }
+    }
+
+    /**
+     * Represents a way of loading the data file.
+     */
+    @FunctionalInterface
+    private interface Load {
+        Object run() throws Exception;
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.CommandMetrics.Phase;
+import seedu.address.commons.util.FileUtil;
+
+public class CommandMetricsTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final CommandMetrics metrics = new CommandMetrics();
+
+    @Test
+    public void getCommandWord() {
+        assertEquals("list", CommandMetrics.getCommandWord("  LIST  "));
+        assertEquals("buy", CommandMetrics.getCommandWord("buy 1 q/5 g/apples"));
+        assertEquals(CommandMetrics.UNKNOWN_COMMAND_WORD, CommandMetrics.getCommandWord(" "));
+        assertThrows(NullPointerException.class, () -> CommandMetrics.getCommandWord(null));
+    }
+
+    @Test
+    public void recordCommand_countedByCommandWord() {
+        metrics.recordPhase("list", Phase.PARSE, 1_000);
+        metrics.recordPhase("list", Phase.PARSE, 3_000_000);
+        metrics.recordPhase("list", Phase.EXECUTE, 2_000);
+        metrics.recordCommand("list", 100, 10);
+        metrics.recordCommand("list", -1, 30);
+
+        assertEquals(2, metrics.getRuns("list"));
+        assertEquals(2, metrics.getPhaseCount("list", Phase.PARSE));
+        assertEquals(0, metrics.getPhaseCount("list", Phase.UI_REFRESH));
+        assertEquals(3_000_000, metrics.getMaxNanos("list", Phase.PARSE));
+        assertEquals(40, metrics.getWrittenBytes("list"));
+        assertEquals(0, metrics.getRuns("add"));
+    }
+
+    @Test
+    public void recordWrite_addedToCommandWord() {
+        metrics.recordCommand("add", -1, 0);
+        metrics.recordWrite("add", 500, 4_000);
+
+        assertEquals(1, metrics.getRuns("add"));
+        assertEquals(1, metrics.getPhaseCount("add", Phase.PERSIST));
+        assertEquals(4_000, metrics.getMaxNanos("add", Phase.PERSIST));
+        assertEquals(500, metrics.getWrittenBytes("add"));
+    }
+
+    @Test
+    public void getReport() {
+        assertEquals("No commands executed yet.", metrics.getReport());
+
+        // 2 microseconds falls in the bucket up to 2047 nanoseconds
+        metrics.recordPhase("list", Phase.PARSE, 2_000);
+        metrics.recordPhase("list", Phase.PARSE, 3_000_000);
+        metrics.recordCommand("list", 100, 0);
+        assertEquals("Times in ms as median/95th percentile/longest:\n"
+                + "list: 1 run, parse 0.00/3.00/3.00, 100 bytes allocated, 0 bytes written per run",
+                metrics.getReport());
+    }
+
+    @Test
+    public void writeCsv() throws Exception {
+        metrics.recordPhase("list", Phase.EXECUTE, 5_000_000);
+        metrics.recordCommand("list", -1, 64);
+        Path filePath = temporaryFolder.resolve("stats").resolve("metrics.csv");
+        metrics.writeCsv(filePath);
+
+        String[] lines = FileUtil.readFromFile(filePath).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("command,runs,parse_p50_us"));
+        assertEquals("list,1,,,,5000,5000,5000,,,,,,,,64", lines[1]);
+    }
+}
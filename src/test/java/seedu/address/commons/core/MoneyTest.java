@@ -0,0 +1,74 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class MoneyTest {
+
+    @Test
+    public void parse_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> Money.parse(null));
+    }
+
+    @Test
+    public void parse_invalidAmount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Money.parse(""));
+        assertThrows(IllegalArgumentException.class, () -> Money.parse("1.2.3"));
+        assertThrows(IllegalArgumentException.class, () -> Money.parse("NaN"));
+        assertThrows(IllegalArgumentException.class, () -> Money.parse("1e30"));
+    }
+
+    @Test
+    public void parse_validAmount_storesMinorUnits() {
+        assertEquals(12_5000, Money.parse("12.5").getMinorUnits());
+        assertEquals(1000_0000, Money.parse("1e3").getMinorUnits());
+        assertEquals(1_1828, Money.parse("1.1827872").getMinorUnits()); // rounded half up
+        assertEquals(0, Money.parse("0.00001").getMinorUnits());
+    }
+
+    @Test
+    public void arithmetic_isExact() {
+        Money tenCents = Money.parse("0.1");
+        Money sum = Money.ZERO;
+        for (int i = 0; i < 10; i++) {
+            sum = sum.add(tenCents);
+        }
+        assertEquals(Money.parse("1"), sum);
+        assertEquals(Money.parse("0.3"), tenCents.multiply(3));
+        assertEquals(Money.parse("-0.1"), tenCents.negate());
+        assertEquals(1.0, sum.toDouble());
+    }
+
+    @Test
+    public void arithmetic_overflow_throwsArithmeticException() {
+        Money large = Money.ofMinorUnits(Long.MAX_VALUE);
+        assertThrows(ArithmeticException.class, () -> large.add(Money.ofMinorUnits(1)));
+        assertThrows(ArithmeticException.class, () -> large.multiply(2));
+    }
+
+    @Test
+    public void compareTo() {
+        assertTrue(Money.parse("1.01").compareTo(Money.parse("1.1")) < 0);
+        assertEquals(0, Money.parse("1.10").compareTo(Money.parse("1.1")));
+    }
+
+    @Test
+    public void equals() {
+        Money money = Money.parse("2.5");
+        assertEquals(money, Money.parse("2.50"));
+        assertEquals(money.hashCode(), Money.parse("2.50").hashCode());
+        assertNotEquals(money, Money.parse("2.49"));
+        assertNotEquals(money, null);
+        assertNotEquals(money, 2.5);
+    }
+
+    @Test
+    public void testToString() {
+        assertEquals("$2.50", Money.parse("2.5").toString());
+        assertEquals("-$1,000", Money.parse("-1000").toString());
+    }
+}
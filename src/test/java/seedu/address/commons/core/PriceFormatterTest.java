@@ -77,4 +77,12 @@ public class PriceFormatterTest {
         assertEquals(formatPrice(amount), "-$2,312,233.59");
     }
 
+    @Test
+    public void formatPrice_money_correctRepresentation() {
+        assertEquals(formatPrice(Money.parse("0.3")), "$0.30");
+        assertEquals(formatPrice(Money.parse("-2312233.5877")), "-$2,312,233.59");
+        assertEquals(formatPrice(Money.parse("53355454")), "$53,355,454");
+        assertEquals(formatPrice(Money.ZERO), "$0.00");
+    }
+
 }
@@ -1,7 +1,9 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.util.CollectionUtil.findDuplicates;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -82,6 +84,22 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void findDuplicatesByKey() {
+        // null arguments
+        assertThrows(NullPointerException.class, () -> findDuplicates((List<String>) null, String::toLowerCase));
+        assertThrows(NullPointerException.class, () -> findDuplicates(Collections.<String>emptyList(), null));
+
+        // no duplicates
+        assertTrue(findDuplicates(Collections.<String>emptyList(), String::toLowerCase).isEmpty());
+        assertTrue(findDuplicates(Arrays.asList("a", "b", "c"), String::toLowerCase).isEmpty());
+
+        // duplicates by key are reported in iteration order, first occurrence excluded
+        assertEquals(Arrays.asList("A", "b"),
+                findDuplicates(Arrays.asList("a", "B", "A", "c", "b"), String::toLowerCase));
+        assertEquals(Arrays.asList("a", "a"), findDuplicates(Arrays.asList("a", "a", "a"), String::toLowerCase));
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
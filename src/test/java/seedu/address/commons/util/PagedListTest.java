@@ -0,0 +1,74 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.AbstractList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PagedListTest {
+
+    @Test
+    public void constructor_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> new PagedList<>(null));
+        assertThrows(IllegalArgumentException.class, () -> new PagedList<>(List.of(1), 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new PagedList<>(List.of(1), 1, 0));
+    }
+
+    @Test
+    public void get_sameElements_asSource() {
+        CountingList source = new CountingList(10);
+        PagedList<Integer> pagedList = new PagedList<>(source, 4, 2);
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), pagedList);
+        assertThrows(IndexOutOfBoundsException.class, () -> pagedList.get(10));
+        assertThrows(IndexOutOfBoundsException.class, () -> pagedList.get(-1));
+    }
+
+    @Test
+    public void get_pageKept_sourceReadOnce() {
+        CountingList source = new CountingList(10);
+        PagedList<Integer> pagedList = new PagedList<>(source, 4, 2);
+        for (int i = 0; i < 3; i++) {
+            pagedList.get(5);
+            pagedList.get(6);
+        }
+        assertEquals(4, source.reads);
+
+        // last page is only as long as the rest of the list
+        pagedList.get(9);
+        assertEquals(6, source.reads);
+
+        // reading a third page drops the least recently read page
+        pagedList.get(0);
+        assertEquals(10, source.reads);
+        pagedList.get(9);
+        assertEquals(10, source.reads);
+        pagedList.get(5);
+        assertEquals(14, source.reads);
+    }
+
+    /**
+     * A list of the numbers from 0 that counts how many times its elements are read.
+     */
+    private static class CountingList extends AbstractList<Integer> {
+        private final int size;
+        private int reads;
+
+        private CountingList(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public Integer get(int index) {
+            reads++;
+            return index;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentSortedListTest {
+
+    private static final Comparator<Integer> ORDER = Comparator.naturalOrder();
+
+    @Test
+    public void of_unorderedElements_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> PersistentSortedList.of(List.of(2, 1), ORDER));
+        assertThrows(IllegalArgumentException.class, () -> PersistentSortedList.of(List.of(1, 1), ORDER));
+    }
+
+    @Test
+    public void of_orderedElements_sameElements() {
+        assertEquals(List.of(), PersistentSortedList.of(List.of(), ORDER));
+        assertEquals(List.of(1, 3, 5, 7, 9), PersistentSortedList.of(List.of(1, 3, 5, 7, 9), ORDER));
+    }
+
+    @Test
+    public void with_newListReturned_originalUnchanged() {
+        PersistentSortedList<Integer> original = PersistentSortedList.of(List.of(1, 3, 5), ORDER);
+        PersistentSortedList<Integer> added = original.with(4);
+        PersistentSortedList<Integer> removed = added.without(1);
+
+        assertEquals(List.of(1, 3, 5), original);
+        assertEquals(List.of(1, 3, 4, 5), added);
+        assertEquals(List.of(3, 4, 5), removed);
+    }
+
+    @Test
+    public void with_equalElement_replaced() {
+        Comparator<String> ignoreCase = String.CASE_INSENSITIVE_ORDER;
+        PersistentSortedList<String> list = PersistentSortedList.of(List.of("apple", "pear"), ignoreCase);
+        assertEquals(List.of("APPLE", "pear"), list.with("APPLE"));
+    }
+
+    @Test
+    public void without_absentElement_sameList() {
+        PersistentSortedList<Integer> list = PersistentSortedList.of(List.of(1, 3, 5), ORDER);
+        assertSame(list, list.without(4));
+    }
+
+    @Test
+    public void findAndRank() {
+        PersistentSortedList<Integer> list = PersistentSortedList.of(List.of(10, 20, 30), ORDER);
+        assertEquals(Optional.of(20), list.find(20));
+        assertFalse(list.find(25).isPresent());
+        assertEquals(0, list.rank(5));
+        assertEquals(1, list.rank(20));
+        assertEquals(2, list.rank(25));
+        assertEquals(3, list.rank(35));
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentSortedList<Integer> list = PersistentSortedList.of(List.of(1, 2), ORDER);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+    }
+
+    @Test
+    public void randomChanges_matchesTreeSet() {
+        Random random = new Random(42);
+        TreeSet<Integer> expected = new TreeSet<>();
+        PersistentSortedList<Integer> list = PersistentSortedList.empty(ORDER);
+        List<PersistentSortedList<Integer>> versions = new ArrayList<>();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            int value = random.nextInt(500);
+            if (random.nextBoolean()) {
+                expected.add(value);
+                list = list.with(value);
+            } else {
+                expected.remove(value);
+                list = list.without(value);
+            }
+            if (i % 100 == 0) {
+                versions.add(list);
+                expectedVersions.add(new ArrayList<>(expected));
+            }
+        }
+
+        assertEquals(new ArrayList<>(expected), list);
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(i, list.rank(list.get(i)));
+        }
+        // earlier versions are unchanged by later changes
+        assertEquals(expectedVersions, versions);
+        assertTrue(list.size() > 0);
+    }
+
+    @Test
+    public void differencesFrom_derivedList_changesFound() {
+        Random random = new Random(7);
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            values.add(i * 2);
+        }
+        PersistentSortedList<Integer> earlier = PersistentSortedList.of(values, ORDER);
+        PersistentSortedList<Integer> later = earlier;
+        TreeSet<Integer> removed = new TreeSet<>();
+        TreeSet<Integer> added = new TreeSet<>();
+        for (int i = 0; i < 20; i++) {
+            int value = random.nextInt(2000);
+            if (value % 2 == 0) {
+                later = later.without(value);
+                removed.add(value);
+            } else {
+                later = later.with(value);
+                added.add(value);
+            }
+        }
+
+        List<PersistentSortedList.Difference<Integer>> differences = later.differencesFrom(earlier);
+        TreeSet<Integer> foundRemoved = new TreeSet<>();
+        TreeSet<Integer> foundAdded = new TreeSet<>();
+        int previous = -1;
+        for (PersistentSortedList.Difference<Integer> difference : differences) {
+            int value = difference.getBefore().orElseGet(() -> difference.getAfter().get());
+            assertTrue(value > previous);
+            previous = value;
+            difference.getBefore().ifPresent(foundRemoved::add);
+            difference.getAfter().ifPresent(foundAdded::add);
+        }
+        assertEquals(removed, foundRemoved);
+        assertEquals(added, foundAdded);
+        assertEquals(differences.size(), later.size() == 0 ? 0 : removed.size() + added.size());
+    }
+
+    @Test
+    public void differencesFrom_replacedElement_bothReported() {
+        Comparator<String> ignoreCase = String.CASE_INSENSITIVE_ORDER;
+        PersistentSortedList<String> earlier = PersistentSortedList.of(List.of("apple", "pear"), ignoreCase);
+        List<PersistentSortedList.Difference<String>> differences = earlier.with("PEAR").differencesFrom(earlier);
+        assertEquals(1, differences.size());
+        assertEquals(Optional.of("pear"), differences.get(0).getBefore());
+        assertEquals(Optional.of("PEAR"), differences.get(0).getAfter());
+        assertEquals(List.of(), earlier.differencesFrom(earlier));
+    }
+}
@@ -0,0 +1,164 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.client.Client;
+import seedu.address.storage.JsonJeeqTrackerStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class CommandPipelineTest {
+
+    private static final String ADD_AMY = AddCommand.COMMAND_WORD + NAME_DESC_AMY + ADDRESS_DESC_AMY
+            + PHONE_DESC_AMY + EMAIL_DESC_AMY;
+    private static final String ADD_BOB = AddCommand.COMMAND_WORD + NAME_DESC_BOB + ADDRESS_DESC_BOB
+            + PHONE_DESC_BOB + EMAIL_DESC_BOB;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager();
+    private CommandPipeline pipeline;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonJeeqTrackerStorage(temporaryFolder.resolve("jeeqTracker.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        pipeline = new CommandPipeline(new LogicManager(model, storage));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pipeline.shutdown();
+    }
+
+    @Test
+    public void submit_validCommands_executedInOrder() throws Exception {
+        CompletableFuture<CommandOutcome> addAmy = pipeline.submit(ADD_AMY);
+        CompletableFuture<CommandOutcome> addBob = pipeline.submit(ADD_BOB);
+        CompletableFuture<CommandOutcome> list = pipeline.submit(ListCommand.COMMAND_WORD);
+
+        assertEquals(ListCommand.MESSAGE_SUCCESS, list.get().getCommandResult().getFeedbackToUser());
+        assertEquals(model.calculateTotalTransaction(model.getFilteredClientList()), list.get().getNetTransaction());
+
+        // each outcome holds the changes to the clients made by its command
+        List<Client> clients = new ArrayList<>();
+        applyChanges(addAmy.get(), clients);
+        assertEquals(List.of(model.getFilteredClientList().get(0)), clients);
+        assertEquals(List.of(new ClientListChange(1, 0, List.of(model.getFilteredClientList().get(1)))),
+                addBob.get().getClientListChanges());
+        applyChanges(addBob.get(), clients);
+        applyChanges(list.get(), clients);
+        assertEquals(model.getFilteredClientList(), clients);
+    }
+
+    @Test
+    public void submit_filterChanged_changesGiveFilteredList() throws Exception {
+        List<Client> clients = new ArrayList<>();
+        applyChanges(pipeline.submit(ADD_AMY).get(), clients);
+        applyChanges(pipeline.submit(ADD_BOB).get(), clients);
+        applyChanges(pipeline.submit(FindCommand.COMMAND_WORD + " " + VALID_NAME_BOB).get(), clients);
+        assertEquals(model.getFilteredClientList(), clients);
+        assertEquals(1, clients.size());
+
+        // changes made by a failed command are given with the next outcome
+        assertTrue(pipeline.submit("uicfhmowqewca").handle((outcome, error) -> error).get() != null);
+        applyChanges(pipeline.submit(ListCommand.COMMAND_WORD).get(), clients);
+        assertEquals(model.getFilteredClientList(), clients);
+        assertEquals(2, clients.size());
+    }
+
+    @Test
+    public void submitTask_afterCommands_runsAfterCommands() throws Exception {
+        pipeline.submit(ADD_AMY);
+        pipeline.runTask(() -> model.setGuiSettings(new GuiSettings(1, 2, 3, 4)));
+        CompletableFuture<Integer> clientCount = pipeline.submitTask(() -> model.getFilteredClientList().size());
+        assertEquals(1, clientCount.get());
+        assertEquals(new GuiSettings(1, 2, 3, 4), model.getGuiSettings());
+    }
+
+    @Test
+    public void submit_invalidCommand_completesExceptionally() throws Exception {
+        Throwable failure = pipeline.submit("uicfhmowqewca").handle((outcome, error) -> error).get();
+        assertTrue(failure instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, failure.getMessage());
+
+        // later commands are still executed
+        assertEquals(ListCommand.MESSAGE_SUCCESS,
+                pipeline.submit(ListCommand.COMMAND_WORD).get().getCommandResult().getFeedbackToUser());
+    }
+
+    @Test
+    public void submit_errorThrown_completesExceptionally() throws Exception {
+        StorageManager storage = new StorageManager(
+                new JsonJeeqTrackerStorage(temporaryFolder.resolve("errorJeeqTracker.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("errorUserPrefs.json")));
+        CommandPipeline errorPipeline = new CommandPipeline(new LogicManager(model, storage) {
+            @Override
+            public CommandResult execute(String commandText) throws CommandException, ParseException {
+                if (commandText.equals(ListCommand.COMMAND_WORD)) {
+                    throw new StackOverflowError();
+                }
+                return super.execute(commandText);
+            }
+        });
+        try {
+            Throwable failure = errorPipeline.submit(ListCommand.COMMAND_WORD).handle((outcome, error) -> error).get();
+            assertTrue(failure instanceof StackOverflowError);
+
+            // later commands are still executed
+            errorPipeline.submit(ADD_AMY).get();
+            assertEquals(1, model.getFilteredClientList().size());
+        } finally {
+            errorPipeline.shutdown();
+        }
+    }
+
+    @Test
+    public void shutdown_commandsSubmitted_waitsForCommands() {
+        CompletableFuture<CommandOutcome> addAmy = pipeline.submit(ADD_AMY);
+        pipeline.shutdown();
+        assertTrue(addAmy.isDone());
+        assertEquals(1, model.getFilteredClientList().size());
+        assertThrows(RejectedExecutionException.class, () -> pipeline.submit(ListCommand.COMMAND_WORD));
+    }
+
+    private static void applyChanges(CommandOutcome outcome, List<Client> clients) {
+        for (ClientListChange change : outcome.getClientListChanges()) {
+            change.applyTo(clients);
+        }
+    }
+}
@@ -1,27 +1,39 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_CLIENT_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODE;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalClients.ALICE;
 import static seedu.address.testutil.TypicalClients.AMY;
 import static seedu.address.testutil.TypicalClients.BENSON;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.CommandMetrics;
+import seedu.address.commons.core.CommandMetrics.Phase;
+import seedu.address.logic.commands.AbortCommand;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BeginCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.CommitCommand;
+import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -91,6 +103,114 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_readOnlyCommands_saveSkipped() throws Exception {
+        Path jeeqTrackerFilePath = temporaryFolder.resolve("jeeqTracker.json");
+
+        // first command always saves
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, logic.getSavesPerformed());
+        assertEquals(0, logic.getSavesSkipped());
+
+        Files.delete(jeeqTrackerFilePath);
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, logic.getSavesPerformed());
+        assertEquals(2, logic.getSavesSkipped());
+        assertFalse(Files.exists(jeeqTrackerFilePath));
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + ADDRESS_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY);
+        assertEquals(2, logic.getSavesPerformed());
+        assertTrue(Files.exists(jeeqTrackerFilePath));
+    }
+
+    @Test
+    public void execute_batch_savedOnceCommitted() throws Exception {
+        Path jeeqTrackerFilePath = temporaryFolder.resolve("jeeqTracker.json");
+        String addAmyCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + ADDRESS_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY;
+        logic.execute(ListCommand.COMMAND_WORD);
+        Files.delete(jeeqTrackerFilePath);
+
+        // nothing is saved while the batch is open, or after it is aborted
+        logic.execute(BeginCommand.COMMAND_WORD);
+        logic.execute(addAmyCommand);
+        assertFalse(Files.exists(jeeqTrackerFilePath));
+        logic.execute(AbortCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(jeeqTrackerFilePath));
+        assertEquals(1, logic.getSavesPerformed());
+
+        // the changes of a committed batch are saved once
+        logic.execute(BeginCommand.COMMAND_WORD);
+        logic.execute(addAmyCommand);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(jeeqTrackerFilePath));
+        logic.execute(CommitCommand.COMMAND_WORD);
+        assertEquals(2, logic.getSavesPerformed());
+        assertTrue(Files.exists(jeeqTrackerFilePath));
+    }
+
+    @Test
+    public void execute_undoAndRedo_eachCommandUndoneAndSaved() throws Exception {
+        Path jeeqTrackerFilePath = temporaryFolder.resolve("jeeqTracker.json");
+        String addAmyCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + ADDRESS_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY;
+        logic.execute(addAmyCommand);
+        logic.execute(ListCommand.COMMAND_WORD);
+
+        // the changes of a committed batch are undone together
+        logic.execute(BeginCommand.COMMAND_WORD);
+        logic.execute(DeleteCommand.COMMAND_WORD + " 1 " + PREFIX_MODE + "client");
+        logic.execute(CommitCommand.COMMAND_WORD);
+        assertEquals(0, model.getFilteredClientList().size());
+
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(1, model.getFilteredClientList().size());
+        assertEquals(model.getJeeqTracker(), new JsonJeeqTrackerStorage(jeeqTrackerFilePath).readJeeqTracker().get());
+
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(0, model.getFilteredClientList().size());
+        assertCommandException(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_NO_CHANGE);
+
+        logic.execute(RedoCommand.COMMAND_WORD);
+        assertEquals(1, model.getFilteredClientList().size());
+        assertEquals(model.getJeeqTracker(), new JsonJeeqTrackerStorage(jeeqTrackerFilePath).readJeeqTracker().get());
+    }
+
+    @Test
+    public void execute_saveFailed_retriedOnNextCommand() {
+        JsonJeeqTrackerStorage jeeqTrackerStorage =
+                new JsonJeeqTrackerIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionJeeqTracker.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(jeeqTrackerStorage, userPrefsStorage));
+
+        assertThrows(CommandException.class, () -> logic.execute(ListCommand.COMMAND_WORD));
+        assertThrows(CommandException.class, () -> logic.execute(ListCommand.COMMAND_WORD));
+        assertEquals(0, logic.getSavesPerformed());
+        assertEquals(0, logic.getSavesSkipped());
+    }
+
+    @Test
+    public void execute_commands_metricsRecorded() throws Exception {
+        CommandMetrics metrics = logic.getCommandMetrics();
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute("  LIST");
+        assertEquals(2, metrics.getRuns(ListCommand.COMMAND_WORD));
+        // only the first command saves, so only its write is timed
+        assertEquals(1, metrics.getPhaseCount(ListCommand.COMMAND_WORD, Phase.PERSIST));
+        assertTrue(metrics.getWrittenBytes(ListCommand.COMMAND_WORD) > 0);
+
+        // a command that fails to parse is timed up to parsing
+        assertThrows(ParseException.class, () -> logic.execute(AddCommand.COMMAND_WORD));
+        assertEquals(1, metrics.getPhaseCount(AddCommand.COMMAND_WORD, Phase.PARSE));
+        assertEquals(0, metrics.getPhaseCount(AddCommand.COMMAND_WORD, Phase.EXECUTE));
+
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+        assertEquals(1, metrics.getRuns(CommandMetrics.UNKNOWN_COMMAND_WORD));
+    }
+
     @Test
     public void getFilteredClientList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredClientList().remove(0));
@@ -0,0 +1,33 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.getTypicalJeeqTracker;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class AbortCommandTest {
+
+    private final Model model = new ModelManager(getTypicalJeeqTracker(), new UserPrefs());
+
+    @Test
+    public void execute_batchOpen_changesUndone() {
+        model.beginBatch();
+        model.deleteClient(ALICE);
+
+        assertCommandSuccess(new AbortCommand(), model, AbortCommand.MESSAGE_SUCCESS,
+                new ModelManager(getTypicalJeeqTracker(), new UserPrefs()));
+        assertFalse(model.isInBatch());
+    }
+
+    @Test
+    public void execute_noBatch_throwsCommandException() {
+        assertCommandFailure(new AbortCommand(), model, AbortCommand.MESSAGE_NO_BATCH);
+    }
+}
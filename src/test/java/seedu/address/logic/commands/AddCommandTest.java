@@ -14,12 +14,16 @@ import java.util.function.Predicate;
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.CommandMetrics;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.DateIndex;
+import seedu.address.model.GoodsIndex;
 import seedu.address.model.JeeqTracker;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyJeeqTracker;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.TransactionFeed;
 import seedu.address.model.client.Client;
 import seedu.address.testutil.ClientBuilder;
 
@@ -164,6 +168,78 @@ public class AddCommandTest {
         public void updateFilteredClientList(Predicate<Client> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public Predicate<Client> getFilteredClientPredicate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void abortBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isInBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void endHistoryStep() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public DateIndex getDateIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+
+        @Override
+        public TransactionFeed getTransactionFeed() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CommandMetrics getCommandMetrics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public GoodsIndex getGoodsIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public double calculateTotalTransaction(ObservableList<Client> filteredClientList) {
             throw new AssertionError("This method should not be called.");
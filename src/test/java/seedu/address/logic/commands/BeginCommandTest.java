@@ -0,0 +1,21 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class BeginCommandTest {
+
+    private final Model model = new ModelManager();
+
+    @Test
+    public void execute_batchBegun() {
+        CommandResult expectedResult = new CommandResult(BeginCommand.MESSAGE_SUCCESS, true);
+        assertCommandSuccess(new BeginCommand(), model, expectedResult, new ModelManager());
+        assertTrue(model.isInBatch());
+    }
+}
@@ -11,22 +11,31 @@ import static seedu.address.testutil.TypicalTransaction.BUY_ORANGE;
 import static seedu.address.testutil.TypicalTransaction.BUY_TOYS;
 
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.CommandMetrics;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.DateIndex;
+import seedu.address.model.GoodsIndex;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyJeeqTracker;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.TransactionFeed;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.client.Client;
 import seedu.address.model.client.UniqueClientList;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.model.transaction.TransactionLog;
 import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.TransactionBuilder;
 
 class BuyCommandTest {
 
@@ -67,6 +76,22 @@ class BuyCommandTest {
         BuyCommand buyCommand = new BuyCommand(INDEX_FIRST_CLIENT, BUY_ORANGE);
         buyCommand.execute(modelStub);
         assertEquals(-10101.00, modelStub.getFilteredClientList().get(0).getTotalTransacted());
+
+        // the client is replaced rather than changed in place
+        assertTrue(validClient.getTransactions().isEmpty());
+    }
+
+    @Test
+    public void execute_totalTooLarge_throwsCommandException() {
+        Transaction largestPurchase = new TransactionBuilder().withPrice("999999.99").withQuantity("999999").build();
+        Client client = new ClientBuilder().build()
+                .withTransactions(new TransactionLog(Collections.nCopies(922, largestPurchase)));
+        Model modelStub = new ModelStub(client);
+
+        assertThrows(CommandException.class, Messages.MESSAGE_TRANSACTION_TOTAL_TOO_LARGE, () ->
+                new BuyCommand(INDEX_FIRST_CLIENT, largestPurchase).execute(modelStub));
+        assertEquals(client, modelStub.getFilteredClientList().get(0));
+        assertEquals(922, modelStub.getFilteredClientList().get(0).getTransactions().size());
     }
 
     @Test
@@ -162,7 +187,7 @@ class BuyCommandTest {
 
         @Override
         public void setClient(Client target, Client editedClient) {
-            // method body is left empty intentionally
+            clientList.setClient(target, editedClient);
         }
 
         @Override
@@ -174,6 +199,78 @@ class BuyCommandTest {
         public void updateFilteredClientList(Predicate<Client> predicate) {
             // method body is left empty intentionally
         }
+
+        @Override
+        public Predicate<Client> getFilteredClientPredicate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void abortBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isInBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void endHistoryStep() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public DateIndex getDateIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+
+        @Override
+        public TransactionFeed getTransactionFeed() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CommandMetrics getCommandMetrics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public GoodsIndex getGoodsIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public double calculateTotalTransaction(ObservableList<Client> filteredClientList) {
             throw new AssertionError("This method should not be called.");
@@ -0,0 +1,33 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalClients.ALICE;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class CommitCommandTest {
+
+    private final Model model = new ModelManager();
+
+    @Test
+    public void execute_batchOpen_changesKept() {
+        model.beginBatch();
+        model.addClient(ALICE);
+
+        Model expectedModel = new ModelManager();
+        expectedModel.addClient(ALICE);
+        CommandResult expectedResult = new CommandResult(CommitCommand.MESSAGE_SUCCESS, true);
+        assertCommandSuccess(new CommitCommand(), model, expectedResult, expectedModel);
+        assertFalse(model.isInBatch());
+    }
+
+    @Test
+    public void execute_noBatch_throwsCommandException() {
+        assertCommandFailure(new CommitCommand(), model, CommitCommand.MESSAGE_NO_BATCH);
+    }
+}
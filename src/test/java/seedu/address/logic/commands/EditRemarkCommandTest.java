@@ -17,12 +17,16 @@ import java.util.function.Predicate;
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.CommandMetrics;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.DateIndex;
+import seedu.address.model.GoodsIndex;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyJeeqTracker;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.TransactionFeed;
 import seedu.address.model.client.Client;
 import seedu.address.model.client.UniqueClientList;
 import seedu.address.model.remark.Remark;
@@ -181,6 +185,79 @@ public class EditRemarkCommandTest {
             // method body is left empty intentionally
         }
 
+        @Override
+        public Predicate<Client> getFilteredClientPredicate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void abortBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isInBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void endHistoryStep() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+
+        @Override
+        public DateIndex getDateIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+
+
+        @Override
+        public TransactionFeed getTransactionFeed() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CommandMetrics getCommandMetrics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public GoodsIndex getGoodsIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public double calculateTotalTransaction(ObservableList<Client> filteredClientList) {
             throw new AssertionError("This methods should not be called.");
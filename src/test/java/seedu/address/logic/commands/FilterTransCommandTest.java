@@ -1,16 +1,23 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalClients.getTypicalJeeqTracker;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_CLIENT;
+import static seedu.address.testutil.TypicalTransaction.BUY_BOOKS;
+import static seedu.address.testutil.TypicalTransaction.BUY_TOYS;
+
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.TransactionFeedQuery;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.transaction.TransactionLog;
 import seedu.address.testutil.EditClientDescriptorBuilder;
@@ -29,13 +36,24 @@ class FilterTransCommandTest {
     @Test
     public void execute_buyFilteredList_success() {
         assertCommandSuccess(new FilterTransCommand(true), model,
-                String.format(FilterTransCommand.MESSAGE_SUCCESS, "buy"), expectedModel);
+                String.format(FilterTransCommand.MESSAGE_SUCCESS, 2, "buy transactions"), expectedModel);
     }
 
     @Test
     public void execute_sellFilteredList_success() {
         assertCommandSuccess(new FilterTransCommand(false), model,
-                String.format(FilterTransCommand.MESSAGE_SUCCESS, "sell"), expectedModel);
+                String.format(FilterTransCommand.MESSAGE_SUCCESS, 0, "sell transactions"), expectedModel);
+    }
+
+    @Test
+    public void execute_sortedByAmount_transactionsShownInOrder() throws Exception {
+        TransactionFeedQuery query = new TransactionFeedQuery(Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.of(TransactionFeedQuery.Order.LARGEST));
+        CommandResult result = new FilterTransCommand(query).execute(model);
+
+        assertEquals(String.format(FilterTransCommand.MESSAGE_SUCCESS, 2, "transactions, largest first"),
+                result.getFeedbackToUser());
+        assertEquals(List.of(BUY_TOYS, BUY_BOOKS), result.getTransactionsToShow().get());
     }
 
     @Test
@@ -0,0 +1,81 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.getTypicalJeeqTracker;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.client.ClientTradedGoodsPredicate;
+import seedu.address.model.transaction.Goods;
+import seedu.address.testutil.TransactionBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindGoodsCommand}.
+ */
+public class FindGoodsCommandTest {
+    private Model model = new ModelManager(getTypicalJeeqTracker(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalJeeqTracker(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FindGoodsCommand findBooksCommand = new FindGoodsCommand(List.of(new Goods("Books")));
+        FindGoodsCommand findToysCommand = new FindGoodsCommand(List.of(new Goods("Toys")));
+
+        // same object -> returns true
+        assertTrue(findBooksCommand.equals(findBooksCommand));
+
+        // same values -> returns true
+        assertTrue(findBooksCommand.equals(new FindGoodsCommand(List.of(new Goods("Books")))));
+
+        // different types -> returns false
+        assertFalse(findBooksCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findBooksCommand.equals(null));
+
+        // different goods -> returns false
+        assertFalse(findBooksCommand.equals(findToysCommand));
+    }
+
+    @Test
+    public void execute_goodsNotTraded_noClientFound() {
+        List<Goods> goodsList = List.of(new Goods("Durians"));
+        String expectedMessage = String.format(FindGoodsCommand.MESSAGE_SUCCESS, 0, 0, "Durians");
+        expectedModel.updateFilteredClientList(
+                new ClientTradedGoodsPredicate(goodsList, expectedModel.getGoodsIndex()));
+        assertCommandSuccess(new FindGoodsCommand(goodsList), model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredClientList());
+    }
+
+    @Test
+    public void execute_tradedGoods_clientsFound() {
+        List<Goods> goodsList = List.of(new Goods("books"), new Goods("Toys"));
+        String expectedMessage = String.format(FindGoodsCommand.MESSAGE_SUCCESS, 1, 2, "books, Toys");
+        expectedModel.updateFilteredClientList(
+                new ClientTradedGoodsPredicate(goodsList, expectedModel.getGoodsIndex()));
+        assertCommandSuccess(new FindGoodsCommand(goodsList), model, expectedMessage, expectedModel);
+        assertEquals(List.of(BENSON), model.getFilteredClientList());
+    }
+
+    @Test
+    public void execute_buyAfterFind_clientStillListedAndIndexUpdated() throws Exception {
+        List<Goods> goodsList = List.of(new Goods("Books"));
+        new FindGoodsCommand(goodsList).execute(model);
+
+        new BuyCommand(Index.fromOneBased(1), new TransactionBuilder().withGoods("Durians").build()).execute(model);
+        assertEquals(1, model.getFilteredClientList().size());
+        assertEquals(List.of(model.getFilteredClientList().get(0)),
+                model.getGoodsIndex().getClients(new Goods("Durians")));
+    }
+}
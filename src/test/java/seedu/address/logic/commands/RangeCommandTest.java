@@ -0,0 +1,92 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_CLIENT;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_CLIENT;
+import static seedu.address.testutil.TypicalTransaction.BUY_BOOKS;
+import static seedu.address.testutil.TypicalTransaction.BUY_TOYS;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.JeeqTracker;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.transaction.Date;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.TransactionBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code RangeCommand}.
+ */
+public class RangeCommandTest {
+
+    private static final Date FROM = new Date("01/01/2021");
+    private static final Date TO = new Date("30/06/2021");
+
+    private static final Transaction BUY_APPLES = new TransactionBuilder().withGoods("Apples").withPrice("2")
+            .withQuantity("5").withDate("15/03/2021").build();
+    private static final Transaction SELL_PEARS = new TransactionBuilder().withTransactionType("sell")
+            .withGoods("Pears").withPrice("3").withQuantity("10").withDate("10/01/2021").build();
+    private static final Transaction SELL_PLUMS = new TransactionBuilder().withTransactionType("sell")
+            .withGoods("Plums").withPrice("1").withQuantity("1").withDate("01/07/2021").build();
+
+    private final Model model = new ModelManager(createJeeqTracker(), new UserPrefs());
+
+    @Test
+    public void execute_allClients_transactionsOfAllClientsListed() throws Exception {
+        CommandResult result = new RangeCommand(Optional.empty(), FROM, TO).execute(model);
+
+        assertEquals(List.of(SELL_PEARS, BUY_APPLES), result.getTransactionsToShow().get());
+        assertEquals(String.format(RangeCommand.MESSAGE_SUCCESS, 2, FROM, TO, RangeCommand.MESSAGE_ALL_CLIENTS,
+                "$10", "$30", "$20"), result.getFeedbackToUser());
+        assertEquals(2, model.getFilteredClientList().size());
+    }
+
+    @Test
+    public void execute_oneClient_transactionsOfClientListed() throws Exception {
+        CommandResult result = new RangeCommand(Optional.of(INDEX_SECOND_CLIENT), FROM, TO).execute(model);
+
+        assertEquals(List.of(SELL_PEARS), result.getTransactionsToShow().get());
+        assertEquals(String.format(RangeCommand.MESSAGE_SUCCESS, 1, FROM, TO, "Bob", "$0.00", "$30", "$30"),
+                result.getFeedbackToUser());
+        assertEquals(1, model.getFilteredClientList().size());
+        assertEquals("Bob", model.getFilteredClientList().get(0).getName().fullName);
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        RangeCommand command = new RangeCommand(Optional.of(Index.fromOneBased(3)), FROM, TO);
+        assertCommandFailure(command, model, Messages.MESSAGE_INVALID_CLIENT_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        RangeCommand allClientsCommand = new RangeCommand(Optional.empty(), FROM, TO);
+        RangeCommand firstClientCommand = new RangeCommand(Optional.of(INDEX_FIRST_CLIENT), FROM, TO);
+
+        assertTrue(allClientsCommand.equals(allClientsCommand));
+        assertTrue(allClientsCommand.equals(new RangeCommand(Optional.empty(), new Date("01/01/2021"), TO)));
+        assertFalse(allClientsCommand.equals(firstClientCommand));
+        assertFalse(allClientsCommand.equals(new RangeCommand(Optional.empty(), FROM, FROM)));
+        assertFalse(allClientsCommand.equals(null));
+        assertFalse(allClientsCommand.equals(1));
+    }
+
+    private static JeeqTracker createJeeqTracker() {
+        JeeqTracker jeeqTracker = new JeeqTracker();
+        jeeqTracker.addClient(new ClientBuilder().withName("Amy").withTransaction(BUY_APPLES)
+                .withTransaction(SELL_PLUMS).withTransaction(BUY_BOOKS).withTransaction(BUY_TOYS).build());
+        jeeqTracker.addClient(new ClientBuilder().withName("Bob").withTransaction(SELL_PEARS).build());
+        return jeeqTracker;
+    }
+}
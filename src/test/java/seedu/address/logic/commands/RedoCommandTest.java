@@ -0,0 +1,40 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.getTypicalJeeqTracker;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class RedoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalJeeqTracker(), new UserPrefs());
+
+    @Test
+    public void execute_changesUndone_changesRedone() {
+        model.deleteClient(ALICE);
+        model.undo();
+
+        Model expectedModel = new ModelManager(getTypicalJeeqTracker(), new UserPrefs());
+        expectedModel.deleteClient(ALICE);
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void execute_noUndoneChanges_throwsCommandException() {
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NO_CHANGE);
+    }
+
+    @Test
+    public void execute_batchOpen_throwsCommandException() {
+        model.deleteClient(ALICE);
+        model.undo();
+        model.beginBatch();
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_IN_BATCH);
+    }
+}
@@ -0,0 +1,160 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_CLIENT_DISPLAYED_INDEX;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showClientAtIndex;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.getTypicalJeeqTracker;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_CLIENT;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.JeeqTrackerParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class RunCommandTest {
+
+    private static final String BUY_APPLES = "buy 1 q/10 g/apples price/1.50";
+    private static final String SELL_PEARS = "sell 2 q/5 g/pears price/2";
+    private static final String BUY_FROM_MISSING_CLIENT = "buy 100 q/10 g/apples price/1.50";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager(getTypicalJeeqTracker(), new UserPrefs());
+
+    @Test
+    public void execute_validScript_allCommandsRun() throws Exception {
+        Path scriptPath = writeScript("# trades of the day", "", BUY_APPLES, "  " + SELL_PEARS + "  ");
+
+        Model expectedModel = new ModelManager(getTypicalJeeqTracker(), new UserPrefs());
+        JeeqTrackerParser parser = new JeeqTrackerParser();
+        parser.parseCommand(BUY_APPLES).execute(expectedModel);
+        parser.parseCommand(SELL_PEARS).execute(expectedModel);
+
+        assertCommandSuccess(new RunCommand(scriptPath, false), model,
+                String.format(RunCommand.MESSAGE_SUCCESS, 2, scriptPath), expectedModel);
+    }
+
+    @Test
+    public void execute_dryRun_modelUnchanged() throws Exception {
+        Path scriptPath = writeScript(BUY_APPLES, SELL_PEARS);
+        CommandResult expectedResult = new CommandResult(
+                String.format(RunCommand.MESSAGE_DRY_RUN_SUCCESS, 2, scriptPath), true);
+        assertCommandSuccess(new RunCommand(scriptPath, true), model, expectedResult,
+                new ModelManager(getTypicalJeeqTracker(), new UserPrefs()));
+
+        // commands are checked against the clients shown, including the ones changed by earlier commands
+        showClientAtIndex(model, INDEX_FIRST_CLIENT);
+        Path sameClientScriptPath = writeScript(BUY_APPLES, BUY_APPLES);
+        expectedResult = new CommandResult(
+                String.format(RunCommand.MESSAGE_DRY_RUN_SUCCESS, 2, sameClientScriptPath), true);
+        Model expectedModel = new ModelManager(getTypicalJeeqTracker(), new UserPrefs());
+        showClientAtIndex(expectedModel, INDEX_FIRST_CLIENT);
+        assertCommandSuccess(new RunCommand(sameClientScriptPath, true), model, expectedResult, expectedModel);
+
+        scriptPath = writeScript(BUY_APPLES, SELL_PEARS);
+        assertCommandFailure(new RunCommand(scriptPath, true), model,
+                String.format(RunCommand.MESSAGE_FAILED, 1, 2, scriptPath) + "\n"
+                + String.format(RunCommand.MESSAGE_LINE_FAILED, 2, MESSAGE_INVALID_CLIENT_DISPLAYED_INDEX));
+    }
+
+    @Test
+    public void execute_unparsableLines_nothingRun() throws Exception {
+        Path scriptPath = writeScript(BUY_APPLES, "buy apples", "", "sneeze", "run " + scriptFile());
+        String expectedMessage = String.format(RunCommand.MESSAGE_FAILED, 3, 4, scriptPath) + "\n"
+                + String.format(RunCommand.MESSAGE_LINE_FAILED, 2,
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, BuyCommand.MESSAGE_USAGE)) + "\n"
+                + String.format(RunCommand.MESSAGE_LINE_FAILED, 4, MESSAGE_UNKNOWN_COMMAND) + "\n"
+                + String.format(RunCommand.MESSAGE_LINE_FAILED, 5, RunCommand.MESSAGE_NESTED_RUN);
+        assertCommandFailure(new RunCommand(scriptPath, false), model, expectedMessage);
+    }
+
+    @Test
+    public void execute_batchAndHistoryCommands_nothingRun() throws Exception {
+        for (String commandWord : List.of(BeginCommand.COMMAND_WORD, CommitCommand.COMMAND_WORD,
+                AbortCommand.COMMAND_WORD, UndoCommand.COMMAND_WORD, RedoCommand.COMMAND_WORD)) {
+            Path scriptPath = writeScript(BUY_APPLES, commandWord, SELL_PEARS);
+            String expectedMessage = String.format(RunCommand.MESSAGE_FAILED, 1, 3, scriptPath) + "\n"
+                    + String.format(RunCommand.MESSAGE_LINE_FAILED, 2,
+                            String.format(RunCommand.MESSAGE_COMMAND_NOT_IN_SCRIPT, commandWord));
+            assertCommandFailure(new RunCommand(scriptPath, false), model, expectedMessage);
+            assertFalse(model.isInBatch());
+        }
+    }
+
+    @Test
+    public void execute_failingCommand_changesUndone() throws Exception {
+        showClientAtIndex(model, INDEX_FIRST_CLIENT);
+        Path scriptPath = writeScript(BUY_APPLES, "list", SELL_PEARS, BUY_FROM_MISSING_CLIENT);
+        String expectedMessage = String.format(RunCommand.MESSAGE_FAILED, 1, 4, scriptPath) + "\n"
+                + String.format(RunCommand.MESSAGE_LINE_FAILED, 4, MESSAGE_INVALID_CLIENT_DISPLAYED_INDEX);
+        assertCommandFailure(new RunCommand(scriptPath, false), model, expectedMessage);
+    }
+
+    @Test
+    public void execute_failingCommandInOpenBatch_onlyScriptUndone() throws Exception {
+        model.beginBatch();
+        new JeeqTrackerParser().parseCommand(SELL_PEARS).execute(model);
+        Path scriptPath = writeScript(BUY_APPLES, BUY_FROM_MISSING_CLIENT);
+        String expectedMessage = String.format(RunCommand.MESSAGE_FAILED, 1, 2, scriptPath) + "\n"
+                + String.format(RunCommand.MESSAGE_LINE_FAILED, 2, MESSAGE_INVALID_CLIENT_DISPLAYED_INDEX);
+        assertCommandFailure(new RunCommand(scriptPath, false), model, expectedMessage);
+        assertTrue(model.isInBatch());
+    }
+
+    @Test
+    public void execute_manyFailures_someListed() throws Exception {
+        int failureCount = RunCommand.MAX_FAILURES_SHOWN + 5;
+        Path scriptPath = writeScript(Collections.nCopies(failureCount, BUY_FROM_MISSING_CLIENT)
+                .toArray(new String[0]));
+        StringBuilder expectedMessage = new StringBuilder(
+                String.format(RunCommand.MESSAGE_FAILED, failureCount, failureCount, scriptPath));
+        for (int i = 1; i <= RunCommand.MAX_FAILURES_SHOWN; i++) {
+            expectedMessage.append('\n').append(
+                    String.format(RunCommand.MESSAGE_LINE_FAILED, i, MESSAGE_INVALID_CLIENT_DISPLAYED_INDEX));
+        }
+        expectedMessage.append('\n').append(String.format(RunCommand.MESSAGE_MORE_FAILED, 5));
+        assertCommandFailure(new RunCommand(scriptPath, false), model, expectedMessage.toString());
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        assertThrows(CommandException.class, () -> new RunCommand(temporaryFolder.resolve("missing.txt"), false)
+                .execute(model));
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runCommand = new RunCommand(Path.of("trades.txt"), false);
+
+        assertTrue(runCommand.equals(runCommand));
+        assertTrue(runCommand.equals(new RunCommand(Path.of("trades.txt"), false)));
+        assertFalse(runCommand.equals(new RunCommand(Path.of("trades.txt"), true)));
+        assertFalse(runCommand.equals(new RunCommand(Path.of("other.txt"), false)));
+        assertFalse(runCommand.equals(null));
+    }
+
+    private Path scriptFile() {
+        return temporaryFolder.resolve("script.txt");
+    }
+
+    private Path writeScript(String... lines) throws Exception {
+        FileUtil.writeToFile(scriptFile(), String.join("\n", lines));
+        return scriptFile();
+    }
+}
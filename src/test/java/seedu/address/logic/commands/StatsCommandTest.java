@@ -0,0 +1,55 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.CommandMetrics.Phase;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+
+    @Test
+    public void execute_noFile_showsReport() {
+        model.getCommandMetrics().recordPhase("list", Phase.EXECUTE, 1_000_000);
+        model.getCommandMetrics().recordCommand("list", 0, 0);
+        CommandResult expectedResult = new CommandResult(model.getCommandMetrics().getReport(), true);
+        assertCommandSuccess(new StatsCommand(), model, expectedResult, new ModelManager());
+    }
+
+    @Test
+    public void execute_file_writesMetrics() throws Exception {
+        model.getCommandMetrics().recordCommand("list", 0, 0);
+        Path filePath = temporaryFolder.resolve("stats.csv");
+        CommandResult result = new StatsCommand(Optional.of(filePath)).execute(model);
+
+        assertTrue(result.getFeedbackToUser().startsWith(String.format(StatsCommand.MESSAGE_WRITTEN, filePath)));
+        assertEquals(model.getCommandMetrics().toCsv(), FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void equals() {
+        StatsCommand statsCommand = new StatsCommand();
+        StatsCommand statsToFileCommand = new StatsCommand(Optional.of(Path.of("stats.csv")));
+
+        assertTrue(statsCommand.equals(statsCommand));
+        assertTrue(statsCommand.equals(new StatsCommand(Optional.empty())));
+        assertTrue(statsToFileCommand.equals(new StatsCommand(Optional.of(Path.of("stats.csv")))));
+        assertFalse(statsCommand.equals(statsToFileCommand));
+        assertFalse(statsCommand.equals(null));
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showClientAtIndex;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.getTypicalJeeqTracker;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_CLIENT;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class UndoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalJeeqTracker(), new UserPrefs());
+
+    @Test
+    public void execute_changesMade_changesUndoneAndAllClientsShown() {
+        model.deleteClient(ALICE);
+        model.endHistoryStep();
+        showClientAtIndex(model, INDEX_FIRST_CLIENT);
+
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS,
+                new ModelManager(getTypicalJeeqTracker(), new UserPrefs()));
+    }
+
+    @Test
+    public void execute_noChanges_throwsCommandException() {
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_NO_CHANGE);
+    }
+
+    @Test
+    public void execute_batchOpen_throwsCommandException() {
+        model.deleteClient(ALICE);
+        model.beginBatch();
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_IN_BATCH);
+    }
+}
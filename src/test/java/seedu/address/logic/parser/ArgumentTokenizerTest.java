@@ -4,6 +4,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRICE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
 
 import org.junit.jupiter.api.Test;
 
@@ -136,6 +140,39 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_cliSyntaxPrefixes() {
+        // prefixes sharing their first letters
+        String argsString = " 1 p/91234567 price/1.50 t/friends to/20/11/2000";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, PREFIX_PHONE, PREFIX_PRICE,
+                PREFIX_TAG, PREFIX_TO);
+        assertPreamblePresent(argMultimap, "1");
+        assertArgumentPresent(argMultimap, PREFIX_PHONE, "91234567");
+        assertArgumentPresent(argMultimap, PREFIX_PRICE, "1.50");
+        assertArgumentPresent(argMultimap, PREFIX_TAG, "friends");
+        assertArgumentPresent(argMultimap, PREFIX_TO, "20/11/2000");
+
+        // prefixes of CliSyntax not given to the tokenizer are taken as part of the value
+        argMultimap = ArgumentTokenizer.tokenize(argsString, PREFIX_TAG);
+        assertPreamblePresent(argMultimap, "1 p/91234567 price/1.50");
+        assertArgumentPresent(argMultimap, PREFIX_TAG, "friends to/20/11/2000");
+        assertArgumentAbsent(argMultimap, PREFIX_TO);
+    }
+
+    @Test
+    public void tokenize_prefixOfAnotherPrefix_longestTaken() {
+        Prefix dashTo = new Prefix("-to");
+        String argsString = "preamble -to first -t second -tosecond-to -t";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, dashT, dashTo);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, dashTo, "first", "second-to");
+        assertArgumentPresent(argMultimap, dashT, "second", "");
+
+        // the shorter prefix is taken if the longer one is not given
+        argMultimap = ArgumentTokenizer.tokenize(argsString, dashT);
+        assertArgumentPresent(argMultimap, dashT, "o first", "second", "osecond-to", "");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -1,12 +1,18 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_DATE_RANGE;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FilterTransCommand;
+import seedu.address.model.TransactionFeedQuery;
+import seedu.address.model.transaction.Date;
+import seedu.address.model.transaction.Goods;
 
 class FilterTransCmdParserTest {
 
@@ -58,4 +64,25 @@ class FilterTransCmdParserTest {
         assertParseSuccess(parser, "Sell", expectedOutput2);
     }
 
+    @Test
+    public void parse_prefixes_success() {
+        TransactionFeedQuery query = new TransactionFeedQuery(Optional.of(TransactionFeedQuery.Type.SELL),
+                Optional.of(new Goods("apples")), Optional.of(new Date("01/01/2022")),
+                Optional.of(new Date("31/03/2022")), Optional.of(TransactionFeedQuery.Order.LARGEST));
+        assertParseSuccess(parser, "sell g/apples from/01/01/2022 to/31/03/2022 by/largest",
+                new FilterTransCommand(query));
+
+        query = new TransactionFeedQuery(Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.of(TransactionFeedQuery.Order.LATEST));
+        assertParseSuccess(parser, " by/LATEST", new FilterTransCommand(query));
+    }
+
+    @Test
+    public void parse_invalidPrefixes_throwsParseException() {
+        assertParseFailure(parser, "buy by/newest", FilterTransCommand.MESSAGE_INVALID_ORDER);
+        assertParseFailure(parser, "buy g/", Goods.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "abc g/apples", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FilterTransCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " from/02/01/2022 to/01/01/2022", MESSAGE_INVALID_DATE_RANGE);
+    }
 }
@@ -5,11 +5,14 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindGoodsCommand;
 import seedu.address.model.client.NameContainsKeywordsPredicate;
+import seedu.address.model.transaction.Goods;
 
 public class FindCommandParserTest {
 
@@ -31,4 +34,20 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_goods_returnsFindGoodsCommand() {
+        FindGoodsCommand expectedFindGoodsCommand =
+                new FindGoodsCommand(List.of(new Goods("Apples"), new Goods("green pears")));
+        assertParseSuccess(parser, " g/Apples g/green  pears ", expectedFindGoodsCommand);
+
+        // goods that are the same as earlier goods are ignored
+        assertParseSuccess(parser, "g/Apples g/green pears g/APPLES", expectedFindGoodsCommand);
+    }
+
+    @Test
+    public void parse_invalidGoods_throwsParseException() {
+        assertParseFailure(parser, "g/Apples*", Goods.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "g/", Goods.MESSAGE_CONSTRAINTS);
+    }
+
 }
@@ -12,15 +12,20 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_CLIENT;
 import static seedu.address.testutil.TypicalRemark.BAD_SELLER;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.commands.AbortCommand;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BeginCommand;
 import seedu.address.logic.commands.BuyCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.CommitCommand;
 import seedu.address.logic.commands.DeleteClientCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditClientCommand;
@@ -29,9 +34,14 @@ import seedu.address.logic.commands.FilterTransCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RangeCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.RemarkCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.SellCommand;
 import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.UserGuideCommand;
 import seedu.address.logic.commands.ViewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -192,4 +202,40 @@ public class JeeqTrackerParserTest {
                 SortCommand.COMMAND_WORD + " " + INDEX_FIRST_CLIENT.getOneBased() + " " + "latest");
         assertEquals(new SortCommand((INDEX_FIRST_CLIENT), true), command);
     }
+
+    @Test
+    public void parseCommand_range() throws Exception {
+        RangeCommand command = (RangeCommand) parser.parseCommand(RangeCommand.COMMAND_WORD + " "
+                + INDEX_FIRST_CLIENT.getOneBased() + " from/01/01/2021 to/31/12/2021");
+        assertEquals(new RangeCommand(Optional.of(INDEX_FIRST_CLIENT), new Date("01/01/2021"),
+                new Date("31/12/2021")), command);
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertEquals(new StatsCommand(), parser.parseCommand(StatsCommand.COMMAND_WORD));
+        assertEquals(new StatsCommand(Optional.of(Paths.get("stats.csv"))),
+                parser.parseCommand(StatsCommand.COMMAND_WORD + " stats.csv"));
+    }
+
+    @Test
+    public void parseCommand_batch() throws Exception {
+        assertTrue(parser.parseCommand(BeginCommand.COMMAND_WORD) instanceof BeginCommand);
+        assertTrue(parser.parseCommand(CommitCommand.COMMAND_WORD) instanceof CommitCommand);
+        assertTrue(parser.parseCommand(AbortCommand.COMMAND_WORD) instanceof AbortCommand);
+    }
+
+    @Test
+    public void parseCommand_undoAndRedo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+    }
+
+    @Test
+    public void parseCommand_run() throws Exception {
+        assertEquals(new RunCommand(Paths.get("trades.txt"), false),
+                parser.parseCommand(RunCommand.COMMAND_WORD + " trades.txt"));
+        assertEquals(new RunCommand(Paths.get("trades.txt"), true),
+                parser.parseCommand(RunCommand.COMMAND_WORD + " trades.txt m/dry"));
+    }
 }
@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_CLIENT_DISPLAYED_INDEX;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_DATE_RANGE;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_CLIENT;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.RangeCommand;
+import seedu.address.model.transaction.Date;
+
+public class RangeCommandParserTest {
+
+    private static final Date FROM = new Date("01/01/2021");
+    private static final Date TO = new Date("31/03/2021");
+
+    private RangeCommandParser parser = new RangeCommandParser();
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        assertParseSuccess(parser, " from/01/01/2021 to/31/03/2021", new RangeCommand(Optional.empty(), FROM, TO));
+        assertParseSuccess(parser, " 2 to/31/03/2021 from/01/01/2021",
+                new RangeCommand(Optional.of(INDEX_SECOND_CLIENT), FROM, TO));
+        assertParseSuccess(parser, " from/01/01/2021 to/01/01/2021", new RangeCommand(Optional.empty(), FROM, FROM));
+    }
+
+    @Test
+    public void parse_missingDate_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, RangeCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " from/01/01/2021", expectedMessage);
+        assertParseFailure(parser, " 1 to/01/01/2021", expectedMessage);
+        assertParseFailure(parser, "", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        assertParseFailure(parser, " 0 from/01/01/2021 to/31/03/2021", MESSAGE_INVALID_CLIENT_DISPLAYED_INDEX);
+        assertParseFailure(parser, " from/2021-01-01 to/31/03/2021", Date.MESSAGE_CONSTRAINTS_WRONG_FORMAT);
+        assertParseFailure(parser, " from/30/02/2021 to/31/03/2021", Date.MESSAGE_CONSTRAINTS_WRONG_DATE);
+        assertParseFailure(parser, " from/31/03/2021 to/01/01/2021", MESSAGE_INVALID_DATE_RANGE);
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.RunCommand;
+
+public class RunCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE);
+
+    private RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsRunCommand() {
+        assertParseSuccess(parser, " data/trades.txt ", new RunCommand(Paths.get("data/trades.txt"), false));
+        assertParseSuccess(parser, " data/trades.txt m/dry", new RunCommand(Paths.get("data/trades.txt"), true));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // no file
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " m/dry", MESSAGE_INVALID_FORMAT);
+
+        // invalid file path
+        assertParseFailure(parser, " a\0b", MESSAGE_INVALID_FORMAT);
+
+        // unknown mode
+        assertParseFailure(parser, " data/trades.txt m/wet", MESSAGE_INVALID_FORMAT);
+    }
+}
@@ -0,0 +1,26 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.StatsCommand;
+
+public class StatsCommandParserTest {
+
+    private StatsCommandParser parser = new StatsCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsStatsCommand() {
+        assertParseSuccess(parser, "", new StatsCommand());
+        assertParseSuccess(parser, "   ", new StatsCommand());
+    }
+
+    @Test
+    public void parse_filePath_returnsStatsCommand() {
+        assertParseSuccess(parser, " data/stats.csv ", new StatsCommand(Optional.of(Paths.get("data/stats.csv"))));
+    }
+}
@@ -0,0 +1,289 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.CARL;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.client.Client;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.model.transaction.TransactionLog;
+import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.TransactionBuilder;
+
+public class ChangeHistoryTest {
+
+    private static final Transaction BUY_APPLES = new TransactionBuilder().withGoods("Apples").build();
+
+    private final JeeqTracker jeeqTracker = new JeeqTracker();
+    private final ChangeHistory history = new ChangeHistory(10, Long.MAX_VALUE);
+
+    @Test
+    public void undoAndRedo_addEditAndRemove_clientsInOrder() {
+        add(ALICE);
+        add(BENSON);
+        add(CARL);
+        history.endStep();
+        List<Client> clientsBefore = List.copyOf(jeeqTracker.getClientList());
+
+        Client editedBenson = new ClientBuilder(BENSON).withAddress("Clementi").build();
+        set(BENSON, editedBenson);
+        remove(ALICE);
+        history.endStep();
+        List<Client> clientsAfter = List.copyOf(jeeqTracker.getClientList());
+
+        history.undo(jeeqTracker);
+        assertEquals(clientsBefore, jeeqTracker.getClientList());
+        assertTrue(history.canRedo());
+
+        history.redo(jeeqTracker);
+        assertEquals(clientsAfter, jeeqTracker.getClientList());
+
+        history.undo(jeeqTracker);
+        history.undo(jeeqTracker);
+        assertEquals(List.of(), jeeqTracker.getClientList());
+        assertFalse(history.canUndo());
+        assertThrows(IllegalStateException.class, () -> history.undo(jeeqTracker));
+    }
+
+    @Test
+    public void undo_nameFreedAndTakenInSameStep_clientsRestored() {
+        add(ALICE);
+        history.endStep();
+
+        // Alice is renamed to Carl, then a new Alice is added and edited
+        Client renamedAlice = new ClientBuilder(ALICE).withName("Carl Kurz").build();
+        set(ALICE, renamedAlice);
+        Client newAlice = new ClientBuilder().withName("Alice Pauline").build();
+        add(newAlice);
+        set(newAlice, withPurchase(newAlice));
+        history.endStep();
+
+        history.undo(jeeqTracker);
+        assertEquals(List.of(ALICE), jeeqTracker.getClientList());
+    }
+
+    @Test
+    public void recordSet_clientEditedManyTimes_mergedIntoOneChange() {
+        add(ALICE);
+        history.endStep();
+        long bytesAfterAdd = history.getKeptBytes();
+
+        Client client = ALICE;
+        for (int i = 0; i < 100; i++) {
+            Client editedClient = withPurchase(client);
+            set(client, editedClient);
+            client = editedClient;
+        }
+        history.endStep();
+
+        // only Alice before and after the step are kept
+        assertEquals(ChangeHistory.estimateBytes(ALICE) + ChangeHistory.estimateBytes(client),
+                history.getKeptBytes() - bytesAfterAdd);
+        history.undo(jeeqTracker);
+        assertEquals(List.of(ALICE), jeeqTracker.getClientList());
+    }
+
+    @Test
+    public void recordSet_sharedLogEditedManyTimes_onlyEditsCounted() {
+        Client client = ALICE.withTransactions(new TransactionLog(Collections.nCopies(10000, BUY_APPLES)));
+        add(client);
+        history.endStep();
+        long bytesAfterAdd = history.getKeptBytes();
+
+        Client clientBefore = client;
+        for (int i = 0; i < 100; i++) {
+            TransactionLog transactions = new TransactionLog(client.getTransactions());
+            transactions.addTransaction(BUY_APPLES);
+            Client editedClient = client.withTransactions(transactions);
+            set(client, editedClient);
+            client = editedClient;
+        }
+        history.endStep();
+
+        // each edit copies a path of the shared log, rather than the log as a whole
+        long stepBytes = history.getKeptBytes() - bytesAfterAdd;
+        assertTrue(stepBytes < ChangeHistory.estimateBytes(clientBefore) / 2);
+        assertTrue(stepBytes >= ChangeHistory.estimateBytes(clientBefore, client));
+        history.undo(jeeqTracker);
+        assertEquals(List.of(clientBefore), jeeqTracker.getClientList());
+    }
+
+    @Test
+    public void endStep_moreStepsThanMaxSteps_oldestDropped() {
+        history.setLimits(2, Long.MAX_VALUE);
+        add(ALICE);
+        history.endStep();
+        add(BENSON);
+        history.endStep();
+        add(CARL);
+        history.endStep();
+
+        history.undo(jeeqTracker);
+        history.undo(jeeqTracker);
+        assertFalse(history.canUndo());
+        assertEquals(List.of(ALICE), jeeqTracker.getClientList());
+    }
+
+    @Test
+    public void endStep_stepsOverMaxBytes_oldestDropped() {
+        Client amy = new ClientBuilder().withName("Amy").build();
+        Client bob = new ClientBuilder().withName("Bob").build();
+        Client cat = new ClientBuilder().withName("Cat").build();
+        long stepBytes = ChangeHistory.estimateBytes(amy);
+        history.setLimits(10, stepBytes * 2);
+        add(amy);
+        history.endStep();
+        add(bob);
+        history.endStep();
+        add(cat);
+        history.endStep();
+        assertEquals(stepBytes * 2, history.getKeptBytes());
+
+        // a step too large to keep clears the history
+        set(cat, withPurchase(cat));
+        assertFalse(history.endStep());
+        assertFalse(history.canUndo());
+        assertEquals(0, history.getKeptBytes());
+    }
+
+    @Test
+    public void discardChangesSince_discardedChangesOverMaxBytes_stepsKept() {
+        Client amy = new ClientBuilder().withName("Amy").build();
+        Client bob = new ClientBuilder().withName("Bob").build();
+        long stepBytes = ChangeHistory.estimateBytes(amy);
+        history.setLimits(10, stepBytes * 2);
+        add(amy);
+        history.endStep();
+        add(bob);
+        history.endStep();
+
+        // a batch too large to keep that is aborted leaves the steps before it
+        int mark = history.markChanges();
+        set(bob, withPurchase(bob));
+        remove(amy);
+        assertEquals(stepBytes * 2, history.getKeptBytes());
+        history.discardChangesSince(mark);
+        jeeqTracker.setClients(List.of(amy, bob));
+        assertFalse(history.endStep());
+        assertEquals(stepBytes * 2, history.getKeptBytes());
+
+        history.undo(jeeqTracker);
+        assertEquals(List.of(amy), jeeqTracker.getClientList());
+    }
+
+    @Test
+    public void estimateBytes_sharedTransactionLog_onlyChangesCounted() {
+        Client client = ALICE;
+        for (int i = 0; i < 1000; i++) {
+            client = withPurchase(client);
+        }
+        TransactionLog transactions = new TransactionLog(client.getTransactions());
+        transactions.addTransaction(BUY_APPLES);
+        Client editedClient = client.withTransactions(transactions);
+
+        long sharedBytes = ChangeHistory.estimateBytes(client, editedClient);
+        assertTrue(sharedBytes < ChangeHistory.estimateBytes(client) / 10);
+
+        // a log of other transactions is counted in full
+        Client unsharedClient = client.withTransactions(new TransactionLog(List.of(BUY_APPLES)));
+        assertEquals(ChangeHistory.estimateBytes(client) + ChangeHistory.estimateBytes(unsharedClient),
+                ChangeHistory.estimateBytes(client, unsharedClient));
+    }
+
+    @Test
+    public void recordAdd_afterUndo_redoDiscarded() {
+        add(ALICE);
+        history.endStep();
+        history.undo(jeeqTracker);
+
+        add(BENSON);
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void discardChangesSince_mark_laterChangesDiscarded() {
+        add(ALICE);
+        int mark = history.markChanges();
+        set(ALICE, withPurchase(ALICE));
+        add(BENSON);
+        history.discardChangesSince(mark);
+        jeeqTracker.setClients(List.of(ALICE));
+        history.endStep();
+
+        history.undo(jeeqTracker);
+        assertEquals(List.of(), jeeqTracker.getClientList());
+    }
+
+    @Test
+    public void undoChangesSince_changesKept_laterChangesUndone() {
+        add(ALICE);
+        history.endStep();
+        add(BENSON);
+        int mark = history.markChanges();
+        Client editedBenson = withPurchase(BENSON);
+        set(BENSON, editedBenson);
+        set(editedBenson, withPurchase(editedBenson));
+        add(CARL);
+        remove(ALICE);
+
+        assertTrue(history.undoChangesSince(mark, jeeqTracker));
+        assertEquals(List.of(ALICE, BENSON), jeeqTracker.getClientList());
+        assertEquals(0, jeeqTracker.getGoodsIndex().getTransactionCount(BUY_APPLES.getGoods()));
+
+        // only the changes before the mark are left in the step
+        history.endStep();
+        history.undo(jeeqTracker);
+        assertEquals(List.of(ALICE), jeeqTracker.getClientList());
+    }
+
+    @Test
+    public void undoChangesSince_changesNotKept_nothingUndone() {
+        history.setLimits(0, Long.MAX_VALUE);
+        add(ALICE);
+        int mark = history.markChanges();
+        add(BENSON);
+
+        assertFalse(history.undoChangesSince(mark, jeeqTracker));
+        assertEquals(List.of(ALICE, BENSON), jeeqTracker.getClientList());
+    }
+
+    @Test
+    public void setLimits_noSteps_nothingKept() {
+        history.setLimits(0, Long.MAX_VALUE);
+        add(ALICE);
+        assertFalse(history.endStep());
+        assertFalse(history.canUndo());
+    }
+
+    private void add(Client client) {
+        int position = jeeqTracker.getClientList().size();
+        jeeqTracker.addClient(client);
+        history.recordAdd(position, client);
+    }
+
+    private void set(Client target, Client editedClient) {
+        jeeqTracker.setClient(target, editedClient);
+        history.recordSet(target, editedClient);
+    }
+
+    private void remove(Client client) {
+        int position = jeeqTracker.getClientList().indexOf(client);
+        jeeqTracker.removeClient(client);
+        history.recordRemove(position, client);
+    }
+
+    private static Client withPurchase(Client client) {
+        TransactionLog transactions = new TransactionLog(client.getTransactions().getTransactionLog());
+        transactions.addTransaction(BUY_APPLES);
+        return client.withTransactions(transactions);
+    }
+}
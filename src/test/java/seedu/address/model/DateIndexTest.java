@@ -0,0 +1,79 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_DATE_RANGE;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.client.Client;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.model.transaction.TransactionLog;
+import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.TransactionBuilder;
+
+public class DateIndexTest {
+
+    private static final LocalDate START = LocalDate.of(2021, 1, 1);
+    private static final LocalDate END = LocalDate.of(2021, 12, 31);
+
+    private static final Transaction JANUARY = new TransactionBuilder().withGoods("Apples").withDate("10/01/2021")
+            .build();
+    private static final Transaction MARCH = new TransactionBuilder().withGoods("Pears").withDate("15/03/2021")
+            .build();
+    private static final Transaction JUNE = new TransactionBuilder().withGoods("Plums").withDate("20/06/2021")
+            .build();
+    private static final Transaction LAST_YEAR = new TransactionBuilder().withGoods("Figs").withDate("31/12/2020")
+            .build();
+
+    private final JeeqTracker jeeqTracker = new JeeqTracker();
+    private final DateIndex dateIndex = jeeqTracker.getDateIndex();
+
+    @Test
+    public void getTransactions_clientsAdded_orderedByDate() {
+        jeeqTracker.addClient(createClient("Amy", JUNE, LAST_YEAR, JANUARY));
+        assertEquals(List.of(JANUARY, JUNE), dateIndex.getTransactions(START, END));
+
+        jeeqTracker.addClient(createClient("Bob", MARCH, JANUARY));
+        assertEquals(List.of(JANUARY, JANUARY, MARCH, JUNE), dateIndex.getTransactions(START, END));
+        assertEquals(List.of(LAST_YEAR, JANUARY, JANUARY), dateIndex.getTransactions(LAST_YEAR.getLocalDate(),
+                JANUARY.getLocalDate()));
+        assertEquals(List.of(MARCH), dateIndex.getTransactions(MARCH.getLocalDate(), MARCH.getLocalDate()));
+        assertEquals(5, dateIndex.getTransactionCount(LAST_YEAR.getLocalDate(), END));
+        assertEquals(0, dateIndex.getTransactionCount(END, END));
+    }
+
+    @Test
+    public void getTransactions_clientsChanged_indexUpdated() {
+        Client amy = createClient("Amy", JANUARY, JUNE);
+        Client bob = createClient("Bob", MARCH);
+        jeeqTracker.setClients(List.of(amy, bob));
+        assertEquals(3, dateIndex.getTransactionCount(START, END));
+
+        TransactionLog transactions = new TransactionLog(amy.getTransactions().getTransactionLog());
+        transactions.deleteTransaction(0);
+        jeeqTracker.setClient(amy, amy.withTransactions(transactions));
+        assertEquals(List.of(MARCH, JUNE), dateIndex.getTransactions(START, END));
+
+        jeeqTracker.removeClient(bob);
+        assertEquals(List.of(JUNE), dateIndex.getTransactions(START, END));
+    }
+
+    @Test
+    public void getTransactions_invalidRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, MESSAGE_INVALID_DATE_RANGE, () ->
+                dateIndex.getTransactions(END, START));
+        assertThrows(NullPointerException.class, () -> dateIndex.getTransactions(null, END));
+    }
+
+    private static Client createClient(String name, Transaction... transactions) {
+        ClientBuilder builder = new ClientBuilder().withName(name);
+        for (Transaction transaction : transactions) {
+            builder.withTransaction(transaction);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,177 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.client.Client;
+import seedu.address.model.transaction.Goods;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.model.transaction.TransactionLog;
+import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.TransactionBuilder;
+
+public class GoodsIndexTest {
+
+    private static final Goods APPLES = new Goods("Apples");
+    private static final Goods PEARS = new Goods("Pears");
+    private static final Goods DURIANS = new Goods("Durians");
+
+    private static final Transaction BUY_APPLES = new TransactionBuilder().withGoods("Apples").build();
+    private static final Transaction SELL_APPLES = new TransactionBuilder().withTransactionType("sell")
+            .withGoods("green apples").build();
+    private static final Transaction BUY_PEARS = new TransactionBuilder().withGoods("Pears").build();
+
+    private final JeeqTracker jeeqTracker = new JeeqTracker();
+    private final GoodsIndex goodsIndex = jeeqTracker.getGoodsIndex();
+
+    @Test
+    public void getClients_clientsAddedBeforeAndAfterFirstQuery_found() {
+        Client amy = createClient("Amy", BUY_APPLES, BUY_PEARS, BUY_APPLES);
+        jeeqTracker.addClient(amy);
+        assertEquals(List.of(amy), goodsIndex.getClients(APPLES));
+
+        Client bob = createClient("Bob", BUY_PEARS);
+        jeeqTracker.addClient(bob);
+        assertEquals(List.of(amy), goodsIndex.getClients(new Goods("APPLES")));
+        assertEquals(List.of(amy, bob), goodsIndex.getClients(PEARS));
+        assertEquals(List.of(), goodsIndex.getClients(DURIANS));
+
+        assertEquals(List.of(BUY_APPLES, BUY_APPLES), goodsIndex.getTransactions(APPLES));
+        assertEquals(2, goodsIndex.getTransactionCount(APPLES));
+        assertEquals(2, goodsIndex.getTransactionCount(PEARS));
+        assertEquals(0, goodsIndex.getTransactionCount(DURIANS));
+    }
+
+    @Test
+    public void getClients_normalizedGoodsName_matchesRegardlessOfCaseAndSpaces() {
+        Client amy = createClient("Amy", SELL_APPLES);
+        jeeqTracker.addClient(amy);
+        assertEquals(List.of(amy), goodsIndex.getClients(new Goods("GreenApples")));
+        assertEquals(List.of(), goodsIndex.getClients(APPLES));
+    }
+
+    @Test
+    public void setClient_transactionsChanged_indexUpdated() {
+        Client amy = createClient("Amy", BUY_APPLES, BUY_PEARS);
+        Client bob = createClient("Bob", BUY_APPLES);
+        jeeqTracker.setClients(List.of(amy, bob));
+        assertEquals(List.of(amy, bob), goodsIndex.getClients(APPLES));
+
+        TransactionLog transactions = new TransactionLog(amy.getTransactions().getTransactionLog());
+        transactions.deleteTransaction(0);
+        Client editedAmy = amy.withTransactions(transactions);
+        jeeqTracker.setClient(amy, editedAmy);
+        assertEquals(List.of(bob), goodsIndex.getClients(APPLES));
+        assertEquals(List.of(editedAmy), goodsIndex.getClients(PEARS));
+        assertEquals(List.of(BUY_PEARS), goodsIndex.getTransactions(PEARS));
+
+        Client renamedBob = new ClientBuilder(bob).withName("Robert").build();
+        jeeqTracker.setClient(bob, renamedBob);
+        assertEquals(List.of(renamedBob), goodsIndex.getClients(APPLES));
+
+        jeeqTracker.removeClient(renamedBob);
+        assertEquals(List.of(), goodsIndex.getClients(APPLES));
+        assertEquals(0, goodsIndex.getTransactionCount(APPLES));
+    }
+
+    @Test
+    public void setClient_logCopiedAndChanged_matchesRebuiltIndex() {
+        Client amy = createClient("Amy", BUY_APPLES, BUY_PEARS, SELL_APPLES);
+        Client bob = createClient("Bob", BUY_PEARS);
+        jeeqTracker.setClients(List.of(amy, bob));
+        goodsIndex.getClients(APPLES);
+
+        TransactionLog transactions = new TransactionLog(amy.getTransactions());
+        transactions.deleteTransaction(0);
+        transactions.setTransaction(0, BUY_APPLES);
+        transactions.addTransaction(BUY_PEARS);
+        Client editedAmy = amy.withTransactions(transactions);
+        jeeqTracker.setClient(amy, editedAmy);
+        assertEquals(List.of(BUY_APPLES), goodsIndex.getTransactions(APPLES));
+        assertEquals(List.of(BUY_PEARS, BUY_PEARS), goodsIndex.getTransactions(PEARS));
+        assertEquals(List.of(bob, editedAmy), goodsIndex.getClients(PEARS));
+        assertTrue(goodsIndex.hasTraded(editedAmy, PEARS));
+
+        // undoing the change applies the same changes in reverse
+        jeeqTracker.setClient(editedAmy, amy);
+        assertEquals(List.of(BUY_APPLES), goodsIndex.getTransactions(APPLES));
+        assertEquals(List.of(SELL_APPLES), goodsIndex.getTransactions(new Goods("green apples")));
+        assertEquals(List.of(bob, amy), goodsIndex.getClients(PEARS));
+
+        GoodsIndex rebuilt = new JeeqTracker(jeeqTracker).getGoodsIndex();
+        assertEquals(rebuilt.getTransactions(APPLES), goodsIndex.getTransactions(APPLES));
+        assertEquals(rebuilt.getTransactionCount(PEARS), goodsIndex.getTransactionCount(PEARS));
+    }
+
+    @Test
+    public void setClient_manyEditsToLargeLog_matchesRebuiltIndex() {
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            transactions.add(i % 3 == 0 ? BUY_PEARS : BUY_APPLES);
+        }
+        Client amy = new ClientBuilder().withName("Amy").build().withTransactions(new TransactionLog(transactions));
+        jeeqTracker.addClient(amy);
+        goodsIndex.getClients(APPLES);
+
+        Client current = amy;
+        for (int i = 0; i < 100; i++) {
+            TransactionLog editedTransactions = new TransactionLog(current.getTransactions());
+            editedTransactions.deleteTransaction(i * 7);
+            editedTransactions.setTransaction(i * 5, i % 2 == 0 ? SELL_APPLES : BUY_PEARS);
+            editedTransactions.addTransaction(BUY_APPLES);
+            Client edited = current.withTransactions(editedTransactions);
+            jeeqTracker.setClient(current, edited);
+            current = edited;
+        }
+
+        GoodsIndex rebuilt = new JeeqTracker(jeeqTracker).getGoodsIndex();
+        for (Goods goods : List.of(APPLES, PEARS, new Goods("green apples"))) {
+            assertEquals(rebuilt.getTransactions(goods), goodsIndex.getTransactions(goods));
+            assertEquals(rebuilt.getTransactionCount(goods), goodsIndex.getTransactionCount(goods));
+        }
+        assertEquals(current.getTransactions().getTransactionLog().stream()
+                .filter(transaction -> transaction.getGoods().equals(PEARS)).count(),
+                goodsIndex.getTransactionCount(PEARS));
+    }
+
+    @Test
+    public void setClients_replacedData_indexRebuilt() {
+        jeeqTracker.addClient(createClient("Amy", BUY_APPLES));
+        assertEquals(1, goodsIndex.getTransactionCount(APPLES));
+
+        Client carl = createClient("Carl", BUY_PEARS);
+        jeeqTracker.setClients(List.of(carl));
+        assertEquals(List.of(), goodsIndex.getClients(APPLES));
+        assertEquals(List.of(carl), goodsIndex.getClients(PEARS));
+    }
+
+    @Test
+    public void hasTraded() {
+        Client amy = createClient("Amy", BUY_APPLES);
+        jeeqTracker.addClient(amy);
+        assertTrue(goodsIndex.hasTraded(amy, APPLES));
+        assertFalse(goodsIndex.hasTraded(amy, PEARS));
+
+        // a client that is not indexed is checked against its own transactions
+        Client other = createClient("Amy", BUY_PEARS);
+        assertTrue(goodsIndex.hasTraded(other, PEARS));
+        assertFalse(goodsIndex.hasTraded(other, APPLES));
+
+        assertThrows(NullPointerException.class, () -> goodsIndex.hasTraded(amy, null));
+    }
+
+    private static Client createClient(String name, Transaction... transactions) {
+        ClientBuilder builder = new ClientBuilder().withName(name);
+        for (Transaction transaction : transactions) {
+            builder.withTransaction(transaction);
+        }
+        return builder.build();
+    }
+}
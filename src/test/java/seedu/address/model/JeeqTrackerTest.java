@@ -8,6 +8,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalClients.ALICE;
 import static seedu.address.testutil.TypicalClients.getTypicalJeeqTracker;
+import static seedu.address.testutil.TypicalTransaction.BUY_ORANGE;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -54,6 +55,38 @@ public class JeeqTrackerTest {
         assertThrows(DuplicateClientException.class, () -> jeeqTracker.resetData(newData));
     }
 
+    @Test
+    public void getModificationCount_clientListChanged_incremented() {
+        assertEquals(0, jeeqTracker.getModificationCount());
+        jeeqTracker.addClient(ALICE);
+        jeeqTracker.setClient(ALICE, ALICE);
+        jeeqTracker.removeClient(ALICE);
+        jeeqTracker.resetData(getTypicalJeeqTracker());
+        assertEquals(4, jeeqTracker.getModificationCount());
+
+        // read-only access and failed changes leave the count unchanged
+        jeeqTracker.hasClient(ALICE);
+        assertThrows(DuplicateClientException.class, () -> jeeqTracker.addClient(ALICE));
+        assertEquals(4, jeeqTracker.getModificationCount());
+    }
+
+    @Test
+    public void restore_checkpoint_dataAndModificationCountRestored() {
+        jeeqTracker.addClient(ALICE);
+        JeeqTracker.Checkpoint checkpoint = jeeqTracker.createCheckpoint();
+        JeeqTracker expectedJeeqTracker = new JeeqTracker(jeeqTracker);
+        long expectedModificationCount = jeeqTracker.getModificationCount();
+
+        jeeqTracker.addClient(new ClientBuilder().withTransaction(BUY_ORANGE).build());
+        jeeqTracker.removeClient(ALICE);
+        assertEquals(1, jeeqTracker.getGoodsIndex().getTransactionCount(BUY_ORANGE.getGoods()));
+
+        jeeqTracker.restore(checkpoint);
+        assertEquals(expectedJeeqTracker, jeeqTracker);
+        assertEquals(expectedModificationCount, jeeqTracker.getModificationCount());
+        assertEquals(0, jeeqTracker.getGoodsIndex().getTransactionCount(BUY_ORANGE.getGoods()));
+    }
+
     @Test
     public void hasClient_nullClient_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> jeeqTracker.hasClient(null));
@@ -97,6 +130,11 @@ public class JeeqTrackerTest {
         public ObservableList<Client> getClientList() {
             return clients;
         }
+
+        @Override
+        public long getModificationCount() {
+            return 0;
+        }
     }
 
 }
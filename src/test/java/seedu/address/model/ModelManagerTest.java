@@ -7,15 +7,18 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CLIENTS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalClients.ALICE;
 import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalTransaction.BUY_ORANGE;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.client.NameContainsKeywordsPredicate;
+import seedu.address.model.transaction.TransactionLog;
 import seedu.address.testutil.JeeqTrackerBuilder;
 
 public class ModelManagerTest {
@@ -93,6 +96,123 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredClientList().remove(0));
     }
 
+    @Test
+    public void getFilteredClientPredicate_sameFilter() {
+        modelManager.addClient(ALICE);
+        modelManager.addClient(BENSON);
+        assertTrue(modelManager.getFilteredClientPredicate().test(BENSON));
+
+        modelManager.updateFilteredClientList(new NameContainsKeywordsPredicate(Arrays.asList("Alice")));
+        assertTrue(modelManager.getFilteredClientPredicate().test(ALICE));
+        assertFalse(modelManager.getFilteredClientPredicate().test(BENSON));
+    }
+
+    @Test
+    public void abortBatch_changesUndone() {
+        modelManager.addClient(ALICE);
+        ModelManager expectedModelManager = new ModelManager(modelManager.getJeeqTracker(), new UserPrefs());
+        long expectedModificationCount = modelManager.getJeeqTracker().getModificationCount();
+
+        modelManager.beginBatch();
+        assertTrue(modelManager.isInBatch());
+        modelManager.addClient(BENSON);
+        modelManager.deleteClient(ALICE);
+        modelManager.updateFilteredClientList(unused -> false);
+        modelManager.abortBatch();
+
+        assertFalse(modelManager.isInBatch());
+        assertEquals(expectedModelManager, modelManager);
+        assertEquals(expectedModificationCount, modelManager.getJeeqTracker().getModificationCount());
+    }
+
+    @Test
+    public void abortBatch_changesNotKeptInHistory_changesUndone() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryDepth(0);
+        modelManager = new ModelManager(new JeeqTracker(), userPrefs);
+        modelManager.addClient(ALICE);
+        ModelManager expectedModelManager = new ModelManager(modelManager.getJeeqTracker(), userPrefs);
+
+        modelManager.beginBatch();
+        modelManager.addClient(BENSON);
+        modelManager.setClient(ALICE, ALICE.withTransactions(new TransactionLog(List.of(BUY_ORANGE))));
+        modelManager.abortBatch();
+
+        assertEquals(expectedModelManager, modelManager);
+        assertEquals(0, modelManager.getGoodsIndex().getTransactionCount(BUY_ORANGE.getGoods()));
+    }
+
+    @Test
+    public void commitBatch_nestedBatches_changesKept() {
+        modelManager.beginBatch();
+        modelManager.addClient(ALICE);
+
+        // aborting the inner batch only undoes its own changes
+        modelManager.beginBatch();
+        modelManager.addClient(BENSON);
+        modelManager.abortBatch();
+        assertTrue(modelManager.isInBatch());
+
+        modelManager.beginBatch();
+        modelManager.deleteClient(ALICE);
+        modelManager.commitBatch();
+        assertTrue(modelManager.isInBatch());
+
+        modelManager.commitBatch();
+        assertFalse(modelManager.isInBatch());
+        assertEquals(new ModelManager(), modelManager);
+    }
+
+    @Test
+    public void commitAndAbortBatch_noBatch_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> modelManager.commitBatch());
+        assertThrows(IllegalStateException.class, () -> modelManager.abortBatch());
+    }
+
+    @Test
+    public void undoAndRedo_changesInSteps_restored() {
+        modelManager.addClient(ALICE);
+        modelManager.endHistoryStep();
+        modelManager.addClient(BENSON);
+        modelManager.deleteClient(ALICE);
+        assertTrue(modelManager.canUndo());
+
+        // the changes not yet ended as a step are undone together
+        modelManager.undo();
+        assertEquals(new ModelManager(new JeeqTrackerBuilder().withClient(ALICE).build(), new UserPrefs()),
+                modelManager);
+        assertTrue(modelManager.canRedo());
+
+        modelManager.redo();
+        assertEquals(new ModelManager(new JeeqTrackerBuilder().withClient(BENSON).build(), new UserPrefs()),
+                modelManager);
+        assertFalse(modelManager.canRedo());
+    }
+
+    @Test
+    public void undo_abortedBatch_changesBeforeBatchUndone() {
+        modelManager.addClient(ALICE);
+        modelManager.beginBatch();
+        modelManager.addClient(BENSON);
+        assertFalse(modelManager.canUndo());
+        assertThrows(IllegalStateException.class, () -> modelManager.undo());
+        modelManager.abortBatch();
+
+        modelManager.undo();
+        assertEquals(new ModelManager(), modelManager);
+        assertFalse(modelManager.canUndo());
+    }
+
+    @Test
+    public void setUserPrefs_noUndoHistory_nothingToUndo() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryDepth(0);
+        modelManager.setUserPrefs(userPrefs);
+        modelManager.addClient(ALICE);
+        modelManager.endHistoryStep();
+        assertFalse(modelManager.canUndo());
+    }
+
     @Test
     public void equals() {
         JeeqTracker jeeqTracker = new JeeqTrackerBuilder().withClient(ALICE).withClient(BENSON).build();
@@ -0,0 +1,180 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_DATE_RANGE;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.client.Client;
+import seedu.address.model.transaction.Date;
+import seedu.address.model.transaction.Goods;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.model.transaction.TransactionLog;
+import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.TransactionBuilder;
+
+public class TransactionFeedTest {
+
+    private static final Transaction BUY_APPLES = new TransactionBuilder().withTransactionType("buy")
+            .withGoods("Apples").withPrice("2").withQuantity("5").withDate("10/01/2021").build();
+    private static final Transaction SELL_APPLES = new TransactionBuilder().withTransactionType("sell")
+            .withGoods("apples").withPrice("3").withQuantity("5").withDate("15/03/2021").build();
+    private static final Transaction BUY_PEARS = new TransactionBuilder().withTransactionType("buy")
+            .withGoods("Pears").withPrice("1").withQuantity("2").withDate("20/06/2021").build();
+    private static final Transaction SELL_PLUMS = new TransactionBuilder().withTransactionType("sell")
+            .withGoods("Plums").withPrice("100").withQuantity("1").withDate("10/01/2021").build();
+
+    private static final Optional<Goods> APPLES = Optional.of(new Goods("Apples"));
+
+    private final JeeqTracker jeeqTracker = new JeeqTracker();
+    private final TransactionFeed feed = jeeqTracker.getTransactionFeed();
+
+    @Test
+    public void query_noOrder_inOrderOfClients() {
+        Client amy = createClient("Amy", BUY_APPLES, BUY_PEARS);
+        Client bob = createClient("Bob", SELL_PLUMS, SELL_APPLES);
+        jeeqTracker.setClients(List.of(amy, bob));
+
+        TransactionFeed.Result result = feed.query(query(Optional.empty(), Optional.empty(), Optional.empty()));
+        assertEquals(List.of(BUY_APPLES, BUY_PEARS, SELL_PLUMS, SELL_APPLES), result.asTransactionList());
+        assertEquals(new ClientTransaction(bob, SELL_PLUMS), result.get(2));
+
+        assertEquals(List.of(BUY_APPLES, BUY_PEARS),
+                feed.query(new TransactionFeedQuery(TransactionFeedQuery.Type.BUY)).asTransactionList());
+        assertEquals(List.of(BUY_APPLES, SELL_APPLES),
+                feed.query(query(APPLES, Optional.empty(), Optional.empty())).asTransactionList());
+        assertEquals(List.of(SELL_APPLES), feed.query(new TransactionFeedQuery(
+                Optional.of(TransactionFeedQuery.Type.SELL), APPLES, Optional.empty(), Optional.empty(),
+                Optional.empty())).asTransactionList());
+    }
+
+    @Test
+    public void query_dateRange_transactionsInRange() {
+        jeeqTracker.setClients(List.of(createClient("Amy", BUY_APPLES, BUY_PEARS),
+                createClient("Bob", SELL_PLUMS, SELL_APPLES)));
+
+        TransactionFeedQuery query = new TransactionFeedQuery(Optional.empty(), Optional.empty(),
+                Optional.of(new Date("10/01/2021")), Optional.of(new Date("15/03/2021")), Optional.empty());
+        assertEquals(List.of(BUY_APPLES, SELL_PLUMS, SELL_APPLES), feed.query(query).asTransactionList());
+
+        query = new TransactionFeedQuery(Optional.empty(), Optional.empty(), Optional.of(new Date("11/01/2021")),
+                Optional.empty(), Optional.empty());
+        assertEquals(List.of(BUY_PEARS, SELL_APPLES), feed.query(query).asTransactionList());
+    }
+
+    @Test
+    public void query_order_sortedWithTiesInOrderOfFeed() {
+        jeeqTracker.setClients(List.of(createClient("Amy", BUY_APPLES, BUY_PEARS),
+                createClient("Bob", SELL_PLUMS, SELL_APPLES)));
+
+        assertEquals(List.of(BUY_APPLES, SELL_PLUMS, SELL_APPLES, BUY_PEARS),
+                query(TransactionFeedQuery.Order.OLDEST));
+        assertEquals(List.of(BUY_PEARS, SELL_APPLES, SELL_PLUMS, BUY_APPLES),
+                query(TransactionFeedQuery.Order.LATEST));
+        assertEquals(List.of(SELL_PLUMS, SELL_APPLES, BUY_APPLES, BUY_PEARS),
+                query(TransactionFeedQuery.Order.LARGEST));
+        assertEquals(List.of(BUY_PEARS, BUY_APPLES, SELL_APPLES, SELL_PLUMS),
+                query(TransactionFeedQuery.Order.SMALLEST));
+    }
+
+    @Test
+    public void query_clientsChanged_feedUpdated() {
+        Client amy = createClient("Amy", BUY_APPLES);
+        Client bob = createClient("Bob", SELL_PLUMS);
+        jeeqTracker.setClients(List.of(amy, bob));
+        assertEquals(List.of(BUY_APPLES, SELL_PLUMS), query(TransactionFeedQuery.Order.OLDEST));
+
+        TransactionLog transactions = new TransactionLog(amy.getTransactions().getTransactionLog());
+        transactions.addTransaction(BUY_PEARS);
+        Client editedAmy = amy.withTransactions(transactions);
+        jeeqTracker.setClient(amy, editedAmy);
+        TransactionFeed.Result result = feed.query(query(Optional.empty(), Optional.empty(), Optional.empty()));
+        assertEquals(List.of(BUY_APPLES, BUY_PEARS, SELL_PLUMS), result.asTransactionList());
+        assertEquals(editedAmy, result.getClient(1));
+
+        jeeqTracker.removeClient(bob);
+        jeeqTracker.addClient(createClient("Carl", SELL_APPLES));
+        assertEquals(List.of(BUY_APPLES, BUY_PEARS, SELL_APPLES),
+                feed.query(query(Optional.empty(), Optional.empty(), Optional.empty())).asTransactionList());
+    }
+
+    @Test
+    public void query_sortedFeedChanged_matchesRebuiltFeed() {
+        Client amy = createClient("Amy", BUY_APPLES, SELL_PLUMS);
+        Client bob = createClient("Bob", SELL_APPLES, BUY_APPLES);
+        jeeqTracker.setClients(List.of(amy, bob));
+        query(TransactionFeedQuery.Order.OLDEST);
+        query(TransactionFeedQuery.Order.LARGEST);
+
+        Random random = new Random(18);
+        List<Transaction> choices = List.of(BUY_APPLES, SELL_APPLES, BUY_PEARS, SELL_PLUMS);
+        for (int i = 0; i < 200; i++) {
+            Client client = jeeqTracker.getClientList().get(random.nextInt(2));
+            TransactionLog transactions = new TransactionLog(client.getTransactions());
+            Transaction transaction = choices.get(random.nextInt(choices.size()));
+            if (transactions.isEmpty() || random.nextInt(3) == 0) {
+                transactions.addTransaction(transaction);
+            } else if (random.nextBoolean()) {
+                transactions.setTransaction(random.nextInt(transactions.size()), transaction);
+            } else {
+                transactions.deleteTransaction(random.nextInt(transactions.size()));
+            }
+            jeeqTracker.setClient(client, client.withTransactions(transactions));
+        }
+
+        TransactionFeed rebuilt = new JeeqTracker(jeeqTracker).getTransactionFeed();
+        for (TransactionFeedQuery.Order order : TransactionFeedQuery.Order.values()) {
+            TransactionFeedQuery query = query(Optional.empty(), Optional.empty(), Optional.of(order));
+            assertEquals(rebuilt.query(query), feed.query(query));
+        }
+    }
+
+    @Test
+    public void query_invalidRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, MESSAGE_INVALID_DATE_RANGE, () ->
+                new TransactionFeedQuery(Optional.empty(), Optional.empty(), Optional.of(new Date("02/01/2021")),
+                        Optional.of(new Date("01/01/2021")), Optional.empty()));
+        assertThrows(NullPointerException.class, () -> feed.query(null));
+    }
+
+    @Test
+    public void queryToString() {
+        assertEquals("buy transactions", new TransactionFeedQuery(TransactionFeedQuery.Type.BUY).toString());
+        assertEquals("transactions of Apples from 10 Jan 2021, largest first",
+                new TransactionFeedQuery(Optional.empty(), APPLES, Optional.of(new Date("10/01/2021")),
+                        Optional.empty(), Optional.of(TransactionFeedQuery.Order.LARGEST)).toString());
+    }
+
+    @Test
+    public void queryEquals() {
+        TransactionFeedQuery query = query(APPLES, Optional.empty(), Optional.empty());
+        assertTrue(query.equals(query(Optional.of(new Goods("Apples")), Optional.empty(), Optional.empty())));
+        assertFalse(query.equals(query(Optional.empty(), Optional.empty(), Optional.empty())));
+        assertFalse(query.equals(new TransactionFeedQuery(TransactionFeedQuery.Type.BUY)));
+        assertFalse(query.equals(null));
+    }
+
+    private List<Transaction> query(TransactionFeedQuery.Order order) {
+        return feed.query(query(Optional.empty(), Optional.empty(), Optional.of(order))).asTransactionList();
+    }
+
+    private static TransactionFeedQuery query(Optional<Goods> goods, Optional<Date> from,
+                                              Optional<TransactionFeedQuery.Order> order) {
+        return new TransactionFeedQuery(Optional.empty(), goods, from, Optional.empty(), order);
+    }
+
+    private static Client createClient(String name, Transaction... transactions) {
+        ClientBuilder builder = new ClientBuilder().withName(name);
+        for (Transaction transaction : transactions) {
+            builder.withTransaction(transaction);
+        }
+        return builder.build();
+    }
+}
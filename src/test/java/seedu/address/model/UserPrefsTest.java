@@ -18,4 +18,17 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setJeeqTrackerFilePath(null));
     }
 
+    @Test
+    public void setJeeqTrackerFileFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setJeeqTrackerFileFormat(null));
+    }
+
+    @Test
+    public void setUndoHistoryLimits_negative_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoHistoryDepth(-1));
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoHistoryMaxBytes(-1));
+    }
+
 }
@@ -1,5 +1,6 @@
 package seedu.address.model.client;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -37,4 +38,11 @@ public class NameTest {
         assertTrue(Name.isValidName("Capital Tan")); // with capital letters
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
+
+    @Test
+    public void getNormalizedName() {
+        assertEquals("peterjack", new Name("Peter Jack").getNormalizedName());
+        assertEquals("peterjack", new Name("peter  jack").getNormalizedName());
+        assertEquals(new Name("PETERJACK").getNormalizedName(), new Name("Peter Jack").getNormalizedName());
+    }
 }
@@ -103,6 +103,15 @@ public class UniqueClientListTest {
         assertEquals(expectedUniqueClientList, uniqueClientList);
     }
 
+    @Test
+    public void setClient_editedClientHasDifferentIdentity_updatesIdentityIndex() {
+        uniqueClientList.add(ALICE);
+        uniqueClientList.setClient(ALICE, BOB);
+        assertFalse(uniqueClientList.contains(ALICE));
+        assertTrue(uniqueClientList.contains(BOB));
+        uniqueClientList.add(ALICE);
+    }
+
     @Test
     public void setClient_editedClientHasNonUniqueIdentity_throwsDuplicateClientException() {
         uniqueClientList.add(ALICE);
@@ -128,6 +137,46 @@ public class UniqueClientListTest {
         assertEquals(expectedUniqueClientList, uniqueClientList);
     }
 
+    @Test
+    public void remove_existingClient_updatesIdentityIndex() {
+        uniqueClientList.add(ALICE);
+        uniqueClientList.remove(ALICE);
+        assertFalse(uniqueClientList.contains(ALICE));
+        uniqueClientList.add(ALICE);
+        assertTrue(uniqueClientList.contains(ALICE));
+    }
+
+    @Test
+    public void remove_clientBeforeOthers_positionsUpdated() {
+        uniqueClientList.add(ALICE);
+        uniqueClientList.add(BENSON);
+        uniqueClientList.add(1, BOB);
+        assertEquals(1, uniqueClientList.indexOf(BOB));
+        assertEquals(2, uniqueClientList.indexOf(BENSON));
+
+        uniqueClientList.remove(ALICE);
+        assertEquals(-1, uniqueClientList.indexOf(ALICE));
+        assertEquals(0, uniqueClientList.indexOf(BOB));
+        assertEquals(1, uniqueClientList.indexOf(BENSON));
+        uniqueClientList.setClient(BENSON, ALICE);
+        assertEquals(List.of(BOB, ALICE), uniqueClientList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void indexOf_sameIdentityDifferentFields_returnsMinusOne() {
+        uniqueClientList.add(ALICE);
+        Client editedAlice = new ClientBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertEquals(-1, uniqueClientList.indexOf(editedAlice));
+        assertThrows(ClientNotFoundException.class, () -> uniqueClientList.remove(editedAlice));
+    }
+
+    @Test
+    public void contains_clientWithDifferentCaseAndSpacing_returnsTrue() {
+        uniqueClientList.add(ALICE);
+        String alteredName = ALICE.getName().fullName.toUpperCase().replace(" ", "");
+        assertTrue(uniqueClientList.contains(new ClientBuilder(ALICE).withName(alteredName).build()));
+    }
+
     @Test
     public void setClients_nullUniqueClientList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueClientList.setClients((UniqueClientList) null));
@@ -140,6 +189,8 @@ public class UniqueClientListTest {
         expectedUniqueClientList.add(BOB);
         uniqueClientList.setClients(expectedUniqueClientList);
         assertEquals(expectedUniqueClientList, uniqueClientList);
+        assertFalse(uniqueClientList.contains(ALICE));
+        assertTrue(uniqueClientList.contains(BOB));
     }
 
     @Test
@@ -155,6 +206,7 @@ public class UniqueClientListTest {
         UniqueClientList expectedUniqueClientList = new UniqueClientList();
         expectedUniqueClientList.add(BOB);
         assertEquals(expectedUniqueClientList, uniqueClientList);
+        assertFalse(uniqueClientList.contains(ALICE));
     }
 
     @Test
@@ -163,6 +215,15 @@ public class UniqueClientListTest {
         assertThrows(DuplicateClientException.class, () -> uniqueClientList.setClients(listWithDuplicateClients));
     }
 
+    @Test
+    public void setClients_listWithDuplicateClients_reportsDuplicates() {
+        Client editedAlice = new ClientBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        List<Client> listWithDuplicateClients = Arrays.asList(ALICE, BOB, editedAlice);
+        String expectedMessage = new DuplicateClientException(Collections.singletonList(editedAlice)).getMessage();
+        assertThrows(DuplicateClientException.class, expectedMessage, ()
+            -> uniqueClientList.setClients(listWithDuplicateClients));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -158,6 +158,16 @@ public class UniqueRemarkListTest {
         assertThrows(DuplicateRemarkException.class, () -> uniqueRemarkList.setRemarks(listWithDuplicateRemarks));
     }
 
+    @Test
+    public void setRemarks_listWithDuplicateRemarks_reportsDuplicates() {
+        Remark sameAsGoodBuyer = new RemarkBuilder(GOOD_BUYER)
+                .withText(GOOD_BUYER.getText().value.toUpperCase()).build();
+        List<Remark> listWithDuplicateRemarks = Arrays.asList(GOOD_BUYER, BAD_BUYER, sameAsGoodBuyer);
+        String expectedMessage = new DuplicateRemarkException(Collections.singletonList(sameAsGoodBuyer)).getMessage();
+        assertThrows(DuplicateRemarkException.class, expectedMessage, ()
+            -> uniqueRemarkList.setRemarks(listWithDuplicateRemarks));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -197,4 +207,18 @@ public class UniqueRemarkListTest {
         remarks.add(BAD_BUYER);
         assertEquals(remarks.size(), 2);
     }
+
+    @Test
+    public void copyConstructor_copyChanged_originalUnchanged() {
+        uniqueRemarkList.add(GOOD_BUYER);
+        UniqueRemarkList copy = new UniqueRemarkList(uniqueRemarkList);
+        assertEquals(uniqueRemarkList, copy);
+
+        copy.add(BAD_BUYER);
+        copy.remove(GOOD_BUYER);
+        assertEquals(List.of(GOOD_BUYER), uniqueRemarkList.asUnmodifiableObservableList());
+        assertEquals(List.of(BAD_BUYER), copy.asUnmodifiableObservableList());
+        assertTrue(uniqueRemarkList.contains(GOOD_BUYER));
+        assertFalse(uniqueRemarkList.contains(BAD_BUYER));
+    }
 }
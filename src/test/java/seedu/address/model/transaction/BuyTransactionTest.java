@@ -76,4 +76,17 @@ class BuyTransactionTest {
                 new BuyTransaction(goods, price, quantity, date2).getDate().toString());
 
     }
+
+    @Test
+    public void compareTo() {
+        Goods goods = new Goods("Apple");
+        Price price = new Price("0.8");
+        Quantity quantity = new Quantity("10");
+
+        Transaction older = new BuyTransaction(goods, price, quantity, new Date("17/05/2000"));
+        Transaction newer = new SellTransaction(goods, price, quantity, new Date("18/05/2000"));
+        assertTrue(older.compareTo(newer) < 0);
+        assertTrue(newer.compareTo(older) > 0);
+        assertEquals(0, older.compareTo(new SellTransaction(goods, price, quantity, new Date("17/05/2000"))));
+    }
 }
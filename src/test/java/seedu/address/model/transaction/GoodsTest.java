@@ -55,4 +55,10 @@ class GoodsTest {
         Goods secondGoods = new Goods(value);
         assertEquals(goodsName, secondGoods);
     }
+
+    @Test
+    public void getNormalizedName_differentCaseAndSpaces_sameNormalizedName() {
+        assertEquals("greenapples", new Goods("Green Apples").getNormalizedName());
+        assertEquals(new Goods("green  apples").getNormalizedName(), new Goods("GreenApples").getNormalizedName());
+    }
 }
@@ -7,6 +7,8 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.Money;
+
 class PriceTest {
     @Test
     public void constructor_null_throwsNullPointerException() {
@@ -32,6 +34,9 @@ class PriceTest {
         assertFalse(Price.isValidPrice("93 14")); // spaces within digits
         assertFalse(Price.isValidPrice("93..14")); // two decimal points
         assertFalse(Price.isValidPrice("+45")); // has "+"
+        assertFalse(Price.isValidPrice("NaN")); // not a number
+        assertFalse(Price.isValidPrice("Infinity")); // not finite
+        assertFalse(Price.isValidPrice("1e6")); // 1 million in scientific notation
 
 
         // valid price numbers
@@ -40,6 +45,12 @@ class PriceTest {
         assertTrue(Price.isValidPrice("91"));
         assertTrue(Price.isValidPrice("0093534"));
         assertTrue(Price.isValidPrice("12419"));
+
+        // forms accepted by Double.parseDouble
+        assertTrue(Price.isValidPrice("1d")); // type suffix
+        assertTrue(Price.isValidPrice(" 5 ")); // leading and trailing whitespace
+        assertTrue(Price.isValidPrice("0x1p3")); // hexadecimal
+        assertTrue(Price.isValidPrice("1.5e2")); // scientific notation
     }
 
 
@@ -57,6 +68,16 @@ class PriceTest {
         assertEquals(price.value(), 931234);
     }
 
+    @Test
+    public void getAmount() {
+        assertEquals(Money.parse("0.8"), new Price("0.8").getAmount());
+        assertEquals(Money.parse("1.1828"), new Price("1.1827872").getAmount());
+        assertEquals(8_0000, new Price("0008").getAmount().getMinorUnits());
+        assertEquals(Money.parse("2.5"), new Price("2.5f").getAmount());
+        assertEquals(Money.parse("5"), new Price(" 5 ").getAmount());
+        assertEquals(Money.parse("8"), new Price("0x1p3").getAmount());
+    }
+
     @Test
     public void testEquals() {
         String value = "931234";
@@ -0,0 +1,75 @@
+package seedu.address.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTransaction.BUY_BOOKS;
+import static seedu.address.testutil.TypicalTransaction.SELL_CLOTHES;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class TransactionLogCacheTest {
+
+    private static final TransactionLoader TWO_TRANSACTIONS = () -> List.of(BUY_BOOKS, SELL_CLOTHES);
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TransactionLogCache(0));
+    }
+
+    @Test
+    public void get_cachedLog_notLoadedAgain() throws Exception {
+        TransactionLogCache cache = new TransactionLogCache();
+        TransactionLog log = new TransactionLog();
+        List<Transaction> loaded = cache.get(log, TWO_TRANSACTIONS);
+        assertSame(loaded, cache.get(log, TWO_TRANSACTIONS));
+        assertEquals(1, cache.getLoadCount());
+        assertEquals(2, cache.getCachedTransactionCount());
+
+        cache.remove(log);
+        assertEquals(0, cache.getCachedTransactionCount());
+        cache.get(log, TWO_TRANSACTIONS);
+        assertEquals(2, cache.getLoadCount());
+    }
+
+    @Test
+    public void get_overCapacity_leastRecentlyUsedEvicted() throws Exception {
+        TransactionLogCache cache = new TransactionLogCache(4);
+        TransactionLog first = new TransactionLog();
+        TransactionLog second = new TransactionLog();
+        TransactionLog third = new TransactionLog();
+        cache.get(first, TWO_TRANSACTIONS);
+        cache.get(second, TWO_TRANSACTIONS);
+        cache.get(first, TWO_TRANSACTIONS);
+        cache.get(third, TWO_TRANSACTIONS);
+        assertEquals(2, cache.size());
+        assertEquals(3, cache.getLoadCount());
+
+        cache.get(first, TWO_TRANSACTIONS);
+        assertEquals(3, cache.getLoadCount());
+        cache.get(second, TWO_TRANSACTIONS);
+        assertEquals(4, cache.getLoadCount());
+    }
+
+    @Test
+    public void get_logLargerThanCapacity_stillCached() throws Exception {
+        TransactionLogCache cache = new TransactionLogCache(1);
+        TransactionLog log = new TransactionLog();
+        cache.get(log, TWO_TRANSACTIONS);
+        cache.get(log, TWO_TRANSACTIONS);
+        assertEquals(1, cache.getLoadCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void get_loaderFails_nothingCached() {
+        TransactionLogCache cache = new TransactionLogCache();
+        assertThrows(IOException.class, () -> cache.get(new TransactionLog(), () -> {
+            throw new IOException();
+        }));
+        assertEquals(0, cache.size());
+    }
+}
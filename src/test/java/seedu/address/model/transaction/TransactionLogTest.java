@@ -1,7 +1,10 @@
 package seedu.address.model.transaction;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalTransaction.BUY_BOOKS;
@@ -11,20 +14,28 @@ import static seedu.address.testutil.TypicalTransaction.BUY_SHELVES;
 import static seedu.address.testutil.TypicalTransaction.SELL_CLOTHES;
 import static seedu.address.testutil.TypicalTransaction.SELL_PAPAYA;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.transaction.exceptions.TransactionNotFoundException;
+import seedu.address.model.transaction.exceptions.TransactionTotalOverflowException;
+import seedu.address.testutil.TransactionBuilder;
 
 
 class TransactionLogTest {
     @Test
     public void constructor_null_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new TransactionLog(null));
+        assertThrows(NullPointerException.class, () -> new TransactionLog((List<Transaction>) null));
     }
 
     @Test
@@ -66,6 +77,113 @@ class TransactionLogTest {
         assertEquals(log.calculateNetTransacted(), -7);
     }
 
+    @Test
+    public void runningTotals_addSetDelete_updatedIncrementally() {
+        Transaction sellApples = new SellTransaction(new Goods("Apple"), new Price("2"), new Quantity("10"),
+                new Date("17/05/2000"));
+        Transaction buyMangoes = new BuyTransaction(new Goods("Mango"), new Price("1.5"), new Quantity("10"),
+                new Date("17/05/2000"));
+        Transaction buyPears = new BuyTransaction(new Goods("Pear"), new Price("3"), new Quantity("2"),
+                new Date("18/05/2000"));
+
+        TransactionLog log = new TransactionLog(List.of(sellApples));
+        assertEquals(20, log.getTotalSold());
+        assertEquals(0, log.getTotalBought());
+        assertEquals(1, log.getSellCount());
+
+        log.addTransaction(buyMangoes);
+        assertEquals(15, log.getTotalBought());
+        assertEquals(1, log.getBuyCount());
+        assertEquals(5, log.calculateNetTransacted());
+
+        // replacing a sell with a buy moves the amount between totals
+        log.setTransaction(0, buyPears);
+        assertEquals(0, log.getTotalSold());
+        assertEquals(21, log.getTotalBought());
+        assertEquals(0, log.getSellCount());
+        assertEquals(2, log.getBuyCount());
+        assertEquals(-21, log.calculateNetTransacted());
+
+        log.deleteTransaction(1);
+        assertEquals(6, log.getTotalBought());
+        assertEquals(1, log.getBuyCount());
+        assertEquals(-6, log.calculateNetTransacted());
+    }
+
+    @Test
+    public void loadedOnDemand_totalsRead_transactionsNotLoaded() {
+        TransactionLogCache cache = new TransactionLogCache();
+        TransactionLog log = new TransactionLog(() -> List.of(BUY_BOOKS, SELL_CLOTHES), cache, 1, 1, 100_000, 250_000);
+        assertEquals(2, log.size());
+        assertFalse(log.isEmpty());
+        assertEquals(15, log.calculateNetTransacted());
+        assertEquals(0, cache.getLoadCount());
+
+        assertEquals(List.of(BUY_BOOKS, SELL_CLOTHES), log.getTransactionLog());
+        assertEquals(SELL_CLOTHES, log.getTransaction(1));
+        assertEquals(1, cache.getLoadCount());
+        assertTrue(log.getLoader().isPresent());
+    }
+
+    @Test
+    public void loadedOnDemand_modified_transactionsHeldInLog() {
+        TransactionLogCache cache = new TransactionLogCache();
+        TransactionLog log = new TransactionLog(() -> List.of(BUY_BOOKS, SELL_CLOTHES), cache, 1, 1,
+                BUY_BOOKS.totalCostInMinorUnits() * -1, SELL_CLOTHES.totalCostInMinorUnits());
+        log.deleteTransaction(0);
+        assertEquals(List.of(SELL_CLOTHES), log.getTransactionLog());
+        assertEquals(0, log.getBuyCount());
+        assertFalse(log.getLoader().isPresent());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void loadedOnDemand_loaderFails_throwsUncheckedIoException() {
+        TransactionLog log = new TransactionLog(() -> {
+            throw new IOException("disk error");
+        }, new TransactionLogCache(), 0, 1, 0, 100);
+        assertEquals(1, log.size());
+        assertThrows(UncheckedIOException.class, log::getTransactionLog);
+    }
+
+    @Test
+    public void getTransactionsBetween_logChanged_indexKeptInOrder() {
+        Transaction march = createTransaction("Apples", "15/03/2021");
+        Transaction january = createTransaction("Pears", "10/01/2021");
+        Transaction alsoMarch = createTransaction("Plums", "15/03/2021");
+        TransactionLog log = new TransactionLog(List.of(march, january));
+        LocalDate start = LocalDate.of(2021, 1, 1);
+        LocalDate end = LocalDate.of(2021, 12, 31);
+        assertEquals(List.of(january, march), log.getTransactionsBetween(start, end));
+
+        log.addTransaction(alsoMarch);
+        assertEquals(List.of(january, march, alsoMarch), log.getTransactionsBetween(start, end));
+        assertEquals(List.of(march, alsoMarch), log.getTransactionsBetween(LocalDate.of(2021, 3, 15),
+                LocalDate.of(2021, 3, 15)));
+        assertEquals(List.of(), log.getTransactionsBetween(LocalDate.of(2021, 2, 1), LocalDate.of(2021, 3, 14)));
+
+        Transaction february = createTransaction("Apples", "01/02/2021");
+        log.setTransaction(0, february);
+        assertEquals(List.of(january, february, alsoMarch), log.getTransactionsBetween(start, end));
+
+        log.deleteTransaction(1);
+        assertEquals(List.of(february, alsoMarch), log.getTransactionsBetween(start, end));
+    }
+
+    @Test
+    public void getTransactionsBetween_invalidRange_throwsIllegalArgumentException() {
+        TransactionLog log = new TransactionLog();
+        assertThrows(IllegalArgumentException.class, () ->
+                log.getTransactionsBetween(LocalDate.of(2021, 2, 1), LocalDate.of(2021, 1, 1)));
+        assertThrows(NullPointerException.class, () -> log.getTransactionsBetween(null, LocalDate.of(2021, 1, 1)));
+    }
+
+    @Test
+    public void getTransactionLog_modifyList_throwsUnsupportedOperationException() {
+        TransactionLog log = new TransactionLog();
+        assertThrows(UnsupportedOperationException.class, () -> log.getTransactionLog().add(BUY_BOOKS));
+    }
+
     @Test
     public void testAsUnmodifiableObservableList() {
         Goods goods = new Goods("Apple");
@@ -183,6 +301,21 @@ class TransactionLogTest {
     }
 
 
+    @Test
+    public void calculateNetTransacted_decimalPrices_exactTotal() {
+        TransactionLog log = new TransactionLog();
+        Date date = new Date("17/05/2000");
+        for (int i = 0; i < 10; i++) {
+            log.addTransaction(new SellTransaction(new Goods("Apple"), new Price("0.1"), new Quantity("1"), date));
+        }
+        log.addTransaction(new BuyTransaction(new Goods("Pear"), new Price("0.3"), new Quantity("3"), date));
+
+        assertEquals(1.0, log.getTotalSold());
+        assertEquals(0.9, log.getTotalBought());
+        assertEquals(1000, log.getNetTransactedInMinorUnits());
+        assertEquals(0.1, log.calculateNetTransacted());
+    }
+
     @Test
     public void getLatestTransactionList() {
         TransactionLog log = new TransactionLog();
@@ -209,4 +342,223 @@ class TransactionLogTest {
 
     }
 
+    @Test
+    public void getOldestTransactionList_sameDate_orderedByPosition() {
+        TransactionLog log = new TransactionLog();
+        Transaction march = createTransaction("March", "01/03/2021");
+        Transaction january = createTransaction("January", "01/01/2021");
+        Transaction alsoMarch = createTransaction("Also March", "01/03/2021");
+        log.addTransaction(march);
+        log.addTransaction(january);
+        log.addTransaction(alsoMarch);
+
+        assertEquals(List.of(january, march, alsoMarch), log.getOldestTransactionList());
+        assertEquals(List.of(alsoMarch, march, january), log.getLatestTransactionList());
+
+        Transaction february = createTransaction("February", "01/02/2021");
+        log.setTransaction(2, february);
+        log.deleteTransaction(0);
+        assertEquals(List.of(january, february), log.getOldestTransactionList());
+        assertEquals(List.of(february, january), log.getLatestTransactionList());
+    }
+
+    @Test
+    public void getOldestTransactionList_sameDateEdited_positionKept() {
+        Transaction first = createTransaction("First", "01/03/2021");
+        Transaction second = createTransaction("Second", "01/03/2021");
+        TransactionLog log = new TransactionLog(List.of(first, second));
+        ObservableList<Transaction> oldestFirst = log.getOldestTransactionList();
+        ObservableList<Transaction> latestFirst = log.getLatestTransactionList();
+
+        Transaction editedFirst = createTransaction("Edited First", "01/03/2021");
+        log.setTransaction(0, editedFirst);
+        assertEquals(List.of(editedFirst, second), log.getOldestTransactionList());
+        assertEquals(List.of(second, editedFirst), log.getLatestTransactionList());
+
+        Transaction movedFirst = createTransaction("Moved First", "01/01/2021");
+        log.setTransaction(0, movedFirst);
+        assertEquals(List.of(movedFirst, second), log.getOldestTransactionList());
+        assertEquals(List.of(second, movedFirst), log.getLatestTransactionList());
+
+        // views returned before the log changed are unchanged
+        assertEquals(List.of(first, second), oldestFirst);
+        assertEquals(List.of(second, first), latestFirst);
+    }
+
+    @Test
+    public void getOldestTransactionList_reloaded_sameOrder() {
+        // transactions created in the reverse of their order in the log, as when read back from storage
+        Transaction second = createTransaction("Second", "01/03/2021");
+        Transaction first = createTransaction("First", "01/03/2021");
+        TransactionLog log = new TransactionLog(List.of(first, second));
+        assertEquals(List.of(first, second), log.getOldestTransactionList());
+
+        TransactionLog loaded = new TransactionLog(() -> List.of(first, second), new TransactionLogCache(), 2, 0,
+                2 * first.getAmountInMinorUnits(), 0);
+        assertEquals(List.of(first, second), loaded.getOldestTransactionList());
+        assertEquals(List.of(second, first), loaded.getLatestTransactionList());
+    }
+
+    @Test
+    public void getOldestTransactionList_manyTransactionsOnFewDates_matchesStableSort() {
+        Random random = new Random(16);
+        List<Transaction> transactions = new ArrayList<>();
+        TransactionLog log = new TransactionLog();
+        for (int i = 0; i < 1000; i++) {
+            Transaction transaction = createTransaction("Goods" + i,
+                    String.format("%02d/01/2021", 1 + random.nextInt(5)));
+            transactions.add(transaction);
+            log.addTransaction(transaction);
+        }
+        log.getOldestTransactionList();
+        for (int i = 0; i < 50; i++) {
+            int index = random.nextInt(transactions.size());
+            transactions.remove(index);
+            log.deleteTransaction(index);
+        }
+
+        List<Transaction> expected = new ArrayList<>(transactions);
+        expected.sort(null);
+        assertEquals(expected, log.getOldestTransactionList());
+        Collections.reverse(expected);
+        assertEquals(expected, log.getLatestTransactionList());
+    }
+
+    @Test
+    public void views_logChanged_newViewsReturned() {
+        TransactionLog log = new TransactionLog();
+        log.addTransaction(BUY_BURGERS);
+        ObservableList<Transaction> transactions = log.asUnmodifiableObservableList();
+        ObservableList<Transaction> buyTransactions = log.getBuyTransactionList();
+        ObservableList<Transaction> oldestFirst = log.getOldestTransactionList();
+
+        // the views are created once while the log is unchanged
+        assertSame(transactions, log.asUnmodifiableObservableList());
+        assertSame(buyTransactions, log.getBuyTransactionList());
+        assertSame(oldestFirst, log.getOldestTransactionList());
+
+        log.addTransaction(SELL_PAPAYA);
+        log.addTransaction(BUY_SHELVES);
+        assertEquals(List.of(BUY_BURGERS, SELL_PAPAYA, BUY_SHELVES), log.asUnmodifiableObservableList());
+        assertEquals(List.of(BUY_BURGERS, BUY_SHELVES), log.getBuyTransactionList());
+        assertEquals(List.of(SELL_PAPAYA), log.getSellTransactionList());
+        assertEquals(List.of(SELL_PAPAYA, BUY_SHELVES, BUY_BURGERS), log.getOldestTransactionList());
+        assertEquals(List.of(BUY_BURGERS, BUY_SHELVES, SELL_PAPAYA), log.getLatestTransactionList());
+
+        log.deleteTransaction(0);
+        assertEquals(List.of(BUY_SHELVES), log.getBuyTransactionList());
+        assertEquals(List.of(BUY_SHELVES, SELL_PAPAYA), log.getLatestTransactionList());
+
+        // the views returned before the changes still show the transactions they were created with
+        assertEquals(List.of(BUY_BURGERS), transactions);
+        assertEquals(List.of(BUY_BURGERS), buyTransactions);
+        assertEquals(List.of(BUY_BURGERS), oldestFirst);
+        assertThrows(UnsupportedOperationException.class, () -> oldestFirst.add(BUY_BOOKS));
+    }
+
+    @Test
+    public void addTransaction_totalTooLarge_throwsAndLogUnchanged() {
+        // 922 of the largest sales total just under Long.MAX_VALUE minor units
+        Transaction largestSale = new TransactionBuilder().withTransactionType("sell")
+                .withPrice("999999.99").withQuantity("999999").build();
+        TransactionLog log = new TransactionLog(Collections.nCopies(922, largestSale));
+        long totalSold = log.getTotalSoldInMinorUnits();
+        ObservableList<Transaction> transactions = log.asUnmodifiableObservableList();
+
+        assertThrows(TransactionTotalOverflowException.class, () -> log.addTransaction(largestSale));
+        assertEquals(922, log.size());
+        assertEquals(922, log.getSellCount());
+        assertEquals(totalSold, log.getTotalSoldInMinorUnits());
+        assertSame(transactions, log.asUnmodifiableObservableList());
+
+        // replacing a sale by a larger one is also refused, while replacing it by a purchase is not
+        log.addTransaction(SELL_PAPAYA);
+        totalSold = log.getTotalSoldInMinorUnits();
+        assertThrows(TransactionTotalOverflowException.class, () -> log.setTransaction(922, largestSale));
+        assertEquals(SELL_PAPAYA, log.getTransaction(922));
+        assertEquals(totalSold, log.getTotalSoldInMinorUnits());
+        log.setTransaction(922, BUY_ORANGE);
+        assertEquals(922, log.getSellCount());
+
+        assertThrows(TransactionTotalOverflowException.class, () ->
+                new TransactionLog(Collections.nCopies(923, largestSale)));
+    }
+
+    private static Transaction createTransaction(String goods, String date) {
+        return new BuyTransaction(new Goods(goods), new Price("1"), new Quantity("1"), new Date(date));
+    }
+
+    @Test
+    public void copyConstructor_copyChanged_originalUnchanged() {
+        TransactionLog log = new TransactionLog(List.of(BUY_BOOKS, SELL_CLOTHES));
+        TransactionLog copy = new TransactionLog(log);
+        assertEquals(log.getTransactionLog(), copy.getTransactionLog());
+
+        copy.addTransaction(BUY_ORANGE);
+        copy.deleteTransaction(0);
+        copy.setTransaction(0, SELL_PAPAYA);
+        assertEquals(List.of(BUY_BOOKS, SELL_CLOTHES), log.getTransactionLog());
+        assertEquals(List.of(SELL_PAPAYA, BUY_ORANGE), copy.getTransactionLog());
+        assertEquals(1, log.getBuyCount());
+        assertEquals(1, copy.getBuyCount());
+    }
+
+    @Test
+    public void copyConstructor_loadedOnDemand_transactionsCopied() {
+        TransactionLog log = new TransactionLog(() -> List.of(BUY_BOOKS, SELL_CLOTHES), new TransactionLogCache(),
+                1, 1, BUY_BOOKS.totalCostInMinorUnits() * -1, SELL_CLOTHES.totalCostInMinorUnits());
+        TransactionLog copy = new TransactionLog(log);
+        copy.deleteTransaction(0);
+        assertEquals(List.of(SELL_CLOTHES), copy.getTransactionLog());
+        assertEquals(List.of(BUY_BOOKS, SELL_CLOTHES), log.getTransactionLog());
+    }
+
+    @Test
+    public void getChangesSince_copiedLogChanged_changesInOrder() {
+        TransactionLog log = new TransactionLog(List.of(BUY_BOOKS, SELL_CLOTHES, BUY_ORANGE));
+        TransactionLog copy = new TransactionLog(log);
+        copy.deleteTransaction(0);
+        copy.setTransaction(1, BUY_SHELVES);
+        copy.addTransaction(SELL_PAPAYA);
+
+        List<TransactionChange> changes = copy.getChangesSince(log).get();
+        assertEquals(3, changes.size());
+        assertChange(changes.get(0), 0, BUY_BOOKS, null);
+        assertChange(changes.get(1), 1, BUY_ORANGE, BUY_SHELVES);
+        assertChange(changes.get(2), 2, null, SELL_PAPAYA);
+
+        // the changes back to the earlier log are the same changes reversed
+        List<TransactionChange> undo = log.getChangesSince(copy).get();
+        assertChange(undo.get(0), 0, null, BUY_BOOKS);
+        assertChange(undo.get(1), 2, BUY_SHELVES, BUY_ORANGE);
+        assertChange(undo.get(2), 3, SELL_PAPAYA, null);
+
+        assertEquals(List.of(), log.getChangesSince(log).get());
+        assertEquals(List.of(), new TransactionLog(log).getChangesSince(log).get());
+    }
+
+    @Test
+    public void getChangesSince_loadedOnDemand_empty() {
+        TransactionLog log = new TransactionLog(() -> List.of(BUY_BOOKS), new TransactionLogCache(), 1, 0,
+                BUY_BOOKS.totalCostInMinorUnits() * -1, 0);
+        assertFalse(new TransactionLog().getChangesSince(log).isPresent());
+        assertFalse(log.getChangesSince(new TransactionLog()).isPresent());
+    }
+
+    @Test
+    public void getTransactionById() {
+        TransactionLog log = new TransactionLog(List.of(BUY_BOOKS, SELL_CLOTHES));
+        log.deleteTransaction(0);
+        log.addTransaction(BUY_ORANGE);
+        assertArrayEquals(new long[] {1, 2}, log.getTransactionIds());
+        assertEquals(SELL_CLOTHES, log.getTransactionById(1));
+        assertEquals(BUY_ORANGE, log.getTransactionById(2));
+        assertThrows(TransactionNotFoundException.class, () -> log.getTransactionById(0));
+    }
+
+    private static void assertChange(TransactionChange change, int index, Transaction before, Transaction after) {
+        assertEquals(index, change.getIndex());
+        assertEquals(Optional.ofNullable(before), change.getBefore());
+        assertEquals(Optional.ofNullable(after), change.getAfter());
+    }
 }
@@ -0,0 +1,86 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.JeeqTracker;
+import seedu.address.model.client.Client;
+import seedu.address.model.transaction.Transaction;
+
+public class SyntheticDataGeneratorTest {
+
+    @Test
+    public void generateJeeqTracker_sameSettings_sameData() {
+        JeeqTracker first = new SyntheticDataGenerator(42).withClientCount(50).generateJeeqTracker();
+        JeeqTracker second = new SyntheticDataGenerator(42).withClientCount(50).generateJeeqTracker();
+        assertEquals(first, second);
+        for (int i = 0; i < 50; i++) {
+            assertEquals(first.getClientList().get(i).getTransactionList(),
+                    second.getClientList().get(i).getTransactionList());
+            assertEquals(first.getClientList().get(i).getRemarkList(),
+                    second.getClientList().get(i).getRemarkList());
+        }
+        assertNotEquals(first, new SyntheticDataGenerator(43).withClientCount(50).generateJeeqTracker());
+    }
+
+    @Test
+    public void generateClient_sameIndex_sameClientWhateverTheCount() {
+        Client client = new SyntheticDataGenerator(7).withClientCount(10).generateClient(5);
+        assertEquals(client, new SyntheticDataGenerator(7).withClientCount(1_000_000).generateClient(5));
+        assertEquals(client, new SyntheticDataGenerator(7).generateJeeqTracker().getClientList().get(5));
+    }
+
+    @Test
+    public void iterator_configuredSizes() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(1).withClientCount(200)
+                .withTransactionsPerClient(7).withMaxRemarksPerClient(3).withMaxTagsPerClient(1)
+                .withGoodsVocabularySize(25);
+        Set<String> goods = new HashSet<>();
+        int clientCount = 0;
+        for (Client client : generator) {
+            clientCount++;
+            assertEquals(7, client.getTransactions().size());
+            assertTrue(client.getRemarkList().size() <= 3);
+            assertTrue(client.getTags().size() <= 1);
+            client.getTransactionList().forEach(transaction -> goods.add(transaction.getGoods().goodsName));
+        }
+        assertEquals(200, clientCount);
+        assertEquals(1400, generator.getTransactionCount());
+        assertEquals(25, goods.size());
+    }
+
+    @Test
+    public void withDateSkew_skewed_mostTransactionsRecent() {
+        LocalDate middle = SyntheticDataGenerator.FIRST_DATE.plusDays(SyntheticDataGenerator.DATE_RANGE_DAYS / 2);
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(3).withClientCount(100)
+                .withTransactionsPerClient(100).withDateSkew(5);
+        int recent = 0;
+        for (Client client : generator) {
+            for (Transaction transaction : client.getTransactionList()) {
+                recent += transaction.getLocalDate().isAfter(middle) ? 1 : 0;
+            }
+        }
+        // about 89% of transactions are in the second half for a skew of 5
+        assertTrue(recent > 8500 && recent < 9300);
+    }
+
+    @Test
+    public void settings_invalidValues_throwIllegalArgumentException() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(1);
+        assertThrows(IllegalArgumentException.class, () -> generator.withClientCount(-1));
+        assertThrows(IllegalArgumentException.class, () -> generator.withTransactionsPerClient(-1));
+        assertThrows(IllegalArgumentException.class, () -> generator.withMaxRemarksPerClient(-1));
+        assertThrows(IllegalArgumentException.class, () -> generator.withMaxTagsPerClient(100));
+        assertThrows(IllegalArgumentException.class, () -> generator.withGoodsVocabularySize(0));
+        assertThrows(IllegalArgumentException.class, () -> generator.withDateSkew(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> generator.generateClient(-1));
+    }
+}
@@ -0,0 +1,252 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.HOON;
+import static seedu.address.testutil.TypicalClients.getTypicalJeeqTracker;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.JeeqTracker;
+import seedu.address.model.ReadOnlyJeeqTracker;
+import seedu.address.model.client.Client;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.model.transaction.TransactionLog;
+import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.TransactionBuilder;
+
+public class BinaryJeeqTrackerStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readJeeqTracker_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryJeeqTrackerStorage(testFolder.resolve("data.jqt")).readJeeqTracker(null));
+    }
+
+    @Test
+    public void readJeeqTracker_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryJeeqTrackerStorage(testFolder.resolve("missing.jqt")).readJeeqTracker().isPresent());
+    }
+
+    @Test
+    public void readAndSaveJeeqTracker_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("data").resolve("jeeqtracker.jqt");
+        BinaryJeeqTrackerStorage storage = new BinaryJeeqTrackerStorage(filePath);
+        JeeqTracker original = getTypicalJeeqTracker();
+
+        storage.saveJeeqTracker(original);
+        assertSameData(original, storage.readJeeqTracker().get());
+
+        original.addClient(HOON);
+        original.removeClient(ALICE);
+        storage.saveJeeqTracker(original);
+        assertSameData(original, storage.readJeeqTracker().get());
+        assertFalse(Files.exists(
+                filePath.resolveSibling("jeeqtracker.jqt" + BinaryJeeqTrackerStorage.TEMP_FILE_SUFFIX)));
+    }
+
+    @Test
+    public void saveJeeqTracker_unusualPricesAndOldDates_readBackUnchanged() throws Exception {
+        TransactionLog transactions = new TransactionLog(Arrays.asList(
+                new TransactionBuilder().withTransactionType("buy").withGoods("Apple").withPrice("12.30")
+                        .withQuantity("1").withDate("01/01/1900").build(),
+                new TransactionBuilder().withTransactionType("sell").withGoods("Apple").withPrice("0.0001")
+                        .withQuantity("999999").withDate("29/02/2024").build(),
+                new TransactionBuilder().withTransactionType("sell").withGoods("Pear").withPrice("007")
+                        .withQuantity("3").withDate("31/12/2099").build(),
+                new TransactionBuilder().withTransactionType("buy").withGoods("Pear").withPrice("2.5d")
+                        .withQuantity("2").withDate("01/01/2000").build()));
+        Client client = new ClientBuilder().withName("Zed Tan").build().withTransactions(transactions);
+        JeeqTracker original = new JeeqTracker();
+        original.addClient(client);
+
+        BinaryJeeqTrackerStorage storage = new BinaryJeeqTrackerStorage(testFolder.resolve("prices.jqt"));
+        storage.saveJeeqTracker(original);
+        assertSameData(original, storage.readJeeqTracker().get());
+    }
+
+    @Test
+    public void saveJeeqTracker_typicalClients_smallerThanJson() throws Exception {
+        Path binaryFilePath = testFolder.resolve("jeeqtracker.jqt");
+        Path jsonFilePath = testFolder.resolve("jeeqtracker.json");
+        new BinaryJeeqTrackerStorage(binaryFilePath).saveJeeqTracker(getTypicalJeeqTracker());
+        new JsonJeeqTrackerStorage(jsonFilePath).saveJeeqTracker(getTypicalJeeqTracker());
+
+        assertTrue(Files.size(binaryFilePath) * 3 < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readJeeqTracker_notBinaryFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("json.jqt");
+        new JsonJeeqTrackerStorage(filePath).saveJeeqTracker(getTypicalJeeqTracker());
+        assertThrows(DataConversionException.class, () -> new BinaryJeeqTrackerStorage(filePath).readJeeqTracker());
+
+        FileUtil.writeToFile(filePath, "");
+        assertThrows(DataConversionException.class, () -> new BinaryJeeqTrackerStorage(filePath).readJeeqTracker());
+    }
+
+    @Test
+    public void readJeeqTracker_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("truncated.jqt");
+        BinaryJeeqTrackerStorage storage = new BinaryJeeqTrackerStorage(filePath);
+        storage.saveJeeqTracker(getTypicalJeeqTracker());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(DataConversionException.class, storage::readJeeqTracker);
+
+        // end marker missing
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(DataConversionException.class, storage::readJeeqTracker);
+    }
+
+    @Test
+    public void readJeeqTracker_unsupportedVersion_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("version.jqt");
+        BinaryJeeqTrackerStorage storage = new BinaryJeeqTrackerStorage(filePath);
+        storage.saveJeeqTracker(new JeeqTracker());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[Integer.BYTES] = BinaryJeeqTrackerStorage.VERSION + 1;
+        Files.write(filePath, bytes);
+        assertThrows(DataConversionException.class, storage::readJeeqTracker);
+    }
+
+    @Test
+    public void readJeeqTracker_invalidField_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("invalid.jqt");
+        BinaryJeeqTrackerStorage storage = new BinaryJeeqTrackerStorage(filePath);
+        JeeqTracker jeeqTracker = new JeeqTracker();
+        jeeqTracker.addClient(new ClientBuilder().withName("Zed Tan").build());
+        storage.saveJeeqTracker(jeeqTracker);
+
+        // the name is the first string of the only client record: 4 magic, 1 version, 1 record length, 1 name length
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[7] = '*';
+        Files.write(filePath, bytes);
+        assertThrows(DataConversionException.class, storage::readJeeqTracker);
+    }
+
+    @Test
+    public void readJeeqTracker_negativeCount_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("negativeCount.jqt");
+        BinaryJeeqTrackerStorage storage = new BinaryJeeqTrackerStorage(filePath);
+        JeeqTracker jeeqTracker = new JeeqTracker();
+        jeeqTracker.addClient(new ClientBuilder().withName("Zed Tan").build());
+        storage.saveJeeqTracker(jeeqTracker);
+
+        // the name length is the first byte of the only client record, and is replaced by -1
+        byte[] bytes = Files.readAllBytes(filePath);
+        byte[] record = Arrays.copyOfRange(bytes, 6, 6 + bytes[5]);
+        Files.write(filePath, withRecord(bytes, replace(record, 0, 1, varLong(-1))));
+        assertThrows(DataConversionException.class, storage::readJeeqTracker);
+    }
+
+    @Test
+    public void readJeeqTracker_negativeGoodsId_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("negativeGoods.jqt");
+        BinaryJeeqTrackerStorage storage = new BinaryJeeqTrackerStorage(filePath);
+        Transaction transaction = new TransactionBuilder().build();
+        JeeqTracker jeeqTracker = new JeeqTracker();
+        jeeqTracker.addClient(new ClientBuilder().withName("Zed Tan").build()
+                .withTransactions(new TransactionLog(List.of(transaction))));
+        storage.saveJeeqTracker(jeeqTracker);
+
+        // the goods id follows the type of the transaction, and is replaced by -1
+        ByteArrayOutputStream transactionBytes = new ByteArrayOutputStream();
+        BinaryJeeqTrackerStorage.writeTransaction(new DataOutputStream(transactionBytes), transaction, new HashMap<>());
+        byte[] bytes = Files.readAllBytes(filePath);
+        byte[] record = Arrays.copyOfRange(bytes, 6, 6 + bytes[5]);
+        int transactionStart = indexOf(record, transactionBytes.toByteArray());
+        assertTrue(transactionStart >= 0);
+        Files.write(filePath, withRecord(bytes, replace(record, transactionStart + 1, 1, varLong(-1))));
+        assertThrows(DataConversionException.class, storage::readJeeqTracker);
+    }
+
+    @Test
+    public void readTransaction_dayOutOfRange_throwsIoException() throws Exception {
+        Transaction transaction = new TransactionBuilder().build();
+        ByteArrayOutputStream transactionBytes = new ByteArrayOutputStream();
+        BinaryJeeqTrackerStorage.writeTransaction(new DataOutputStream(transactionBytes), transaction, new HashMap<>());
+        ByteArrayOutputStream dayBytes = new ByteArrayOutputStream();
+        BinaryJeeqTrackerStorage.writeVarLong(new DataOutputStream(dayBytes),
+                BinaryJeeqTrackerStorage.zigZag(transaction.getLocalDate().toEpochDay()));
+
+        // the day is written last, so it is replaced by one that no date has
+        ByteArrayOutputStream corruptBytes = new ByteArrayOutputStream();
+        corruptBytes.write(transactionBytes.toByteArray(), 0, transactionBytes.size() - dayBytes.size());
+        BinaryJeeqTrackerStorage.writeVarLong(new DataOutputStream(corruptBytes),
+                BinaryJeeqTrackerStorage.zigZag(Long.MAX_VALUE / 2));
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(corruptBytes.toByteArray()));
+        assertThrows(IOException.class, () -> BinaryJeeqTrackerStorage.readTransaction(in, new ArrayList<>()));
+    }
+
+    /**
+     * Returns {@code file}, a file of one client record shorter than 128 bytes, with {@code record} in place of its
+     * client record.
+     */
+    private static byte[] withRecord(byte[] file, byte[] record) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write(file, 0, 5);
+        BinaryJeeqTrackerStorage.writeVarLong(new DataOutputStream(bytes), record.length);
+        bytes.write(record);
+        bytes.write(file, 6 + file[5], file.length - 6 - file[5]);
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Returns {@code bytes} with the {@code length} bytes from {@code from} replaced by {@code replacement}.
+     */
+    private static byte[] replace(byte[] bytes, int from, int length, byte[] replacement) {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        result.write(bytes, 0, from);
+        result.write(replacement, 0, replacement.length);
+        result.write(bytes, from + length, bytes.length - from - length);
+        return result.toByteArray();
+    }
+
+    private static byte[] varLong(long value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryJeeqTrackerStorage.writeVarLong(new DataOutputStream(bytes), value);
+        return bytes.toByteArray();
+    }
+
+    private static int indexOf(byte[] bytes, byte[] toFind) {
+        for (int i = 0; i + toFind.length <= bytes.length; i++) {
+            if (Arrays.equals(bytes, i, i + toFind.length, toFind, 0, toFind.length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Asserts that {@code actual} holds exactly the same clients, remarks and transactions as {@code expected}.
+     */
+    private static void assertSameData(ReadOnlyJeeqTracker expected, ReadOnlyJeeqTracker actual) throws Exception {
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableJeeqTracker(expected)),
+                JsonUtil.toJsonString(new JsonSerializableJeeqTracker(actual)));
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.getTypicalJeeqTracker;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.model.JeeqTracker;
+
+public class DataFileConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void createStorage_eachFormat_matchingStorage() {
+        Path filePath = testFolder.resolve("data");
+        assertTrue(DataFileConverter.createStorage(DataFileFormat.JSON, filePath) instanceof JsonJeeqTrackerStorage);
+        assertTrue(DataFileConverter.createStorage(DataFileFormat.BINARY, filePath)
+                instanceof BinaryJeeqTrackerStorage);
+        assertTrue(DataFileConverter.createStorage(DataFileFormat.SEGMENTED, filePath)
+                instanceof SegmentedJeeqTrackerStorage);
+        assertEquals(filePath, DataFileConverter.createStorage(DataFileFormat.BINARY, filePath)
+                .getJeeqTrackerFilePath());
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameJson() throws Exception {
+        Path jsonFilePath = testFolder.resolve("jeeqtracker.json");
+        Path binaryFilePath = testFolder.resolve("jeeqtracker.jqt");
+        Path convertedFilePath = testFolder.resolve("converted.json");
+        new JsonJeeqTrackerStorage(jsonFilePath).saveJeeqTracker(getTypicalJeeqTracker());
+
+        DataFileConverter.convert(new JsonJeeqTrackerStorage(jsonFilePath),
+                new BinaryJeeqTrackerStorage(binaryFilePath));
+        DataFileConverter.convert(new BinaryJeeqTrackerStorage(binaryFilePath),
+                new JsonJeeqTrackerStorage(convertedFilePath));
+
+        assertArrayEquals(Files.readAllBytes(jsonFilePath), Files.readAllBytes(convertedFilePath));
+        assertEquals(getTypicalJeeqTracker(),
+                new JeeqTracker(new BinaryJeeqTrackerStorage(binaryFilePath).readJeeqTracker().get()));
+    }
+
+    @Test
+    public void convert_missingSource_throwsIoException() {
+        assertThrows(IOException.class, () -> DataFileConverter.convert(
+                new JsonJeeqTrackerStorage(testFolder.resolve("missing.json")),
+                new BinaryJeeqTrackerStorage(testFolder.resolve("target.jqt"))));
+    }
+
+    @Test
+    public void fromFilePath_knownAndUnknownExtensions() {
+        assertEquals(Optional.of(DataFileFormat.JSON), DataFileFormat.fromFilePath(Paths.get("data", "a.JSON")));
+        assertEquals(Optional.of(DataFileFormat.BINARY), DataFileFormat.fromFilePath(Paths.get("a.jqt")));
+        assertEquals(Optional.of(DataFileFormat.SEGMENTED), DataFileFormat.fromFilePath(Paths.get("a.jqts")));
+        assertEquals(Optional.empty(), DataFileFormat.fromFilePath(Paths.get("a.txt")));
+    }
+}
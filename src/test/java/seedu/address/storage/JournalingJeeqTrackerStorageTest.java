@@ -0,0 +1,276 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.HOON;
+import static seedu.address.testutil.TypicalClients.IDA;
+import static seedu.address.testutil.TypicalClients.getTypicalJeeqTracker;
+import static seedu.address.testutil.TypicalTransaction.BUY_BOOKS;
+import static seedu.address.testutil.TypicalTransaction.BUY_SHELVES;
+import static seedu.address.testutil.TypicalTransaction.BUY_TOYS;
+import static seedu.address.testutil.TypicalTransaction.SELL_CLOTHES;
+import static seedu.address.testutil.TypicalTransaction.SELL_PANTS;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.JeeqTracker;
+import seedu.address.model.ReadOnlyJeeqTracker;
+import seedu.address.model.client.Client;
+import seedu.address.model.transaction.TransactionLog;
+import seedu.address.testutil.ClientBuilder;
+
+public class JournalingJeeqTrackerStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalFilePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempJeeqTracker.json");
+        journalFilePath = JournalingJeeqTrackerStorage.getJournalFilePath(filePath);
+    }
+
+    @Test
+    public void constructor_nonPositiveThreshold_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new JournalingJeeqTrackerStorage(new JsonJeeqTrackerStorage(filePath), 0));
+    }
+
+    @Test
+    public void getJournalFilePath_snapshotPath_siblingWithSuffix() {
+        assertEquals(testFolder.resolve("TempJeeqTracker.json.journal"), journalFilePath);
+    }
+
+    @Test
+    public void saveJeeqTracker_changesAfterFirstSave_appendedToJournal() throws Exception {
+        JournalingJeeqTrackerStorage storage = new JournalingJeeqTrackerStorage(new JsonJeeqTrackerStorage(filePath));
+        JeeqTracker original = getTypicalJeeqTracker();
+        storage.saveJeeqTracker(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+
+        original.addClient(HOON);
+        original.removeClient(ALICE);
+        original.setClient(BENSON, new ClientBuilder(BENSON).withClientPhone("99999999").build());
+        storage.saveJeeqTracker(original);
+
+        // snapshot is left alone, and a header plus one record per change is in the journal
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(4, Files.readAllLines(journalFilePath).size());
+        assertEquals(3, storage.getJournalSize());
+
+        assertEquals(original, readWithNewStorage());
+    }
+
+    @Test
+    public void saveJeeqTracker_noChanges_nothingWritten() throws Exception {
+        JournalingJeeqTrackerStorage storage = new JournalingJeeqTrackerStorage(new JsonJeeqTrackerStorage(filePath));
+        JeeqTracker original = getTypicalJeeqTracker();
+        storage.saveJeeqTracker(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+        byte[] journal = Files.readAllBytes(journalFilePath);
+
+        storage.saveJeeqTracker(original);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertArrayEquals(journal, Files.readAllBytes(journalFilePath));
+    }
+
+    @Test
+    public void saveJeeqTracker_clientReplaced_latestStateJournaled() throws Exception {
+        JournalingJeeqTrackerStorage storage = new JournalingJeeqTrackerStorage(new JsonJeeqTrackerStorage(filePath));
+        Client client = new ClientBuilder().withName("Zed Tan").build();
+        JeeqTracker original = new JeeqTracker();
+        original.addClient(client);
+        storage.saveJeeqTracker(original);
+
+        TransactionLog transactions = new TransactionLog(client.getTransactions().getTransactionLog());
+        transactions.addTransaction(SELL_CLOTHES);
+        original.setClient(client, client.withTransactions(transactions));
+        storage.saveJeeqTracker(original);
+
+        ReadOnlyJeeqTracker readBack = readWithNewStorage();
+        assertEquals(original, readBack);
+        assertEquals(1, readBack.getClientList().get(0).getTransactionList().size());
+    }
+
+    @Test
+    public void saveJeeqTracker_transactionsChanged_transactionRecordsJournaled() throws Exception {
+        JournalingJeeqTrackerStorage storage = new JournalingJeeqTrackerStorage(new JsonJeeqTrackerStorage(filePath));
+        Client client = new ClientBuilder().withName("Zed Tan").withTransaction(BUY_BOOKS)
+                .withTransaction(SELL_CLOTHES).withTransaction(BUY_SHELVES).build();
+        JeeqTracker original = new JeeqTracker();
+        original.addClient(client);
+        storage.saveJeeqTracker(original);
+
+        TransactionLog transactions = new TransactionLog(client.getTransactions());
+        transactions.addTransaction(SELL_PANTS);
+        Client edited = client.withTransactions(transactions);
+        original.setClient(client, edited);
+        storage.saveJeeqTracker(original);
+
+        // only the added transaction is written, not the client
+        List<String> lines = Files.readAllLines(journalFilePath);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(1).contains("\"op\":\"addTransaction\""));
+        assertFalse(lines.get(1).contains("\"client\""));
+
+        transactions = new TransactionLog(edited.getTransactions());
+        transactions.setTransaction(0, BUY_TOYS);
+        transactions.deleteTransaction(1);
+        Client editedAgain = new ClientBuilder(edited.withTransactions(transactions))
+                .withClientPhone("99999999").build().withTransactions(transactions);
+        original.setClient(edited, editedAgain);
+        storage.saveJeeqTracker(original);
+        assertEquals(5, Files.readAllLines(journalFilePath).size());
+
+        // undoing the deletion inserts the transaction before others
+        original.setClient(editedAgain, edited);
+        storage.saveJeeqTracker(original);
+
+        ReadOnlyJeeqTracker readBack = readWithNewStorage();
+        assertEquals(original, readBack);
+        assertEquals(List.of(BUY_BOOKS, SELL_CLOTHES, BUY_SHELVES, SELL_PANTS),
+                readBack.getClientList().get(0).getTransactions().getTransactionLog());
+    }
+
+    @Test
+    public void saveJeeqTracker_journalPastThreshold_compactedIntoSnapshot() throws Exception {
+        JournalingJeeqTrackerStorage storage =
+                new JournalingJeeqTrackerStorage(new JsonJeeqTrackerStorage(filePath), 2);
+        JeeqTracker original = getTypicalJeeqTracker();
+        storage.saveJeeqTracker(original);
+
+        original.addClient(HOON);
+        original.addClient(IDA);
+        storage.saveJeeqTracker(original);
+        assertEquals(2, storage.getJournalSize());
+
+        original.removeClient(ALICE);
+        storage.saveJeeqTracker(original);
+        assertEquals(0, storage.getJournalSize());
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new JeeqTracker(new JsonJeeqTrackerStorage(filePath).readJeeqTracker().get()));
+    }
+
+    @Test
+    public void saveJeeqTracker_otherFilePath_writesSnapshotOnly() throws Exception {
+        JournalingJeeqTrackerStorage storage = new JournalingJeeqTrackerStorage(new JsonJeeqTrackerStorage(filePath));
+        Path otherFilePath = testFolder.resolve("Other.json");
+        storage.saveJeeqTracker(getTypicalJeeqTracker(), otherFilePath);
+
+        assertTrue(Files.exists(otherFilePath));
+        assertFalse(Files.exists(JournalingJeeqTrackerStorage.getJournalFilePath(otherFilePath)));
+        assertFalse(Files.exists(journalFilePath));
+    }
+
+    @Test
+    public void saveJeeqTracker_unchangedAfterRead_journalReused() throws Exception {
+        JournalingJeeqTrackerStorage storage = new JournalingJeeqTrackerStorage(new JsonJeeqTrackerStorage(filePath));
+        JeeqTracker original = getTypicalJeeqTracker();
+        storage.saveJeeqTracker(original);
+        original.addClient(HOON);
+        storage.saveJeeqTracker(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        JournalingJeeqTrackerStorage restarted =
+                new JournalingJeeqTrackerStorage(new JsonJeeqTrackerStorage(filePath));
+        JeeqTracker model = new JeeqTracker(restarted.readJeeqTracker().get());
+        restarted.saveJeeqTracker(model);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(1, restarted.getJournalSize());
+
+        model.addClient(IDA);
+        restarted.saveJeeqTracker(model);
+        assertEquals(3, Files.readAllLines(journalFilePath).size());
+        assertEquals(model, readWithNewStorage());
+    }
+
+    @Test
+    public void readJeeqTracker_journalOfOtherSnapshot_ignored() throws Exception {
+        JournalingJeeqTrackerStorage storage = new JournalingJeeqTrackerStorage(new JsonJeeqTrackerStorage(filePath));
+        JeeqTracker original = getTypicalJeeqTracker();
+        storage.saveJeeqTracker(original);
+        original.addClient(HOON);
+        storage.saveJeeqTracker(original);
+
+        // snapshot rewritten without going through the journal
+        new JsonJeeqTrackerStorage(filePath).saveJeeqTracker(new JeeqTracker());
+
+        assertEquals(new JeeqTracker(), readWithNewStorage());
+    }
+
+    @Test
+    public void readJeeqTracker_incompleteLastRecord_ignored() throws Exception {
+        JournalingJeeqTrackerStorage storage = new JournalingJeeqTrackerStorage(new JsonJeeqTrackerStorage(filePath));
+        JeeqTracker original = getTypicalJeeqTracker();
+        storage.saveJeeqTracker(original);
+        original.addClient(HOON);
+        storage.saveJeeqTracker(original);
+        appendToJournal("{\"op\":\"add\",\"ind");
+
+        JournalingJeeqTrackerStorage restarted =
+                new JournalingJeeqTrackerStorage(new JsonJeeqTrackerStorage(filePath));
+        JeeqTracker model = new JeeqTracker(restarted.readJeeqTracker().get());
+        assertEquals(original, model);
+
+        // the damaged journal is replaced on the next save
+        restarted.saveJeeqTracker(model);
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, readWithNewStorage());
+    }
+
+    @Test
+    public void readJeeqTracker_invalidRecord_throwsDataConversionException() throws Exception {
+        JournalingJeeqTrackerStorage storage = new JournalingJeeqTrackerStorage(new JsonJeeqTrackerStorage(filePath));
+        storage.saveJeeqTracker(getTypicalJeeqTracker());
+
+        appendToJournal("{\"op\":\"remove\",\"index\":100}\n");
+        assertThrows(DataConversionException.class, this::readWithNewStorage);
+    }
+
+    @Test
+    public void readJeeqTracker_malformedRecordBeforeLast_throwsDataConversionException() throws Exception {
+        JournalingJeeqTrackerStorage storage = new JournalingJeeqTrackerStorage(new JsonJeeqTrackerStorage(filePath));
+        storage.saveJeeqTracker(getTypicalJeeqTracker());
+
+        appendToJournal("not json\n{\"op\":\"remove\",\"index\":0}\n");
+        assertThrows(DataConversionException.class, this::readWithNewStorage);
+    }
+
+    @Test
+    public void readJeeqTracker_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalingJeeqTrackerStorage(new JsonJeeqTrackerStorage(filePath))
+                .readJeeqTracker().isPresent());
+    }
+
+    private ReadOnlyJeeqTracker readWithNewStorage() throws Exception {
+        List<Client> clients = new JournalingJeeqTrackerStorage(new JsonJeeqTrackerStorage(filePath))
+                .readJeeqTracker().get().getClientList();
+        JeeqTracker jeeqTracker = new JeeqTracker();
+        jeeqTracker.setClients(clients);
+        return jeeqTracker;
+    }
+
+    private void appendToJournal(String content) throws Exception {
+        Files.write(journalFilePath, content.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.client.Address;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.Name;
+import seedu.address.testutil.ClientBuilder;
+
+public class ParallelClientConverterTest {
+
+    private static final int SIZE = ParallelClientConverter.PARALLEL_THRESHOLD * 20;
+
+    @Test
+    public void toModelType_manyClients_sameOrder() throws Exception {
+        List<Client> expected = new ArrayList<>();
+        List<JsonAdaptedClient> adaptedClients = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            Client client = new ClientBuilder().withName("Client " + i).build();
+            expected.add(client);
+            adaptedClients.add(new JsonAdaptedClient(client));
+        }
+
+        assertEquals(expected, ParallelClientConverter.toModelType(adaptedClients));
+    }
+
+    @Test
+    public void toModelType_severalInvalidClients_firstInOrderReported() {
+        List<JsonAdaptedClient> adaptedClients = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            adaptedClients.add(new JsonAdaptedClient(new ClientBuilder().withName("Client " + i).build()));
+        }
+        adaptedClients.set(SIZE / 2, withName("R@chel"));
+        adaptedClients.set(SIZE - 1, withAddress(" "));
+
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+                ParallelClientConverter.toModelType(adaptedClients));
+
+        adaptedClients.set(SIZE / 4, withAddress(" "));
+        assertThrows(IllegalValueException.class, Address.MESSAGE_CONSTRAINTS, () ->
+                ParallelClientConverter.toModelType(adaptedClients));
+    }
+
+    @Test
+    public void toModelType_convertedByManyThreads_sameOrderAndFirstErrorReported() throws Exception {
+        List<Client> expected = new ArrayList<>();
+        List<JsonAdaptedClient> adaptedClients = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            Client client = new ClientBuilder().withName("Client " + i).build();
+            expected.add(client);
+            adaptedClients.add(new JsonAdaptedClient(client));
+        }
+
+        // a parallel stream runs in the pool of the thread that starts it, so this uses 4 threads on any machine
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int round = 0; round < 10; round++) {
+                assertEquals(expected, pool.submit(() -> ParallelClientConverter.toModelType(adaptedClients)).get());
+            }
+            adaptedClients.set(SIZE - 1, withName("R@chel"));
+            adaptedClients.set(1, withAddress(" "));
+            for (int round = 0; round < 10; round++) {
+                assertEquals(Address.MESSAGE_CONSTRAINTS, pool.submit(() -> {
+                    try {
+                        ParallelClientConverter.toModelType(adaptedClients);
+                        return null;
+                    } catch (IllegalValueException ive) {
+                        return ive.getMessage();
+                    }
+                }).get());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void toModelType_fewClients_converted() throws Exception {
+        Client client = new ClientBuilder().build();
+        List<JsonAdaptedClient> adaptedClients = new ArrayList<>();
+        adaptedClients.add(new JsonAdaptedClient(client));
+        assertEquals(List.of(client), ParallelClientConverter.toModelType(adaptedClients));
+    }
+
+    private static JsonAdaptedClient withName(String name) {
+        return new JsonAdaptedClient(name, "Some address", "91234567", "a@b.com",
+                new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+    }
+
+    private static JsonAdaptedClient withAddress(String address) {
+        return new JsonAdaptedClient("Valid Name", address, "91234567", "a@b.com",
+                new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+    }
+}
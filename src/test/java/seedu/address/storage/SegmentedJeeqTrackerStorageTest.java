@@ -0,0 +1,201 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.getTypicalJeeqTracker;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.JeeqTracker;
+import seedu.address.model.ReadOnlyJeeqTracker;
+import seedu.address.model.client.Client;
+import seedu.address.model.transaction.TransactionLog;
+import seedu.address.model.transaction.TransactionLogCache;
+import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.TransactionBuilder;
+
+public class SegmentedJeeqTrackerStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readJeeqTracker_missingFile_emptyResult() throws Exception {
+        SegmentedJeeqTrackerStorage storage = new SegmentedJeeqTrackerStorage(testFolder.resolve("missing.jqts"));
+        assertFalse(storage.readJeeqTracker().isPresent());
+        assertThrows(NullPointerException.class, () -> storage.readJeeqTracker(null));
+    }
+
+    @Test
+    public void readAndSaveJeeqTracker_typicalClients_sameData() throws Exception {
+        Path filePath = testFolder.resolve("data").resolve("jeeqtracker.jqts");
+        JeeqTracker original = getTypicalJeeqTracker();
+        new SegmentedJeeqTrackerStorage(filePath).saveJeeqTracker(original);
+
+        assertSameData(original, new SegmentedJeeqTrackerStorage(filePath).readJeeqTracker().get());
+        assertFalse(Files.exists(filePath.resolveSibling("jeeqtracker.jqts"
+                + SegmentedJeeqTrackerStorage.TEMP_FILE_SUFFIX)));
+    }
+
+    @Test
+    public void readJeeqTracker_transactionsLoadedOnlyWhenNeeded() throws Exception {
+        Path filePath = testFolder.resolve("lazy.jqts");
+        JeeqTracker original = createJeeqTracker(3, 4);
+        new SegmentedJeeqTrackerStorage(filePath).saveJeeqTracker(original);
+
+        SegmentedJeeqTrackerStorage storage = new SegmentedJeeqTrackerStorage(filePath);
+        ReadOnlyJeeqTracker read = storage.readJeeqTracker().get();
+        TransactionLogCache cache = storage.getCache();
+        for (int i = 0; i < 3; i++) {
+            Client readClient = read.getClientList().get(i);
+            Client originalClient = original.getClientList().get(i);
+            assertEquals(originalClient.getTotalTransactedInMinorUnits(), readClient.getTotalTransactedInMinorUnits());
+            assertEquals(4, readClient.getTransactions().size());
+        }
+        assertEquals(0, cache.getLoadCount());
+
+        Client second = read.getClientList().get(1);
+        assertEquals(original.getClientList().get(1).getTransactionList(), second.getTransactionList());
+        second.getSellTransactionList();
+        assertEquals(1, cache.getLoadCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void saveJeeqTracker_unchangedClients_segmentsReused() throws Exception {
+        Path filePath = testFolder.resolve("reuse.jqts");
+        new SegmentedJeeqTrackerStorage(filePath).saveJeeqTracker(createJeeqTracker(3, 2));
+
+        SegmentedJeeqTrackerStorage storage = new SegmentedJeeqTrackerStorage(filePath);
+        JeeqTracker read = new JeeqTracker(storage.readJeeqTracker().get());
+        List<Path> segments = listSegments(filePath);
+        assertEquals(3, segments.size());
+
+        Client changed = read.getClientList().get(0);
+        TransactionLog transactions = new TransactionLog(changed.getTransactions().getTransactionLog());
+        transactions.deleteTransaction(0);
+        read.setClient(changed, changed.withTransactions(transactions));
+        storage.saveJeeqTracker(read);
+
+        // only the changed client gets a new segment, without reading the others
+        List<Path> savedSegments = listSegments(filePath);
+        assertEquals(4, savedSegments.size());
+        assertTrue(savedSegments.containsAll(segments));
+        assertEquals(1, storage.getCache().getLoadCount());
+
+        // the replaced segment is removed on the next read
+        ReadOnlyJeeqTracker reread = new SegmentedJeeqTrackerStorage(filePath).readJeeqTracker().get();
+        assertEquals(3, listSegments(filePath).size());
+        assertSameData(read, reread);
+    }
+
+    @Test
+    public void saveJeeqTracker_otherPath_allSegmentsWritten() throws Exception {
+        Path filePath = testFolder.resolve("source.jqts");
+        Path otherFilePath = testFolder.resolve("copy.jqts");
+        SegmentedJeeqTrackerStorage storage = new SegmentedJeeqTrackerStorage(filePath);
+        storage.saveJeeqTracker(createJeeqTracker(2, 2));
+
+        ReadOnlyJeeqTracker read = storage.readJeeqTracker().get();
+        storage.saveJeeqTracker(read, otherFilePath);
+        assertEquals(2, listSegments(otherFilePath).size());
+        assertSameData(read, new SegmentedJeeqTrackerStorage(otherFilePath).readJeeqTracker().get());
+    }
+
+    @Test
+    public void cache_smallCapacity_leastRecentlyUsedReloaded() throws Exception {
+        Path filePath = testFolder.resolve("evict.jqts");
+        new SegmentedJeeqTrackerStorage(filePath).saveJeeqTracker(createJeeqTracker(3, 5));
+
+        SegmentedJeeqTrackerStorage storage = new SegmentedJeeqTrackerStorage(filePath, new TransactionLogCache(10));
+        List<Client> clients = storage.readJeeqTracker().get().getClientList();
+        clients.get(0).getTransactionList();
+        clients.get(1).getTransactionList();
+        clients.get(0).getTransactionList();
+        assertEquals(2, storage.getCache().getLoadCount());
+
+        clients.get(2).getTransactionList();
+        assertEquals(10, storage.getCache().getCachedTransactionCount());
+
+        // the second client was used least recently, so it was dropped
+        clients.get(0).getTransactionList();
+        assertEquals(3, storage.getCache().getLoadCount());
+        clients.get(1).getTransactionList();
+        assertEquals(4, storage.getCache().getLoadCount());
+    }
+
+    @Test
+    public void readJeeqTracker_missingSegment_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("missing.jqts");
+        new SegmentedJeeqTrackerStorage(filePath).saveJeeqTracker(createJeeqTracker(2, 1));
+        Files.delete(listSegments(filePath).get(0));
+
+        assertThrows(DataConversionException.class, () ->
+                new SegmentedJeeqTrackerStorage(filePath).readJeeqTracker());
+    }
+
+    @Test
+    public void getTransactionList_corruptedSegment_throwsUncheckedIoException() throws Exception {
+        Path filePath = testFolder.resolve("corrupted.jqts");
+        new SegmentedJeeqTrackerStorage(filePath).saveJeeqTracker(createJeeqTracker(1, 3));
+        Path segment = listSegments(filePath).get(0);
+        byte[] bytes = Files.readAllBytes(segment);
+
+        Client client = new SegmentedJeeqTrackerStorage(filePath).readJeeqTracker().get().getClientList().get(0);
+        bytes[0] = 2;
+        Files.write(segment, bytes);
+        assertThrows(UncheckedIOException.class, client::getTransactionList);
+    }
+
+    @Test
+    public void readJeeqTracker_notSegmentedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("binary.jqts");
+        new BinaryJeeqTrackerStorage(filePath).saveJeeqTracker(getTypicalJeeqTracker());
+        assertThrows(DataConversionException.class, () ->
+                new SegmentedJeeqTrackerStorage(filePath).readJeeqTracker());
+    }
+
+    /**
+     * Returns a JeeqTracker of {@code clientCount} clients with {@code transactionCount} transactions each.
+     */
+    private static JeeqTracker createJeeqTracker(int clientCount, int transactionCount) {
+        JeeqTracker jeeqTracker = new JeeqTracker();
+        for (int i = 0; i < clientCount; i++) {
+            ClientBuilder builder = new ClientBuilder().withName("Client " + i);
+            for (int j = 0; j < transactionCount; j++) {
+                builder.withTransaction(new TransactionBuilder().withTransactionType(j % 2 == 0 ? "buy" : "sell")
+                        .withGoods("Goods " + j).withPrice((i + 1) + "." + j).withQuantity(Integer.toString(j + 1))
+                        .build());
+            }
+            jeeqTracker.addClient(builder.build());
+        }
+        return jeeqTracker;
+    }
+
+    private static List<Path> listSegments(Path filePath) throws IOException {
+        try (Stream<Path> segments = Files.list(SegmentedJeeqTrackerStorage.getSegmentDirectory(filePath))) {
+            return segments.sorted().collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Asserts that {@code actual} holds exactly the same clients, remarks and transactions as {@code expected}.
+     */
+    private static void assertSameData(ReadOnlyJeeqTracker expected, ReadOnlyJeeqTracker actual) throws Exception {
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableJeeqTracker(expected)),
+                JsonUtil.toJsonString(new JsonSerializableJeeqTracker(actual)));
+    }
+}
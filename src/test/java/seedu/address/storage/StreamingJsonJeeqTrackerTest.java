@@ -0,0 +1,87 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.getTypicalJeeqTracker;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.JeeqTracker;
+import seedu.address.model.client.Name;
+
+public class StreamingJsonJeeqTrackerTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableJeeqTrackerTest");
+    private static final Path TYPICAL_CLIENTS_FILE = TEST_DATA_FOLDER.resolve("typicalClientsJeeqTracker.json");
+    private static final Path INVALID_CLIENT_FILE = TEST_DATA_FOLDER.resolve("invalidClientJeeqTracker.json");
+    private static final Path DUPLICATE_CLIENT_FILE = TEST_DATA_FOLDER.resolve("duplicateClientJeeqTracker.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalClientsFile_success() throws Exception {
+        assertEquals(getTypicalJeeqTracker(), StreamingJsonJeeqTracker.read(TYPICAL_CLIENTS_FILE));
+    }
+
+    @Test
+    public void read_invalidClientFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> StreamingJsonJeeqTracker.read(INVALID_CLIENT_FILE));
+    }
+
+    @Test
+    public void read_duplicateClients_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableJeeqTracker.MESSAGE_DUPLICATE_CLIENT, () ->
+                StreamingJsonJeeqTracker.read(DUPLICATE_CLIENT_FILE));
+    }
+
+    @Test
+    public void read_unknownFieldsAndNoClients_emptyJeeqTracker() throws Exception {
+        Path filePath = testFolder.resolve("unknownFields.json");
+        FileUtil.writeToFile(filePath, "{ \"version\" : { \"major\" : 1 }, \"tags\" : [ \"a\" ] }");
+        assertEquals(new JeeqTracker(), StreamingJsonJeeqTracker.read(filePath));
+    }
+
+    @Test
+    public void read_notJsonObject_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("array.json");
+        FileUtil.writeToFile(filePath, "[ ]");
+        assertThrows(IOException.class, () -> StreamingJsonJeeqTracker.read(filePath));
+
+        FileUtil.writeToFile(filePath, "{ \"clients\" : { } }");
+        assertThrows(IOException.class, () -> StreamingJsonJeeqTracker.read(filePath));
+    }
+
+    @Test
+    public void read_invalidClientBeforeMalformedJson_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("invalidThenMalformed.json");
+        String typical = FileUtil.readFromFile(TYPICAL_CLIENTS_FILE);
+        String invalid = typical.replaceFirst("\"name\" : \"[^\"]*\"", "\"name\" : \"R@chel\"");
+        FileUtil.writeToFile(filePath, invalid.substring(0, invalid.lastIndexOf('}') - 10));
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+                StreamingJsonJeeqTracker.read(filePath));
+    }
+
+    @Test
+    public void write_typicalClients_sameAsTreeSerialization() throws Exception {
+        Path filePath = testFolder.resolve("data").resolve("typical.json");
+        JeeqTracker original = getTypicalJeeqTracker();
+        StreamingJsonJeeqTracker.write(original.getClientList(), filePath);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableJeeqTracker(original)),
+                new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8));
+        assertEquals(original, StreamingJsonJeeqTracker.read(filePath));
+        assertFalse(Files.exists(filePath.resolveSibling("typical.json" + StreamingJsonJeeqTracker.TEMP_FILE_SUFFIX)));
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.JeeqTracker;
+import seedu.address.model.ReadOnlyJeeqTracker;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+public class SyntheticDataFileWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_eachFormat_readsBackGeneratedData() throws Exception {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(5).withClientCount(30)
+                .withTransactionsPerClient(4).withMaxRemarksPerClient(2);
+        String expected = toJson(generator.generateJeeqTracker());
+
+        for (DataFileFormat format : DataFileFormat.values()) {
+            Path filePath = testFolder.resolve("generated" + format.getFileExtension());
+            SyntheticDataFileWriter.write(generator, format, filePath);
+            ReadOnlyJeeqTracker read = DataFileConverter.createStorage(format, filePath).readJeeqTracker().get();
+            assertEquals(expected, toJson(read));
+        }
+    }
+
+    @Test
+    public void parseOptions_allOptions_generatorConfigured() {
+        SyntheticDataGenerator generator = SyntheticDataFileWriter.parseOptions("data.json", "--clients", "12",
+                "--transactions", "3", "--seed", "9", "--remarks", "0", "--tags", "0", "--goods", "4",
+                "--date-skew", "1.5");
+        assertEquals(9, generator.getSeed());
+        assertEquals(12, generator.getClientCount());
+        assertEquals(36, generator.getTransactionCount());
+        assertEquals(toJson(new SyntheticDataGenerator(9).withClientCount(12).withTransactionsPerClient(3)
+                .withMaxRemarksPerClient(0).withMaxTagsPerClient(0).withGoodsVocabularySize(4).withDateSkew(1.5)
+                .generateJeeqTracker()), toJson(generator.generateJeeqTracker()));
+
+        assertEquals(SyntheticDataFileWriter.DEFAULT_SEED, SyntheticDataFileWriter.parseOptions("data.json").getSeed());
+    }
+
+    @Test
+    public void parseOptions_invalidOptions_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, String.format(SyntheticDataFileWriter.MESSAGE_UNKNOWN_OPTION,
+                "--size"), () -> SyntheticDataFileWriter.parseOptions("data.json", "--size", "1"));
+        assertThrows(IllegalArgumentException.class, String.format(SyntheticDataFileWriter.MESSAGE_INVALID_OPTION,
+                "--clients", "many"), () -> SyntheticDataFileWriter.parseOptions("data.json", "--clients", "many"));
+        assertThrows(IllegalArgumentException.class, String.format(SyntheticDataFileWriter.MESSAGE_INVALID_OPTION,
+                "--clients", "-1"), () -> SyntheticDataFileWriter.parseOptions("data.json", "--clients", "-1"));
+        assertThrows(IllegalArgumentException.class, String.format(SyntheticDataFileWriter.MESSAGE_INVALID_OPTION,
+                "--date-skew", ""), () -> SyntheticDataFileWriter.parseOptions("data.json", "--date-skew"));
+    }
+
+    private static String toJson(ReadOnlyJeeqTracker jeeqTracker) {
+        try {
+            return JsonUtil.toJsonString(new JsonSerializableJeeqTracker(jeeqTracker));
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static String toJson(JeeqTracker jeeqTracker) {
+        return toJson((ReadOnlyJeeqTracker) jeeqTracker);
+    }
+}
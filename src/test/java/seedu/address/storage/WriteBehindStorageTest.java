@@ -0,0 +1,191 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.HOON;
+import static seedu.address.testutil.TypicalClients.getTypicalJeeqTracker;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.JeeqTracker;
+import seedu.address.model.ReadOnlyJeeqTracker;
+
+public class WriteBehindStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private JsonUserPrefsStorage userPrefsStorage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempJeeqTracker.json");
+        userPrefsStorage = new JsonUserPrefsStorage(testFolder.resolve("TempPrefs.json"));
+    }
+
+    @Test
+    public void saveJeeqTracker_flushed_dataWritten() throws Exception {
+        WriteBehindStorage storage = createStorage(new JsonJeeqTrackerStorage(filePath));
+        JeeqTracker original = getTypicalJeeqTracker();
+        storage.saveJeeqTracker(original);
+        storage.flush();
+
+        assertEquals(original, new JeeqTracker(new JsonJeeqTrackerStorage(filePath).readJeeqTracker().get()));
+        assertEquals(1, storage.getSnapshotsWritten());
+    }
+
+    @Test
+    public void saveJeeqTracker_savedWhileWriting_latestSnapshotWrittenOnce() throws Exception {
+        BlockingJeeqTrackerStorage blockingStorage = new BlockingJeeqTrackerStorage(filePath);
+        WriteBehindStorage storage = createStorage(blockingStorage);
+        JeeqTracker jeeqTracker = new JeeqTracker();
+        storage.saveJeeqTracker(jeeqTracker);
+        blockingStorage.awaitWriteStarted();
+
+        // saved while the first snapshot is being written
+        JeeqTracker latest = getTypicalJeeqTracker();
+        storage.saveJeeqTracker(jeeqTracker);
+        storage.saveJeeqTracker(latest);
+        blockingStorage.release();
+        storage.flush();
+
+        assertEquals(2, storage.getSnapshotsWritten());
+        assertEquals(latest, new JeeqTracker(new JsonJeeqTrackerStorage(filePath).readJeeqTracker().get()));
+    }
+
+    @Test
+    public void saveJeeqTracker_withWriteListener_writesReportedOnWriterThread() throws Exception {
+        BlockingJeeqTrackerStorage blockingStorage = new BlockingJeeqTrackerStorage(filePath);
+        WriteBehindStorage storage = createStorage(blockingStorage);
+        List<String> writes = Collections.synchronizedList(new ArrayList<>());
+        storage.saveJeeqTracker(new JeeqTracker(), (bytes, nanos) -> writes.add("first"));
+        blockingStorage.awaitWriteStarted();
+
+        // the second snapshot is replaced by the third before it is written
+        storage.saveJeeqTracker(new JeeqTracker(), (bytes, nanos) -> writes.add("second"));
+        long[] latestBytes = new long[1];
+        storage.saveJeeqTracker(getTypicalJeeqTracker(), (bytes, nanos) -> {
+            assertEquals(WriteBehindStorage.WRITER_THREAD_NAME, Thread.currentThread().getName());
+            latestBytes[0] = bytes;
+            writes.add("latest");
+        });
+        assertEquals(List.of(), writes);
+        blockingStorage.release();
+        storage.flush();
+
+        assertEquals(List.of("first", "latest"), writes);
+        assertEquals(Files.size(filePath), latestBytes[0]);
+    }
+
+    @Test
+    public void saveJeeqTracker_modelChangedAfterSave_savedStateWritten() throws Exception {
+        BlockingJeeqTrackerStorage blockingStorage = new BlockingJeeqTrackerStorage(filePath);
+        WriteBehindStorage storage = createStorage(blockingStorage);
+        storage.saveJeeqTracker(new JeeqTracker());
+        blockingStorage.awaitWriteStarted();
+
+        JeeqTracker model = getTypicalJeeqTracker();
+        storage.saveJeeqTracker(model);
+        model.addClient(HOON);
+        blockingStorage.release();
+        storage.flush();
+
+        assertEquals(getTypicalJeeqTracker(),
+                new JeeqTracker(new JsonJeeqTrackerStorage(filePath).readJeeqTracker().get()));
+    }
+
+    @Test
+    public void saveJeeqTracker_previousWriteFailed_throwsIoException() throws Exception {
+        FailingJeeqTrackerStorage failingStorage = new FailingJeeqTrackerStorage(filePath, Integer.MAX_VALUE);
+        WriteBehindStorage storage = createStorage(failingStorage);
+        storage.saveJeeqTracker(getTypicalJeeqTracker());
+        storage.awaitWrites();
+
+        assertThrows(IOException.class, () -> storage.saveJeeqTracker(getTypicalJeeqTracker()));
+        storage.awaitWrites();
+        assertThrows(IOException.class, storage::flush);
+        assertEquals(0, storage.getSnapshotsWritten());
+    }
+
+    @Test
+    public void flush_previousWriteFailed_retried() throws Exception {
+        FailingJeeqTrackerStorage failingStorage = new FailingJeeqTrackerStorage(filePath, 1);
+        WriteBehindStorage storage = createStorage(failingStorage);
+        JeeqTracker original = getTypicalJeeqTracker();
+        storage.saveJeeqTracker(original);
+        storage.awaitWrites();
+        assertFalse(filePath.toFile().exists());
+
+        storage.flush();
+        assertEquals(original, new JeeqTracker(storage.readJeeqTracker().get()));
+    }
+
+    private WriteBehindStorage createStorage(JeeqTrackerStorage jeeqTrackerStorage) {
+        return new WriteBehindStorage(new StorageManager(jeeqTrackerStorage, userPrefsStorage));
+    }
+
+    /**
+     * A {@code JsonJeeqTrackerStorage} that blocks its first write until released.
+     */
+    private static class BlockingJeeqTrackerStorage extends JsonJeeqTrackerStorage {
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        BlockingJeeqTrackerStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveJeeqTracker(ReadOnlyJeeqTracker jeeqTracker, Path filePath) throws IOException {
+            writeStarted.countDown();
+            try {
+                released.await();
+            } catch (InterruptedException ie) {
+                throw new IOException(ie);
+            }
+            super.saveJeeqTracker(jeeqTracker, filePath);
+        }
+
+        void awaitWriteStarted() throws InterruptedException {
+            writeStarted.await();
+        }
+
+        void release() {
+            released.countDown();
+        }
+    }
+
+    /**
+     * A {@code JsonJeeqTrackerStorage} that fails a given number of writes before succeeding.
+     */
+    private static class FailingJeeqTrackerStorage extends JsonJeeqTrackerStorage {
+        private int failuresLeft;
+
+        FailingJeeqTrackerStorage(Path filePath, int failures) {
+            super(filePath);
+            failuresLeft = failures;
+        }
+
+        @Override
+        public synchronized void saveJeeqTracker(ReadOnlyJeeqTracker jeeqTracker, Path filePath)
+                throws IOException {
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw new IOException("dummy exception");
+            }
+            super.saveJeeqTracker(jeeqTracker, filePath);
+        }
+    }
+}